@@ -0,0 +1,151 @@
+package com.ff8.benchmarks;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.infrastructure.adapters.secondary.parser.MagicSectionParser;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Synthetic kernel.bin and spell fixtures shared by the benchmarks.
+ *
+ * <p>The retail-sized fixture mirrors the layout of a real kernel.bin (56 records at
+ * 0x021C, string section at 0x5188) without shipping game data. The scaled fixtures
+ * reproduce the shape of large mod packs: thousands of newly created spells with
+ * English and French translations.</p>
+ */
+public final class BenchmarkFixtures {
+    public static final int MAGIC_SECTION_OFFSET = 0x021C;
+    public static final int MAGIC_STRUCT_SIZE = 0x3C;
+    public static final int RETAIL_SPELL_COUNT = 56;
+    private static final int STRING_SECTION_OFFSET = 0x5188;
+    private static final int STRING_SECTION_SIZE = 0x2000;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Keeps the adapters' INFO logging out of the measurements.
+     */
+    public static void quietLogging() {
+        Logger.getLogger("").setLevel(Level.WARNING);
+    }
+
+    /**
+     * Creates a kernel.bin image with 56 populated magic records and their names.
+     */
+    public static byte[] retailKernel() {
+        byte[] kernel = new byte[STRING_SECTION_OFFSET + STRING_SECTION_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(kernel).order(ByteOrder.LITTLE_ENDIAN);
+        int stringOffset = 0;
+        for (int i = 0; i < RETAIL_SPELL_COUNT; i++) {
+            int nameOffset = stringOffset;
+            stringOffset = putEncodedString(kernel, STRING_SECTION_OFFSET + stringOffset, "Spell " + i) - STRING_SECTION_OFFSET;
+            int descriptionOffset = stringOffset;
+            stringOffset = putEncodedString(kernel, STRING_SECTION_OFFSET + stringOffset,
+                    "Deals damage to one enemy " + i) - STRING_SECTION_OFFSET;
+            writeRecord(buffer, MAGIC_SECTION_OFFSET + i * MAGIC_STRUCT_SIZE, i, nameOffset, descriptionOffset);
+        }
+        return kernel;
+    }
+
+    /**
+     * Creates a standalone magic binary holding {@code spellCount} consecutive records,
+     * the format produced by the localized export.
+     */
+    public static byte[] magicBinary(int spellCount) {
+        byte[] binary = new byte[spellCount * MAGIC_STRUCT_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(binary).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < spellCount; i++) {
+            writeRecord(buffer, i * MAGIC_STRUCT_SIZE, i % 346, 0, 0);
+        }
+        return binary;
+    }
+
+    /**
+     * Creates {@code spellCount} newly created spells with English and French translations.
+     */
+    public static List<MagicData> newlyCreatedSpells(int spellCount) {
+        MagicSectionParser parser = new MagicSectionParser();
+        MagicData template = parser.parseItem(magicBinary(1), 0, 0);
+
+        List<MagicData> spells = new ArrayList<>(spellCount);
+        for (int i = 0; i < spellCount; i++) {
+            SpellTranslations translations = translationsFor(i);
+            spells.add(template.toBuilder()
+                    .index(RETAIL_SPELL_COUNT + i)
+                    .magicID(i % 346)
+                    .spellPower(i & 0xFF)
+                    .extractedSpellName(translations.getEnglishName())
+                    .extractedSpellDescription(translations.getEnglishDescription())
+                    .translations(translations)
+                    .isNewlyCreated(true)
+                    .build());
+        }
+        return spells;
+    }
+
+    /**
+     * Returns the translations of the given spells keyed by index, as the export pipeline prepares them.
+     */
+    public static Map<Integer, SpellTranslations> translationsByIndex(List<MagicData> spells) {
+        Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+        for (MagicData spell : spells) {
+            translations.put(spell.getIndex(), spell.getTranslations());
+        }
+        return translations;
+    }
+
+    private static SpellTranslations translationsFor(int i) {
+        return new SpellTranslations("Custom Spell " + i, "Custom damage spell number " + i + " for benchmarks")
+                .withTranslation("French", "Sort " + i, "Sort de degats personnalise numero " + i);
+    }
+
+    private static void writeRecord(ByteBuffer buffer, int offset, int magicId, int nameOffset, int descriptionOffset) {
+        buffer.putShort(offset, (short) nameOffset);
+        buffer.putShort(offset + 0x02, (short) descriptionOffset);
+        buffer.putShort(offset + 0x04, (short) magicId);
+        buffer.put(offset + 0x07, (byte) AttackType.MAGIC_ATTACK.getValue());
+        buffer.put(offset + 0x08, (byte) (magicId * 7));
+        buffer.put(offset + 0x0A, (byte) 0x01);
+        buffer.put(offset + 0x0D, (byte) 1);
+        buffer.put(offset + 0x0E, (byte) Element.FIRE.getValue());
+        buffer.putInt(offset + 0x10, 0x00010001 * (magicId & 0x7));
+        for (int stat = 0; stat < 9; stat++) {
+            buffer.put(offset + 0x17 + stat, (byte) (magicId + stat));
+        }
+        buffer.put(offset + 0x22, (byte) (magicId & 0xFF));
+        buffer.putShort(offset + 0x26, (short) (magicId & 0x1FFF));
+        for (int gf = 0; gf < 16; gf++) {
+            buffer.put(offset + 0x2A + gf, (byte) (magicId + gf * 3));
+        }
+    }
+
+    private static int putEncodedString(byte[] target, int offset, String text) {
+        // Caesar encoding used by kernel.bin: uppercase +4, digits -15, lowercase -2
+        byte[] raw = text.getBytes(StandardCharsets.ISO_8859_1);
+        for (int i = 0; i < raw.length; i++) {
+            int c = raw[i];
+            if (c >= 'A' && c <= 'Z') {
+                c += 4;
+            } else if (c >= '0' && c <= '9') {
+                c -= 15;
+            } else if (c >= 'a' && c <= 'z') {
+                c -= 2;
+            }
+            target[offset + i] = (byte) c;
+        }
+        target[offset + raw.length] = 0;
+        return offset + raw.length + 1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.ff8.benchmarks;
+
+import com.ff8.domain.entities.enums.SectionType;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelBinaryParser;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelSections;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full-kernel parse time with every section enabled, sequential versus one
+ * fork/join task per section.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KernelSectionsBenchmark {
+
+    private KernelBinaryParser parser;
+    private ByteBuffer kernel;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        parser = new KernelBinaryParser(List.of(SectionType.values()));
+        kernel = ByteBuffer.wrap(BenchmarkFixtures.retailKernel()).asReadOnlyBuffer();
+    }
+
+    @Benchmark
+    public KernelSections parseSequentially() {
+        KernelSections sections = parser.openKernel(kernel);
+        for (SectionType section : sections.getAvailableSections()) {
+            sections.getSection(section);
+        }
+        return sections;
+    }
+
+    @Benchmark
+    public KernelSections parseInParallel() {
+        return parser.parseAll(kernel);
+    }
+}
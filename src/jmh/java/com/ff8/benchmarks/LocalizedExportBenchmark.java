@@ -0,0 +1,84 @@
+package com.ff8.benchmarks;
+
+import com.ff8.application.dto.ExportRequestDTO;
+import com.ff8.application.dto.ExportResultDTO;
+import com.ff8.application.services.LocalizedExportService;
+import com.ff8.domain.services.ExportValidationService;
+import com.ff8.domain.services.LanguageValidationService;
+import com.ff8.domain.services.TextEncodingService;
+import com.ff8.domain.services.TextOffsetCalculationService;
+import com.ff8.infrastructure.adapters.secondary.export.BinaryExportAdapter;
+import com.ff8.infrastructure.adapters.secondary.export.ResourceFileGenerator;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelBinaryParser;
+import com.ff8.infrastructure.adapters.secondary.repository.InMemoryMagicRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end throughput of {@link LocalizedExportService#exportNewlyCreatedMagic(ExportRequestDTO)}:
+ * validation, text layout, per-language resource files and the magic binary, written to a
+ * temporary directory.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocalizedExportBenchmark {
+
+    @Param({"56", "10000"})
+    int spellCount;
+
+    private LocalizedExportService exportService;
+    private ExportRequestDTO request;
+    private Path targetDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkFixtures.quietLogging();
+
+        KernelBinaryParser binaryParser = new KernelBinaryParser();
+        InMemoryMagicRepository repository = new InMemoryMagicRepository(binaryParser);
+        repository.saveAll(BenchmarkFixtures.newlyCreatedSpells(spellCount));
+
+        // Same wiring as ApplicationConfig, minus the UI-facing services
+        TextEncodingService textEncodingService = new TextEncodingService();
+        LanguageValidationService languageValidationService = new LanguageValidationService(textEncodingService);
+        exportService = new LocalizedExportService(
+                repository,
+                textEncodingService,
+                new TextOffsetCalculationService(),
+                languageValidationService,
+                new ExportValidationService(),
+                new ResourceFileGenerator(textEncodingService),
+                new BinaryExportAdapter(binaryParser));
+
+        targetDirectory = Files.createTempDirectory("ff8-export-bench");
+        request = ExportRequestDTO.simple("bench", targetDirectory);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(targetDirectory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ExportResultDTO exportNewlyCreatedMagic() {
+        ExportResultDTO result = exportService.exportNewlyCreatedMagic(request);
+        if (!result.success()) {
+            throw new IllegalStateException("Export failed: " + result.errors());
+        }
+        return result;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ff8.benchmarks;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.infrastructure.adapters.secondary.parser.MagicSectionParser;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse and serialize throughput of {@link MagicSectionParser}.
+ *
+ * <p>{@code parseRetailKernel} covers the 56-record kernel.bin path; the custom-spell
+ * benchmarks scale the same record codec to mod-pack sized magic binaries.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MagicSectionParserBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class RetailKernel {
+        MagicSectionParser parser;
+        byte[] kernel;
+        List<MagicData> spells;
+
+        @Setup
+        public void setUp() {
+            BenchmarkFixtures.quietLogging();
+            parser = new MagicSectionParser();
+            kernel = BenchmarkFixtures.retailKernel();
+            spells = parser.parseAllItems(kernel);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class CustomSpells {
+        @Param({"56", "10000"})
+        int spellCount;
+
+        MagicSectionParser parser;
+        byte[] magicBinary;
+        byte[] serializationTemplate;
+        List<MagicData> spells;
+
+        @Setup
+        public void setUp() {
+            BenchmarkFixtures.quietLogging();
+            parser = new MagicSectionParser();
+            magicBinary = BenchmarkFixtures.magicBinary(spellCount);
+            serializationTemplate = new byte[BenchmarkFixtures.MAGIC_SECTION_OFFSET
+                    + spellCount * BenchmarkFixtures.MAGIC_STRUCT_SIZE];
+            spells = BenchmarkFixtures.newlyCreatedSpells(spellCount);
+        }
+    }
+
+    @Benchmark
+    public List<MagicData> parseRetailKernel(RetailKernel state) {
+        return state.parser.parseAllItems(state.kernel);
+    }
+
+    @Benchmark
+    public byte[] serializeRetailKernel(RetailKernel state) {
+        return state.parser.serializeAllItems(state.spells, state.kernel);
+    }
+
+    @Benchmark
+    public void parseCustomSpells(CustomSpells state, Blackhole blackhole) {
+        for (int i = 0; i < state.spellCount; i++) {
+            blackhole.consume(state.parser.parseItem(state.magicBinary, i * BenchmarkFixtures.MAGIC_STRUCT_SIZE, i));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeCustomSpells(CustomSpells state) {
+        return state.parser.serializeAllItems(state.spells, state.serializationTemplate);
+    }
+}
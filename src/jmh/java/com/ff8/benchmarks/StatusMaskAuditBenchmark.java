@@ -0,0 +1,58 @@
+package com.ff8.benchmarks;
+
+import com.ff8.domain.entities.StatusEffectSet;
+import com.ff8.domain.entities.enums.StatusEffect;
+import com.ff8.domain.services.StatusEffectService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Whole-catalog status audit: the per-spell set and stream methods versus the
+ * bulk mask API, over catalogs of random status masks.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatusMaskAuditBenchmark {
+
+    @Param({"56", "50000"})
+    private int spellCount;
+
+    private StatusEffectService service;
+    private long[] masks;
+
+    @Setup
+    public void setUp() {
+        service = new StatusEffectService();
+        masks = new long[spellCount];
+        Random random = new Random(7);
+        for (int i = 0; i < spellCount; i++) {
+            for (StatusEffect effect : StatusEffect.values()) {
+                if (random.nextInt(8) == 0) {
+                    masks[i] |= 1L << effect.getBitIndex();
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void auditPerSpell(Blackhole blackhole) {
+        for (long mask : masks) {
+            StatusEffectSet statusSet = StatusEffectSet.of(mask);
+            blackhole.consume(service.getBeneficialEffects(statusSet));
+            blackhole.consume(service.getHarmfulEffects(statusSet));
+            blackhole.consume(service.validateStatusCombination(statusSet));
+        }
+    }
+
+    @Benchmark
+    public StatusEffectService.StatusMaskAudit auditInBulk() {
+        return service.auditStatusMasks(masks);
+    }
+}
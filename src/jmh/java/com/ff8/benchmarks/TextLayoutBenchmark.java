@@ -0,0 +1,39 @@
+package com.ff8.benchmarks;
+
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.services.TextOffsetCalculationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link TextOffsetCalculationService#calculateTextLayout(Map)} for
+ * retail-sized and mod-pack sized translation sets.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextLayoutBenchmark {
+
+    @Param({"56", "10000"})
+    int spellCount;
+
+    private TextOffsetCalculationService textOffsetCalculationService;
+    private Map<Integer, SpellTranslations> spellTranslations;
+
+    @Setup
+    public void setUp() {
+        BenchmarkFixtures.quietLogging();
+        textOffsetCalculationService = new TextOffsetCalculationService();
+        spellTranslations = BenchmarkFixtures.translationsByIndex(BenchmarkFixtures.newlyCreatedSpells(spellCount));
+    }
+
+    @Benchmark
+    public TextOffsetCalculationService.TextLayoutResult calculateTextLayout() {
+        return textOffsetCalculationService.calculateTextLayout(spellTranslations);
+    }
+}
@@ -1,11 +1,21 @@
 package com.ff8;
 
+import com.ff8.application.dto.BatchReportDTO;
+import com.ff8.application.dto.KernelPatchSpec;
+import com.ff8.application.ports.primary.BatchKernelUseCase;
 import com.ff8.application.ports.primary.KernelFileUseCase;
 import com.ff8.application.ports.primary.MagicEditorUseCase;
 import com.ff8.infrastructure.config.ApplicationConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Main entry point for the FF8 Magic Creator application.
  * Demonstrates modern Java 21 features and hexagonal architecture.
@@ -26,6 +36,10 @@ public class Main {
                     logger.info("Starting in CLI mode with file: " + cli.filePath());
                     runCliMode(cli.filePath());
                 }
+                case AppMode.BATCH batch -> {
+                    logger.info("Starting in batch mode with {} inputs", batch.inputs().size());
+                    runBatchMode(batch);
+                }
                 case AppMode.GUI gui -> {
                     logger.info("Starting in GUI mode");
                     runGuiMode();
@@ -45,6 +59,9 @@ public class Main {
      * Parse command line arguments using Java 21 pattern matching
      */
     private static AppMode parseArguments(String[] args) {
+        if (args.length > 0 && (args[0].equals("--batch") || args[0].equals("-b"))) {
+            return parseBatchArguments(args);
+        }
         return switch (args.length) {
             case 0 -> new AppMode.GUI();
             case 1 -> switch (args[0]) {
@@ -60,6 +77,104 @@ public class Main {
         };
     }
 
+    /**
+     * Parse batch mode arguments: options followed by kernel files or directories
+     */
+    private static AppMode parseBatchArguments(String[] args) {
+        List<String> inputs = new ArrayList<>();
+        String patchFile = null;
+        String outputDirectory = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--patch", "-p" -> patchFile = requireValue(args, ++i);
+                case "--out", "-o" -> outputDirectory = requireValue(args, ++i);
+                case "--threads", "-t" -> threads = Integer.parseInt(requireValue(args, ++i));
+                default -> inputs.add(args[i]);
+            }
+        }
+        
+        if (outputDirectory == null) {
+            throw new IllegalArgumentException("Batch mode requires --out DIR");
+        }
+        if (inputs.isEmpty()) {
+            throw new IllegalArgumentException("Batch mode requires at least one kernel file or directory");
+        }
+        return new AppMode.BATCH(inputs, patchFile, outputDirectory, threads);
+    }
+    
+    private static String requireValue(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    /**
+     * Run in batch mode: patch many kernel files concurrently and report timings
+     */
+    private static void runBatchMode(AppMode.BATCH batch) {
+        try {
+            List<Path> kernelFiles = expandInputs(batch.inputs());
+            KernelPatchSpec patch = batch.patchFile() == null
+                ? KernelPatchSpec.empty()
+                : KernelPatchSpec.parse(Files.readAllLines(Path.of(batch.patchFile())));
+            
+            System.out.println("FF8 Magic Creator - Batch Mode");
+            System.out.printf("Kernels: %d, patches: %d, threads: %d, output: %s%n",
+                kernelFiles.size(), patch.patches().size(), batch.threads(), batch.outputDirectory());
+            
+            BatchKernelUseCase batchUseCase = ApplicationConfig.getInstance().createBatchKernelUseCase(batch.threads());
+            BatchReportDTO report = batchUseCase.processKernels(kernelFiles, Path.of(batch.outputDirectory()), patch);
+            
+            for (BatchReportDTO.FileResultDTO result : report.fileResults()) {
+                System.out.printf("  %s %-40s %8.2f ms (load %.2f, patch %.2f, save %.2f) %d spells patched%n",
+                    result.success() ? "✓" : "✗",
+                    result.inputFile(),
+                    result.totalMillis(),
+                    result.loadNanos() / 1_000_000.0,
+                    result.patchNanos() / 1_000_000.0,
+                    result.saveNanos() / 1_000_000.0,
+                    result.patchedSpells());
+                result.errors().forEach(error -> System.out.println("      " + error));
+            }
+            
+            System.out.printf("%nProcessed %d kernels (%d failed) in %.2f s: %.1f files/s, %.2f MB/s%n",
+                report.totalFiles(), report.failureCount(), report.wallClockSeconds(),
+                report.filesPerSecond(), report.megabytesPerSecond());
+            
+            if (!report.allSucceeded()) {
+                throw new IllegalStateException(report.failureCount() + " of " + report.totalFiles() + " kernels failed");
+            }
+            
+        } catch (Exception e) {
+            logger.error("Batch processing failed", e);
+            throw new RuntimeException("Batch processing failed: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * Expand batch inputs: files are taken as-is, directories contribute their *.bin files
+     */
+    private static List<Path> expandInputs(List<String> inputs) throws IOException {
+        List<Path> kernelFiles = new ArrayList<>();
+        for (String input : inputs) {
+            Path path = Path.of(input);
+            if (Files.isDirectory(path)) {
+                try (Stream<Path> files = Files.list(path)) {
+                    files.filter(Files::isRegularFile)
+                        .filter(file -> file.getFileName().toString().toLowerCase().endsWith(".bin"))
+                        .sorted()
+                        .forEach(kernelFiles::add);
+                }
+            } else {
+                kernelFiles.add(path);
+            }
+        }
+        return kernelFiles;
+    }
+
     /**
      * Run in CLI mode for batch processing or testing
      */
@@ -137,12 +252,20 @@ public class Main {
               --gui, -g         Start in GUI mode (default)
               --file, -f FILE   Process specific kernel.bin file in CLI mode
               FILE              Process kernel.bin file in CLI mode
+              --batch, -b [BATCH OPTIONS] INPUT...
+                                Patch many kernel files (or directories of *.bin) concurrently
+            
+            Batch options:
+              --out, -o DIR     Directory receiving the patched kernels (required)
+              --patch, -p FILE  Patch spec, one '<magicId|*>.<field>=<value>' per line
+              --threads, -t N   Number of kernels processed in parallel (default: CPU count)
             
             Examples:
               java -jar ff8-magic-creator.jar
               java -jar ff8-magic-creator.jar --gui
               java -jar ff8-magic-creator.jar kernel.bin
               java -jar ff8-magic-creator.jar --file kernel.bin
+              java -jar ff8-magic-creator.jar --batch --patch power.txt --out patched/ mods/
             
             Features:
               ✓ Modern Java 21 implementation
@@ -173,9 +296,10 @@ public class Main {
      * Sealed interface for application modes using Java 21 sealed types
      */
     public sealed interface AppMode 
-            permits AppMode.CLI, AppMode.GUI, AppMode.HELP {
+            permits AppMode.CLI, AppMode.BATCH, AppMode.GUI, AppMode.HELP {
         
         record CLI(String filePath) implements AppMode {}
+        record BATCH(List<String> inputs, String patchFile, String outputDirectory, int threads) implements AppMode {}
         record GUI() implements AppMode {}
         record HELP() implements AppMode {}
     }
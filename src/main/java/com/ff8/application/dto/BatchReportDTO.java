@@ -0,0 +1,81 @@
+package com.ff8.application.dto;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Data transfer object for batch kernel processing results.
+ * Holds per-file timings plus the aggregate wall-clock time of the whole run.
+ */
+public record BatchReportDTO(
+    List<FileResultDTO> fileResults,
+    int parallelism,
+    long wallClockNanos
+) {
+
+    public BatchReportDTO {
+        fileResults = List.copyOf(fileResults);
+    }
+
+    /**
+     * Outcome of processing a single kernel file
+     */
+    public record FileResultDTO(
+        Path inputFile,
+        Path outputFile,
+        boolean success,
+        List<String> errors,
+        int patchedSpells,
+        long fileSize,
+        long loadNanos,
+        long patchNanos,
+        long saveNanos
+    ) {
+        public FileResultDTO {
+            errors = List.copyOf(errors);
+        }
+
+        public long totalNanos() {
+            return loadNanos + patchNanos + saveNanos;
+        }
+
+        public double totalMillis() {
+            return totalNanos() / 1_000_000.0;
+        }
+    }
+
+    public int totalFiles() {
+        return fileResults.size();
+    }
+
+    public long successCount() {
+        return fileResults.stream().filter(FileResultDTO::success).count();
+    }
+
+    public long failureCount() {
+        return totalFiles() - successCount();
+    }
+
+    public boolean allSucceeded() {
+        return failureCount() == 0;
+    }
+
+    public double wallClockSeconds() {
+        return wallClockNanos / 1_000_000_000.0;
+    }
+
+    /**
+     * Kernel files completed per second of wall-clock time
+     */
+    public double filesPerSecond() {
+        return wallClockNanos == 0 ? 0 : totalFiles() / wallClockSeconds();
+    }
+
+    /**
+     * Megabytes of kernel data processed per second of wall-clock time
+     */
+    public double megabytesPerSecond() {
+        long totalBytes = fileResults.stream().mapToLong(FileResultDTO::fileSize).sum();
+        return wallClockNanos == 0 ? 0 : (totalBytes / (1024.0 * 1024.0)) / wallClockSeconds();
+    }
+}
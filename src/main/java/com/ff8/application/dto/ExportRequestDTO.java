@@ -6,27 +6,38 @@ import java.util.Set;
 /**
  * Data transfer object for export requests.
  * Contains all information needed to perform a localized export operation.
+ * 
+ * @param compactText Store identical texts once and merge shared tails in the resource files
  */
 public record ExportRequestDTO(
     String baseFileName,
     Path targetDirectory,
     Set<String> requiredLanguages,
     boolean includeWarningsInResult,
-    boolean forceOverwrite
+    boolean forceOverwrite,
+    boolean compactText
 ) {
     
     /**
      * Create a simple export request with just base filename and directory
      */
     public static ExportRequestDTO simple(String baseFileName, Path targetDirectory) {
-        return new ExportRequestDTO(baseFileName, targetDirectory, Set.of("English"), false, false);
+        return new ExportRequestDTO(baseFileName, targetDirectory, Set.of("English"), false, false, false);
     }
     
     /**
      * Create an export request with specific language requirements
      */
     public static ExportRequestDTO withLanguages(String baseFileName, Path targetDirectory, Set<String> languages) {
-        return new ExportRequestDTO(baseFileName, targetDirectory, languages, false, false);
+        return new ExportRequestDTO(baseFileName, targetDirectory, languages, false, false, false);
+    }
+    
+    /**
+     * Copy of this request that writes compact resource files
+     */
+    public ExportRequestDTO withCompactText() {
+        return new ExportRequestDTO(baseFileName, targetDirectory, requiredLanguages, 
+                                    includeWarningsInResult, forceOverwrite, true);
     }
     
     /**
@@ -0,0 +1,176 @@
+package com.ff8.application.dto;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Patch specification applied to every kernel processed in batch mode.
+ *
+ * <p>A spec is a plain text file with one assignment per line:</p>
+ * <pre>
+ * # comment
+ * 12.spellPower=40       # magic ID 12 only
+ * *.drawResist=10        # every spell
+ * 3.element=ICE          # enum name or numeric value
+ * </pre>
+ *
+ * <p>Supported fields are the scalar magic properties: {@code spellPower},
+ * {@code drawResist}, {@code hitCount}, {@code animationTriggered},
+ * {@code statusAttackEnabler}, {@code element} and {@code attackType}.</p>
+ */
+public record KernelPatchSpec(List<FieldPatch> patches) {
+
+    private static final Set<String> SUPPORTED_FIELDS = Set.of(
+        "spellPower", "drawResist", "hitCount", "animationTriggered", "statusAttackEnabler", "element", "attackType"
+    );
+
+    /**
+     * A single field assignment; {@code magicId} is null when the patch targets every spell
+     */
+    public record FieldPatch(Integer magicId, String field, String value) {
+
+        public boolean appliesTo(MagicData magic) {
+            return appliesTo(magic.getMagicID());
+        }
+
+        public boolean appliesTo(int magicID) {
+            return magicId == null || magicId == magicID;
+        }
+    }
+
+    public KernelPatchSpec {
+        patches = List.copyOf(patches);
+    }
+
+    /**
+     * Create an empty spec that leaves kernels unchanged
+     */
+    public static KernelPatchSpec empty() {
+        return new KernelPatchSpec(List.of());
+    }
+
+    /**
+     * Parse a spec from its text lines
+     *
+     * @throws IllegalArgumentException if a line is malformed or names an unsupported field
+     */
+    public static KernelPatchSpec parse(List<String> lines) {
+        List<FieldPatch> patches = new ArrayList<>();
+        for (int lineNumber = 1; lineNumber <= lines.size(); lineNumber++) {
+            String line = stripComment(lines.get(lineNumber - 1));
+            if (line.isEmpty()) {
+                continue;
+            }
+
+            int equals = line.indexOf('=');
+            int dot = line.indexOf('.');
+            if (equals < 0 || dot < 0 || dot > equals) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected <magicId|*>.<field>=<value> but got '" + line + "'");
+            }
+
+            String target = line.substring(0, dot).trim();
+            String field = line.substring(dot + 1, equals).trim();
+            String value = line.substring(equals + 1).trim();
+
+            if (!SUPPORTED_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": unsupported field '" + field + "', expected one of " + SUPPORTED_FIELDS);
+            }
+
+            Integer magicId;
+            try {
+                magicId = "*".equals(target) ? null : Integer.valueOf(target);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": invalid magic ID '" + target + "'");
+            }
+
+            FieldPatch patch = new FieldPatch(magicId, field, value);
+            // Fail fast on bad values instead of once per kernel
+            applyPatch(MagicData.builder().build(), patch);
+            patches.add(patch);
+        }
+        return new KernelPatchSpec(patches);
+    }
+
+    /**
+     * Apply every matching patch to the given magic data
+     *
+     * @return the patched copy, or the same instance when no patch applies
+     */
+    public MagicData applyTo(MagicData magic) {
+        MagicData patched = magic;
+        for (FieldPatch patch : patches) {
+            if (patch.appliesTo(magic)) {
+                patched = applyPatch(patched, patch);
+            }
+        }
+        return patched;
+    }
+
+    /**
+     * Check whether any patch targets the given magic ID, without needing the spell's data
+     */
+    public boolean affects(int magicID) {
+        for (FieldPatch patch : patches) {
+            if (patch.appliesTo(magicID)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public boolean isEmpty() {
+        return patches.isEmpty();
+    }
+
+    private static MagicData applyPatch(MagicData magic, FieldPatch patch) {
+        return switch (patch.field()) {
+            case "spellPower" -> magic.withSpellPower(parseByte(patch));
+            case "drawResist" -> magic.withDrawResist(parseByte(patch));
+            case "hitCount" -> magic.withHitCount(parseByte(patch));
+            case "animationTriggered" -> magic.withAnimationTriggered(parseByte(patch));
+            case "statusAttackEnabler" -> magic.withStatusAttackEnabler(parseByte(patch));
+            case "element" -> magic.withElement(parseElement(patch.value()));
+            case "attackType" -> magic.withAttackType(parseAttackType(patch.value()));
+            default -> throw new IllegalArgumentException("Unsupported field: " + patch.field());
+        };
+    }
+
+    private static int parseByte(FieldPatch patch) {
+        try {
+            int value = Integer.parseInt(patch.value());
+            if (value < 0 || value > 255) {
+                throw new IllegalArgumentException(patch.field() + " must be 0-255, got " + value);
+            }
+            return value;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(patch.field() + " must be a number, got '" + patch.value() + "'");
+        }
+    }
+
+    private static Element parseElement(String value) {
+        return isNumeric(value)
+            ? Element.fromValueStrict(Integer.parseInt(value))
+            : Element.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    private static AttackType parseAttackType(String value) {
+        return isNumeric(value)
+            ? AttackType.fromValueStrict(Integer.parseInt(value))
+            : AttackType.valueOf(value.toUpperCase(Locale.ROOT));
+    }
+
+    private static boolean isNumeric(String value) {
+        return !value.isEmpty() && value.chars().allMatch(Character::isDigit);
+    }
+
+    private static String stripComment(String line) {
+        int hash = line.indexOf('#');
+        return (hash >= 0 ? line.substring(0, hash) : line).trim();
+    }
+}
@@ -2,7 +2,9 @@ package com.ff8.application.mappers;
 
 import com.ff8.application.dto.*;
 import com.ff8.domain.entities.*;
+import com.ff8.domain.entities.enums.AttackFlag;
 import com.ff8.domain.entities.enums.StatusEffect;
+import com.ff8.domain.entities.enums.TargetFlag;
 
 import java.util.List;
 
@@ -112,74 +114,50 @@ public class DtoToMagicDataMapper {
      * Map TargetInfo DTO back to TargetFlags, preserving original flags not represented in DTO
      */
     private TargetFlags mapTargetInfo(MagicDisplayDTO.TargetInfo targetInfo, TargetFlags originalFlags) {
+        // Start with original flags to preserve unknown bits
+        TargetFlags original = originalFlags != null ? originalFlags : TargetFlags.of(0);
         if (targetInfo == null) {
-            return originalFlags != null ? originalFlags : new TargetFlags();
+            return original;
         }
         
-        // Start with original flags to preserve unknown bits
-        TargetFlags result = originalFlags != null ? new TargetFlags(originalFlags) : new TargetFlags();
-        
         // Update known flags from DTO
-        result.setDead(targetInfo.dead());
-        result.setSingle(targetInfo.single());
-        result.setEnemy(targetInfo.enemy());
-        result.setSingleSide(targetInfo.singleSide());
-        
-        return result;
+        return original
+            .with(TargetFlag.DEAD, targetInfo.dead())
+            .with(TargetFlag.SINGLE, targetInfo.single())
+            .with(TargetFlag.ENEMY, targetInfo.enemy())
+            .with(TargetFlag.SINGLE_SIDE, targetInfo.singleSide());
     }
     
     /**
      * Create new TargetFlags from TargetInfo DTO
      */
     private TargetFlags createTargetFlags(MagicDisplayDTO.TargetInfo targetInfo) {
-        if (targetInfo == null) {
-            return new TargetFlags();
-        }
-        
-        TargetFlags result = new TargetFlags();
-        result.setDead(targetInfo.dead());
-        result.setSingle(targetInfo.single());
-        result.setEnemy(targetInfo.enemy());
-        result.setSingleSide(targetInfo.singleSide());
-        
-        return result;
+        return mapTargetInfo(targetInfo, null);
     }
     
     /**
      * Map AttackInfo DTO back to AttackFlags, preserving original flags
      */
     private AttackFlags mapAttackFlags(MagicDisplayDTO.AttackInfo attackInfo, AttackFlags originalFlags) {
+        // Start with original flags to preserve unknown bits
+        AttackFlags original = originalFlags != null ? originalFlags : AttackFlags.of(0);
         if (attackInfo == null) {
-            return originalFlags != null ? originalFlags : new AttackFlags();
+            return original;
         }
         
-        // Start with original flags to preserve unknown bits
-        AttackFlags result = originalFlags != null ? new AttackFlags(originalFlags) : new AttackFlags();
-        
         // Update known flags from DTO
-        result.setShelled(attackInfo.shelled());
-        result.setReflected(attackInfo.reflected());
-        result.setBreakDamageLimit(attackInfo.breakDamageLimit());
-        result.setRevive(attackInfo.revive());
-        
-        return result;
+        return original
+            .with(AttackFlag.SHELLED, attackInfo.shelled())
+            .with(AttackFlag.REFLECTED, attackInfo.reflected())
+            .with(AttackFlag.BREAK_DAMAGE_LIMIT, attackInfo.breakDamageLimit())
+            .with(AttackFlag.REVIVE, attackInfo.revive());
     }
     
     /**
      * Create new AttackFlags from AttackInfo DTO
      */
     private AttackFlags createAttackFlags(MagicDisplayDTO.AttackInfo attackInfo) {
-        if (attackInfo == null) {
-            return new AttackFlags();
-        }
-        
-        AttackFlags result = new AttackFlags();
-        result.setShelled(attackInfo.shelled());
-        result.setReflected(attackInfo.reflected());
-        result.setBreakDamageLimit(attackInfo.breakDamageLimit());
-        result.setRevive(attackInfo.revive());
-        
-        return result;
+        return mapAttackFlags(attackInfo, null);
     }
     
     /**
@@ -187,28 +165,16 @@ public class DtoToMagicDataMapper {
      */
     private StatusEffectSet mapStatusEffects(List<StatusEffect> statusEffects, StatusEffectSet originalSet) {
         if (statusEffects == null) {
-            return originalSet != null ? originalSet : new StatusEffectSet();
-        }
-        
-        StatusEffectSet result = new StatusEffectSet();
-        for (StatusEffect effect : statusEffects) {
-            result.setStatus(effect, true);
+            return originalSet != null ? originalSet : StatusEffectSet.of(0L);
         }
-        
-        return result;
+        return StatusEffectSet.of(statusEffects);
     }
     
     /**
      * Create new StatusEffectSet from status effects list
      */
     private StatusEffectSet createStatusEffectSet(List<StatusEffect> statusEffects) {
-        StatusEffectSet result = new StatusEffectSet();
-        if (statusEffects != null) {
-            for (StatusEffect effect : statusEffects) {
-                result.setStatus(effect, true);
-            }
-        }
-        return result;
+        return statusEffects != null ? StatusEffectSet.of(statusEffects) : StatusEffectSet.of(0L);
     }
     
     /**
@@ -219,7 +185,7 @@ public class DtoToMagicDataMapper {
             return JunctionStats.empty();
         }
         
-        return new JunctionStats(
+        return JunctionStats.of(
             dto.hp(),
             dto.str(),
             dto.vit(),
@@ -240,7 +206,7 @@ public class DtoToMagicDataMapper {
             return JunctionElemental.empty();
         }
         
-        return new JunctionElemental(
+        return JunctionElemental.of(
             dto.attackElement(),
             dto.attackValue(),
             dto.defenseElements(),
@@ -260,7 +226,7 @@ public class DtoToMagicDataMapper {
         StatusEffectSet attackStatuses = createStatusEffectSet(dto.attackStatuses());
         StatusEffectSet defenseStatuses = createStatusEffectSet(dto.defenseStatuses());
         
-        return new JunctionStatusEffects(
+        return JunctionStatusEffects.of(
             attackStatuses,
             dto.attackValue(),
             defenseStatuses,
@@ -273,10 +239,9 @@ public class DtoToMagicDataMapper {
      */
     private GFCompatibilitySet mapGFCompatibility(GFCompatibilityDTO dto) {
         if (dto == null) {
-            return new GFCompatibilitySet();
+            return GFCompatibilitySet.defaults();
         }
         
-        // Use the constructor that takes a map
-        return new GFCompatibilitySet(dto.compatibilities());
+        return GFCompatibilitySet.of(dto.compatibilities());
     }
 } 
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.ff8.application.ports.primary;
+
+import com.ff8.application.dto.BatchReportDTO;
+import com.ff8.application.dto.KernelPatchSpec;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Primary port for headless batch processing of many kernel.bin files.
+ * Each kernel is loaded, validated, patched and saved independently of the others.
+ */
+public interface BatchKernelUseCase {
+
+    /**
+     * Process the given kernel files concurrently
+     *
+     * @param kernelFiles Kernel files to process
+     * @param outputDirectory Directory receiving the patched kernels, one per input file name
+     * @param patch Patch applied to every kernel
+     * @return Per-file outcomes and aggregate throughput, in input order
+     * @throws IllegalArgumentException if a file is listed twice or an output would replace an input
+     */
+    BatchReportDTO processKernels(List<Path> kernelFiles, Path outputDirectory, KernelPatchSpec patch);
+}
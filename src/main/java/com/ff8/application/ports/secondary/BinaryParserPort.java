@@ -3,6 +3,7 @@ package com.ff8.application.ports.secondary;
 import com.ff8.domain.entities.MagicData;
 import com.ff8.domain.exceptions.BinaryParseException;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -16,16 +17,39 @@ public interface BinaryParserPort {
      */
     MagicData parseMagicData(byte[] binaryData, int offset) throws BinaryParseException;
 
+    /**
+     * Parse a single magic data entry directly from a (possibly memory-mapped) buffer.
+     * The offset is absolute within the buffer; the buffer's position is not changed.
+     */
+    MagicData parseMagicData(ByteBuffer kernelData, int offset) throws BinaryParseException;
+
     /**
      * Parse all magic data from kernel.bin binary data
      */
     List<MagicData> parseAllMagicData(byte[] kernelData) throws BinaryParseException;
 
+    /**
+     * Parse all magic data directly from a (possibly memory-mapped) kernel.bin buffer
+     */
+    List<MagicData> parseAllMagicData(ByteBuffer kernelData) throws BinaryParseException;
+
+    /**
+     * Open a read-only view that decodes magic records from the buffer on demand.
+     * The buffer must stay unchanged while the view is used.
+     */
+    MagicRecordView openMagicView(ByteBuffer kernelData) throws BinaryParseException;
+
     /**
      * Serialize a single magic data entry to binary format
      */
     byte[] serializeMagicData(MagicData magicData) throws BinaryParseException;
 
+    /**
+     * Serialize a single magic data entry straight into a buffer.
+     * The offset is absolute within the buffer; the buffer's position is not changed.
+     */
+    void serializeMagicData(MagicData magicData, ByteBuffer target, int offset) throws BinaryParseException;
+
     /**
      * Serialize all magic data and update kernel.bin data
      */
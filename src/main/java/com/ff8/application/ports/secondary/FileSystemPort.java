@@ -1,9 +1,12 @@
 package com.ff8.application.ports.secondary;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Secondary port for file system operations.
@@ -16,16 +19,38 @@ public interface FileSystemPort {
      */
     byte[] readBinaryFile(String filePath) throws IOException;
 
+    /**
+     * Map binary file into memory and return a read-only view of its contents.
+     * The returned buffer starts at position 0 and spans the whole file; it is
+     * not copied onto the heap, so callers should use absolute reads. The file may
+     * not be replaceable while the buffer is reachable, so map read-only inputs only.
+     */
+    ByteBuffer mapBinaryFile(String filePath) throws IOException;
+
+    /**
+     * Open binary file for sequential reading without loading it into memory.
+     * The caller owns the returned channel and must close it.
+     */
+    ReadableByteChannel openReadChannel(String filePath) throws IOException;
+
     /**
      * Read text file and return its contents as a list of lines
      */
     List<String> readTextFileLines(String filePath) throws IOException;
 
     /**
-     * Write binary data to file
+     * Write binary data to file, replacing any existing file atomically
      */
     void writeBinaryFile(String filePath, byte[] data) throws IOException;
 
+    /**
+     * Overwrite byte ranges of an existing file in place, keyed by file offset.
+     * The bytes being overwritten are kept until the write is on disk, so a failed
+     * or interrupted write is rolled back. The file is never truncated or extended;
+     * a range past its end is an error.
+     */
+    void writeBinaryRanges(String filePath, Map<Long, byte[]> ranges) throws IOException;
+
     /**
      * Check if file exists
      */
@@ -0,0 +1,97 @@
+package com.ff8.application.ports.secondary;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.entities.enums.GF;
+import com.ff8.domain.exceptions.BinaryParseException;
+
+/**
+ * Read-only flyweight over the magic records of a loaded kernel.
+ *
+ * <p>A view is positioned on one record at a time with {@link #moveTo(int)} and decodes
+ * each field straight from the kernel bytes when its getter is called; nothing is
+ * cached and no flag sets or junction objects are built. Jobs that only inspect a few
+ * fields walk the whole section through a single instance and call
+ * {@link #toMagicData()} for the records they actually change.</p>
+ *
+ * <p>A view is not thread-safe, since it holds the current position; open one per
+ * thread. The kernel bytes must not change while the view is in use.</p>
+ */
+public interface MagicRecordView {
+
+    /**
+     * Get the number of magic records in the section
+     */
+    int getRecordCount();
+
+    /**
+     * Position the view on a record
+     *
+     * @param index The kernel index of the record, 0 to {@link #getRecordCount()} - 1
+     * @return This view, for chained getter calls
+     * @throws IndexOutOfBoundsException if the index is outside the section
+     */
+    MagicRecordView moveTo(int index);
+
+    /**
+     * Get the kernel index of the current record
+     */
+    int getIndex();
+
+    /**
+     * Get the absolute offset of the current record in the kernel
+     */
+    int getOffset();
+
+    int getMagicID();
+
+    int getAnimationTriggered();
+
+    AttackType getAttackType();
+
+    int getSpellPower();
+
+    int getDrawResist();
+
+    int getHitCount();
+
+    Element getElement();
+
+    int getStatusAttackEnabler();
+
+    /**
+     * Get the 48 status effect bits exactly as stored at record offset 0x10
+     */
+    long getStatusMask();
+
+    /**
+     * Get a junction stat bonus
+     *
+     * @param slot 0-8 in record order: HP, Str, Vit, Mag, Spr, Spd, Eva, Hit, Luck
+     */
+    int getJunctionStat(int slot);
+
+    /**
+     * Get the raw compatibility value of a GF with the current spell
+     */
+    int getGFCompatibilityValue(GF gf);
+
+    /**
+     * Decode the current spell's name from the kernel's string section
+     */
+    String getSpellName();
+
+    /**
+     * Decode the current spell's description from the kernel's string section
+     */
+    String getSpellDescription();
+
+    /**
+     * Decode the current record completely, as the parser would when loading the kernel
+     *
+     * @return A new, independent magic data object
+     * @throws BinaryParseException if the record cannot be decoded
+     */
+    MagicData toMagicData() throws BinaryParseException;
+}
@@ -4,6 +4,7 @@ import com.ff8.domain.entities.MagicData;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Secondary port for magic data persistence.
@@ -26,6 +27,31 @@ public interface MagicRepository {
      */
     void saveAll(List<MagicData> magicDataList);
 
+    /**
+     * Save all magic data in one operation, without per-entry overhead.
+     * Intended for large imports, typically into a range from {@link #reserveIndices(int)}.
+     */
+    void saveAllBulk(List<MagicData> magicDataList);
+
+    /**
+     * Reserve a contiguous range of free kernel indices for a bulk insert.
+     * Reserved indices are not handed out again by later reservations or by
+     * {@link #getNextAvailableIndex()}.
+     *
+     * @return the first index of the reserved range
+     */
+    int reserveIndices(int count);
+
+    /**
+     * Give back a range from {@link #reserveIndices(int)} that will not be filled,
+     * such as after a failed import. The range is handed out again only if no later
+     * reservation followed it; stored entries keep their indices either way.
+     *
+     * @param firstIndex the first index of the reserved range
+     * @param count the size of the reserved range
+     */
+    void releaseReservation(int firstIndex, int count);
+
     /**
      * Get all magic data
      */
@@ -80,6 +106,11 @@ public interface MagicRepository {
      */
     void markAsClean();
 
+    /**
+     * Get kernel indices saved or deleted since the last {@link #markAsClean()}, in ascending order
+     */
+    Set<Integer> getDirtyIndices();
+
     /**
      * Get original (unmodified) magic data by kernel index
      */
@@ -4,6 +4,7 @@ import com.ff8.application.ports.secondary.BinaryParserPort.ValidationResult;
 import com.ff8.domain.entities.enums.SectionType;
 import com.ff8.domain.exceptions.BinaryParseException;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 
 /**
@@ -27,6 +28,16 @@ public interface SectionParserStrategy<T> {
      */
     T parseItem(byte[] binaryData, int offset, int index) throws BinaryParseException;
     
+    /**
+     * Parse a single item directly from a buffer without copying it to the heap
+     * @param kernelData The complete kernel binary data, e.g. a read-only mapped view
+     * @param offset The absolute offset where the item starts
+     * @param index The index of the item within the section (for context)
+     * @return The parsed item
+     * @throws BinaryParseException if parsing fails
+     */
+    T parseItem(ByteBuffer kernelData, int offset, int index) throws BinaryParseException;
+    
     /**
      * Serialize a single item to binary data
      * @param item The item to serialize
@@ -35,6 +46,15 @@ public interface SectionParserStrategy<T> {
      */
     byte[] serializeItem(T item) throws BinaryParseException;
     
+    /**
+     * Serialize a single item directly into a destination buffer
+     * @param item The item to serialize
+     * @param target The destination, e.g. a copy of the kernel or an export buffer
+     * @param offset The absolute offset where the item is written; the buffer's position is not changed
+     * @throws BinaryParseException if serialization fails or the item does not fit
+     */
+    void serializeItem(T item, ByteBuffer target, int offset) throws BinaryParseException;
+    
     /**
      * Parse all items from this section
      * @param kernelData The complete kernel binary data
@@ -43,6 +63,14 @@ public interface SectionParserStrategy<T> {
      */
     List<T> parseAllItems(byte[] kernelData) throws BinaryParseException;
     
+    /**
+     * Parse all items from this section directly from a buffer
+     * @param kernelData The complete kernel binary data, e.g. a read-only mapped view
+     * @return List of all parsed items from this section
+     * @throws BinaryParseException if parsing fails
+     */
+    List<T> parseAllItems(ByteBuffer kernelData) throws BinaryParseException;
+    
     /**
      * Serialize all items and update the kernel data
      * @param items List of items to serialize
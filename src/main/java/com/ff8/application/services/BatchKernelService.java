@@ -0,0 +1,210 @@
+package com.ff8.application.services;
+
+import com.ff8.application.dto.BatchReportDTO;
+import com.ff8.application.dto.BatchReportDTO.FileResultDTO;
+import com.ff8.application.dto.KernelPatchSpec;
+import com.ff8.application.ports.primary.BatchKernelUseCase;
+import com.ff8.application.ports.secondary.BinaryParserPort;
+import com.ff8.application.ports.secondary.FileSystemPort;
+import com.ff8.application.ports.secondary.MagicRecordView;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.services.MagicValidationService;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.logging.Logger;
+
+/**
+ * Application service that processes many kernel.bin files concurrently.
+ *
+ * <p>Kernels are never loaded into a repository. Each file is mapped and walked through
+ * a {@link MagicRecordView}, which reads the magic ID and the few other fields the
+ * checks need straight from the bytes; only records a patch applies to are decoded into
+ * {@link MagicData}, patched, validated and written into a copy of the file. Untouched
+ * records therefore keep their exact bytes. Work runs on a fixed-size pool, which
+ * bounds both CPU use and the number of kernels held in memory at once.</p>
+ *
+ * <p>Per file the pipeline is: load, integrity check, patch, validate the patched
+ * spells, save. A failure in one file is recorded in the report and never aborts the
+ * rest of the batch.</p>
+ */
+public class BatchKernelService implements BatchKernelUseCase {
+    private static final Logger logger = Logger.getLogger(BatchKernelService.class.getName());
+
+    private final BinaryParserPort binaryParser;
+    private final FileSystemPort fileSystem;
+    private final MagicValidationService magicValidationService;
+    private final int parallelism;
+
+    public BatchKernelService(
+            BinaryParserPort binaryParser,
+            FileSystemPort fileSystem,
+            MagicValidationService magicValidationService,
+            int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be at least 1, got " + parallelism);
+        }
+        this.binaryParser = binaryParser;
+        this.fileSystem = fileSystem;
+        this.magicValidationService = magicValidationService;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public BatchReportDTO processKernels(List<Path> kernelFiles, Path outputDirectory, KernelPatchSpec patch) {
+        List<Path> outputs = assignOutputFiles(kernelFiles, outputDirectory);
+        logger.info("Batch processing " + kernelFiles.size() + " kernel files with parallelism " + parallelism);
+
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<FileResultDTO>> futures = new ArrayList<>(kernelFiles.size());
+            for (int i = 0; i < kernelFiles.size(); i++) {
+                Path kernelFile = kernelFiles.get(i);
+                Path outputFile = outputs.get(i);
+                futures.add(executor.submit(() -> processKernel(kernelFile, outputFile, patch)));
+            }
+
+            List<FileResultDTO> results = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                results.add(awaitResult(futures.get(i), kernelFiles.get(i), outputs.get(i)));
+            }
+
+            BatchReportDTO report = new BatchReportDTO(results, parallelism, System.nanoTime() - start);
+            logger.info(String.format("Batch finished: %d/%d succeeded in %.2f s (%.1f files/s)",
+                report.successCount(), report.totalFiles(), report.wallClockSeconds(), report.filesPerSecond()));
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs the full pipeline for one kernel, materializing only the records the patch changes.
+     */
+    private FileResultDTO processKernel(Path kernelFile, Path outputFile, KernelPatchSpec patch) {
+        long loadNanos = 0;
+        long patchNanos = 0;
+        long saveNanos = 0;
+        long fileSize = 0;
+        int patchedSpells = 0;
+
+        try {
+            long phaseStart = System.nanoTime();
+            ByteBuffer kernelData = fileSystem.mapBinaryFile(kernelFile.toString());
+            fileSize = kernelData.limit();
+            MagicRecordView view = binaryParser.openMagicView(kernelData);
+            List<String> integrityErrors = checkIntegrity(view);
+            loadNanos = System.nanoTime() - phaseStart;
+            if (!integrityErrors.isEmpty()) {
+                return failure(kernelFile, outputFile, integrityErrors, fileSize, loadNanos, 0);
+            }
+
+            phaseStart = System.nanoTime();
+            byte[] output = new byte[kernelData.limit()];
+            kernelData.get(0, output);
+            ByteBuffer outputBuffer = ByteBuffer.wrap(output);
+            List<String> errors = new ArrayList<>();
+            for (int i = 0; i < view.getRecordCount(); i++) {
+                if (!patch.affects(view.moveTo(i).getMagicID())) {
+                    continue;
+                }
+                MagicData magic = view.toMagicData();
+                MagicData patched = patch.applyTo(magic);
+                if (patched == magic) {
+                    continue;
+                }
+                for (String error : magicValidationService.validateMagicDataAndCollectErrors(patched)) {
+                    errors.add("Magic " + patched.getMagicID() + ": " + error);
+                }
+                binaryParser.serializeMagicData(patched, outputBuffer, view.getOffset());
+                patchedSpells++;
+            }
+            patchNanos = System.nanoTime() - phaseStart;
+            if (!errors.isEmpty()) {
+                return failure(kernelFile, outputFile, errors, fileSize, loadNanos, patchNanos);
+            }
+
+            phaseStart = System.nanoTime();
+            fileSystem.writeBinaryFile(outputFile.toString(), output);
+            saveNanos = System.nanoTime() - phaseStart;
+
+            return new FileResultDTO(kernelFile, outputFile, true, List.of(), patchedSpells,
+                fileSize, loadNanos, patchNanos, saveNanos);
+        } catch (Exception e) {
+            logger.warning("Batch processing failed for " + kernelFile + ": " + e.getMessage());
+            return failure(kernelFile, outputFile, List.of(String.valueOf(e.getMessage())), fileSize, loadNanos, patchNanos);
+        }
+    }
+
+    /**
+     * Checks that every record carries its own index as magic ID, reading only that field.
+     */
+    private static List<String> checkIntegrity(MagicRecordView view) {
+        List<String> errors = new ArrayList<>();
+        BitSet seenIds = new BitSet();
+        for (int i = 0; i < view.getRecordCount(); i++) {
+            int magicId = view.moveTo(i).getMagicID();
+            if (seenIds.get(magicId)) {
+                errors.add("Duplicate magic ID " + magicId + " at index " + i);
+            } else if (magicId != i) {
+                errors.add("Magic ID mismatch at index " + i + ": expected " + i + ", got " + magicId);
+            }
+            seenIds.set(magicId);
+        }
+        return errors;
+    }
+
+    private FileResultDTO awaitResult(Future<FileResultDTO> future, Path kernelFile, Path outputFile) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return failure(kernelFile, outputFile, List.of("Interrupted"), 0, 0, 0);
+        } catch (ExecutionException e) {
+            return failure(kernelFile, outputFile, List.of(String.valueOf(e.getCause())), 0, 0, 0);
+        }
+    }
+
+    private static FileResultDTO failure(Path kernelFile, Path outputFile, List<String> errors,
+                                         long fileSize, long loadNanos, long patchNanos) {
+        return new FileResultDTO(kernelFile, outputFile, false, errors, 0, fileSize, loadNanos, patchNanos, 0);
+    }
+
+    /**
+     * Assigns each input, by position, an output file named after it, suffixing
+     * duplicates so kernels from different directories never overwrite each other.
+     *
+     * @throws IllegalArgumentException if a file is listed twice, in any spelling of its
+     *         path, or if an output would replace one of the inputs
+     */
+    private static List<Path> assignOutputFiles(List<Path> kernelFiles, Path outputDirectory) {
+        Set<Path> inputs = new HashSet<>();
+        for (Path kernelFile : kernelFiles) {
+            if (!inputs.add(kernelFile.toAbsolutePath().normalize())) {
+                throw new IllegalArgumentException("Kernel file listed more than once: " + kernelFile);
+            }
+        }
+
+        List<Path> outputs = new ArrayList<>(kernelFiles.size());
+        Set<String> usedNames = new HashSet<>();
+        for (Path kernelFile : kernelFiles) {
+            String fileName = kernelFile.getFileName().toString();
+            String candidate = fileName;
+            int dot = fileName.lastIndexOf('.');
+            for (int n = 1; !usedNames.add(candidate); n++) {
+                candidate = dot > 0
+                    ? fileName.substring(0, dot) + "-" + n + fileName.substring(dot)
+                    : fileName + "-" + n;
+            }
+            Path outputFile = outputDirectory.resolve(candidate);
+            if (inputs.contains(outputFile.toAbsolutePath().normalize())) {
+                throw new IllegalArgumentException("Output " + outputFile + " would overwrite an input kernel");
+            }
+            outputs.add(outputFile);
+        }
+        return outputs;
+    }
+}
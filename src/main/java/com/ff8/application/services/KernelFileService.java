@@ -8,14 +8,18 @@ import com.ff8.application.ports.secondary.BinaryParserPort;
 import com.ff8.application.ports.secondary.FileSystemPort;
 import com.ff8.application.ports.secondary.MagicRepository;
 import com.ff8.domain.entities.MagicData;
-import com.ff8.domain.entities.SpellTranslations;
 import com.ff8.domain.events.KernelReadEvent;
 import com.ff8.domain.exceptions.BinaryParseException;
 import com.ff8.domain.observers.AbstractSubject;
+import com.ff8.domain.services.CatalogValidationEngine;
 import com.ff8.domain.services.TextEncodingService;
+import com.ff8.domain.services.ValidationRule;
 import lombok.RequiredArgsConstructor;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -75,14 +79,17 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
     private static final int MAGIC_SECTION_OFFSET = 0x021C; // Standard offset for magic data section
     private static final int MAGIC_STRUCT_SIZE = 0x3C; // 60 bytes per magic entry
     private static final int MAGIC_COUNT = 56; // Number of magic spells in FF8
+    private static final int IMPORT_BATCH_SIZE = 1024; // Records stored per bulk insert while streaming
     
     private final BinaryParserPort binaryParser;
     private final FileSystemPort fileSystem;
     private final MagicRepository magicRepository;
     private final MagicDataToDtoMapper magicDataToDtoMapper;
     private final TextEncodingService textEncodingService;
+    private final CatalogValidationEngine validationEngine = new CatalogValidationEngine();
     private boolean fileLoaded = false;
     private String currentFilePath;
+    private byte[] kernelImage; // heap copy of the loaded kernel, reused as the save template
 
     /**
      * Loads a complete FF8 kernel.bin file and extracts all magic data.
@@ -113,11 +120,13 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
         try {
             logger.info("Loading kernel file: " + filePath);
             
-            // Read the binary file
-            byte[] kernelData = fileSystem.readBinaryFile(filePath);
+            // Read the file onto the heap: it doubles as the save template, and a mapping
+            // held for the whole session would stop the file being replaced on Windows
+            byte[] kernelBytes = fileSystem.readBinaryFile(filePath);
+            ByteBuffer kernelData = ByteBuffer.wrap(kernelBytes).asReadOnlyBuffer();
             
             // Validate file size and structure
-            if (kernelData.length < MAGIC_SECTION_OFFSET + (MAGIC_COUNT * MAGIC_STRUCT_SIZE)) {
+            if (kernelData.limit() < MAGIC_SECTION_OFFSET + (MAGIC_COUNT * MAGIC_STRUCT_SIZE)) {
                 throw new BinaryParseException("Invalid kernel.bin file: insufficient size");
             }
             
@@ -125,23 +134,25 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
             magicRepository.removeKernelData();
             
             // Parse all magic data from kernel
+            List<MagicData> kernelMagic = new ArrayList<>(MAGIC_COUNT);
             for (int i = 0; i < MAGIC_COUNT; i++) {
                 int offset = MAGIC_SECTION_OFFSET + (i * MAGIC_STRUCT_SIZE);
                 MagicData magic = binaryParser.parseMagicData(kernelData, offset);
                 // Set the index manually and ensure isNewlyCreated is false (default)
-                magic = magic.toBuilder().index(i).isNewlyCreated(false).build();
-                magicRepository.save(magic);
-                
-                logger.fine("Parsed magic ID: " + i + " - " + magic.getExtractedSpellName());
+                kernelMagic.add(magic.toBuilder().index(i).isNewlyCreated(false).build());
             }
+            magicRepository.saveAllBulk(kernelMagic);
             
             this.currentFilePath = filePath;
+            this.kernelImage = kernelBytes;
             this.fileLoaded = true;
+            // The freshly parsed records match the file, so nothing needs writing yet
+            magicRepository.markAsClean();
             
             logger.info("Successfully loaded " + MAGIC_COUNT + " magic spells from kernel file");
             
             // Get file size for the event
-            long fileSize = kernelData.length;
+            long fileSize = kernelData.limit();
             
             // Convert MagicData to MagicDisplayDTO for the event using the mapper
             List<MagicDisplayDTO> magicDisplayList = magicDataToDtoMapper.toDtoList(magicRepository.findAll());
@@ -170,12 +181,14 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
      * <ul>
      *   <li>Validates binary file structure and magic count</li>
      *   <li>Searches for associated language resource files</li>
-     *   <li>Loads and parses multi-language spell translations</li>
-     *   <li>Parses magic data structures from the binary file</li>
+     *   <li>Streams the records and their translations through a {@link MagicBinaryStreamReader}</li>
      *   <li>Assigns new indices to avoid conflicts with existing magic</li>
      *   <li>Marks all loaded magic as newly created for proper tracking</li>
      * </ul>
      * 
+     * <p>Neither the binary nor the language files are read into memory whole;
+     * only the resulting magic data is kept.</p>
+     * 
      * <p>Language file naming conventions:</p>
      * <ul>
      *   <li><strong>English (required):</strong> {@code [basename]_en.resources.bin}</li>
@@ -192,56 +205,40 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
         try {
             logger.info("Loading magic binary file: " + filePath);
             
-            // Read the binary file
-            byte[] magicBinaryData = fileSystem.readBinaryFile(filePath);
-            
             // Validate file size - should be multiple of magic struct size
-            if (magicBinaryData.length % MAGIC_STRUCT_SIZE != 0) {
+            long fileSize = fileSystem.getFileSize(filePath);
+            if (fileSize % MAGIC_STRUCT_SIZE != 0) {
                 throw new BinaryParseException("Invalid magic binary file: size must be multiple of " + MAGIC_STRUCT_SIZE + " bytes");
             }
             
-            int magicCount = magicBinaryData.length / MAGIC_STRUCT_SIZE;
+            int magicCount = Math.toIntExact(fileSize / MAGIC_STRUCT_SIZE);
             logger.info("Magic binary contains " + magicCount + " magic entries");
             
-            // Load language files - English is mandatory
-            Path binaryFilePath = Paths.get(filePath);
-            String baseName = getBaseNameFromPath(binaryFilePath);
-            Path parentDir = binaryFilePath.getParent();
-            
-            Map<String, SpellTranslations.Translation[]> languageTranslations = loadLanguageFiles(parentDir, baseName, magicCount);
-            
-            // Parse all magic data and flag as newly created
-            int addedCount = 0;
-            for (int i = 0; i < magicCount; i++) {
-                int offset = i * MAGIC_STRUCT_SIZE;
-                MagicData magic = binaryParser.parseMagicData(magicBinaryData, offset);
-                
-                // Get next available index for this magic
-                int nextIndex = magicRepository.getNextAvailableIndex();
-                
-                // Build translations for this magic entry
-                SpellTranslations translations = buildSpellTranslations(languageTranslations, i);
-
-                // Set as newly created and assign proper index with translations
-                magic = magic.toBuilder()
-                    .index(nextIndex)
-                    .extractedSpellName(translations.getEnglishName())
-                    .extractedSpellDescription(translations.getEnglishDescription())
-                    .isNewlyCreated(true)
-                    .translations(translations)
-                    .build();
-                    
-                magicRepository.save(magic);
-                addedCount++;
-                
-                logger.fine("Added magic from binary: index=" + nextIndex + ", ID=" + magic.getMagicID() + 
-                           ", name='" + magic.getSpellName() + "'");
+            // Stream the records into a reserved index range, storing them in bounded batches
+            int firstIndex = magicRepository.reserveIndices(magicCount);
+            int storedCount = 0;
+            try (MagicBinaryStreamReader reader = openMagicBinaryStream(filePath, firstIndex)) {
+                List<MagicData> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+                while (reader.hasNext()) {
+                    batch.add(reader.next());
+                    if (batch.size() == IMPORT_BATCH_SIZE) {
+                        magicRepository.saveAllBulk(batch);
+                        storedCount += batch.size();
+                        batch.clear();
+                    }
+                }
+                magicRepository.saveAllBulk(batch);
+            } catch (IOException | RuntimeException e) {
+                // Roll back the batches already stored and the reservation, so a failed import leaves no trace
+                for (int index = firstIndex; index < firstIndex + storedCount; index++) {
+                    magicRepository.deleteByIndex(index);
+                }
+                magicRepository.releaseReservation(firstIndex, magicCount);
+                throw e;
             }
             
-            logger.info("Successfully added " + addedCount + " magic spells from binary file with translations");
-            
-            // Get file size for the event
-            long fileSize = magicBinaryData.length;
+            logger.info("Successfully added " + magicCount + " magic spells from binary file with translations, indices " +
+                       firstIndex + "-" + (firstIndex + magicCount - 1));
             
             // Convert MagicData to MagicDisplayDTO for the event using the mapper
             List<MagicDisplayDTO> magicDisplayList = magicDataToDtoMapper.toDtoList(magicRepository.findAll());
@@ -252,13 +249,68 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
             
             logger.info("Notified " + getObserverCount() + " observers about magic binary load");
             
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             throw new BinaryParseException("Failed to read magic binary file: " + e.getMessage(), e);
         } catch (Exception e) {
             throw new BinaryParseException("Failed to parse magic binary file: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Opens a streaming reader over a magic binary file and its language resource files.
+     * 
+     * <p>Records are parsed and zipped with their translations one chunk at a time,
+     * so arbitrarily large spell catalogs can be consumed with bounded memory. The
+     * records are only returned, not stored; {@link #loadMagicBinary(String)} is the
+     * storing variant.</p>
+     * 
+     * @param filePath The path to the magic binary file
+     * @param firstIndex Kernel index assigned to the first record
+     * @return A reader that the caller must close
+     * @throws BinaryParseException if the mandatory English file is missing
+     * @throws IOException if a file cannot be opened
+     */
+    public MagicBinaryStreamReader openMagicBinaryStream(String filePath, int firstIndex) throws BinaryParseException, IOException {
+        Path binaryFilePath = Paths.get(filePath);
+        String baseName = getBaseNameFromPath(binaryFilePath);
+        Path parentDir = binaryFilePath.toAbsolutePath().getParent();
+        
+        Map<String, Path> languageFiles = findLanguageFiles(parentDir, baseName);
+        Map<String, ReadableByteChannel> languageChannels = new LinkedHashMap<>();
+        ReadableByteChannel binaryChannel = null;
+        try {
+            for (Map.Entry<String, Path> languageFile : languageFiles.entrySet()) {
+                try {
+                    languageChannels.put(languageFile.getKey(), fileSystem.openReadChannel(languageFile.getValue().toString()));
+                } catch (IOException e) {
+                    if (languageFile.getKey().equals("English")) {
+                        throw e;
+                    }
+                    logger.warning("Failed to open language file " + languageFile.getValue() + ": " + e.getMessage());
+                    // Continue without this language file
+                }
+            }
+            binaryChannel = fileSystem.openReadChannel(filePath);
+            return new MagicBinaryStreamReader(binaryChannel, languageChannels, binaryParser, textEncodingService, firstIndex);
+        } catch (IOException | RuntimeException e) {
+            for (ReadableByteChannel channel : languageChannels.values()) {
+                closeQuietly(channel);
+            }
+            if (binaryChannel != null) {
+                closeQuietly(binaryChannel);
+            }
+            throw e;
+        }
+    }
+
+    private void closeQuietly(ReadableByteChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.fine("Failed to close channel: " + e.getMessage());
+        }
+    }
+
     /**
      * Extracts the base name from a file path by removing the extension.
      * 
@@ -276,32 +328,26 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
     }
 
     /**
-     * Loads language files associated with a magic binary file.
+     * Locates the language files associated with a magic binary file.
      * 
-     * <p>This method discovers and loads all language resource files associated
-     * with a magic binary file. The English language file is mandatory and must
-     * be present for the operation to succeed. Additional language files are
-     * loaded if available.</p>
+     * <p>The English language file is mandatory and must be present for the
+     * operation to succeed. Additional language files are included if available;
+     * when several naming conventions match one language, the first one wins.</p>
      * 
      * <p>Language file discovery process:</p>
      * <ul>
      *   <li>Searches for English file using standard naming conventions</li>
      *   <li>Validates English file presence (mandatory requirement)</li>
-     *   <li>Loads and parses English translations</li>
-     *   <li>Discovers additional language files (future enhancement)</li>
+     *   <li>Discovers additional language files by language code</li>
      * </ul>
      * 
      * @param parentDir The directory containing the language resource files
      * @param baseName The base name of the magic binary file (without extension)
-     * @param magicCount The number of magic spells expected in each language file
-     * @return Map of language codes to translation arrays
+     * @return Map of language display names to resource files, English first
      * @throws BinaryParseException if the mandatory English file is missing
-     * @throws IOException if file system operations fail
      */
-    private Map<String, SpellTranslations.Translation[]> loadLanguageFiles(Path parentDir, String baseName, int magicCount) 
-            throws BinaryParseException, IOException {
-        
-        Map<String, SpellTranslations.Translation[]> languageTranslations = new LinkedHashMap<>();
+    private Map<String, Path> findLanguageFiles(Path parentDir, String baseName) throws BinaryParseException {
+        Map<String, Path> languageFiles = new LinkedHashMap<>();
         
         // Check for English file (mandatory)
         Path englishFile = parentDir.resolve(baseName + "_en.resources.bin");
@@ -313,78 +359,20 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
                     parentDir.resolve(baseName + "_en.resources.bin"));
             }
         }
-        
-        // Load English translations
-        logger.info("Loading English translations from: " + englishFile);
-        byte[] englishData = fileSystem.readBinaryFile(englishFile.toString());
-        
-        // For now, assume fixed lengths - in real implementation, these would be calculated
-        int maxNameLength = 32;  // Approximate max name length
-        int maxDescLength = 128; // Approximate max description length
-        
-        Map<Integer, SpellTranslations.Translation> englishTranslations = 
-            textEncodingService.parseLanguageResourceFile(englishData, magicCount, maxNameLength, maxDescLength);
-        
-        SpellTranslations.Translation[] englishArray = new SpellTranslations.Translation[magicCount];
-        for (int i = 0; i < magicCount; i++) {
-            englishArray[i] = englishTranslations.getOrDefault(i, new SpellTranslations.Translation("", ""));
-        }
-        languageTranslations.put("English", englishArray);
+        logger.info("Using English translations from: " + englishFile);
+        languageFiles.put("English", englishFile);
         
         // Look for other language files (optional)
         String[] otherLanguages = {"fr", "french", "de", "german", "es", "spanish", "it", "italian", "jp", "japanese"};
         for (String langCode : otherLanguages) {
             Path langFile = parentDir.resolve(baseName + "_" + langCode + ".resources.bin");
-            if (Files.exists(langFile)) {
-                logger.info("Loading additional language file: " + langFile);
-                try {
-                    byte[] langData = fileSystem.readBinaryFile(langFile.toString());
-                    Map<Integer, SpellTranslations.Translation> langTranslations = 
-                        textEncodingService.parseLanguageResourceFile(langData, magicCount, maxNameLength, maxDescLength);
-                    
-                    SpellTranslations.Translation[] langArray = new SpellTranslations.Translation[magicCount];
-                    for (int i = 0; i < magicCount; i++) {
-                        langArray[i] = langTranslations.getOrDefault(i, new SpellTranslations.Translation("", ""));
-                    }
-                    
-                    String languageName = getLanguageDisplayName(langCode);
-                    languageTranslations.put(languageName, langArray);
-                } catch (Exception e) {
-                    logger.warning("Failed to load language file " + langFile + ": " + e.getMessage());
-                    // Continue without this language file
-                }
-            }
-        }
-        
-        logger.info("Loaded translations for " + languageTranslations.size() + " languages");
-        return languageTranslations;
-    }
-
-    /**
-     * Builds spell translations for a specific magic entry.
-     * 
-     * <p>This method constructs a {@link SpellTranslations} object for a specific
-     * magic spell using the loaded language translation data. It ensures that
-     * English translations are always available and properly formatted.</p>
-     * 
-     * @param languageTranslations Map of language codes to translation arrays
-     * @param magicIndex The index of the magic spell to build translations for
-     * @return SpellTranslations object containing all available translations
-     */
-    private SpellTranslations buildSpellTranslations(Map<String, SpellTranslations.Translation[]> languageTranslations, int magicIndex) {
-        Map<String, SpellTranslations.Translation> translations = new LinkedHashMap<>();
-        
-        // Add translations from all loaded languages
-        for (Map.Entry<String, SpellTranslations.Translation[]> entry : languageTranslations.entrySet()) {
-            String language = entry.getKey();
-            SpellTranslations.Translation[] langArray = entry.getValue();
-            
-            if (magicIndex < langArray.length) {
-                translations.put(language, langArray[magicIndex]);
+            if (Files.exists(langFile) && languageFiles.putIfAbsent(getLanguageDisplayName(langCode), langFile) == null) {
+                logger.info("Using additional language file: " + langFile);
             }
         }
         
-        return new SpellTranslations(translations);
+        logger.info("Found translations for " + languageFiles.size() + " languages");
+        return languageFiles;
     }
 
     /**
@@ -423,6 +411,13 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
      *   <li>Writes the file to the specified path</li>
      * </ul>
      * 
+     * <p>When saving back to the loaded file, only the records marked dirty in the
+     * repository are serialized and patched into the file, so serialization grows with
+     * the number of edited spells rather than with the file size. The records are
+     * written in place, with the bytes they replace journaled for rollback, so the
+     * I/O is proportional to the changes too. Saving elsewhere, or any failure of the
+     * patch, goes through the full rewrite.</p>
+     * 
      * @param filePath The path where the new kernel.bin file should be saved
      * @throws BinaryParseException if there's an error during export or no file is loaded
      */
@@ -432,12 +427,91 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
             throw new BinaryParseException("No kernel file loaded. Load a file first.");
         }
         
+        if (canSaveIncrementally(filePath)) {
+            try {
+                saveDirtyRecords(filePath);
+                magicRepository.markAsClean();
+                return;
+            } catch (Exception e) {
+                logger.warning("Incremental save failed, rewriting the whole file: " + e.getMessage());
+            }
+        }
+        
+        saveWholeKernelFile(filePath);
+        magicRepository.markAsClean();
+    }
+
+    /**
+     * Checks whether the target is the loaded file, unchanged in size since it was loaded.
+     */
+    private boolean canSaveIncrementally(String filePath) {
+        try {
+            return kernelImage != null
+                && filePath.equals(currentFilePath)
+                && fileSystem.fileExists(filePath)
+                && fileSystem.getFileSize(filePath) == kernelImage.length;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Writes only the dirty kernel records to their slots in the loaded file.
+     * 
+     * @param filePath The loaded kernel file
+     * @throws BinaryParseException if a dirty record is missing or inconsistent
+     * @throws IOException if patching the file fails
+     */
+    private void saveDirtyRecords(String filePath) throws BinaryParseException, IOException {
+        Map<Long, byte[]> records = new LinkedHashMap<>();
+        for (int index : magicRepository.getDirtyIndices()) {
+            if (index >= MAGIC_COUNT) {
+                continue; // newly created magic lives outside kernel.bin
+            }
+            MagicData magic = magicRepository.findByIndex(index)
+                .orElseThrow(() -> new BinaryParseException("Kernel magic at index " + index + " was removed"));
+            records.put((long) MAGIC_SECTION_OFFSET + (long) index * MAGIC_STRUCT_SIZE, serializeRecord(magic, index));
+        }
+        
+        if (records.isEmpty()) {
+            logger.info("No kernel records changed, nothing to save");
+            return;
+        }
+        
+        logger.info("Saving " + records.size() + " changed magic records to " + filePath);
+        fileSystem.writeBinaryRanges(filePath, records);
+        // Apply the same ranges to the heap copy so it matches the file again
+        for (Map.Entry<Long, byte[]> record : records.entrySet()) {
+            System.arraycopy(record.getValue(), 0, kernelImage, Math.toIntExact(record.getKey()), record.getValue().length);
+        }
+        logger.info("Successfully saved " + records.size() + " changed magic records");
+    }
+
+    private byte[] serializeRecord(MagicData magic, int index) throws BinaryParseException {
+        requireMatchingMagicId(magic, index);
+        byte[] magicBinary = new byte[MAGIC_STRUCT_SIZE];
+        binaryParser.serializeMagicData(magic, ByteBuffer.wrap(magicBinary), 0);
+        return magicBinary;
+    }
+
+    private static void requireMatchingMagicId(MagicData magic, int index) throws BinaryParseException {
+        if (magic.getMagicID() != index) {
+            throw new BinaryParseException("Magic ID mismatch at index " + index + ": expected " + index + ", got " + magic.getMagicID());
+        }
+    }
+
+    /**
+     * Serializes every magic record into a copy of the loaded kernel and writes it out.
+     * 
+     * @param filePath The path where the kernel file should be written
+     * @throws BinaryParseException if serialization or the write fails
+     */
+    private void saveWholeKernelFile(String filePath) throws BinaryParseException {
         try {
             logger.info("Saving kernel file: " + filePath);
             
-            // Read the original kernel file to preserve non-magic data
-            byte[] originalKernelData = fileSystem.readBinaryFile(currentFilePath != null ? currentFilePath : filePath);
-            byte[] modifiedKernelData = originalKernelData.clone();
+            // Copy the loaded kernel once to preserve non-magic data
+            byte[] modifiedKernelData = snapshotKernelData(filePath);
             
             // Get all magic data from repository
             List<MagicData> allMagic = magicRepository.findAll();
@@ -449,21 +523,12 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
             // Sort by magic ID to ensure correct order
             allMagic.sort((m1, m2) -> Integer.compare(m1.getMagicID(), m2.getMagicID()));
             
-            // Serialize each magic data back to binary
+            // Serialize each magic data straight into its slot in the kernel copy
+            ByteBuffer kernelBuffer = ByteBuffer.wrap(modifiedKernelData);
             for (int i = 0; i < MAGIC_COUNT; i++) {
                 MagicData magic = allMagic.get(i);
-                if (magic.getMagicID() != i) {
-                    throw new BinaryParseException("Magic ID mismatch at index " + i + ": expected " + i + ", got " + magic.getMagicID());
-                }
-                
-                byte[] magicBinary = binaryParser.serializeMagicData(magic);
-                if (magicBinary.length != MAGIC_STRUCT_SIZE) {
-                    throw new BinaryParseException("Invalid serialized magic size: expected " + MAGIC_STRUCT_SIZE + ", got " + magicBinary.length);
-                }
-                
-                // Write magic data to the correct offset in kernel
-                int offset = MAGIC_SECTION_OFFSET + (i * MAGIC_STRUCT_SIZE);
-                System.arraycopy(magicBinary, 0, modifiedKernelData, offset, MAGIC_STRUCT_SIZE);
+                requireMatchingMagicId(magic, i);
+                binaryParser.serializeMagicData(magic, kernelBuffer, MAGIC_SECTION_OFFSET + (i * MAGIC_STRUCT_SIZE));
                 
                 logger.fine("Serialized magic ID: " + i + " - " + magic.getExtractedSpellName());
             }
@@ -475,6 +540,8 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
             if (!filePath.equals(currentFilePath)) {
                 this.currentFilePath = filePath;
             }
+            // The written bytes become the template for the next save
+            this.kernelImage = modifiedKernelData;
             
             logger.info("Successfully saved kernel file with " + MAGIC_COUNT + " magic spells");
             
@@ -485,6 +552,24 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
         }
     }
 
+    /**
+     * Produces a writable copy of the loaded kernel file.
+     * 
+     * <p>The bytes come from the heap copy kept since {@link #loadKernelFile(String)},
+     * so saving costs a single copy instead of re-reading the original file and
+     * cloning it. Falls back to reading the file if no copy is available.</p>
+     * 
+     * @param filePath The save target, read only when no copy is available
+     * @return A heap copy of the complete kernel file
+     * @throws IOException if the fallback read fails
+     */
+    private byte[] snapshotKernelData(String filePath) throws IOException {
+        if (kernelImage == null) {
+            return fileSystem.readBinaryFile(currentFilePath != null ? currentFilePath : filePath);
+        }
+        return kernelImage.clone();
+    }
+
     /**
      * Checks if a kernel file is currently loaded.
      * 
@@ -514,6 +599,7 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
     public void unloadFile() {
         this.fileLoaded = false;
         this.currentFilePath = null;
+        this.kernelImage = null;
         this.magicRepository.clear();
         logger.info("Kernel file unloaded");
     }
@@ -533,9 +619,7 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
      * @return true if there are modifications that haven't been saved, false otherwise
      */
     public boolean hasUnsavedChanges() {
-        // This would typically check if the repository has been modified
-        // For now, we'll implement a simple version
-        return fileLoaded && magicRepository.findAll().size() == MAGIC_COUNT;
+        return fileLoaded && magicRepository.isModified();
     }
 
     /**
@@ -642,12 +726,8 @@ public class KernelFileService extends AbstractSubject<KernelReadEvent> implemen
             }
             
             // Check for duplicate magic IDs
-            long uniqueIds = magicList.stream()
-                .mapToInt(MagicData::getMagicID)
-                .distinct()
-                .count();
-            
-            if (uniqueIds != magicList.size()) {
+            var integrityReport = validationEngine.validate(magicList, EnumSet.of(ValidationRule.CATALOG_INTEGRITY));
+            if (!integrityReport.isValid()) {
                 errors.add("Duplicate magic IDs detected");
             }
             
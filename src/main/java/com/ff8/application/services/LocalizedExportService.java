@@ -93,9 +93,15 @@ public class LocalizedExportService extends AbstractSubject implements Localized
             // Step 3: Prepare translations with encoding and fallback
             Map<Integer, SpellTranslations> spellTranslations = prepareTranslations(newlyCreatedMagic);
             
-            // Step 4: Calculate text layout
+            // Step 4: Calculate text layout, reusing the lengths measured during validation.
+            // Fallback translations are copies of English, which the measurements already read for missing languages.
+            TextMeasurements measurements = validationResult.getTextMeasurements() != null
+                ? validationResult.getTextMeasurements()
+                : TextMeasurements.measure(spellTranslations);
             TextOffsetCalculationService.TextLayoutResult textLayout = 
-                textOffsetCalculationService.calculateTextLayout(spellTranslations);
+                textOffsetCalculationService.calculateTextLayout(spellTranslations, measurements, request.compactText()
+                    ? TextOffsetCalculationService.LayoutMode.SHARED_TEXT
+                    : TextOffsetCalculationService.LayoutMode.FIXED_SLOTS);
             
             // Step 5: Generate resource files
             ResourceFileGeneratorPort.ResourceGenerationResult resourceResult = 
@@ -0,0 +1,220 @@
+package com.ff8.application.services;
+
+import com.ff8.application.ports.secondary.BinaryParserPort;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.Language;
+import com.ff8.domain.exceptions.BinaryParseException;
+import com.ff8.domain.services.TextEncodingService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.*;
+
+/**
+ * Streaming reader for magic binary files and their language resource files.
+ *
+ * <p>The magic binary is walked in 60-byte records straight from a channel and
+ * zipped with the matching name/description entries of every language file, which
+ * are read at the same pace. Only one chunk of each file is held at a time, so
+ * memory use depends on the chunk size, not on the size of the spell catalog.</p>
+ *
+ * <p>Each record becomes a newly created {@link MagicData} with consecutive kernel
+ * indices starting at {@code firstIndex}. Language files shorter than the binary
+ * yield empty translations for the missing entries. A binary that ends in the
+ * middle of a record is rejected.</p>
+ *
+ * <p>Iteration throws {@link UncheckedIOException} for read errors and
+ * {@link BinaryParseException} for malformed records. The reader owns the channels
+ * and closes them in {@link #close()}.</p>
+ */
+public class MagicBinaryStreamReader implements Iterator<MagicData>, AutoCloseable {
+    public static final int MAGIC_STRUCT_SIZE = 0x3C;
+    public static final int RESOURCE_NAME_LENGTH = 32;
+    public static final int RESOURCE_DESCRIPTION_LENGTH = 128;
+    private static final int RESOURCE_ENTRY_SIZE = RESOURCE_NAME_LENGTH + RESOURCE_DESCRIPTION_LENGTH;
+    private static final int DEFAULT_RECORDS_PER_CHUNK = 1024;
+    private static final SpellTranslations.Translation EMPTY_TRANSLATION = new SpellTranslations.Translation("", "");
+
+    private final ReadableByteChannel binaryChannel;
+    private final List<LanguageStream> languages;
+    private final BinaryParserPort binaryParser;
+    private final TextEncodingService textEncodingService;
+    private final ByteBuffer chunk;
+    private int nextIndex;
+    private long recordsRead;
+    private boolean exhausted;
+
+    /**
+     * Per-language resource channel with its own chunk buffer
+     */
+    private record LanguageStream(String language, ReadableByteChannel channel, ByteBuffer chunk) {}
+
+    /**
+     * @param binaryChannel Channel positioned at the first magic record
+     * @param languageChannels Resource channels keyed by language display name; must contain "English"
+     * @param binaryParser Parser for the 60-byte records
+     * @param textEncodingService Decoder for the encoded resource strings
+     * @param firstIndex Kernel index assigned to the first record
+     */
+    public MagicBinaryStreamReader(ReadableByteChannel binaryChannel,
+                                   Map<String, ReadableByteChannel> languageChannels,
+                                   BinaryParserPort binaryParser,
+                                   TextEncodingService textEncodingService,
+                                   int firstIndex) {
+        this(binaryChannel, languageChannels, binaryParser, textEncodingService, firstIndex, DEFAULT_RECORDS_PER_CHUNK);
+    }
+
+    public MagicBinaryStreamReader(ReadableByteChannel binaryChannel,
+                                   Map<String, ReadableByteChannel> languageChannels,
+                                   BinaryParserPort binaryParser,
+                                   TextEncodingService textEncodingService,
+                                   int firstIndex,
+                                   int recordsPerChunk) {
+        if (!languageChannels.containsKey("English")) {
+            throw new IllegalArgumentException("English language channel is mandatory");
+        }
+        if (recordsPerChunk < 1) {
+            throw new IllegalArgumentException("Records per chunk must be at least 1, got " + recordsPerChunk);
+        }
+        this.binaryChannel = binaryChannel;
+        this.binaryParser = binaryParser;
+        this.textEncodingService = textEncodingService;
+        this.nextIndex = firstIndex;
+        this.chunk = ByteBuffer.allocate(MAGIC_STRUCT_SIZE * recordsPerChunk).flip();
+
+        List<LanguageStream> streams = new ArrayList<>(languageChannels.size());
+        languageChannels.forEach((language, channel) ->
+            streams.add(new LanguageStream(language, channel,
+                ByteBuffer.allocate(RESOURCE_ENTRY_SIZE * recordsPerChunk).flip())));
+        this.languages = List.copyOf(streams);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (chunk.hasRemaining()) {
+            return true;
+        }
+        if (exhausted) {
+            return false;
+        }
+        try {
+            refill();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read magic binary stream", e);
+        }
+        return chunk.hasRemaining();
+    }
+
+    @Override
+    public MagicData next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        MagicData magic = binaryParser.parseMagicData(chunk, chunk.position());
+        chunk.position(chunk.position() + MAGIC_STRUCT_SIZE);
+
+        Map<String, SpellTranslations.Translation> translations = new LinkedHashMap<>();
+        for (LanguageStream stream : languages) {
+            translations.put(stream.language(), nextTranslation(stream));
+        }
+        SpellTranslations spellTranslations = new SpellTranslations(translations);
+
+        recordsRead++;
+        return magic.toBuilder()
+            .index(nextIndex++)
+            .extractedSpellName(spellTranslations.getEnglishName())
+            .extractedSpellDescription(spellTranslations.getEnglishDescription())
+            .isNewlyCreated(true)
+            .translations(spellTranslations)
+            .build();
+    }
+
+    /**
+     * Number of records returned so far
+     */
+    public long getRecordsRead() {
+        return recordsRead;
+    }
+
+    @Override
+    public void close() throws IOException {
+        IOException failure = null;
+        for (ReadableByteChannel channel : allChannels()) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Loads the next chunk of records and the matching chunk of every language file.
+     */
+    private void refill() throws IOException {
+        chunk.clear();
+        boolean endOfStream = fill(binaryChannel, chunk);
+        chunk.flip();
+
+        if (chunk.remaining() % MAGIC_STRUCT_SIZE != 0) {
+            throw new BinaryParseException("Invalid magic binary file: size must be multiple of " + MAGIC_STRUCT_SIZE +
+                                           " bytes, stream ended " + chunk.remaining() % MAGIC_STRUCT_SIZE +
+                                           " bytes into record " + (recordsRead + chunk.remaining() / MAGIC_STRUCT_SIZE));
+        }
+        exhausted = endOfStream;
+
+        int records = chunk.remaining() / MAGIC_STRUCT_SIZE;
+        for (LanguageStream stream : languages) {
+            ByteBuffer resources = stream.chunk();
+            resources.clear().limit(records * RESOURCE_ENTRY_SIZE);
+            fill(stream.channel(), resources);
+            resources.flip();
+        }
+    }
+
+    /**
+     * Reads until the buffer is full or the channel ends.
+     *
+     * @return true if the channel reached end of stream
+     */
+    private static boolean fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private SpellTranslations.Translation nextTranslation(LanguageStream stream) {
+        ByteBuffer resources = stream.chunk();
+        if (resources.remaining() < RESOURCE_ENTRY_SIZE) {
+            resources.position(resources.limit()); // short or missing language file
+            return EMPTY_TRANSLATION;
+        }
+        int offset = resources.position();
+        String name = textEncodingService.decodeText(resources, offset, RESOURCE_NAME_LENGTH);
+        String description = textEncodingService.decodeText(resources, offset + RESOURCE_NAME_LENGTH, 
+                                                            RESOURCE_DESCRIPTION_LENGTH);
+        resources.position(offset + RESOURCE_ENTRY_SIZE);
+        return new SpellTranslations.Translation(name, description);
+    }
+
+    private List<ReadableByteChannel> allChannels() {
+        List<ReadableByteChannel> channels = new ArrayList<>(languages.size() + 1);
+        channels.add(binaryChannel);
+        languages.forEach(stream -> channels.add(stream.channel()));
+        return channels;
+    }
+}
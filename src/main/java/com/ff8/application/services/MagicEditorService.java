@@ -377,22 +377,33 @@ public class MagicEditorService extends AbstractSubject<MagicDataChangeEvent> im
      */
     @Override
     public boolean hasUnsavedChanges() {
-        // For now, we consider magic data as always saved since we use in-memory storage
-        // In a real implementation, this would check for dirty flags or compare with saved state
-        return false;
+        return magicRepository.isModified();
     }
 
     /**
      * Resets a magic spell to its original state.
      * 
-     * <p>This method would restore a spell to its original state before any
-     * modifications were made. Currently not implemented.</p>
+     * <p>Restores the spell as it was when the kernel was last loaded or saved and
+     * notifies observers. Spells created since then have no original state and are
+     * left untouched.</p>
      * 
      * @param magicIndex the index of the magic to reset
      */
     @Override
     public void resetMagicToOriginal(int magicIndex) {
-        // TODO: Implement reset to original functionality
-        // This would require storing original state and restoring it
+        Optional<MagicData> original = magicRepository.getOriginalByIndex(magicIndex);
+        if (original.isEmpty()) {
+            logger.info("Magic at index {} has no original state to reset to", magicIndex);
+            return;
+        }
+        
+        magicRepository.resetToOriginalByIndex(magicIndex);
+        
+        MagicDataChangeEvent changeEvent = new MagicDataChangeEvent(
+            magicIndex, magicDataToDtoMapper.toDto(original.get()), "reset");
+        notifyObservers(changeEvent);
+        
+        logger.info("Magic data reset for index {} and event notified to {} observers", 
+                   magicIndex, getObserverCount());
     }
 } 
\ No newline at end of file
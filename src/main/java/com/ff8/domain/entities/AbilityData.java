@@ -0,0 +1,61 @@
+package com.ff8.domain.entities;
+
+import com.ff8.domain.entities.enums.SectionType;
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * One record of a kernel.bin ability section (8 bytes).
+ * 
+ * <p>All ability sections share the same head: text pointers and the AP needed to
+ * learn the ability. The remaining three bytes depend on the section, e.g. the
+ * stat and percentage of a stat ability or the unlocked command of a command
+ * ability, and are kept as one 24-bit little-endian value.</p>
+ */
+@Value
+@Builder(toBuilder = true)
+@With
+public class AbilityData {
+    
+    /** Ability section the record belongs to */
+    @Builder.Default
+    SectionType section = SectionType.JUNCTION_ABILITIES;
+    
+    /** Position in the ability section */
+    @Builder.Default
+    int index = 0;
+    
+    /** 0x00: Offset of the name in the section's text */
+    @Builder.Default
+    int offsetName = 0;
+    
+    /** 0x02: Offset of the description in the section's text */
+    @Builder.Default
+    int offsetDescription = 0;
+    
+    /** 0x04: AP required to learn the ability */
+    @Builder.Default
+    int apRequired = 0;
+    
+    /** 0x05-0x07: Section-specific data */
+    @Builder.Default
+    int data = 0;
+    
+    /** Name decoded from the kernel's text section, empty if the text section is unknown */
+    @Builder.Default
+    String name = "";
+    
+    /** Description decoded from the kernel's text section, empty if the text section is unknown */
+    @Builder.Default
+    String description = "";
+    
+    /**
+     * Get one of the three section-specific bytes
+     * 
+     * @param position 0 for the byte at 0x05, up to 2 for the byte at 0x07
+     */
+    public int getDataByte(int position) {
+        return (data >>> (position * 8)) & 0xFF;
+    }
+}
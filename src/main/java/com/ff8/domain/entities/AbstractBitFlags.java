@@ -1,70 +1,78 @@
 package com.ff8.domain.entities;
 
-import lombok.EqualsAndHashCode;
-import lombok.Getter;
-
-import java.util.BitSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.function.IntConsumer;
 
 /**
  * Abstract base class for bit flag operations.
- * Provides common functionality for classes that manage BitSet data.
+ * Provides common functionality for classes that manage up to 64 flag bits.
+ *
+ * <p>The flags live in a single {@code long}, so copies, equality and hashing are
+ * plain word operations and active bits are walked with {@link Long#numberOfTrailingZeros}
+ * instead of scanning every index.</p>
+ *
+ * <p>Instances are immutable values. Subclasses create them only through their
+ * {@code of(...)} factories, which return shared instances, and derive changed values
+ * with {@code with(...)} and {@code without(...)}.</p>
  */
-@Getter
-@EqualsAndHashCode
 public abstract class AbstractBitFlags {
-    protected final BitSet flagBits;
+    protected final long bits;
     private final int totalBits;
 
-    protected AbstractBitFlags(int totalBits) {
-        this.totalBits = totalBits;
-        this.flagBits = new BitSet(totalBits);
-    }
-
-    protected AbstractBitFlags(int totalBits, BitSet existingBits) {
+    protected AbstractBitFlags(int totalBits, long bits) {
+        if (totalBits < 1 || totalBits > Long.SIZE) {
+            throw new IllegalArgumentException("Total bits must be between 1 and " + Long.SIZE);
+        }
         this.totalBits = totalBits;
-        this.flagBits = (BitSet) existingBits.clone();
+        this.bits = bits & maskOf(totalBits);
     }
 
     /**
-     * Set a specific bit
+     * Get a specific bit
      */
-    public void setBit(int index, boolean value) {
+    public boolean getBit(int index) {
         validateBitIndex(index);
-        flagBits.set(index, value);
+        return (bits & (1L << index)) != 0;
     }
 
     /**
-     * Get a specific bit
+     * Get all flags as a bit mask, bit {@code i} being flag {@code i}
      */
-    public boolean getBit(int index) {
-        validateBitIndex(index);
-        return flagBits.get(index);
+    public long getBits() {
+        return bits;
     }
 
     /**
      * Get list of active bit indices
      */
     public List<Integer> getActiveBits() {
-        return IntStream.range(0, totalBits)
-                .filter(flagBits::get)
-                .boxed()
-                .toList();
+        List<Integer> activeBits = new ArrayList<>(Long.bitCount(bits));
+        forEachActiveBit(activeBits::add);
+        return List.copyOf(activeBits);
     }
 
     /**
-     * Check if any flags are set
+     * Call the action with the index of every active bit, in ascending order, without boxing
      */
-    public boolean hasAnyFlags() {
-        return !flagBits.isEmpty();
+    public void forEachActiveBit(IntConsumer action) {
+        for (long remaining = bits; remaining != 0; remaining &= remaining - 1) {
+            action.accept(Long.numberOfTrailingZeros(remaining));
+        }
     }
 
     /**
-     * Clear all flags
+     * Get the number of active bits
      */
-    public void clear() {
-        flagBits.clear();
+    public int getActiveBitCount() {
+        return Long.bitCount(bits);
+    }
+
+    /**
+     * Check if any flags are set
+     */
+    public boolean hasAnyFlags() {
+        return bits != 0;
     }
 
     /**
@@ -75,10 +83,31 @@ public abstract class AbstractBitFlags {
     }
 
     /**
-     * Create a defensive copy of the BitSet
+     * Get the bits with one bit changed, for the subclasses' {@code with(...)} methods
+     */
+    protected long withBit(int index, boolean value) {
+        validateBitIndex(index);
+        return value ? bits | (1L << index) : bits & ~(1L << index);
+    }
+
+    /**
+     * Get a mask with the lowest {@code totalBits} bits set
      */
-    protected BitSet copyBitSet() {
-        return (BitSet) flagBits.clone();
+    protected static long maskOf(int totalBits) {
+        return totalBits == Long.SIZE ? -1L : (1L << totalBits) - 1;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o != null && o.getClass() == getClass() && ((AbstractBitFlags) o).bits == bits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(bits);
     }
 
     private void validateBitIndex(int index) {
@@ -86,4 +115,4 @@ public abstract class AbstractBitFlags {
             throw new IllegalArgumentException("Bit index must be between 0 and " + (totalBits - 1));
         }
     }
-} 
\ No newline at end of file
+}
@@ -1,25 +1,54 @@
 package com.ff8.domain.entities;
 
 import com.ff8.domain.entities.enums.AttackFlag;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents attack flags using 8 bits.
- * Uses Java 21 features and common BitSet functionality.
+ * Instances are immutable; every possible flag byte has one shared instance, returned by
+ * {@link #of(int)}, and {@code with(...)} and {@code without(...)} return other shared instances.
  */
 public final class AttackFlags extends AbstractBitFlags implements BinarySerializable {
     private static final int TOTAL_BITS = 8;
+    private static final AttackFlags[] INTERNED = new AttackFlags[1 << TOTAL_BITS];
 
-    public AttackFlags() {
-        super(TOTAL_BITS);
+    static {
+        for (int flagByte = 0; flagByte < INTERNED.length; flagByte++) {
+            INTERNED[flagByte] = new AttackFlags(flagByte);
+        }
     }
 
-    public AttackFlags(int flagByte) {
-        super(TOTAL_BITS, BinarySerializationUtils.byteTobitSet(flagByte, TOTAL_BITS));
+    private AttackFlags(int flagByte) {
+        super(TOTAL_BITS, flagByte);
     }
 
-    public AttackFlags(AttackFlags other) {
-        super(TOTAL_BITS, other.copyBitSet());
+    /**
+     * Get the shared immutable flags for a flag byte; bits above the lowest 8 are ignored
+     */
+    public static AttackFlags of(int flagByte) {
+        return INTERNED[flagByte & 0xFF];
+    }
+
+    /**
+     * Get the shared flags equal to these with one flag changed
+     */
+    public AttackFlags with(AttackFlag flag, boolean value) {
+        return of((int) withBit(flag.getBitIndex(), value));
+    }
+
+    /**
+     * Get the shared flags equal to these with a flag set
+     */
+    public AttackFlags with(AttackFlag flag) {
+        return with(flag, true);
+    }
+
+    /**
+     * Get the shared flags equal to these with a flag cleared
+     */
+    public AttackFlags without(AttackFlag flag) {
+        return with(flag, false);
     }
 
     @Override
@@ -36,14 +65,7 @@ public final class AttackFlags extends AbstractBitFlags implements BinarySeriali
      * Convert back to byte for serialization
      */
     public int toByte() {
-        return BinarySerializationUtils.bitSetToByte(flagBits, TOTAL_BITS);
-    }
-
-    /**
-     * Set a specific attack flag using enum
-     */
-    public void setFlag(AttackFlag flag, boolean value) {
-        setBit(flag.getBitIndex(), value);
+        return (int) bits;
     }
 
     /**
@@ -57,9 +79,9 @@ public final class AttackFlags extends AbstractBitFlags implements BinarySeriali
      * Get list of all active attack flags
      */
     public List<AttackFlag> getActiveFlags() {
-        return getActiveBits().stream()
-                .map(AttackFlag::fromBitIndex)
-                .toList();
+        List<AttackFlag> flags = new ArrayList<>(getActiveBitCount());
+        forEachActiveBit(bit -> flags.add(AttackFlag.fromBitIndex(bit)));
+        return List.copyOf(flags);
     }
 
     /**
@@ -72,19 +94,12 @@ public final class AttackFlags extends AbstractBitFlags implements BinarySeriali
     }
 
     /**
-     * Convenient properties for common attack flags
+     * Convenient accessors for common attack flags
      */
     public boolean isShelled() { return hasFlag(AttackFlag.SHELLED); }
-    public void setShelled(boolean value) { setFlag(AttackFlag.SHELLED, value); }
-
     public boolean isReflected() { return hasFlag(AttackFlag.REFLECTED); }
-    public void setReflected(boolean value) { setFlag(AttackFlag.REFLECTED, value); }
-
     public boolean isBreakDamageLimit() { return hasFlag(AttackFlag.BREAK_DAMAGE_LIMIT); }
-    public void setBreakDamageLimit(boolean value) { setFlag(AttackFlag.BREAK_DAMAGE_LIMIT, value); }
-
     public boolean isRevive() { return hasFlag(AttackFlag.REVIVE); }
-    public void setRevive(boolean value) { setFlag(AttackFlag.REVIVE, value); }
 
     @Override
     public String toString() {
@@ -0,0 +1,94 @@
+package com.ff8.domain.entities;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * One record of the kernel.bin battle item section (24 bytes).
+ * 
+ * <p>Values are kept as the raw bytes of the record so that parsing and
+ * serializing an item is always an exact round trip. The status mask uses the
+ * same 48-bit layout as {@link StatusEffectSet}.</p>
+ */
+@Value
+@Builder(toBuilder = true)
+@With
+public class BattleItemData {
+    
+    /** Position in the battle item section */
+    @Builder.Default
+    int index = 0;
+    
+    /** 0x00: Offset of the name in the battle item text section */
+    @Builder.Default
+    int offsetName = 0;
+    
+    /** 0x02: Offset of the description in the battle item text section */
+    @Builder.Default
+    int offsetDescription = 0;
+    
+    /** 0x04: Magic ID of the effect the item triggers */
+    @Builder.Default
+    int magicID = 0;
+    
+    /** 0x06: Attack type */
+    @Builder.Default
+    int attackType = 0;
+    
+    /** 0x07: Attack power */
+    @Builder.Default
+    int attackPower = 0;
+    
+    /** 0x08: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown1 = 0;
+    
+    /** 0x09: Target flags */
+    @Builder.Default
+    int targetInfo = 0;
+    
+    /** 0x0A: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown2 = 0;
+    
+    /** 0x0B: Attack flags */
+    @Builder.Default
+    int attackFlags = 0;
+    
+    /** 0x0C: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown3 = 0;
+    
+    /** 0x0D: Status attack enabler */
+    @Builder.Default
+    int statusAttackEnabler = 0;
+    
+    /** 0x0E-0x13: Status effects applied by the item, 48 bits */
+    @Builder.Default
+    long statusMask = 0L;
+    
+    /** 0x14: Attack parameter */
+    @Builder.Default
+    int attackParameter = 0;
+    
+    /** 0x15: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown4 = 0;
+    
+    /** 0x16: Hit count */
+    @Builder.Default
+    int hitCount = 0;
+    
+    /** 0x17: Element */
+    @Builder.Default
+    int element = 0;
+    
+    /** Name decoded from the kernel's text section, empty if the text section is unknown */
+    @Builder.Default
+    String name = "";
+    
+    /** Description decoded from the kernel's text section, empty if the text section is unknown */
+    @Builder.Default
+    String description = "";
+}
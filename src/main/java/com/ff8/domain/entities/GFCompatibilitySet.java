@@ -2,37 +2,92 @@ package com.ff8.domain.entities;
 
 import com.ff8.domain.entities.enums.GF;
 import lombok.EqualsAndHashCode;
-import lombok.ToString;
+
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.Map;
 
 /**
  * Represents GF compatibility values using Java 21 features.
  * Each GF has a compatibility value from 0-255.
+ *
+ * <p>The 16 values are packed into two {@code long}s, one byte per GF in kernel
+ * order, so a set costs two words and equality is two comparisons. Sets are
+ * immutable; {@code with...} methods return the changed set. The static factories
+ * return canonical instances, so the many spells sharing a compatibility vector
+ * share one object.</p>
  */
-@EqualsAndHashCode(onlyExplicitlyIncluded = true)
-@ToString(callSuper = false, includeFieldNames = false)
+@EqualsAndHashCode
 public final class GFCompatibilitySet {
-    @EqualsAndHashCode.Include
-    private final Map<GF, Integer> compatibilities;
+    /** Raw value of a GF whose compatibility the spell does not change */
+    public static final int DEFAULT_COMPATIBILITY = 100;
+
+    private static final GF[] GF_ORDER = GF.values();
+    private static final int GFS_PER_WORD = Long.BYTES;
+    private static final long DEFAULT_WORD = 0x0101010101010101L * DEFAULT_COMPATIBILITY;
+    private static final ValueInterner<GFCompatibilitySet> INTERNER = new ValueInterner<>(4096);
+    private static final GFCompatibilitySet DEFAULTS = INTERNER.intern(new GFCompatibilitySet(DEFAULT_WORD, DEFAULT_WORD));
+
+    /** GFs 0-7, lowest byte first */
+    private final long low;
+    /** GFs 8-15, lowest byte first */
+    private final long high;
 
     public GFCompatibilitySet() {
-        this.compatibilities = new EnumMap<>(GF.class);
-        // Initialize all GFs with default compatibility (100 = no effect)
-        for (GF gf : GF.values()) {
-            compatibilities.put(gf, 100);
-        }
+        this(DEFAULT_WORD, DEFAULT_WORD);
     }
 
+    /**
+     * Create from a map; GFs missing from the map get the default compatibility
+     *
+     * @throws IllegalArgumentException if a value is outside 0-255
+     */
     public GFCompatibilitySet(Map<GF, Integer> compatibilities) {
-        this.compatibilities = new EnumMap<>(GF.class);
-        for (GF gf : GF.values()) {
-            var value = compatibilities.getOrDefault(gf, 100);
+        long packedLow = 0;
+        long packedHigh = 0;
+        for (GF gf : GF_ORDER) {
+            int value = compatibilities.getOrDefault(gf, DEFAULT_COMPATIBILITY);
             if (value < 0 || value > 255) {
                 throw new IllegalArgumentException("Compatibility for " + gf + " must be 0-255, got " + value);
             }
-            this.compatibilities.put(gf, value);
+            int ordinal = gf.ordinal();
+            if (ordinal < GFS_PER_WORD) {
+                packedLow |= (long) value << shift(ordinal);
+            } else {
+                packedHigh |= (long) value << shift(ordinal);
+            }
         }
+        this.low = packedLow;
+        this.high = packedHigh;
+    }
+
+    private GFCompatibilitySet(long low, long high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Get the shared set in which no GF's compatibility is changed
+     */
+    public static GFCompatibilitySet defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Get the canonical set for two packed words, as stored in kernel.bin read little-endian
+     *
+     * @param low Values of GFs 0-7, lowest byte first
+     * @param high Values of GFs 8-15, lowest byte first
+     */
+    public static GFCompatibilitySet of(long low, long high) {
+        return INTERNER.intern(new GFCompatibilitySet(low, high));
+    }
+
+    /**
+     * Get the canonical set for a map; GFs missing from the map get the default compatibility
+     */
+    public static GFCompatibilitySet of(Map<GF, Integer> compatibilities) {
+        return INTERNER.intern(new GFCompatibilitySet(compatibilities));
     }
 
     /**
@@ -42,52 +97,39 @@ public final class GFCompatibilitySet {
         if (bytes.length < offset + 16) {
             throw new IllegalArgumentException("Not enough bytes for GF compatibility");
         }
-
-        var compatibilities = new EnumMap<GF, Integer>(GF.class);
-        var gfs = GF.values();
-        
-        for (int i = 0; i < 16 && i < gfs.length; i++) {
-            compatibilities.put(gfs[i], Byte.toUnsignedInt(bytes[offset + i]));
-        }
-
-        return new GFCompatibilitySet(compatibilities);
+        return of(readWord(bytes, offset), readWord(bytes, offset + GFS_PER_WORD));
     }
 
     /**
      * Get compatibility value for a GF (0-255)
      */
     public int getCompatibility(GF gf) {
-        return compatibilities.get(gf);
+        int ordinal = gf.ordinal();
+        long word = ordinal < GFS_PER_WORD ? low : high;
+        return (int) (word >>> shift(ordinal)) & 0xFF;
     }
 
     /**
-     * Set compatibility value for a GF (0-255)
+     * Get the values of GFs 0-7, lowest byte first
      */
-    public void setCompatibility(GF gf, int value) {
-        if (value < 0 || value > 255) {
-            throw new IllegalArgumentException("Compatibility must be 0-255, got " + value);
-        }
-        compatibilities.put(gf, value);
+    public long getPackedLow() {
+        return low;
     }
 
     /**
-     * Get display value for UI (typically (100 - value) / 5)
-     * Higher values = worse compatibility
+     * Get the values of GFs 8-15, lowest byte first
      */
-    public int getDisplayValue(GF gf) {
-        var rawValue = getCompatibility(gf);
-        return Math.max(0, (100 - rawValue) / 5);
+    public long getPackedHigh() {
+        return high;
     }
 
     /**
-     * Set compatibility from display value
+     * Get display value for UI (typically (100 - value) / 5)
+     * Higher values = worse compatibility
      */
-    public void setDisplayValue(GF gf, int displayValue) {
-        if (displayValue < 0 || displayValue > 20) {
-            throw new IllegalArgumentException("Display value must be 0-20, got " + displayValue);
-        }
-        var rawValue = 100 - (displayValue * 5);
-        setCompatibility(gf, rawValue);
+    public int getDisplayValue(GF gf) {
+        var rawValue = getCompatibility(gf);
+        return Math.max(0, (DEFAULT_COMPATIBILITY - rawValue) / 5);
     }
 
     /**
@@ -95,12 +137,10 @@ public final class GFCompatibilitySet {
      */
     public byte[] toBytes() {
         var bytes = new byte[16];
-        var gfs = GF.values();
-        
-        for (int i = 0; i < 16 && i < gfs.length; i++) {
-            bytes[i] = (byte) compatibilities.get(gfs[i]).intValue();
+        for (int i = 0; i < GFS_PER_WORD; i++) {
+            bytes[i] = (byte) (low >>> shift(i));
+            bytes[i + GFS_PER_WORD] = (byte) (high >>> shift(i));
         }
-        
         return bytes;
     }
 
@@ -108,62 +148,68 @@ public final class GFCompatibilitySet {
      * Get all compatibilities as read-only map
      */
     public Map<GF, Integer> getAllCompatibilities() {
-        return Map.copyOf(compatibilities);
+        var compatibilities = new EnumMap<GF, Integer>(GF.class);
+        for (GF gf : GF_ORDER) {
+            compatibilities.put(gf, getCompatibility(gf));
+        }
+        return Collections.unmodifiableMap(compatibilities);
     }
 
     /**
      * Get GFs with good compatibility (display value > 0)
      */
     public Map<GF, Integer> getGoodCompatibilities() {
-        return compatibilities.entrySet().stream()
-                .filter(entry -> getDisplayValue(entry.getKey()) > 0)
-                .collect(java.util.stream.Collectors.toMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue,
-                        (a, b) -> a,
-                        () -> new EnumMap<>(GF.class)
-                ))
-                .entrySet().stream()
-                .collect(java.util.stream.Collectors.toUnmodifiableMap(
-                        Map.Entry::getKey,
-                        Map.Entry::getValue
-                ));
+        var compatibilities = new EnumMap<GF, Integer>(GF.class);
+        for (GF gf : GF_ORDER) {
+            if (getDisplayValue(gf) > 0) {
+                compatibilities.put(gf, getCompatibility(gf));
+            }
+        }
+        return Collections.unmodifiableMap(compatibilities);
     }
 
     /**
      * Check if has any good compatibilities
      */
     public boolean hasAnyGoodCompatibilities() {
-        return compatibilities.entrySet().stream()
-                .anyMatch(entry -> getDisplayValue(entry.getKey()) > 0);
-    }
-
-    /**
-     * Reset all compatibilities to default (no effect)
-     */
-    public void resetToDefault() {
-        for (GF gf : GF.values()) {
-            compatibilities.put(gf, 100);
+        for (GF gf : GF_ORDER) {
+            if (getDisplayValue(gf) > 0) {
+                return true;
+            }
         }
+        return false;
     }
 
     /**
-     * Create a copy of this compatibility set
+     * Return this set; sets are immutable, so a copy is never needed
      */
     public GFCompatibilitySet copy() {
-        return new GFCompatibilitySet(compatibilities);
+        return this;
     }
 
     /**
      * Create a copy with modified compatibility for one GF
      */
     public GFCompatibilitySet withCompatibility(GF gf, int value) {
-        var newCompatibilities = new EnumMap<>(compatibilities);
         if (value < 0 || value > 255) {
             throw new IllegalArgumentException("Compatibility must be 0-255, got " + value);
         }
-        newCompatibilities.put(gf, value);
-        return new GFCompatibilitySet(newCompatibilities);
+        int ordinal = gf.ordinal();
+        long mask = 0xFFL << shift(ordinal);
+        long shifted = (long) value << shift(ordinal);
+        return ordinal < GFS_PER_WORD
+                ? of((low & ~mask) | shifted, high)
+                : of(low, (high & ~mask) | shifted);
+    }
+
+    /**
+     * Create a copy with compatibility for one GF set from its display value
+     */
+    public GFCompatibilitySet withDisplayValue(GF gf, int displayValue) {
+        if (displayValue < 0 || displayValue > 20) {
+            throw new IllegalArgumentException("Display value must be 0-20, got " + displayValue);
+        }
+        return withCompatibility(gf, DEFAULT_COMPATIBILITY - (displayValue * 5));
     }
 
     /**
@@ -173,4 +219,21 @@ public final class GFCompatibilitySet {
         var goodCompatibilities = getGoodCompatibilities();
         return "GFCompatibilitySet{goodCompatibilities=" + goodCompatibilities + "}";
     }
-} 
\ No newline at end of file
+
+    @Override
+    public String toString() {
+        return "GFCompatibilitySet" + getAllCompatibilities();
+    }
+
+    private static int shift(int ordinal) {
+        return (ordinal % GFS_PER_WORD) * Byte.SIZE;
+    }
+
+    private static long readWord(byte[] bytes, int offset) {
+        long word = 0;
+        for (int i = 0; i < GFS_PER_WORD; i++) {
+            word |= (bytes[offset + i] & 0xFFL) << (i * Byte.SIZE);
+        }
+        return word;
+    }
+}
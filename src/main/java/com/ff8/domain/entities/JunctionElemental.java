@@ -18,6 +18,9 @@ public class JunctionElemental implements BinarySerializable {
     List<Element> defenseElements;
     int defenseValue;
 
+    private static final ValueInterner<JunctionElemental> INTERNER = new ValueInterner<>(1024);
+    private static final JunctionElemental EMPTY = INTERNER.intern(new JunctionElemental(Element.NONE, 0, List.of(), 0));
+
     /**
      * Create junction elemental with validation
      */
@@ -34,10 +37,17 @@ public class JunctionElemental implements BinarySerializable {
     }
 
     /**
-     * Create empty junction elemental
+     * Get the shared junction elemental equal to the given values
+     */
+    public static JunctionElemental of(Element attackElement, int attackValue, List<Element> defenseElements, int defenseValue) {
+        return INTERNER.intern(new JunctionElemental(attackElement, attackValue, defenseElements, defenseValue));
+    }
+
+    /**
+     * Get the shared empty junction elemental
      */
     public static JunctionElemental empty() {
-        return new JunctionElemental(Element.NONE, 0, List.of(), 0);
+        return EMPTY;
     }
 
     /**
@@ -54,7 +64,7 @@ public class JunctionElemental implements BinarySerializable {
         // Parse defense elements from bitfield
         var defenseElements = parseDefenseElements(defenseElementByte);
 
-        return new JunctionElemental(attackElement, attackValue, defenseElements, defenseValue);
+        return of(attackElement, attackValue, defenseElements, defenseValue);
     }
 
     /**
@@ -152,16 +162,19 @@ public class JunctionElemental implements BinarySerializable {
         }
         var newElements = new java.util.ArrayList<>(defenseElements);
         newElements.add(element);
-        return withDefenseElements(newElements);
+        return of(attackElement, attackValue, newElements, defenseValue);
     }
 
     /**
      * Remove element from defense
      */
     public JunctionElemental removeDefenseElement(Element element) {
+        if (!defenseElements.contains(element)) {
+            return this;
+        }
         var newElements = defenseElements.stream()
                 .filter(e -> e != element)
                 .toList();
-        return withDefenseElements(newElements);
+        return of(attackElement, attackValue, newElements, defenseValue);
     }
 } 
\ No newline at end of file
@@ -63,6 +63,9 @@ public class JunctionStats implements BinarySerializable {
     /** Luck bonus (0-255) */
     int luck;
 
+    private static final ValueInterner<JunctionStats> INTERNER = new ValueInterner<>(4096);
+    private static final JunctionStats EMPTY = INTERNER.intern(new JunctionStats(0, 0, 0, 0, 0, 0, 0, 0, 0));
+
     /**
      * Creates junction stats with validation of all values.
      * 
@@ -105,15 +108,30 @@ public class JunctionStats implements BinarySerializable {
     }
 
     /**
-     * Creates empty junction stats with all bonuses set to zero.
+     * Gets the canonical junction stats instance for the given values.
+     * 
+     * <p>Spells share a small set of stat bonus combinations, so equal values
+     * resolve to one shared instance. Prefer this over the constructor when the
+     * result is kept, e.g. in a parsed catalog.</p>
+     * 
+     * @return the shared JunctionStats instance equal to the given values
+     * @throws IllegalArgumentException if any value is outside 0-255 range
+     * @see #JunctionStats(int, int, int, int, int, int, int, int, int)
+     */
+    public static JunctionStats of(int hp, int str, int vit, int mag, int spr, int spd, int eva, int hit, int luck) {
+        return INTERNER.intern(new JunctionStats(hp, str, vit, mag, spr, spd, eva, hit, luck));
+    }
+
+    /**
+     * Gets empty junction stats with all bonuses set to zero.
      * 
      * <p>This is useful as a default value or starting point when creating
      * new magic spells that don't provide any stat bonuses.</p>
      * 
-     * @return a new JunctionStats instance with all stats set to 0
+     * @return the shared JunctionStats instance with all stats set to 0
      */
     public static JunctionStats empty() {
-        return new JunctionStats(0, 0, 0, 0, 0, 0, 0, 0, 0);
+        return EMPTY;
     }
 
     /**
@@ -125,13 +143,13 @@ public class JunctionStats implements BinarySerializable {
      * 
      * @param bytes the byte array containing junction data
      * @param offset the starting offset in the byte array
-     * @return a new JunctionStats instance with values from the byte array
+     * @return the shared JunctionStats instance with values from the byte array
      * @throws IllegalArgumentException if there aren't enough bytes available
      */
     public static JunctionStats fromBytes(byte[] bytes, int offset) {
         BinarySerializationUtils.validateBytesAvailable(bytes, offset, 9, "junction stats");
         
-        return new JunctionStats(
+        return of(
                 BinarySerializationUtils.toUnsignedInt(bytes[offset]),     // HP
                 BinarySerializationUtils.toUnsignedInt(bytes[offset + 1]), // STR
                 BinarySerializationUtils.toUnsignedInt(bytes[offset + 2]), // VIT
@@ -217,93 +235,93 @@ public class JunctionStats implements BinarySerializable {
     /**
      * Creates a copy with modified HP bonus.
      * 
-     * <p>This method follows the immutable pattern by returning a new instance
+     * <p>This method follows the immutable pattern by returning another instance
      * rather than modifying the existing one.</p>
      * 
      * @param newHp the new HP bonus value (0-255)
-     * @return a new JunctionStats instance with updated HP
+     * @return the JunctionStats instance with updated HP
      */
     public JunctionStats withHp(int newHp) {
-        return new JunctionStats(newHp, str, vit, mag, spr, spd, eva, hit, luck);
+        return of(newHp, str, vit, mag, spr, spd, eva, hit, luck);
     }
 
     /**
      * Creates a copy with modified STR bonus.
      * 
      * @param newStr the new STR bonus value (0-255)
-     * @return a new JunctionStats instance with updated STR
+     * @return the JunctionStats instance with updated STR
      */
     public JunctionStats withStr(int newStr) {
-        return new JunctionStats(hp, newStr, vit, mag, spr, spd, eva, hit, luck);
+        return of(hp, newStr, vit, mag, spr, spd, eva, hit, luck);
     }
 
     /**
      * Creates a copy with modified VIT bonus.
      * 
      * @param newVit the new VIT bonus value (0-255)
-     * @return a new JunctionStats instance with updated VIT
+     * @return the JunctionStats instance with updated VIT
      */
     public JunctionStats withVit(int newVit) {
-        return new JunctionStats(hp, str, newVit, mag, spr, spd, eva, hit, luck);
+        return of(hp, str, newVit, mag, spr, spd, eva, hit, luck);
     }
 
     /**
      * Creates a copy with modified MAG bonus.
      * 
      * @param newMag the new MAG bonus value (0-255)
-     * @return a new JunctionStats instance with updated MAG
+     * @return the JunctionStats instance with updated MAG
      */
     public JunctionStats withMag(int newMag) {
-        return new JunctionStats(hp, str, vit, newMag, spr, spd, eva, hit, luck);
+        return of(hp, str, vit, newMag, spr, spd, eva, hit, luck);
     }
 
     /**
      * Creates a copy with modified SPR bonus.
      * 
      * @param newSpr the new SPR bonus value (0-255)
-     * @return a new JunctionStats instance with updated SPR
+     * @return the JunctionStats instance with updated SPR
      */
     public JunctionStats withSpr(int newSpr) {
-        return new JunctionStats(hp, str, vit, mag, newSpr, spd, eva, hit, luck);
+        return of(hp, str, vit, mag, newSpr, spd, eva, hit, luck);
     }
 
     /**
      * Creates a copy with modified SPD bonus.
      * 
      * @param newSpd the new SPD bonus value (0-255)
-     * @return a new JunctionStats instance with updated SPD
+     * @return the JunctionStats instance with updated SPD
      */
     public JunctionStats withSpd(int newSpd) {
-        return new JunctionStats(hp, str, vit, mag, spr, newSpd, eva, hit, luck);
+        return of(hp, str, vit, mag, spr, newSpd, eva, hit, luck);
     }
 
     /**
      * Creates a copy with modified EVA bonus.
      * 
      * @param newEva the new EVA bonus value (0-255)
-     * @return a new JunctionStats instance with updated EVA
+     * @return the JunctionStats instance with updated EVA
      */
     public JunctionStats withEva(int newEva) {
-        return new JunctionStats(hp, str, vit, mag, spr, spd, newEva, hit, luck);
+        return of(hp, str, vit, mag, spr, spd, newEva, hit, luck);
     }
 
     /**
      * Creates a copy with modified HIT bonus.
      * 
      * @param newHit the new HIT bonus value (0-255)
-     * @return a new JunctionStats instance with updated HIT
+     * @return the JunctionStats instance with updated HIT
      */
     public JunctionStats withHit(int newHit) {
-        return new JunctionStats(hp, str, vit, mag, spr, spd, eva, newHit, luck);
+        return of(hp, str, vit, mag, spr, spd, eva, newHit, luck);
     }
 
     /**
      * Creates a copy with modified LUCK bonus.
      * 
      * @param newLuck the new LUCK bonus value (0-255)
-     * @return a new JunctionStats instance with updated LUCK
+     * @return the JunctionStats instance with updated LUCK
      */
     public JunctionStats withLuck(int newLuck) {
-        return new JunctionStats(hp, str, vit, mag, spr, spd, eva, hit, newLuck);
+        return of(hp, str, vit, mag, spr, spd, eva, hit, newLuck);
     }
 } 
\ No newline at end of file
@@ -15,6 +15,18 @@ public class JunctionStatusEffects implements BinarySerializable {
     StatusEffectSet defenseStatuses;
     int defenseValue;
 
+    /**
+     * FF8 Junction Status Mapping (from junction bits to main status bits)
+     * Junction bits 0-6: death(32), poison(33), petrify(34), darkness(35), silence(36), berserk(37), zombie(38)
+     * Junction bits 7-12: sleep(0), slow(2), stop(3), curse(9), confusion(14), drain(15)
+     * Bits 13-15 are unused
+     */
+    private static final int[] JUNCTION_TO_MAIN_STATUS = {32, 33, 34, 35, 36, 37, 38, 0, 2, 3, 9, 14, 15};
+
+    private static final ValueInterner<JunctionStatusEffects> INTERNER = new ValueInterner<>(1024);
+    private static final JunctionStatusEffects EMPTY =
+            INTERNER.intern(new JunctionStatusEffects(StatusEffectSet.of(0L), 0, StatusEffectSet.of(0L), 0));
+
     /**
      * Create junction status effects with validation
      */
@@ -31,15 +43,17 @@ public class JunctionStatusEffects implements BinarySerializable {
     }
 
     /**
-     * Create empty junction status effects
+     * Get the shared junction status effects equal to the given values
+     */
+    public static JunctionStatusEffects of(StatusEffectSet attackStatuses, int attackValue, StatusEffectSet defenseStatuses, int defenseValue) {
+        return INTERNER.intern(new JunctionStatusEffects(attackStatuses, attackValue, defenseStatuses, defenseValue));
+    }
+
+    /**
+     * Get the shared empty junction status effects
      */
     public static JunctionStatusEffects empty() {
-        return new JunctionStatusEffects(
-                new StatusEffectSet(),
-                0,
-                new StatusEffectSet(),
-                0
-        );
+        return EMPTY;
     }
 
     /**
@@ -56,81 +70,24 @@ public class JunctionStatusEffects implements BinarySerializable {
         var defenseStatusWord = Short.toUnsignedInt(BinarySerializationUtils.readShortLE(bytes, offset + 4));
 
         // Map 16-bit status words to limited status sets
-        var attackStatuses = parseJunctionStatusAttack(attackStatusWord);
-        var defenseStatuses = parseJunctionStatusDefense(defenseStatusWord);
+        var attackStatuses = parseJunctionStatusWord(attackStatusWord);
+        var defenseStatuses = parseJunctionStatusWord(defenseStatusWord);
 
-        return new JunctionStatusEffects(attackStatuses, attackValue, defenseStatuses, defenseValue);
+        return of(attackStatuses, attackValue, defenseStatuses, defenseValue);
     }
 
     /**
-     * Parse junction attack status effects from 16-bit word
+     * Parse junction status effects from 16-bit word
      * Maps specific bits to status effects using FF8's junction mapping
      */
-    private static StatusEffectSet parseJunctionStatusAttack(int statusWord) {
-        var statusSet = new StatusEffectSet();
-        
-        // FF8 Junction Status Mapping (from main status bits to junction bits)
-        // Junction bits 0-6: death(32), poison(33), petrify(34), darkness(35), silence(36), berserk(37), zombie(38)
-        // Junction bits 7-12: sleep(0), slow(2), stop(3), curse(9), confusion(14), drain(15)
-        var junctionToMainStatusMap = new int[]{
-            32, // bit 0 -> death
-            33, // bit 1 -> poison  
-            34, // bit 2 -> petrify
-            35, // bit 3 -> darkness
-            36, // bit 4 -> silence
-            37, // bit 5 -> berserk
-            38, // bit 6 -> zombie
-            0,  // bit 7 -> sleep
-            2,  // bit 8 -> slow
-            3,  // bit 9 -> stop
-            9,  // bit 10 -> curse
-            14, // bit 11 -> confusion
-            15  // bit 12 -> drain
-            // bits 13-15 are unused
-        };
-        
-        for (int junctionBit = 0; junctionBit < junctionToMainStatusMap.length; junctionBit++) {
+    private static StatusEffectSet parseJunctionStatusWord(int statusWord) {
+        long statusBits = 0;
+        for (int junctionBit = 0; junctionBit < JUNCTION_TO_MAIN_STATUS.length; junctionBit++) {
             if ((statusWord & (1 << junctionBit)) != 0) {
-                int mainStatusBit = junctionToMainStatusMap[junctionBit];
-                statusSet.setBit(mainStatusBit, true);
+                statusBits |= 1L << JUNCTION_TO_MAIN_STATUS[junctionBit];
             }
         }
-        
-        return statusSet;
-    }
-
-    /**
-     * Parse junction defense status effects from 16-bit word
-     * Uses the same mapping as attack statuses
-     */
-    private static StatusEffectSet parseJunctionStatusDefense(int statusWord) {
-        var statusSet = new StatusEffectSet();
-        
-        // Same mapping as attack statuses
-        var junctionToMainStatusMap = new int[]{
-            32, // bit 0 -> death
-            33, // bit 1 -> poison  
-            34, // bit 2 -> petrify
-            35, // bit 3 -> darkness
-            36, // bit 4 -> silence
-            37, // bit 5 -> berserk
-            38, // bit 6 -> zombie
-            0,  // bit 7 -> sleep
-            2,  // bit 8 -> slow
-            3,  // bit 9 -> stop
-            9,  // bit 10 -> curse
-            14, // bit 11 -> confusion
-            15  // bit 12 -> drain
-        };
-        
-        for (int junctionBit = 0; junctionBit < junctionToMainStatusMap.length; junctionBit++) {
-            if ((statusWord & (1 << junctionBit)) != 0) {
-                int mainStatusBit = junctionToMainStatusMap[junctionBit];
-                statusSet.setBit(mainStatusBit, true);
-            }
-        }
-        
-        return statusSet;
+        return StatusEffectSet.of(statusBits);
     }
 
     /**
@@ -257,27 +214,27 @@ public class JunctionStatusEffects implements BinarySerializable {
      * Create a copy with modified attack statuses
      */
     public JunctionStatusEffects withAttackStatuses(StatusEffectSet newStatuses) {
-        return new JunctionStatusEffects(newStatuses, attackValue, defenseStatuses, defenseValue);
+        return of(newStatuses, attackValue, defenseStatuses, defenseValue);
     }
 
     /**
      * Create a copy with modified attack value
      */
     public JunctionStatusEffects withAttackValue(int newValue) {
-        return new JunctionStatusEffects(attackStatuses, newValue, defenseStatuses, defenseValue);
+        return of(attackStatuses, newValue, defenseStatuses, defenseValue);
     }
 
     /**
      * Create a copy with modified defense statuses
      */
     public JunctionStatusEffects withDefenseStatuses(StatusEffectSet newStatuses) {
-        return new JunctionStatusEffects(attackStatuses, attackValue, newStatuses, defenseValue);
+        return of(attackStatuses, attackValue, newStatuses, defenseValue);
     }
 
     /**
      * Create a copy with modified defense value
      */
     public JunctionStatusEffects withDefenseValue(int newValue) {
-        return new JunctionStatusEffects(attackStatuses, attackValue, defenseStatuses, newValue);
+        return of(attackStatuses, attackValue, defenseStatuses, newValue);
     }
 } 
\ No newline at end of file
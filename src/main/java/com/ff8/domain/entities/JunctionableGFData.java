@@ -0,0 +1,117 @@
+package com.ff8.domain.entities;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+import java.util.List;
+
+/**
+ * One record of the kernel.bin junctionable GF section (132 bytes).
+ * 
+ * <p>Values are kept as the raw bytes of the record so that parsing and
+ * serializing a GF is always an exact round trip. Each learnable ability slot is
+ * a packed little-endian 32-bit entry whose lowest byte is the unlocking
+ * condition and whose third byte is the ability.</p>
+ */
+@Value
+@Builder(toBuilder = true)
+@With
+public class JunctionableGFData {
+    
+    /** Number of learnable ability slots per GF */
+    public static final int ABILITY_SLOTS = 21;
+    
+    /** Number of GFs in the compatibility table */
+    public static final int COMPATIBILITY_ENTRIES = 16;
+    
+    /** Position in the GF section */
+    @Builder.Default
+    int index = 0;
+    
+    /** 0x00: Offset of the name in the GF text section */
+    @Builder.Default
+    int offsetName = 0;
+    
+    /** 0x02: Offset of the description in the GF text section */
+    @Builder.Default
+    int offsetDescription = 0;
+    
+    /** 0x04: Magic ID of the summon attack */
+    @Builder.Default
+    int magicID = 0;
+    
+    /** 0x06: Attack type */
+    @Builder.Default
+    int attackType = 0;
+    
+    /** 0x07: Summon power */
+    @Builder.Default
+    int power = 0;
+    
+    /** 0x08-0x09: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown1 = 0;
+    
+    /** 0x0A: Attack flags */
+    @Builder.Default
+    int attackFlags = 0;
+    
+    /** 0x0B-0x0C: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown2 = 0;
+    
+    /** 0x0D: Element */
+    @Builder.Default
+    int element = 0;
+    
+    /** 0x0E-0x13: Status effects applied by the summon, 48 bits */
+    @Builder.Default
+    long statusMask = 0L;
+    
+    /** 0x14-0x1B: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    long unknown3 = 0L;
+    
+    /** 0x1C-0x6F: Learnable ability slots */
+    @Builder.Default
+    List<Integer> abilitySlots = List.of();
+    
+    /** 0x70-0x7F: Compatibility with each of the other GFs */
+    @Builder.Default
+    List<Integer> compatibility = List.of();
+    
+    /** 0x80-0x81: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown4 = 0;
+    
+    /** 0x82: Power modifier */
+    @Builder.Default
+    int powerModifier = 0;
+    
+    /** 0x83: Level modifier */
+    @Builder.Default
+    int levelModifier = 0;
+    
+    /** Name decoded from the kernel's text section, empty if the text section is unknown */
+    @Builder.Default
+    String name = "";
+    
+    /** Description decoded from the kernel's text section, empty if the text section is unknown */
+    @Builder.Default
+    String description = "";
+    
+    /**
+     * Get the ability learned in a slot
+     */
+    public int getAbility(int slot) {
+        return slot < abilitySlots.size() ? (abilitySlots.get(slot) >>> 16) & 0xFF : 0;
+    }
+    
+    /**
+     * Get the condition that unlocks a slot
+     */
+    public int getAbilityUnlocker(int slot) {
+        return slot < abilitySlots.size() ? abilitySlots.get(slot) & 0xFF : 0;
+    }
+}
@@ -146,21 +146,21 @@ public class MagicData {
      * Includes flags for targeting enemies, allies, dead characters, etc.
      */
     @Builder.Default
-    TargetFlags targetInfo = new TargetFlags();
+    TargetFlags targetInfo = TargetFlags.of(0);
     
     /**
      * Attack behavior flags controlling spell mechanics.
      * Includes flags for reflection, shell interaction, damage limits, etc.
      */
     @Builder.Default
-    AttackFlags attackFlags = new AttackFlags();
+    AttackFlags attackFlags = AttackFlags.of(0);
     
     /**
      * Set of status effects that this spell can inflict on targets.
      * Manages the complex 48-bit status effect system from FF8.
      */
     @Builder.Default
-    StatusEffectSet statusEffects = new StatusEffectSet();
+    StatusEffectSet statusEffects = StatusEffectSet.of(0L);
     
     /**
      * Junction stat bonuses provided when this spell is equipped.
@@ -188,7 +188,7 @@ public class MagicData {
      * Defines which GFs work well with this spell for AP gain bonuses.
      */
     @Builder.Default
-    GFCompatibilitySet gfCompatibility = new GFCompatibilitySet();
+    GFCompatibilitySet gfCompatibility = GFCompatibilitySet.defaults();
 
     // === EXTRACTED RUNTIME DATA ===
     // These fields are populated from binary data during parsing
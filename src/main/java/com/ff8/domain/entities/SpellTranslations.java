@@ -106,6 +106,17 @@ public class SpellTranslations {
         return Optional.ofNullable(translations.get(language));
     }
     
+    /**
+     * Get the translation written for a language: its own, else English, else empty text
+     */
+    public Translation getTranslationOrEnglish(String language) {
+        Translation translation = translations.get(language);
+        if (translation == null) {
+            translation = translations.get("English");
+        }
+        return translation != null ? translation : new Translation("", "");
+    }
+    
     /**
      * Get all available languages
      */
@@ -1,10 +1,9 @@
 package com.ff8.domain.entities;
 
 import com.ff8.domain.entities.enums.StatusEffect;
-import lombok.EqualsAndHashCode;
-import java.util.BitSet;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.stream.IntStream;
 
 /**
  * Represents a comprehensive set of status effects using FF8's 48-bit (6-byte) format.
@@ -17,7 +16,7 @@ import java.util.stream.IntStream;
  * <p>Key features:</p>
  * <ul>
  *   <li>Exact binary compatibility with FF8's kernel.bin format</li>
- *   <li>Type-safe status effect manipulation using enums</li>
+ *   <li>Type-safe status effect queries using enums</li>
  *   <li>Efficient bit-level operations for performance</li>
  *   <li>Convenient accessor methods for common status effects</li>
  *   <li>Support for both known and unknown status effects</li>
@@ -30,41 +29,102 @@ import java.util.stream.IntStream;
  * </ul>
  * 
  * <p>This class extends {@link AbstractBitFlags} to inherit common bit manipulation
- * functionality while providing status effect-specific operations.</p>
+ * functionality while providing status effect-specific operations. The 48 bits are
+ * held in one {@code long}. Sets are immutable: {@link #of(long)} returns a shared
+ * instance for the empty set and for every single-status set, which covers most
+ * spells, and interns other masks; {@link #with(StatusEffect)} and
+ * {@link #without(StatusEffect)} return the changed set from the same cache.</p>
  * 
  * @author FF8 Magic Creator Team
  * @version 1.0
  * @since 1.0
  */
-@EqualsAndHashCode(callSuper = true)
 public final class StatusEffectSet extends AbstractBitFlags implements BinarySerializable {
     
     /** Total number of bits used for status effects in FF8 */
     private static final int TOTAL_BITS = 48;
+    
+    /** Mask of all bits a status effect set can hold */
+    public static final long ALL_STATUS_BITS = maskOf(TOTAL_BITS);
+    
+    private static final StatusEffectSet EMPTY = new StatusEffectSet(0L);
+    private static final StatusEffectSet[] SINGLE_STATUS = new StatusEffectSet[TOTAL_BITS];
+    private static final ValueInterner<StatusEffectSet> INTERNER = new ValueInterner<>(4096);
+    
+    static {
+        for (int bit = 0; bit < TOTAL_BITS; bit++) {
+            SINGLE_STATUS[bit] = new StatusEffectSet(1L << bit);
+        }
+    }
 
+    private StatusEffectSet(long statusBits) {
+        super(TOTAL_BITS, statusBits);
+    }
+    
     /**
-     * Creates an empty status effect set with no active effects.
+     * Gets the status effect set for a 48-bit mask.
+     * 
+     * <p>The empty set and single-status sets are preallocated; other masks are
+     * interned, so equal sets are usually the same instance. Bits above bit 47
+     * are ignored.</p>
+     * 
+     * @param statusBits the status bits, bit {@code i} being the status with bit index {@code i}
+     * @return the shared status effect set
      */
-    public StatusEffectSet() {
-        super(TOTAL_BITS);
+    public static StatusEffectSet of(long statusBits) {
+        long masked = statusBits & ALL_STATUS_BITS;
+        if (masked == 0) {
+            return EMPTY;
+        }
+        if ((masked & (masked - 1)) == 0) {
+            return SINGLE_STATUS[Long.numberOfTrailingZeros(masked)];
+        }
+        return INTERNER.intern(new StatusEffectSet(masked));
     }
-
+    
     /**
-     * Creates a status effect set from an existing BitSet.
+     * Gets the status effect set holding exactly the given effects.
      * 
-     * @param statusBits the BitSet containing status effect flags
+     * @param statuses the active status effects; duplicates are ignored
+     * @return the shared status effect set
      */
-    public StatusEffectSet(BitSet statusBits) {
-        super(TOTAL_BITS, statusBits);
+    public static StatusEffectSet of(Collection<StatusEffect> statuses) {
+        long statusBits = 0L;
+        for (StatusEffect status : statuses) {
+            statusBits |= 1L << status.getBitIndex();
+        }
+        return of(statusBits);
     }
-
+    
     /**
-     * Creates a copy of an existing status effect set.
+     * Gets the set equal to this one with one status effect changed.
      * 
-     * @param other the status effect set to copy
+     * @param status the status effect to change
+     * @param value true to activate the effect, false to deactivate
+     * @return the shared status effect set
      */
-    public StatusEffectSet(StatusEffectSet other) {
-        super(TOTAL_BITS, other.copyBitSet());
+    public StatusEffectSet withStatus(StatusEffect status, boolean value) {
+        return of(withBit(status.getBitIndex(), value));
+    }
+    
+    /**
+     * Gets the set equal to this one with a status effect activated.
+     * 
+     * @param status the status effect to add
+     * @return the shared status effect set
+     */
+    public StatusEffectSet with(StatusEffect status) {
+        return withStatus(status, true);
+    }
+    
+    /**
+     * Gets the set equal to this one with a status effect deactivated.
+     * 
+     * @param status the status effect to remove
+     * @return the shared status effect set
+     */
+    public StatusEffectSet without(StatusEffect status) {
+        return withStatus(status, false);
     }
 
     /**
@@ -76,16 +136,10 @@ public final class StatusEffectSet extends AbstractBitFlags implements BinarySer
      * 
      * @param dword the first 32 bits of status effects (bits 0-31)
      * @param word the last 16 bits of status effects (bits 32-47)
-     * @return a new StatusEffectSet with the specified effects active
+     * @return the shared StatusEffectSet with the specified effects active
      */
     public static StatusEffectSet fromBinary(int dword, int word) {
-        var statusSet = new StatusEffectSet();
-        
-        // Use utility methods for bit manipulation
-        BinarySerializationUtils.dwordToBitSet(dword, statusSet.flagBits, 0);
-        BinarySerializationUtils.wordToBitSet(word, statusSet.flagBits, 32);
-        
-        return statusSet;
+        return of(Integer.toUnsignedLong(dword) | (long) (word & 0xFFFF) << 32);
     }
 
     /**
@@ -138,19 +192,6 @@ public final class StatusEffectSet extends AbstractBitFlags implements BinarySer
         return hasAnyStatus();
     }
 
-    /**
-     * Sets or clears a specific status effect.
-     * 
-     * <p>This method provides type-safe access to individual status effects
-     * using the {@link StatusEffect} enum.</p>
-     * 
-     * @param status the status effect to modify
-     * @param value true to activate the effect, false to deactivate
-     */
-    public void setStatus(StatusEffect status, boolean value) {
-        setBit(status.getBitIndex(), value);
-    }
-
     /**
      * Checks if a specific status effect is active.
      * 
@@ -170,10 +211,9 @@ public final class StatusEffectSet extends AbstractBitFlags implements BinarySer
      * @return an immutable list of all active status effects
      */
     public List<StatusEffect> getActiveStatuses() {
-        return IntStream.range(0, TOTAL_BITS)
-                .filter(flagBits::get)
-                .mapToObj(StatusEffect::fromBitIndex)
-                .toList();
+        List<StatusEffect> statuses = new ArrayList<>(getActiveBitCount());
+        forEachActiveBit(bit -> statuses.add(StatusEffect.fromBitIndex(bit)));
+        return List.copyOf(statuses);
     }
 
     /**
@@ -196,7 +236,7 @@ public final class StatusEffectSet extends AbstractBitFlags implements BinarySer
      * @return a 32-bit integer representing bits 0-31
      */
     public int toDword() {
-        return BinarySerializationUtils.bitSetToDword(flagBits);
+        return (int) bits;
     }
 
     /**
@@ -205,70 +245,46 @@ public final class StatusEffectSet extends AbstractBitFlags implements BinarySer
      * @return a 16-bit integer representing bits 32-47
      */
     public int toWord() {
-        return BinarySerializationUtils.bitSetToWord(flagBits, 32);
+        return (int) (bits >>> 32);
     }
 
     // Convenient accessor methods for common status effects
     
     /** Checks if Sleep status is active */
     public boolean isSleep() { return hasStatus(StatusEffect.SLEEP); }
-    /** Sets or clears Sleep status */
-    public void setSleep(boolean value) { setStatus(StatusEffect.SLEEP, value); }
 
     /** Checks if Haste status is active */
     public boolean isHaste() { return hasStatus(StatusEffect.HASTE); }
-    /** Sets or clears Haste status */
-    public void setHaste(boolean value) { setStatus(StatusEffect.HASTE, value); }
 
     /** Checks if Slow status is active */
     public boolean isSlow() { return hasStatus(StatusEffect.SLOW); }
-    /** Sets or clears Slow status */
-    public void setSlow(boolean value) { setStatus(StatusEffect.SLOW, value); }
 
     /** Checks if Stop status is active */
     public boolean isStop() { return hasStatus(StatusEffect.STOP); }
-    /** Sets or clears Stop status */
-    public void setStop(boolean value) { setStatus(StatusEffect.STOP, value); }
 
     /** Checks if Regen status is active */
     public boolean isRegen() { return hasStatus(StatusEffect.REGEN); }
-    /** Sets or clears Regen status */
-    public void setRegen(boolean value) { setStatus(StatusEffect.REGEN, value); }
 
     /** Checks if Protect status is active */
     public boolean isProtect() { return hasStatus(StatusEffect.PROTECT); }
-    /** Sets or clears Protect status */
-    public void setProtect(boolean value) { setStatus(StatusEffect.PROTECT, value); }
 
     /** Checks if Shell status is active */
     public boolean isShell() { return hasStatus(StatusEffect.SHELL); }
-    /** Sets or clears Shell status */
-    public void setShell(boolean value) { setStatus(StatusEffect.SHELL, value); }
 
     /** Checks if Reflect status is active */
     public boolean isReflect() { return hasStatus(StatusEffect.REFLECT); }
-    /** Sets or clears Reflect status */
-    public void setReflect(boolean value) { setStatus(StatusEffect.REFLECT, value); }
 
     /** Checks if Death status is active */
     public boolean isDeath() { return hasStatus(StatusEffect.DEATH); }
-    /** Sets or clears Death status */
-    public void setDeath(boolean value) { setStatus(StatusEffect.DEATH, value); }
 
     /** Checks if Poison status is active */
     public boolean isPoison() { return hasStatus(StatusEffect.POISON); }
-    /** Sets or clears Poison status */
-    public void setPoison(boolean value) { setStatus(StatusEffect.POISON, value); }
 
     /** Checks if Petrify status is active */
     public boolean isPetrify() { return hasStatus(StatusEffect.PETRIFY); }
-    /** Sets or clears Petrify status */
-    public void setPetrify(boolean value) { setStatus(StatusEffect.PETRIFY, value); }
 
     /** Checks if Zombie status is active */
     public boolean isZombie() { return hasStatus(StatusEffect.ZOMBIE); }
-    /** Sets or clears Zombie status */
-    public void setZombie(boolean value) { setStatus(StatusEffect.ZOMBIE, value); }
 
     /**
      * Checks if any status effects are currently active.
@@ -1,25 +1,54 @@
 package com.ff8.domain.entities;
 
 import com.ff8.domain.entities.enums.TargetFlag;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Represents target flags using 8 bits.
- * Uses Java 21 features and common BitSet functionality.
+ * Instances are immutable; every possible flag byte has one shared instance, returned by
+ * {@link #of(int)}, and {@code with(...)} and {@code without(...)} return other shared instances.
  */
 public final class TargetFlags extends AbstractBitFlags implements BinarySerializable {
     private static final int TOTAL_BITS = 8;
+    private static final TargetFlags[] INTERNED = new TargetFlags[1 << TOTAL_BITS];
 
-    public TargetFlags() {
-        super(TOTAL_BITS);
+    static {
+        for (int flagByte = 0; flagByte < INTERNED.length; flagByte++) {
+            INTERNED[flagByte] = new TargetFlags(flagByte);
+        }
     }
 
-    public TargetFlags(int flagByte) {
-        super(TOTAL_BITS, BinarySerializationUtils.byteTobitSet(flagByte, TOTAL_BITS));
+    private TargetFlags(int flagByte) {
+        super(TOTAL_BITS, flagByte);
     }
 
-    public TargetFlags(TargetFlags other) {
-        super(TOTAL_BITS, other.copyBitSet());
+    /**
+     * Get the shared immutable flags for a flag byte; bits above the lowest 8 are ignored
+     */
+    public static TargetFlags of(int flagByte) {
+        return INTERNED[flagByte & 0xFF];
+    }
+
+    /**
+     * Get the shared flags equal to these with one flag changed
+     */
+    public TargetFlags with(TargetFlag flag, boolean value) {
+        return of((int) withBit(flag.getBitIndex(), value));
+    }
+
+    /**
+     * Get the shared flags equal to these with a flag set
+     */
+    public TargetFlags with(TargetFlag flag) {
+        return with(flag, true);
+    }
+
+    /**
+     * Get the shared flags equal to these with a flag cleared
+     */
+    public TargetFlags without(TargetFlag flag) {
+        return with(flag, false);
     }
 
     @Override
@@ -36,14 +65,7 @@ public final class TargetFlags extends AbstractBitFlags implements BinarySeriali
      * Convert back to byte for serialization
      */
     public int toByte() {
-        return BinarySerializationUtils.bitSetToByte(flagBits, TOTAL_BITS);
-    }
-
-    /**
-     * Set a specific target flag using enum
-     */
-    public void setFlag(TargetFlag flag, boolean value) {
-        setBit(flag.getBitIndex(), value);
+        return (int) bits;
     }
 
     /**
@@ -57,9 +79,9 @@ public final class TargetFlags extends AbstractBitFlags implements BinarySeriali
      * Get list of all active target flags
      */
     public List<TargetFlag> getActiveFlags() {
-        return getActiveBits().stream()
-                .map(TargetFlag::fromBitIndex)
-                .toList();
+        List<TargetFlag> flags = new ArrayList<>(getActiveBitCount());
+        forEachActiveBit(bit -> flags.add(TargetFlag.fromBitIndex(bit)));
+        return List.copyOf(flags);
     }
 
     /**
@@ -72,19 +94,12 @@ public final class TargetFlags extends AbstractBitFlags implements BinarySeriali
     }
 
     /**
-     * Convenient properties for common target flags
+     * Convenient accessors for common target flags
      */
     public boolean isDead() { return hasFlag(TargetFlag.DEAD); }
-    public void setDead(boolean value) { setFlag(TargetFlag.DEAD, value); }
-
     public boolean isSingle() { return hasFlag(TargetFlag.SINGLE); }
-    public void setSingle(boolean value) { setFlag(TargetFlag.SINGLE, value); }
-
     public boolean isSingleSide() { return hasFlag(TargetFlag.SINGLE_SIDE); }
-    public void setSingleSide(boolean value) { setFlag(TargetFlag.SINGLE_SIDE, value); }
-
     public boolean isEnemy() { return hasFlag(TargetFlag.ENEMY); }
-    public void setEnemy(boolean value) { setFlag(TargetFlag.ENEMY, value); }
 
     @Override
     public String toString() {
@@ -0,0 +1,48 @@
+package com.ff8.domain.entities;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonicalizing cache for immutable value objects.
+ *
+ * <p>Spell catalogs repeat the same junction and compatibility values over and over,
+ * so equal values are mapped to one shared instance. The cache is bounded: once it
+ * holds {@code capacity} distinct values, further new values are returned as they are
+ * instead of being retained, so unusual data can never grow it without limit.</p>
+ *
+ * <p>Only values whose equality never changes may be interned. All methods are
+ * thread-safe.</p>
+ *
+ * @param <T> The value type
+ */
+final class ValueInterner<T> {
+    private final ConcurrentMap<T, T> values = new ConcurrentHashMap<>();
+    private final int capacity;
+
+    ValueInterner(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Get the shared instance equal to the value, registering the value if there is none yet
+     */
+    T intern(T value) {
+        T existing = values.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        if (values.size() >= capacity) {
+            return value;
+        }
+        T previous = values.putIfAbsent(value, value);
+        return previous != null ? previous : value;
+    }
+
+    /**
+     * Get the number of distinct values held
+     */
+    int size() {
+        return values.size();
+    }
+}
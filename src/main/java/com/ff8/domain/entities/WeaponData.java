@@ -0,0 +1,69 @@
+package com.ff8.domain.entities;
+
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * One record of the kernel.bin weapon section (12 bytes).
+ * 
+ * <p>Values are kept as the raw bytes of the record so that parsing and
+ * serializing a weapon is always an exact round trip.</p>
+ */
+@Value
+@Builder(toBuilder = true)
+@With
+public class WeaponData {
+    
+    /** Position in the weapon section */
+    @Builder.Default
+    int index = 0;
+    
+    /** 0x00: Offset of the name in the weapon text section */
+    @Builder.Default
+    int offsetName = 0;
+    
+    /** 0x02: Renzokuken finishers unlocked by this weapon, one bit per finisher */
+    @Builder.Default
+    int renzokukenFinishers = 0;
+    
+    /** 0x03: Unknown, preserved for round-trip compatibility */
+    @Builder.Default
+    int unknown = 0;
+    
+    /** 0x04: Character who can equip the weapon */
+    @Builder.Default
+    int characterId = 0;
+    
+    /** 0x05: Attack type used by the weapon's physical attack */
+    @Builder.Default
+    int attackType = 0;
+    
+    /** 0x06: Attack power */
+    @Builder.Default
+    int attackPower = 0;
+    
+    /** 0x07: Attack parameter, e.g. the hit rate */
+    @Builder.Default
+    int attackParameter = 0;
+    
+    /** 0x08: Strength bonus */
+    @Builder.Default
+    int strengthBonus = 0;
+    
+    /** 0x09: Upgrade tier */
+    @Builder.Default
+    int tier = 0;
+    
+    /** 0x0A: Critical hit bonus */
+    @Builder.Default
+    int criticalBonus = 0;
+    
+    /** 0x0B: Non-zero for melee weapons */
+    @Builder.Default
+    int meleeFlag = 0;
+    
+    /** Name decoded from the kernel's text section, empty if the text section is unknown */
+    @Builder.Default
+    String name = "";
+}
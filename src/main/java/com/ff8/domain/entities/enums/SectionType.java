@@ -6,22 +6,56 @@ import lombok.Getter;
 /**
  * Enum representing the different sections within the FF8 kernel.bin file.
  * Each section contains specific game data that requires specialized parsing logic.
+ *
+ * <p>The kernel starts with a section offset table: a 32-bit section count followed by
+ * one 32-bit offset per section. {@code headerIndex} is the section's position in that
+ * table; {@code standardOffset} is where the section sits in the retail kernel and is
+ * only used when a file has no usable table. Every data section has a text section
+ * {@link #TEXT_SECTION_DISTANCE} entries further down the table.</p>
  */
 @Getter
 @AllArgsConstructor
 public enum SectionType {
-    MAGIC("Magic", 0x021C, 0x3C, 56, "Contains spell/magic data including stats, effects, and junction information");
-    
+    MAGIC("Magic", 1, 0x021C, 0x3C, 56, "Contains spell/magic data including stats, effects, and junction information"),
+    JUNCTIONABLE_GFS("Junctionable GFs", 2, 0x0F78, 0x84, 16, "Guardian Force attacks, learnable abilities and level modifiers"),
+    WEAPONS("Weapons", 4, 0x35B8, 0x0C, 33, "Weapon attack power, hit parameters and Renzokuken finishers"),
+    BATTLE_ITEMS("Battle Items", 7, 0x3930, 0x18, 33, "Items usable in battle with their attack and status properties"),
+    JUNCTION_ABILITIES("Junction Abilities", 11, 0x4080, 0x08, 20, "GF abilities that unlock junction slots"),
+    COMMAND_ABILITIES("Command Abilities", 12, 0x4120, 0x08, 19, "GF abilities that add battle commands"),
+    STAT_ABILITIES("Stat Percentage Abilities", 13, 0x41B8, 0x08, 19, "GF abilities that raise a stat by a percentage"),
+    CHARACTER_ABILITIES("Character Abilities", 14, 0x4250, 0x08, 20, "GF abilities that change character behavior"),
+    PARTY_ABILITIES("Party Abilities", 15, 0x42F0, 0x08, 5, "GF abilities that affect the whole party"),
+    GF_ABILITIES("GF Abilities", 16, 0x4318, 0x08, 9, "GF abilities that enhance the Guardian Force itself"),
+    MENU_ABILITIES("Menu Abilities", 17, 0x4360, 0x08, 24, "GF abilities usable from the field menu");
+
+    /** Distance in the offset table from a data section to its text section */
+    public static final int TEXT_SECTION_DISTANCE = 31;
+
     private final String displayName;
+    private final int headerIndex;
     private final int standardOffset;
     private final int structSize;
     private final int expectedCount;
     private final String description;
-    
+
     /**
      * Check if this section type has been implemented for parsing
      */
     public boolean isImplemented() {
-        return this == MAGIC; // Only magic is currently implemented
+        return true; // Every listed section has a parser strategy
+    }
+
+    /**
+     * Check if this section holds 8-byte ability records
+     */
+    public boolean isAbilitySection() {
+        return headerIndex >= JUNCTION_ABILITIES.headerIndex && headerIndex <= MENU_ABILITIES.headerIndex;
+    }
+
+    /**
+     * Get the position of this section's text in the offset table
+     */
+    public int getTextHeaderIndex() {
+        return headerIndex + TEXT_SECTION_DISTANCE;
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,265 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.Language;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates a whole spell catalog against any set of {@link ValidationRule}s in one pass.
+ *
+ * <p>The catalog is cut into chunks small enough to stay in cache. Each chunk runs
+ * every selected rule over its spells, rule by rule, so each rule is timed once per
+ * chunk instead of once per spell. Catalogs of {@value #PARALLEL_THRESHOLD} spells
+ * or more validate their chunks as fork/join tasks; smaller ones are validated on
+ * the calling thread, where task overhead would dominate.</p>
+ *
+ * <p>{@link ValidationRule#CATALOG_INTEGRITY} rides along in the same pass: chunks
+ * record each spell's magic ID in a primitive array, and a sweep over that array
+ * afterwards reports duplicates without touching the spells again.
+ * {@link ValidationRule#EXPORT_TEXTS} runs after the pass on one
+ * {@link TextMeasurements} of the newly created spells, which the report hands on
+ * so export layout does not measure the texts again.</p>
+ *
+ * <p>Findings are {@link ValidationIssue}s holding a {@link ValidationCode}, so no
+ * message strings are built unless displayed. Every report carries the time spent
+ * per rule, and the engine accumulates the same counters over its lifetime. The
+ * engine is thread-safe.</p>
+ */
+public class CatalogValidationEngine {
+    static final int PARALLEL_THRESHOLD = 2048;
+    private static final int CHUNK_SIZE = 512;
+    private static final int MAX_RECORD_MAGIC_ID = 0xFFFF; // magic IDs are 16-bit in the record
+    private static final ValidationRule[] RULES = ValidationRule.values();
+
+    private final ForkJoinPool pool;
+    private final LongAdder[] cumulativeNanos = new LongAdder[RULES.length];
+
+    public CatalogValidationEngine() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool Pool running the chunks of large catalogs
+     */
+    public CatalogValidationEngine(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool, "pool");
+        for (int i = 0; i < cumulativeNanos.length; i++) {
+            cumulativeNanos[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Validate the catalog against every rule
+     */
+    public ValidationReport validate(Collection<MagicData> catalog) {
+        return validate(catalog, EnumSet.allOf(ValidationRule.class));
+    }
+
+    /**
+     * Validate the catalog against the given rules.
+     *
+     * @param catalog The spells to validate
+     * @param rules The rules to run
+     * @return The findings sorted by kernel index, with the time spent per rule
+     */
+    public ValidationReport validate(Collection<MagicData> catalog, Set<ValidationRule> rules) {
+        if (catalog == null) {
+            throw new IllegalArgumentException("Catalog cannot be null");
+        }
+        MagicData[] spells = catalog.toArray(MagicData[]::new);
+        ValidationRule[] selected = rules.toArray(ValidationRule[]::new);
+        Arrays.sort(selected);
+        ValidationRule[] spellRules = Arrays.stream(selected)
+                .filter(rule -> !rule.isCatalogWide())
+                .toArray(ValidationRule[]::new);
+        boolean checkIntegrity = rules.contains(ValidationRule.CATALOG_INTEGRITY);
+        int[] magicIds = checkIntegrity ? new int[spells.length] : null;
+
+        int chunkCount = (spells.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        ChunkResult[] results = new ChunkResult[chunkCount];
+        if (spells.length < PARALLEL_THRESHOLD) {
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                results[chunk] = validateChunk(spells, chunk, spellRules, magicIds);
+            }
+        } else {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(chunkCount);
+            for (int chunk = 0; chunk < chunkCount; chunk++) {
+                int current = chunk;
+                tasks.add(ForkJoinTask.adapt(() -> results[current] = validateChunk(spells, current, spellRules, magicIds)));
+            }
+            pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        }
+
+        List<ValidationIssue> issues = new ArrayList<>();
+        long[] ruleNanos = new long[RULES.length];
+        for (ChunkResult result : results) {
+            issues.addAll(result.issues());
+            for (int rule = 0; rule < ruleNanos.length; rule++) {
+                ruleNanos[rule] += result.ruleNanos()[rule];
+            }
+        }
+        if (checkIntegrity) {
+            long start = System.nanoTime();
+            reportDuplicateIds(spells, magicIds, issues);
+            ruleNanos[ValidationRule.CATALOG_INTEGRITY.ordinal()] += System.nanoTime() - start;
+        }
+        TextMeasurements texts = null;
+        if (rules.contains(ValidationRule.EXPORT_TEXTS)) {
+            long start = System.nanoTime();
+            texts = measureNewSpells(spells);
+            ValidationRule.EXPORT_TEXTS.checkTexts(texts, issues::add);
+            ruleNanos[ValidationRule.EXPORT_TEXTS.ordinal()] += System.nanoTime() - start;
+        }
+        issues.sort(Comparator.comparingInt(ValidationIssue::spellIndex)
+                .thenComparing(ValidationIssue::code));
+
+        Map<ValidationRule, Duration> timings = new EnumMap<>(ValidationRule.class);
+        for (ValidationRule rule : selected) {
+            cumulativeNanos[rule.ordinal()].add(ruleNanos[rule.ordinal()]);
+            timings.put(rule, Duration.ofNanos(ruleNanos[rule.ordinal()]));
+        }
+        return new ValidationReport(spells.length, List.copyOf(issues), Collections.unmodifiableMap(timings), texts);
+    }
+
+    /**
+     * Get the time spent per rule by all runs of this engine so far
+     */
+    public Map<ValidationRule, Duration> getCumulativeRuleTimings() {
+        Map<ValidationRule, Duration> timings = new EnumMap<>(ValidationRule.class);
+        for (ValidationRule rule : RULES) {
+            timings.put(rule, Duration.ofNanos(cumulativeNanos[rule.ordinal()].sum()));
+        }
+        return Collections.unmodifiableMap(timings);
+    }
+
+    private ChunkResult validateChunk(MagicData[] spells, int chunk, ValidationRule[] rules, int[] magicIds) {
+        int from = chunk * CHUNK_SIZE;
+        int to = Math.min(from + CHUNK_SIZE, spells.length);
+        long[] ruleNanos = new long[RULES.length];
+        ChunkSink sink = new ChunkSink();
+
+        for (ValidationRule rule : rules) {
+            long start = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                sink.spellIndex = spells[i].getIndex();
+                rule.check(spells[i], sink);
+            }
+            ruleNanos[rule.ordinal()] += System.nanoTime() - start;
+        }
+        if (magicIds != null) {
+            long start = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                magicIds[i] = spells[i].getMagicID();
+            }
+            ruleNanos[ValidationRule.CATALOG_INTEGRITY.ordinal()] += System.nanoTime() - start;
+        }
+        return new ChunkResult(sink.issues, ruleNanos);
+    }
+
+    /**
+     * Report every spell whose magic ID an earlier spell in the catalog already uses
+     */
+    private static void reportDuplicateIds(MagicData[] spells, int[] magicIds, List<ValidationIssue> issues) {
+        BitSet seen = new BitSet();
+        Set<Integer> seenBeyondRecordRange = new HashSet<>(); // IDs a record cannot hold, kept out of the bitmap
+        for (int i = 0; i < magicIds.length; i++) {
+            int magicId = magicIds[i];
+            boolean duplicate;
+            if (magicId >= 0 && magicId <= MAX_RECORD_MAGIC_ID) {
+                duplicate = seen.get(magicId);
+                seen.set(magicId);
+            } else {
+                duplicate = !seenBeyondRecordRange.add(magicId);
+            }
+            if (duplicate) {
+                issues.add(new ValidationIssue(spells[i].getIndex(), ValidationCode.DUPLICATE_MAGIC_ID, magicId));
+            }
+        }
+    }
+
+    /**
+     * Measure the translations of the newly created spells, the texts an export writes
+     */
+    private static TextMeasurements measureNewSpells(MagicData[] spells) {
+        Map<Integer, SpellTranslations> translations = new HashMap<>();
+        for (MagicData spell : spells) {
+            if (spell.isNewlyCreated()) {
+                translations.put(spell.getIndex(), spell.getTranslations());
+            }
+        }
+        return TextMeasurements.measure(translations);
+    }
+
+    private static final class ChunkSink implements ValidationRule.IssueSink {
+        final List<ValidationIssue> issues = new ArrayList<>();
+        int spellIndex;
+
+        @Override
+        public void report(ValidationCode code, int value, Language language) {
+            issues.add(new ValidationIssue(spellIndex, code, value, language));
+        }
+    }
+
+    private record ChunkResult(List<ValidationIssue> issues, long[] ruleNanos) {}
+
+    /**
+     * Result of a catalog validation run.
+     *
+     * @param spellCount Number of spells validated
+     * @param issues Findings sorted by kernel index, then code
+     * @param ruleTimings Time spent per rule that was run
+     * @param textMeasurements Encoded lengths of the newly created spells' texts, or null
+     *                         if {@link ValidationRule#EXPORT_TEXTS} was not run
+     */
+    public record ValidationReport(
+            int spellCount,
+            List<ValidationIssue> issues,
+            Map<ValidationRule, Duration> ruleTimings,
+            TextMeasurements textMeasurements
+    ) {
+        /**
+         * True when there are no errors; warnings are allowed
+         */
+        public boolean isValid() {
+            return getErrorCount() == 0;
+        }
+
+        public int getErrorCount() {
+            int count = 0;
+            for (ValidationIssue issue : issues) {
+                count += issue.isError() ? 1 : 0;
+            }
+            return count;
+        }
+
+        public int getWarningCount() {
+            return issues.size() - getErrorCount();
+        }
+
+        /**
+         * Get the findings for one spell
+         */
+        public List<ValidationIssue> getIssuesFor(int spellIndex) {
+            return issues.stream()
+                    .filter(issue -> issue.spellIndex() == spellIndex)
+                    .toList();
+        }
+
+        /**
+         * Count the findings per code
+         */
+        public Map<ValidationCode, Integer> countByCode() {
+            Map<ValidationCode, Integer> counts = new EnumMap<>(ValidationCode.class);
+            for (ValidationIssue issue : issues) {
+                counts.merge(issue.code(), 1, Integer::sum);
+            }
+            return counts;
+        }
+    }
+}
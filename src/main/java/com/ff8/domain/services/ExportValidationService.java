@@ -1,7 +1,6 @@
 package com.ff8.domain.services;
 
 import com.ff8.domain.entities.MagicData;
-import com.ff8.domain.entities.SpellTranslations;
 import com.ff8.domain.entities.enums.Language;
 
 import java.util.*;
@@ -20,12 +19,19 @@ public class ExportValidationService {
         private final List<String> errors;
         private final List<String> warnings;
         private final ExportSummary summary;
+        private final TextMeasurements textMeasurements;
         
         public ExportValidationResult(boolean isValid, List<String> errors, List<String> warnings, ExportSummary summary) {
+            this(isValid, errors, warnings, summary, null);
+        }
+        
+        public ExportValidationResult(boolean isValid, List<String> errors, List<String> warnings, 
+                                      ExportSummary summary, TextMeasurements textMeasurements) {
             this.isValid = isValid;
             this.errors = Collections.unmodifiableList(errors);
             this.warnings = Collections.unmodifiableList(warnings);
             this.summary = summary;
+            this.textMeasurements = textMeasurements;
         }
         
         public boolean isValid() { return isValid; }
@@ -33,6 +39,11 @@ public class ExportValidationService {
         public List<String> getWarnings() { return warnings; }
         public ExportSummary getSummary() { return summary; }
         
+        /**
+         * Get the encoded text lengths measured during validation, or null if validation stopped before measuring
+         */
+        public TextMeasurements getTextMeasurements() { return textMeasurements; }
+        
         public boolean hasWarnings() { return !warnings.isEmpty(); }
         public boolean hasErrors() { return !errors.isEmpty(); }
         
@@ -71,17 +82,19 @@ public class ExportValidationService {
         public int getTotalFilesCount() { return languages.size() + 1; } // +1 for binary file
     }
     
-    private final TextEncodingService textEncodingService;
-    private final LanguageValidationService languageValidationService;
+    // Everything export checks, evaluated in one engine pass
+    private static final Set<ValidationRule> EXPORT_RULES =
+        EnumSet.of(ValidationRule.EXPORT_READINESS, ValidationRule.EXPORT_TEXTS);
     
-    public ExportValidationService(TextEncodingService textEncodingService, 
-                                 LanguageValidationService languageValidationService) {
-        this.textEncodingService = textEncodingService;
-        this.languageValidationService = languageValidationService;
-    }
+    private final CatalogValidationEngine validationEngine = new CatalogValidationEngine();
     
     /**
-     * Validate that the provided magic data can be exported successfully
+     * Validate that the provided magic data can be exported successfully.
+     * 
+     * <p>The spell checks, the language coverage and the text lengths are the
+     * {@link ValidationRule#EXPORT_READINESS} and {@link ValidationRule#EXPORT_TEXTS}
+     * rules, run together by a {@link CatalogValidationEngine}; the texts are measured
+     * once and the measurements are passed on in the result.</p>
      * 
      * @param newlyCreatedMagic Collection of newly created magic spells to export
      * @return Validation result with errors, warnings, and export summary
@@ -108,143 +121,45 @@ public class ExportValidationService {
                 new ExportSummary(0, Collections.emptySet(), Collections.emptyMap(), 0));
         }
         
-        // Collect translations for validation
-        Map<Integer, SpellTranslations> spellTranslations = new LinkedHashMap<>();
-        for (MagicData magic : actuallyNewSpells) {
-            spellTranslations.put(magic.getIndex(), magic.getTranslations());
-        }
-        
-        // Validate individual spells
-        validateIndividualSpells(actuallyNewSpells, errors, warnings);
-        
-        // Validate translations and language consistency
-        LanguageValidationService.ValidationResult languageResult = 
-            languageValidationService.validateSpellTranslations(spellTranslations);
-        
-        if (!languageResult.isValid()) {
-            errors.addAll(languageResult.getIssues().stream()
-                .filter(issue -> issue.contains("cannot") || issue.contains("Missing English"))
-                .toList());
-            warnings.addAll(languageResult.getIssues().stream()
-                .filter(issue -> !issue.contains("cannot") && !issue.contains("Missing English"))
-                .toList());
-        }
-        
-        // Validate file size limits
-        validateFileSizeLimits(spellTranslations, errors, warnings);
-        
-        // Generate summary
-        ExportSummary summary = generateExportSummary(actuallyNewSpells, languageResult);
-        
-        boolean isValid = errors.isEmpty();
-        return new ExportValidationResult(isValid, errors, warnings, summary);
-    }
-    
-    /**
-     * Validate individual spells for export readiness
-     */
-    private void validateIndividualSpells(List<MagicData> spells, List<String> errors, List<String> warnings) {
-        for (MagicData magic : spells) {
-            validateSingleSpell(magic, errors, warnings);
-        }
-    }
-    
-    /**
-     * Validate a single spell for export readiness
-     */
-    private void validateSingleSpell(MagicData magic, List<String> errors, List<String> warnings) {
-        String spellId = "Spell " + magic.getIndex() + " (" + magic.getSpellName() + ")";
-        
-        // Check if it's actually newly created
-        if (!magic.isNewlyCreated()) {
-            warnings.add(spellId + ": Not flagged as newly created, will be skipped");
-            return;
-        }
+        CatalogValidationEngine.ValidationReport report = validationEngine.validate(actuallyNewSpells, EXPORT_RULES);
         
-        // Validate translations exist
-        SpellTranslations translations = magic.getTranslations();
-        if (translations == null) {
-            errors.add(spellId + ": No translations available");
-            return;
-        }
-        
-        // Validate English translation
-        if (!translations.hasLanguage("English")) {
-            errors.add(spellId + ": Missing English translation");
-        } else {
-            SpellTranslations.Translation englishTranslation = translations.getTranslation("English").orElse(null);
-            if (englishTranslation == null || englishTranslation.getName().trim().isEmpty()) {
-                errors.add(spellId + ": English spell name is empty");
+        Map<Integer, String> spellNames = new HashMap<>();
+        for (MagicData magic : actuallyNewSpells) {
+            spellNames.put(magic.getIndex(), magic.getSpellName());
+        }
+        for (ValidationIssue issue : report.issues()) {
+            String subject = issue.language() != null ? issue.language().getDisplayName() : spellNames.get(issue.spellIndex());
+            String message = "Spell " + issue.spellIndex() + " (" + subject + "): " + issue.getMessage();
+            if (issue.isError()) {
+                errors.add(message);
+            } else {
+                warnings.add(message);
             }
         }
         
-        // Validate magic ID is reasonable
-        if (magic.getMagicID() < 0 || magic.getMagicID() > 345) {
-            warnings.add(spellId + ": Magic ID " + magic.getMagicID() + " is outside supported range (0-345)");
-        }
-        
-        // Check for potential issues with spell properties
-        validateSpellProperties(magic, warnings);
-    }
-    
-    /**
-     * Validate spell properties for potential issues
-     */
-    private void validateSpellProperties(MagicData magic, List<String> warnings) {
-        String spellId = "Spell " + magic.getIndex() + " (" + magic.getSpellName() + ")";
-        
-        // Check for unusual values that might indicate issues
-        if (magic.getSpellPower() > 255) {
-            warnings.add(spellId + ": Spell power " + magic.getSpellPower() + " exceeds normal range (0-255)");
-        }
-        
-        if (magic.getHitCount() > 16) {
-            warnings.add(spellId + ": Hit count " + magic.getHitCount() + " is unusually high");
-        }
+        TextMeasurements measurements = report.textMeasurements();
+        ExportSummary summary = generateExportSummary(actuallyNewSpells, measurements);
         
-        if (magic.getDrawResist() > 255) {
-            warnings.add(spellId + ": Draw resist " + magic.getDrawResist() + " exceeds normal range (0-255)");
-        }
+        return new ExportValidationResult(report.isValid(), errors, warnings, summary, measurements);
     }
     
     /**
-     * Validate that generated files won't exceed reasonable size limits
+     * Generate export summary with statistics
      */
-    private void validateFileSizeLimits(Map<Integer, SpellTranslations> spellTranslations, 
-                                      List<String> errors, List<String> warnings) {
-        // Calculate estimated resource file sizes
-        for (Map.Entry<Integer, SpellTranslations> entry : spellTranslations.entrySet()) {
-            SpellTranslations translations = entry.getValue();
-            
-            for (String languageName : translations.getAvailableLanguages()) {
-                SpellTranslations.Translation translation = translations.getTranslation(languageName).orElse(null);
-                if (translation != null) {
-                    int nameLength = textEncodingService.getEncodedLength(translation.getName());
-                    int descLength = textEncodingService.getEncodedLength(translation.getDescription());
-                    
-                    if (nameLength > 100) {
-                        warnings.add("Spell " + entry.getKey() + " (" + languageName + "): Name is very long (" + nameLength + " characters)");
-                    }
-                    
-                    if (descLength > 500) {
-                        warnings.add("Spell " + entry.getKey() + " (" + languageName + "): Description is very long (" + descLength + " characters)");
-                    }
+    private ExportSummary generateExportSummary(List<MagicData> spells, TextMeasurements measurements) {
+        int totalSpells = spells.size();
+        Set<Language> languages = measurements.getLanguages();
+        Map<Language, Integer> spellsPerLanguage = new EnumMap<>(Language.class);
+        for (int position = 0; position < measurements.getSpellCount(); position++) {
+            for (Language language : languages) {
+                if (measurements.hasTranslation(position, language)) {
+                    spellsPerLanguage.merge(language, 1, Integer::sum);
                 }
             }
         }
-    }
-    
-    /**
-     * Generate export summary with statistics
-     */
-    private ExportSummary generateExportSummary(List<MagicData> spells, 
-                                               LanguageValidationService.ValidationResult languageResult) {
-        int totalSpells = spells.size();
-        Set<Language> languages = languageResult.getRequiredLanguages();
-        Map<Language, Integer> spellsPerLanguage = languageResult.getLanguageSpellCounts();
         
         // Estimate total file size (rough calculation)
-        int estimatedSize = calculateEstimatedFileSize(spells, languages);
+        int estimatedSize = calculateEstimatedFileSize(spells, languages, measurements);
         
         return new ExportSummary(totalSpells, languages, spellsPerLanguage, estimatedSize);
     }
@@ -252,24 +167,15 @@ public class ExportValidationService {
     /**
      * Calculate estimated total file size for all generated files
      */
-    private int calculateEstimatedFileSize(List<MagicData> spells, Set<Language> languages) {
-        int binaryFileSize = spells.size() * 60; // 60 bytes per magic struct
+    private int calculateEstimatedFileSize(List<MagicData> spells, Set<Language> languages, TextMeasurements measurements) {
+        long binaryFileSize = spells.size() * 60L; // 60 bytes per magic struct
         
-        int resourceFilesSize = 0;
-        for (MagicData spell : spells) {
-            SpellTranslations translations = spell.getTranslations();
-            if (translations != null) {
-                for (Language language : languages) {
-                    SpellTranslations.Translation translation = translations.getTranslation(language.getDisplayName())
-                        .orElse(translations.getTranslation("English").orElse(new SpellTranslations.Translation("", "")));
-                    
-                    resourceFilesSize += textEncodingService.getEncodedLength(translation.getName()) + 1; // +1 for null terminator
-                    resourceFilesSize += textEncodingService.getEncodedLength(translation.getDescription()) + 1; // +1 for null terminator
-                }
-            }
+        long resourceFilesSize = 0;
+        for (Language language : languages) {
+            resourceFilesSize += measurements.getUnpaddedTextSize(language);
         }
         
-        return binaryFileSize + resourceFilesSize;
+        return Math.toIntExact(binaryFileSize + resourceFilesSize);
     }
     
     /**
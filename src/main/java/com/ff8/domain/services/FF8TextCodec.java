@@ -0,0 +1,386 @@
+package com.ff8.domain.services;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Complete FF8 text codec, compiled into lookup automata.
+ *
+ * <p>Bytes are glyph indices into the game's font. The English, French, German, Italian
+ * and Spanish versions share this font, so one codec serves every language:</p>
+ * <ul>
+ *   <li><strong>0x20-0x78:</strong> space, digits, punctuation and the Latin letters; letters,
+ *       digits and space follow the well-known Caesar shift (A-Z +4, a-z -2, 0-9 -15)</li>
+ *   <li><strong>0x79-0xA7:</strong> the accented capitals, {@code ß}, the accented small letters
+ *       and the {@code Œ}/{@code œ} ligatures</li>
+ *   <li><strong>0xA8-0xC2:</strong> symbols such as brackets, stars, arrows and the
+ *       Spanish inverted marks</li>
+ *   <li><strong>0xE8-0xFF:</strong> two-letter glyphs ({@code "in"}, {@code "e "}, {@code "GF"}, ...)
+ *       used to shorten dialogue; they are decoded but never produced, the encoder always
+ *       writes the single letters</li>
+ * </ul>
+ *
+ * <p>Multi-byte and special sequences are mapped to readable tokens: byte 0x02 is a line
+ * break ({@code "\n"}), {@code 0x03 0x30..0x3A} are the party member names
+ * ({@code "{Squall}"}, {@code "{Zell}"}, ...), and every other byte without a glyph is
+ * kept as an escape such as {@code "{x0E}"}. Text read from the kernel or from a resource
+ * file therefore always encodes back to bytes the game displays the same way.</p>
+ *
+ * <p>Both directions run off flat tables first. Encoding looks every character up in a
+ * 256-entry Latin-1 table, or a small sorted table for the few glyphs outside Latin-1,
+ * and only walks the token trie for characters that can start a token ({@code '{'}).
+ * Text never grows when encoded, so {@link #encode(CharSequence)} walks it once into an
+ * array of the text's length. Decoding finds the terminator with one scan, then
+ * translates single-glyph bytes through a {@code char[256]} table into a Latin-1 byte
+ * array that becomes the string without re-encoding; only a byte that is a digraph, a
+ * name or an escape, or a glyph outside Latin-1, switches the rest of the string to the
+ * byte trie, which takes the longest sequence that matches. The tables are built once
+ * and are immutable, so the codec is shared.</p>
+ *
+ * <p>The Japanese version uses a kana and kanji font that is not covered here.</p>
+ */
+public final class FF8TextCodec {
+    private static final byte UNMAPPABLE = 0x2F; // '?'
+    private static final VarHandle LONG_VIEW = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final int LINE_BREAK = 0x02;
+    private static final int CHARACTER_NAME = 0x03;
+    private static final int FIRST_CHARACTER_ID = 0x30;
+    private static final String[] CHARACTER_NAMES = {
+        "Squall", "Zell", "Irvine", "Quistis", "Rinoa", "Selphie", "Seifer", "Edea", "Laguna", "Kiros", "Ward"
+    };
+
+    /**
+     * Single glyphs from byte 0x20 on, sixteen per row; {@code '\0'} marks a glyph without a character
+     */
+    private static final String[] FONT_ROWS = {
+        " 0123456789%/:!?",
+        "…+-=*&「」()·.,~“”",
+        "‘#$'_ABCDEFGHIJK",
+        "LMNOPQRSTUVWXYZa",
+        "bcdefghijklmnopq",
+        "rstuvwxyzÀÁÂÄÇÈÉ",
+        "ÊËÌÍÎÏÑÒÓÔÖÙÚÛÜŒ",
+        "ßàáâäçèéêëìíîïñò",
+        "óôöùúûüœⅧ[]■◎♦【】",
+        "□★『』▽;▼‾×☆\0↓°¡¿─",
+        "«»±"
+    };
+    private static final int FIRST_GLYPH = 0x20;
+
+    private static final String[] DIGRAPHS = {
+        "in", "e ", "ne", "to", "re", "HP", "l ", "ll", "GF", "nt", "il", "o ",
+        "ef", "on", " w", " r", "wi", "fi", "EC", "s ", "ar", "FE", " S", "ag"
+    };
+    private static final int FIRST_DIGRAPH = 0xE8;
+
+    private static final FF8TextCodec INSTANCE = new FF8TextCodec();
+
+    /**
+     * Byte trie node; {@code outputs[b]} is the text of the sequence ending with byte b here
+     */
+    private static final class DecodeNode {
+        final String[] outputs = new String[256];
+        final DecodeNode[] children = new DecodeNode[256];
+    }
+
+    /**
+     * Character trie node for multi-character tokens
+     */
+    private static final class EncodeNode {
+        final Map<Character, EncodeNode> children = new HashMap<>();
+        byte[] output;
+    }
+
+    private final DecodeNode decodeRoot = new DecodeNode();
+    private final char[] singleGlyphs = new char[256]; // '\0' where a byte needs the trie
+    private final short[] latin1Bytes = new short[256];
+    private final boolean[] startsToken = new boolean[256];
+    private final char[] extraChars;  // sorted glyphs outside Latin-1
+    private final byte[] extraBytes;
+    private final EncodeNode tokenRoot = new EncodeNode();
+
+    private FF8TextCodec() {
+        Arrays.fill(latin1Bytes, (short) -1);
+        TreeMap<Character, Byte> extras = new TreeMap<>();
+
+        for (int row = 0; row < FONT_ROWS.length; row++) {
+            String glyphs = FONT_ROWS[row];
+            for (int column = 0; column < glyphs.length(); column++) {
+                char c = glyphs.charAt(column);
+                if (c != '\0') {
+                    int b = FIRST_GLYPH + row * 16 + column;
+                    mapCharacter(c, b, extras);
+                }
+            }
+        }
+        for (int i = 0; i < DIGRAPHS.length; i++) {
+            decodeRoot.outputs[FIRST_DIGRAPH + i] = DIGRAPHS[i];
+        }
+
+        mapCharacter('\n', LINE_BREAK, extras);
+
+        DecodeNode names = new DecodeNode();
+        decodeRoot.children[CHARACTER_NAME] = names;
+        for (int i = 0; i < CHARACTER_NAMES.length; i++) {
+            String token = "{" + CHARACTER_NAMES[i] + "}";
+            names.outputs[FIRST_CHARACTER_ID + i] = token;
+            addToken(token, new byte[] {CHARACTER_NAME, (byte) (FIRST_CHARACTER_ID + i)});
+        }
+
+        // Everything else round-trips through an escape
+        for (int b = 1; b < 256; b++) {
+            if (decodeRoot.outputs[b] == null) {
+                String token = String.format("{x%02X}", b);
+                decodeRoot.outputs[b] = token;
+                addToken(token, new byte[] {(byte) b});
+            }
+        }
+
+        extraChars = new char[extras.size()];
+        extraBytes = new byte[extras.size()];
+        int i = 0;
+        for (Map.Entry<Character, Byte> extra : extras.entrySet()) {
+            extraChars[i] = extra.getKey();
+            extraBytes[i++] = extra.getValue();
+        }
+    }
+
+    private void mapCharacter(char c, int b, Map<Character, Byte> extras) {
+        if (c < 256) {
+            latin1Bytes[c] = (short) b;
+        } else {
+            extras.put(c, (byte) b);
+        }
+        decodeRoot.outputs[b] = String.valueOf(c);
+        singleGlyphs[b] = c;
+    }
+
+    private void addToken(String token, byte[] bytes) {
+        startsToken[token.charAt(0)] = true;
+        EncodeNode node = tokenRoot;
+        for (int i = 0; i < token.length(); i++) {
+            node = node.children.computeIfAbsent(token.charAt(i), c -> new EncodeNode());
+        }
+        node.output = bytes;
+    }
+
+    /**
+     * Get the shared codec
+     */
+    public static FF8TextCodec getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Find the first null byte in a range, eight bytes at a time.
+     *
+     * @return The index of the terminator, or {@code to} if the range has none
+     */
+    public static int indexOfTerminator(byte[] data, int from, int to) {
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES) {
+            long word = (long) LONG_VIEW.get(data, i);
+            // High bit set in the lowest byte that is zero; higher flags may be false positives
+            long zeros = (word - 0x0101010101010101L) & ~word & 0x8080808080808080L;
+            if (zeros != 0) {
+                return i + (Long.numberOfTrailingZeros(zeros) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (data[i] == 0) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * Decode a null-terminated string from a byte array.
+     *
+     * @param data The encoded bytes
+     * @param offset Where the string starts
+     * @param maxLength Maximum number of bytes to read if no terminator is found
+     * @return The decoded text, or empty string if the offset is out of range
+     */
+    public String decode(byte[] data, int offset, int maxLength) {
+        if (data == null || offset < 0 || offset >= data.length) {
+            return "";
+        }
+        int end = indexOfTerminator(data, offset, offset + Math.min(maxLength, data.length - offset));
+        return decodeRange(data, offset, end);
+    }
+
+    /**
+     * Decode a null-terminated string from a buffer at an absolute offset; the position is not changed.
+     *
+     * @param data The encoded bytes
+     * @param offset Where the string starts
+     * @param maxLength Maximum number of bytes to read if no terminator is found
+     * @return The decoded text, or empty string if the offset is out of range
+     */
+    public String decode(ByteBuffer data, int offset, int maxLength) {
+        if (data == null || offset < 0 || offset >= data.limit()) {
+            return "";
+        }
+        int available = Math.min(maxLength, data.limit() - offset);
+        if (data.hasArray()) {
+            return decode(data.array(), data.arrayOffset() + offset, available);
+        }
+        byte[] raw = new byte[available];
+        data.get(offset, raw);
+        return decodeRange(raw, 0, indexOfTerminator(raw, 0, available));
+    }
+
+    /**
+     * Decode an exact byte range that contains no terminator
+     */
+    public String decodeRange(byte[] data, int from, int to) {
+        byte[] latin1 = new byte[to - from];
+        for (int i = from; i < to; i++) {
+            char c = singleGlyphs[data[i] & 0xFF];
+            if (c == '\0' || c > 0xFF) {
+                return decodeWithTrie(data, i, to, latin1, i - from);
+            }
+            latin1[i - from] = (byte) c;
+        }
+        return new String(latin1, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Finish decoding through the byte trie, after a Latin-1 prefix decoded by table
+     */
+    private String decodeWithTrie(byte[] data, int from, int to, byte[] prefix, int prefixLength) {
+        StringBuilder text = new StringBuilder(prefixLength + (to - from) * 2);
+        text.append(new String(prefix, 0, prefixLength, StandardCharsets.ISO_8859_1));
+        int i = from;
+        while (i < to) {
+            char single = singleGlyphs[data[i] & 0xFF];
+            if (single != '\0') {
+                text.append(single);
+                i++;
+                continue;
+            }
+            DecodeNode node = decodeRoot;
+            String match = null;
+            int matchEnd = i + 1;
+            for (int j = i; j < to && node != null; j++) {
+                int b = data[j] & 0xFF;
+                if (node.outputs[b] != null) {
+                    match = node.outputs[b];
+                    matchEnd = j + 1;
+                }
+                node = node.children[b];
+            }
+            text.append(match);
+            i = matchEnd;
+        }
+        return text.toString();
+    }
+
+    /**
+     * Encode text into a buffer at an absolute offset, without a terminator; the position
+     * is not changed. Characters the table cannot represent are written as {@code '?'}.
+     *
+     * @return Number of bytes written
+     * @throws IndexOutOfBoundsException if the encoded text does not fit; nothing is written then
+     */
+    public int encode(CharSequence text, ByteBuffer target, int offset) {
+        int limit = target.limit();
+        if (offset < 0 || offset > limit) {
+            throw new IndexOutOfBoundsException("Offset " + offset + " is outside buffer of limit " + limit);
+        }
+        // Encoded text is never longer than the text, so only a tight fit needs measuring
+        if (offset + text.length() > limit && offset + encodedLength(text) > limit) {
+            throw new IndexOutOfBoundsException("Cannot encode " + encodedLength(text) + " bytes at offset " + offset +
+                                                " into buffer of limit " + limit);
+        }
+        if (target.hasArray() && !target.isReadOnly()) {
+            return walk(text, target.array(), null, target.arrayOffset() + offset, false);
+        }
+        return walk(text, null, target, offset, false);
+    }
+
+    /**
+     * Encode text to a new array, without a terminator
+     */
+    public byte[] encode(CharSequence text) {
+        byte[] encoded = new byte[text.length()];
+        int length = walk(text, encoded, null, 0, false);
+        return length == encoded.length ? encoded : Arrays.copyOf(encoded, length);
+    }
+
+    /**
+     * Number of bytes the text occupies once encoded, without a terminator
+     */
+    public int encodedLength(CharSequence text) {
+        return text == null ? 0 : walk(text, null, null, 0, false);
+    }
+
+    /**
+     * Check whether every character of the text has a representation in the font
+     */
+    public boolean canEncode(CharSequence text) {
+        return text == null || walk(text, null, null, 0, true) >= 0;
+    }
+
+    /**
+     * Runs the encoder over the text, writing to the array or else the buffer when one is given.
+     *
+     * @return Number of bytes produced, or -1 in strict mode when a character is unmappable
+     */
+    private int walk(CharSequence text, byte[] array, ByteBuffer buffer, int offset, boolean strict) {
+        int length = text.length();
+        int written = 0;
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            int b;
+            if (c < 256) {
+                if (startsToken[c]) {
+                    EncodeNode node = tokenRoot.children.get(c);
+                    byte[] match = null;
+                    int matchEnd = i;
+                    for (int j = i + 1; node != null; j++) {
+                        if (node.output != null) {
+                            match = node.output;
+                            matchEnd = j;
+                        }
+                        node = j < length ? node.children.get(text.charAt(j)) : null;
+                    }
+                    if (match != null) {
+                        for (byte tokenByte : match) {
+                            put(array, buffer, offset + written++, tokenByte);
+                        }
+                        i = matchEnd;
+                        continue;
+                    }
+                }
+                b = latin1Bytes[c];
+            } else {
+                int extra = Arrays.binarySearch(extraChars, c);
+                b = extra >= 0 ? extraBytes[extra] & 0xFF : -1;
+            }
+            if (b < 0) {
+                if (strict) {
+                    return -1;
+                }
+                b = UNMAPPABLE;
+            }
+            put(array, buffer, offset + written++, (byte) b);
+            i++;
+        }
+        return written;
+    }
+
+    private static void put(byte[] array, ByteBuffer buffer, int index, byte b) {
+        if (array != null) {
+            array[index] = b;
+        } else if (buffer != null) {
+            buffer.put(index, b);
+        }
+    }
+}
@@ -112,10 +112,10 @@ public class LanguageValidationService {
             // Validate encoding compatibility
             if (englishTranslation != null) {
                 if (!textEncodingService.isTextCompatibleWithEncoding(englishTranslation.getName())) {
-                    issues.add("Spell " + spellIndex + ": English name contains characters incompatible with Caesar cipher encoding");
+                    issues.add("Spell " + spellIndex + ": English name contains characters incompatible with FF8 text encoding");
                 }
                 if (!textEncodingService.isTextCompatibleWithEncoding(englishTranslation.getDescription())) {
-                    issues.add("Spell " + spellIndex + ": English description contains characters incompatible with Caesar cipher encoding");
+                    issues.add("Spell " + spellIndex + ": English description contains characters incompatible with FF8 text encoding");
                 }
             }
         }
@@ -126,10 +126,10 @@ public class LanguageValidationService {
                 SpellTranslations.Translation translation = translations.getTranslation(languageName).orElse(null);
                 if (translation != null) {
                     if (!textEncodingService.isTextCompatibleWithEncoding(translation.getName())) {
-                        issues.add("Spell " + spellIndex + " (" + languageName + "): Name contains characters incompatible with Caesar cipher encoding");
+                        issues.add("Spell " + spellIndex + " (" + languageName + "): Name contains characters incompatible with FF8 text encoding");
                     }
                     if (!textEncodingService.isTextCompatibleWithEncoding(translation.getDescription())) {
-                        issues.add("Spell " + spellIndex + " (" + languageName + "): Description contains characters incompatible with Caesar cipher encoding");
+                        issues.add("Spell " + spellIndex + " (" + languageName + "): Description contains characters incompatible with FF8 text encoding");
                     }
                 }
             }
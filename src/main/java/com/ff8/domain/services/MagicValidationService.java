@@ -22,9 +22,14 @@ import java.util.List;
  *   <li>Business rule validation (attack type compatibility, power requirements)</li>
  *   <li>Cross-field validation (element and attack type combinations)</li>
  *   <li>Junction system constraints (reasonable stat bonuses)</li>
- *   <li>Status effect limitations (maximum effects per spell)</li>
+ *   <li>Status effect limitations (maximum effects per spell; mutually exclusive
+ *       effects such as Haste and Slow are a warning)</li>
  * </ul>
  * 
+ * <p>The checks themselves are the per-spell {@link ValidationRule}s, shared with
+ * {@link CatalogValidationEngine} for whole-catalog runs; this service formats
+ * their findings as messages.</p>
+ * 
  * <p>This service is part of the domain layer and contains only business logic,
  * with no dependencies on external frameworks or infrastructure concerns.</p>
  * 
@@ -34,6 +39,14 @@ import java.util.List;
  */
 public class MagicValidationService {
 
+    // The rules that concern a single spell on its own, in reporting order
+    private static final List<ValidationRule> SPELL_RULES = List.of(
+            ValidationRule.FIELD_RANGES,
+            ValidationRule.BUSINESS_RULES,
+            ValidationRule.JUNCTION_LIMITS,
+            ValidationRule.STATUS_EFFECTS
+    );
+
     /**
      * Validates magic data and throws an exception if invalid.
      * 
@@ -63,51 +76,7 @@ public class MagicValidationService {
      * @return a list of validation error messages, empty if validation passes
      */
     public List<String> validateMagicDataAndCollectErrors(MagicData magic) {
-        var errors = new ArrayList<String>();
-
-        // Basic field validation
-        if (magic.getMagicID() < 0 || magic.getMagicID() > 345) {
-            errors.add("Magic ID must be 0-345");
-        }
-
-        if (magic.getSpellPower() < 0 || magic.getSpellPower() > 255) {
-            errors.add("Spell power must be 0-255");
-        }
-
-        if (magic.getHitCount() < 0 || magic.getHitCount() > 255) {
-            errors.add("Hit count must be 0-255");
-        }
-
-        if (magic.getDrawResist() < 0 || magic.getDrawResist() > 255) {
-            errors.add("Draw resist must be 0-255");
-        }
-
-        // Business rule validation
-        if ((magic.getAttackType() == AttackType.CURATIVE_MAGIC || magic.getAttackType() == AttackType.CURATIVE_ITEM) && magic.getSpellPower() == 0) {
-            errors.add("Curative spells should have spell power > 0");
-        }
-
-        if (magic.getElement() == Element.NONE && magic.getSpellPower() > 0) {
-            // This might be OK for some spells, just a warning
-        }
-
-        // Junction validation
-        if (magic.getJunctionStats() != null) {
-            var stats = magic.getJunctionStats();
-            if (stats.getTotalBonuses() > 2000) { // Reasonable limit
-                errors.add("Total junction stat bonuses seem excessive (>" + 2000 + ")");
-            }
-        }
-
-        // Status effect validation
-        if (magic.hasStatusEffects()) {
-            var activeStatuses = magic.getStatusEffects().getActiveStatuses();
-            if (activeStatuses.size() > 10) { // Reasonable limit
-                errors.add("Too many active status effects (" + activeStatuses.size() + " > 10)");
-            }
-        }
-
-        return errors;
+        return collectMessages(magic, true);
     }
 
     /**
@@ -232,21 +201,22 @@ public class MagicValidationService {
      * @return a list of warning messages
      */
     private List<String> getValidationWarnings(MagicData magic) {
-        var warnings = new ArrayList<String>();
-
-        if (magic.getSpellPower() == 0 && (magic.getAttackType() == AttackType.MAGIC_ATTACK || magic.getAttackType() == AttackType.MAGIC_ATTACK_IGNORE_TARGET_SPR)) {
-            warnings.add("Magical spell with 0 power may not be effective");
-        }
-
-        if (!magic.hasStatusEffects() && !magic.hasJunctionBonuses() && magic.getSpellPower() == 0) {
-            warnings.add("Spell has no effects, junction bonuses, or power");
-        }
+        return collectMessages(magic, false);
+    }
 
-        if (magic.getHitCount() > 16) {
-            warnings.add("Very high hit count (" + magic.getHitCount() + ") may cause performance issues");
+    /**
+     * Runs the per-spell rules and formats either the errors or the warnings
+     */
+    private List<String> collectMessages(MagicData magic, boolean errors) {
+        var messages = new ArrayList<String>();
+        for (ValidationRule rule : SPELL_RULES) {
+            rule.check(magic, (code, value, language) -> {
+                if (code.isError() == errors) {
+                    messages.add(code.format(value));
+                }
+            });
         }
-
-        return warnings;
+        return messages;
     }
 
     /**
@@ -5,6 +5,7 @@ import com.ff8.domain.entities.enums.StatusEffect;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.LongStream;
 
 /**
  * Domain service providing business logic for status effect interactions and validation.
@@ -52,8 +53,8 @@ import java.util.Set;
  */
 public class StatusEffectService {
 
-    // Mutually exclusive status effects
-    private static final Set<Set<StatusEffect>> MUTUALLY_EXCLUSIVE_GROUPS = Set.of(
+    // Mutually exclusive status effects; the list order numbers the groups in StatusMaskAudit
+    private static final List<Set<StatusEffect>> MUTUALLY_EXCLUSIVE_GROUPS = List.of(
             Set.of(StatusEffect.HASTE, StatusEffect.SLOW, StatusEffect.STOP),
             Set.of(StatusEffect.PROTECT, StatusEffect.SHELL),
             Set.of(StatusEffect.DEATH, StatusEffect.ZOMBIE),
@@ -80,6 +81,33 @@ public class StatusEffectService {
             StatusEffect.SILENCE, StatusEffect.BERSERK, StatusEffect.ZOMBIE
     );
 
+    // The sets above compiled to status bit masks, so checks are AND/popcount operations
+    private static final long BENEFICIAL_MASK = maskOf(BENEFICIAL_EFFECTS);
+    private static final long HARMFUL_MASK = maskOf(HARMFUL_EFFECTS);
+    private static final long[] EXCLUSIVE_GROUP_MASKS = MUTUALLY_EXCLUSIVE_GROUPS.stream()
+            .mapToLong(StatusEffectService::maskOf)
+            .toArray();
+    // Union of all groups; the groups are disjoint
+    private static final long EXCLUSIVE_MASK = LongStream.of(EXCLUSIVE_GROUP_MASKS).reduce(0L, (a, b) -> a | b);
+    // By status bit index: the mask of the group containing it, or 0
+    private static final long[] GROUP_MASK_BY_BIT = new long[Long.SIZE];
+
+    static {
+        for (long groupMask : EXCLUSIVE_GROUP_MASKS) {
+            for (long bits = groupMask; bits != 0; bits &= bits - 1) {
+                GROUP_MASK_BY_BIT[Long.numberOfTrailingZeros(bits)] = groupMask;
+            }
+        }
+    }
+
+    private static long maskOf(Set<StatusEffect> effects) {
+        long mask = 0;
+        for (StatusEffect effect : effects) {
+            mask |= 1L << effect.getBitIndex();
+        }
+        return mask;
+    }
+
     /**
      * Checks if two status effects are mutually exclusive.
      * 
@@ -100,8 +128,7 @@ public class StatusEffectService {
      * @return true if the effects are mutually exclusive, false otherwise
      */
     public boolean areMutuallyExclusive(StatusEffect effect1, StatusEffect effect2) {
-        return MUTUALLY_EXCLUSIVE_GROUPS.stream()
-                .anyMatch(group -> group.contains(effect1) && group.contains(effect2));
+        return (GROUP_MASK_BY_BIT[effect1.getBitIndex()] & (1L << effect2.getBitIndex())) != 0;
     }
 
     /**
@@ -117,15 +144,8 @@ public class StatusEffectService {
      *         empty set if no exclusions exist
      */
     public Set<StatusEffect> getMutuallyExclusiveEffects(StatusEffect effect) {
-        return MUTUALLY_EXCLUSIVE_GROUPS.stream()
-                .filter(group -> group.contains(effect))
-                .findFirst()
-                .map(group -> {
-                    var result = Set.copyOf(group);
-                    result.remove(effect);
-                    return result;
-                })
-                .orElse(Set.of());
+        long others = GROUP_MASK_BY_BIT[effect.getBitIndex()] & ~(1L << effect.getBitIndex());
+        return Set.copyOf(effectsOf(others));
     }
 
     /**
@@ -147,18 +167,17 @@ public class StatusEffectService {
      * @return List of validation error messages, empty if no errors found
      */
     public List<String> validateStatusCombination(StatusEffectSet statusSet) {
+        long bits = statusSet.getBits();
+        if (!hasExclusiveConflict(bits)) {
+            return List.of();
+        }
+
         var errors = new java.util.ArrayList<String>();
-        var activeEffects = statusSet.getActiveStatuses();
-
-        // Check for mutually exclusive effects
-        for (var group : MUTUALLY_EXCLUSIVE_GROUPS) {
-            var activeInGroup = activeEffects.stream()
-                    .filter(group::contains)
-                    .toList();
-            
-            if (activeInGroup.size() > 1) {
-                errors.add("Mutually exclusive status effects: " + 
-                          activeInGroup.stream()
+        for (long groupMask : EXCLUSIVE_GROUP_MASKS) {
+            long activeInGroup = bits & groupMask;
+            if (Long.bitCount(activeInGroup) > 1) {
+                errors.add("Mutually exclusive status effects: " +
+                          effectsOf(activeInGroup).stream()
                                   .map(StatusEffect::getDisplayName)
                                   .toList());
             }
@@ -167,6 +186,46 @@ public class StatusEffectService {
         return errors;
     }
 
+    /**
+     * Checks whether a status mask activates more than one effect of any mutually
+     * exclusive group, without allocating.
+     * 
+     * @param statusBits Packed status mask, as returned by {@link StatusEffectSet#getBits()}
+     * @return true if at least one group is in conflict
+     */
+    public boolean hasExclusiveConflict(long statusBits) {
+        for (long groupMask : EXCLUSIVE_GROUP_MASKS) {
+            long active = statusBits & groupMask;
+            if ((active & (active - 1)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes mutual exclusion conflicts from a status mask, keeping the effect
+     * with the lowest bit index of each group.
+     * 
+     * @param statusBits Packed status mask, as returned by {@link StatusEffectSet#getBits()}
+     * @return The mask without conflicts; unchanged if there were none
+     */
+    public long cleanStatusMask(long statusBits) {
+        long cleaned = statusBits & ~EXCLUSIVE_MASK;
+        for (long groupMask : EXCLUSIVE_GROUP_MASKS) {
+            cleaned |= Long.lowestOneBit(statusBits & groupMask);
+        }
+        return cleaned;
+    }
+
+    private static List<StatusEffect> effectsOf(long statusBits) {
+        var effects = new java.util.ArrayList<StatusEffect>(Long.bitCount(statusBits));
+        for (long bits = statusBits; bits != 0; bits &= bits - 1) {
+            effects.add(StatusEffect.fromBitIndex(Long.numberOfTrailingZeros(bits)));
+        }
+        return effects;
+    }
+
     /**
      * Determines if a status effect is beneficial to the target.
      * 
@@ -267,39 +326,17 @@ public class StatusEffectService {
      * 
      * <p>Resolution strategy:</p>
      * <ul>
-     *   <li>Process effects in the order they appear in the original set</li>
+     *   <li>Process effects in bit index order, as they appear in the original set</li>
      *   <li>Keep the first effect from each mutually exclusive group</li>
      *   <li>Skip subsequent effects from the same group</li>
      *   <li>Preserve all non-conflicting effects</li>
      * </ul>
      * 
      * @param originalSet The status effect set to clean
-     * @return A new StatusEffectSet without mutual exclusion conflicts
+     * @return An immutable StatusEffectSet without mutual exclusion conflicts
      */
     public StatusEffectSet cleanStatusSet(StatusEffectSet originalSet) {
-        var cleanedSet = new StatusEffectSet();
-        var activeEffects = originalSet.getActiveStatuses();
-        var processedGroups = new java.util.HashSet<Set<StatusEffect>>();
-
-        for (var effect : activeEffects) {
-            var exclusiveGroup = MUTUALLY_EXCLUSIVE_GROUPS.stream()
-                    .filter(group -> group.contains(effect))
-                    .findFirst();
-
-            if (exclusiveGroup.isPresent()) {
-                if (!processedGroups.contains(exclusiveGroup.get())) {
-                    // First effect in this group, add it
-                    cleanedSet.setStatus(effect, true);
-                    processedGroups.add(exclusiveGroup.get());
-                }
-                // Skip subsequent effects in the same group
-            } else {
-                // Not in any exclusive group, add it
-                cleanedSet.setStatus(effect, true);
-            }
-        }
-
-        return cleanedSet;
+        return StatusEffectSet.of(cleanStatusMask(originalSet.getBits()));
     }
 
     /**
@@ -362,6 +399,44 @@ public class StatusEffectService {
         );
     }
 
+    /**
+     * Classifies and checks the status masks of many spells in one pass.
+     * 
+     * <p>This is the bulk counterpart of {@link #getBeneficialEffects},
+     * {@link #getHarmfulEffects} and {@link #validateStatusCombination} for
+     * whole-catalog audits. Each input is a packed 48-bit status mask as returned by
+     * {@link StatusEffectSet#getBits()}; the classifications are ANDed against
+     * precomputed masks and a mutual exclusion group conflicts when more than one of
+     * its bits survive. The loops work on primitive arrays only, without sets,
+     * streams or boxing, so the JIT can unroll and vectorize them.</p>
+     * 
+     * @param statusMasks One packed status mask per spell
+     * @return Per-spell beneficial and harmful masks and conflicting groups
+     */
+    public StatusMaskAudit auditStatusMasks(long[] statusMasks) {
+        int count = statusMasks.length;
+        var beneficial = new long[count];
+        var harmful = new long[count];
+        var conflicts = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            beneficial[i] = statusMasks[i] & BENEFICIAL_MASK;
+        }
+        for (int i = 0; i < count; i++) {
+            harmful[i] = statusMasks[i] & HARMFUL_MASK;
+        }
+        for (int group = 0; group < EXCLUSIVE_GROUP_MASKS.length; group++) {
+            long groupMask = EXCLUSIVE_GROUP_MASKS[group];
+            for (int i = 0; i < count; i++) {
+                long active = statusMasks[i] & groupMask;
+                // More than one bit set: clearing the lowest one leaves something
+                conflicts[i] |= ((active & (active - 1)) != 0 ? 1 : 0) << group;
+            }
+        }
+
+        return new StatusMaskAudit(beneficial, harmful, conflicts);
+    }
+
     /**
      * Enumeration of spell types for status effect recommendations.
      * 
@@ -404,4 +479,54 @@ public class StatusEffectService {
             boolean isPrimarilyBeneficial,
             boolean isValid
     ) {}
-} 
\ No newline at end of file
+
+    /**
+     * Result of {@link #auditStatusMasks(long[])}, indexed like its input.
+     * 
+     * @param beneficialMasks The beneficial status bits of each spell
+     * @param harmfulMasks The harmful status bits of each spell
+     * @param conflictingGroups For each spell, bit {@code g} is set when more than one
+     *                          effect of mutual exclusion group {@code g} is active
+     */
+    public record StatusMaskAudit(
+            long[] beneficialMasks,
+            long[] harmfulMasks,
+            int[] conflictingGroups
+    ) {
+        /**
+         * Number of audited spells
+         */
+        public int size() {
+            return conflictingGroups.length;
+        }
+
+        /**
+         * Whether the spell at the position has any mutual exclusion conflict
+         */
+        public boolean hasConflict(int spell) {
+            return conflictingGroups[spell] != 0;
+        }
+
+        /**
+         * Number of spells with at least one mutual exclusion conflict
+         */
+        public int conflictCount() {
+            int count = 0;
+            for (int groups : conflictingGroups) {
+                count += groups != 0 ? 1 : 0;
+            }
+            return count;
+        }
+
+        /**
+         * The mutual exclusion groups in conflict for the spell at the position
+         */
+        public List<Set<StatusEffect>> getConflictingGroups(int spell) {
+            var groups = new java.util.ArrayList<Set<StatusEffect>>();
+            for (int bits = conflictingGroups[spell]; bits != 0; bits &= bits - 1) {
+                groups.add(MUTUALLY_EXCLUSIVE_GROUPS.get(Integer.numberOfTrailingZeros(bits)));
+            }
+            return List.copyOf(groups);
+        }
+    }
+}
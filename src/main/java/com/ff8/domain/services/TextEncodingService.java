@@ -2,28 +2,31 @@ package com.ff8.domain.services;
 
 import com.ff8.domain.entities.SpellTranslations;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
 /**
- * Domain service for encoding and decoding text using Final Fantasy VIII's Caesar cipher algorithm.
+ * Domain service for encoding and decoding text with Final Fantasy VIII's font table.
  * 
  * <p>This service provides the core text encoding/decoding functionality required for processing
- * spell names and descriptions in FF8's kernel.bin format. The game uses a custom Caesar cipher
- * variant that applies different transformations to different character classes.</p>
- * 
- * <p>Caesar Cipher Algorithm Details:</p>
+ * spell names and descriptions in FF8's kernel.bin format and resource files. Every byte is a
+ * glyph index into the game's font; letters, digits and space follow what is often called the
+ * game's Caesar cipher:</p>
  * <ul>
  *   <li><strong>Uppercase letters (A-Z):</strong> Add 4 to ASCII value → Range (D-^)</li>
  *   <li><strong>Digits (0-9):</strong> Subtract 15 from ASCII value → Custom range</li>
  *   <li><strong>Lowercase letters (a-z):</strong> Subtract 2 from ASCII value → Range (_-x)</li>
- *   <li><strong>Other characters:</strong> Remain unchanged (spaces, punctuation, etc.)</li>
+ *   <li><strong>Other characters:</strong> Punctuation, accented letters, line breaks and
+ *       character names are looked up in the table of {@link FF8TextCodec}</li>
  * </ul>
  * 
  * <p>Key features:</p>
  * <ul>
  *   <li>Bidirectional encoding/decoding with perfect round-trip accuracy</li>
- *   <li>Character-by-character transformation preserving string length</li>
  *   <li>Validation functions for text compatibility checking</li>
  *   <li>Multi-language resource file parsing support</li>
  *   <li>Null-terminated string extraction from binary data</li>
+ *   <li>All encoding and decoding through {@link FF8TextCodec}, so exported text reads back unchanged</li>
  * </ul>
  * 
  * <p>The service is used throughout the application for:</p>
@@ -53,108 +56,91 @@ import com.ff8.domain.entities.SpellTranslations;
  * @since 1.0
  */
 public class TextEncodingService {
+    private static final int MAX_STRING_LENGTH = 100;
     
     /**
-     * Encodes text using FF8's Caesar cipher algorithm.
+     * Encodes text with FF8's character table.
      * 
-     * <p>This method applies the Caesar cipher transformation used by Final Fantasy VIII
-     * to encode spell names and descriptions. The encoding is the inverse operation
-     * of {@link #decipherCaesarCode(String)} and ensures perfect round-trip accuracy.</p>
+     * <p>The encoding is the inverse operation of {@link #decipherCaesarCode(String)} and
+     * ensures perfect round-trip accuracy. Each character of the result holds one stored
+     * byte (0-255), so the result can be written with ISO-8859-1.</p>
      * 
      * <p>Character transformation rules:</p>
      * <ul>
      *   <li><strong>Uppercase letters (A-Z):</strong> Add 4 to get encoded range (D-^)</li>
      *   <li><strong>Digits (0-9):</strong> Subtract 15 with proper handling of range</li>
      *   <li><strong>Lowercase letters (a-z):</strong> Subtract 2 to get encoded range (_-x)</li>
-     *   <li><strong>Other characters:</strong> Remain unchanged (spaces, punctuation)</li>
+     *   <li><strong>Other characters:</strong> Encoded as described in {@link FF8TextCodec}</li>
      * </ul>
      * 
-     * <p>The encoded text maintains the same length as the original and can be
-     * safely stored in the FF8 kernel.bin format.</p>
+     * <p>Tokens such as {@code "{Squall}"} collapse to two bytes, so the result can be
+     * shorter than the input.</p>
      * 
      * @param plainText The plain text to encode, may be null or empty
-     * @return The encoded text using FF8's Caesar cipher, or the original text if null/empty
+     * @return The encoded text, or the original text if null/empty
      */
     public String encipherCaesarCode(String plainText) {
         if (plainText == null || plainText.isEmpty()) {
             return plainText;
         }
-        
-        StringBuilder encrypted = new StringBuilder();
-        
-        for (char c : plainText.toCharArray()) {
-            char encryptedChar = c;
-            
-            if (c >= 'A' && c <= 'Z') {
-                // Uppercase: Add 4 (A-Z → D-^)
-                encryptedChar = (char) (c + 4);
-            } else if (c >= '0' && c <= '9') {
-                // Digits: Subtract 15 (with wraparound)
-                // This maps 0-9 to some other range - need to check the exact mapping
-                encryptedChar = (char) (c - 15);
-            } else if (c >= 'a' && c <= 'z') {
-                // Lowercase: Subtract 2 (a-z → _-x)
-                encryptedChar = (char) (c - 2);
-            }
-            // Other characters (spaces, punctuation) remain unchanged
-            
-            encrypted.append(encryptedChar);
-        }
-        
-        return encrypted.toString();
+        return new String(FF8TextCodec.getInstance().encode(plainText), StandardCharsets.ISO_8859_1);
     }
     
     /**
-     * Validates text compatibility with the Caesar cipher encoding scheme.
+     * Encodes text with the full character table, straight into a buffer.
+     * 
+     * <p>Letters, digits and punctuation are encoded exactly like
+     * {@link #encipherCaesarCode(String)}. Accented letters, line breaks and tokens
+     * such as {@code "{Squall}"} are encoded as described in {@link FF8TextCodec}. No
+     * null terminator is written and the buffer's position is not changed.</p>
+     * 
+     * @param text The plain text to encode
+     * @param target The destination buffer
+     * @param offset The absolute offset of the first encoded byte
+     * @return The number of bytes written
+     */
+    public int encodeText(String text, ByteBuffer target, int offset) {
+        return text == null ? 0 : FF8TextCodec.getInstance().encode(text, target, offset);
+    }
+    
+    /**
+     * Validates text compatibility with FF8's character table.
      * 
      * <p>This method checks whether the provided text can be safely encoded
-     * using the Caesar cipher without causing issues in the binary format.
+     * with the game's font table without causing issues in the binary format.
      * It validates character ranges and identifies potentially problematic
      * characters that might not encode/decode properly.</p>
      * 
      * <p>Validation criteria:</p>
      * <ul>
-     *   <li>All characters must be within printable ASCII range (32-126)</li>
-     *   <li>No control characters or extended ASCII characters</li>
-     *   <li>Characters must be compatible with the transformation rules</li>
+     *   <li>Every character must exist in the font table of {@link FF8TextCodec}:
+     *       letters, digits, the game's punctuation, accented letters and symbols</li>
+     *   <li>Line breaks and special tokens such as {@code "{Squall}"} are accepted</li>
+     *   <li>Other control characters are rejected</li>
      * </ul>
      * 
      * @param text The text to validate, null is considered valid
      * @return true if the text can be safely encoded, false if there are compatibility issues
      */
     public boolean isTextCompatibleWithEncoding(String text) {
-        if (text == null) {
-            return true;
-        }
-        
-        for (char c : text.toCharArray()) {
-            // Check for characters that might cause encoding issues
-            if (c < 32 || c > 126) {
-                // Non-printable ASCII characters might cause issues
-                return false;
-            }
-        }
-        
-        return true;
+        return FF8TextCodec.getInstance().canEncode(text);
     }
     
     /**
-     * Calculates the encoded length of text for layout and storage planning.
+     * Calculates the exact number of bytes text occupies in a resource file.
      * 
-     * <p>Since the Caesar cipher performs a 1:1 character mapping without
-     * adding or removing characters, the encoded length is always the same
-     * as the original text length. This method is provided for API completeness
-     * and future extensibility.</p>
+     * <p>Accounts for tokens that collapse to short byte sequences, such as
+     * {@code "{Squall}"}. No bytes are produced.</p>
      * 
      * @param text The text to measure, null returns 0
-     * @return The length after encoding (same as original for Caesar cipher)
+     * @return The encoded length without the null terminator
      */
     public int getEncodedLength(String text) {
-        return text != null ? text.length() : 0;
+        return FF8TextCodec.getInstance().encodedLength(text);
     }
     
     /**
-     * Checks if a character would be modified by the Caesar cipher encoding.
+     * Checks if a character would be stored as a different byte value.
      * 
      * <p>This method determines whether a specific character falls into one
      * of the transformation categories and would be altered during encoding.
@@ -164,16 +150,15 @@ public class TextEncodingService {
      * @return true if the character would be modified, false if it remains unchanged
      */
     public boolean isCharacterEncoded(char c) {
-        return (c >= 'A' && c <= 'Z') || 
-               (c >= '0' && c <= '9') || 
-               (c >= 'a' && c <= 'z');
+        byte[] encoded = FF8TextCodec.getInstance().encode(String.valueOf(c));
+        return encoded.length != 1 || (encoded[0] & 0xFF) != c;
     }
 
     /**
-     * Decodes text using FF8's Caesar cipher algorithm.
+     * Decodes text with FF8's character table.
      * 
      * <p>This method performs the inverse operation of {@link #encipherCaesarCode(String)},
-     * decoding text that was encoded using the FF8 Caesar cipher. It applies the
+     * decoding text that was encoded with the FF8 character table. It applies the
      * reverse transformations to restore the original text.</p>
      * 
      * <p>Character transformation rules (reverse of encoding):</p>
@@ -181,9 +166,12 @@ public class TextEncodingService {
      *   <li><strong>Range (D-^):</strong> Subtract 4 to restore uppercase letters (A-Z)</li>
      *   <li><strong>Digit range:</strong> Add 15 to restore digits (0-9)</li>
      *   <li><strong>Range (_-x):</strong> Add 2 to restore lowercase letters (a-z)</li>
-     *   <li><strong>Other characters:</strong> Remain unchanged</li>
+     *   <li><strong>Other bytes:</strong> Decoded as described in {@link FF8TextCodec}</li>
      * </ul>
      * 
+     * <p>Each character of the input is one stored byte, as produced by
+     * {@link #encipherCaesarCode(String)}; decoding stops at a null character.</p>
+     * 
      * @param encryptedText The encrypted text to decode, may be null or empty
      * @return The decoded plain text, or the original text if null/empty
      */
@@ -191,28 +179,23 @@ public class TextEncodingService {
         if (encryptedText == null || encryptedText.isEmpty()) {
             return encryptedText;
         }
-        
-        StringBuilder decrypted = new StringBuilder();
-        
-        for (char c : encryptedText.toCharArray()) {
-            char decryptedChar = c;
-            
-            if (c >= 'D' && c <= '^') {
-                // Uppercase: Subtract 4 (reverse of +4 in encoding)
-                decryptedChar = (char) (c - 4);
-            } else if (c >= '0' && c <= '9') {
-                // Digits: Add 15 (reverse of -15 in encoding)
-                decryptedChar = (char) (c + 15);
-            } else if (c >= '_' && c <= 'x') {
-                // Lowercase: Add 2 (reverse of -2 in encoding)
-                decryptedChar = (char) (c + 2);
-            }
-            // Other characters (spaces, punctuation) remain unchanged
-            
-            decrypted.append(decryptedChar);
-        }
-        
-        return decrypted.toString();
+        byte[] encoded = encryptedText.getBytes(StandardCharsets.ISO_8859_1);
+        return FF8TextCodec.getInstance().decode(encoded, 0, encoded.length);
+    }
+    
+    /**
+     * Decodes a null-terminated string with the full character table.
+     * 
+     * <p>The inverse of {@link #encodeText(String, ByteBuffer, int)}. The
+     * buffer's position is not changed.</p>
+     * 
+     * @param binaryData The buffer holding the encoded text
+     * @param offset The absolute offset where the string starts
+     * @param maxLength The number of bytes to read when no terminator is found
+     * @return The decoded text, or empty string if the offset is out of range
+     */
+    public String decodeText(ByteBuffer binaryData, int offset, int maxLength) {
+        return FF8TextCodec.getInstance().decode(binaryData, offset, maxLength);
     }
 
     /**
@@ -240,19 +223,9 @@ public class TextEncodingService {
             return "";
         }
         
-        StringBuilder sb = new StringBuilder();
-        int maxLength = Math.min(100, binaryData.length - offset); // Limit to 100 chars for safety
-        
-        for (int i = 0; i < maxLength; i++) {
-            byte b = binaryData[offset + i];
-            if (b == 0) { // Null terminator
-                break;
-            }
-            // Convert byte to char (handling unsigned values)
-            sb.append((char) (b & 0xFF));
-        }
-        
-        return sb.toString();
+        int maxLength = Math.min(MAX_STRING_LENGTH, binaryData.length - offset); // Limit for safety
+        int end = FF8TextCodec.indexOfTerminator(binaryData, offset, offset + maxLength);
+        return new String(binaryData, offset, end - offset, StandardCharsets.ISO_8859_1);
     }
 
     /**
@@ -260,18 +233,18 @@ public class TextEncodingService {
      * 
      * <p>This method processes binary resource files that contain spell names
      * and descriptions in various languages. Each entry consists of a spell name
-     * followed by a description, both encoded with the Caesar cipher and
+     * followed by a description, both encoded with the FF8 font table and
      * null-terminated within fixed-length fields.</p>
      * 
      * <p>Resource file format:</p>
      * <ul>
      *   <li>Fixed entry size: {@code maxNameLength + maxDescLength}</li>
      *   <li>Each entry: [name][null padding][description][null padding]</li>
-     *   <li>All text is encoded with Caesar cipher</li>
+     *   <li>All text is encoded with the table of {@link FF8TextCodec}</li>
      *   <li>Sequential entries for each spell</li>
      * </ul>
      * 
-     * <p>The method automatically decodes the Caesar cipher and creates
+     * <p>The method decodes the text with the same codec the exporters use and creates
      * {@link SpellTranslations.Translation} objects for each spell.</p>
      * 
      * @param resourceData The binary data from the language resource file
@@ -289,18 +262,17 @@ public class TextEncodingService {
             return translations;
         }
         
+        FF8TextCodec codec = FF8TextCodec.getInstance();
         int offset = 0;
         int entrySize = maxNameLength + maxDescLength; // Each entry has name + description
         
         for (int i = 0; i < spellCount && offset < resourceData.length; i++) {
-            // Extract spell name
-            String encryptedName = extractNullTerminatedString(resourceData, offset);
-            String spellName = decipherCaesarCode(encryptedName);
+            // Extract and decode spell name
+            String spellName = codec.decode(resourceData, offset, MAX_STRING_LENGTH);
             offset += maxNameLength;
             
-            // Extract spell description
-            String encryptedDescription = extractNullTerminatedString(resourceData, offset);
-            String spellDescription = decipherCaesarCode(encryptedDescription);
+            // Extract and decode spell description
+            String spellDescription = codec.decode(resourceData, offset, MAX_STRING_LENGTH);
             offset += maxDescLength;
             
             translations.put(i, new SpellTranslations.Translation(spellName, spellDescription));
@@ -0,0 +1,162 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.Language;
+
+import java.util.*;
+
+/**
+ * Encoded lengths of every spell text in every language, measured in one pass.
+ *
+ * <p>Lengths come from {@link FF8TextCodec#encodedLength(CharSequence)}, which walks the
+ * encoder without producing bytes or strings. They are kept in flat {@code int[]} tables
+ * indexed by spell position and {@link Language#ordinal()}, so layout and export
+ * validation read them without boxing or map lookups.</p>
+ *
+ * <p>Spells are ordered by index. A language a spell has no translation for reads as
+ * the English text, which is what the resource files will contain.</p>
+ */
+public final class TextMeasurements {
+    private static final int LANGUAGE_COUNT = Language.values().length;
+    private static final int MISSING = -1;
+
+    private final int[] spellIndices;
+    private final Set<Language> languages;
+    private final int[] nameLengths;
+    private final int[] descriptionLengths;
+    private final int[] nameSlotLengths;
+    private final int[] descriptionSlotLengths;
+
+    private TextMeasurements(int[] spellIndices, Set<Language> languages, int[] nameLengths, int[] descriptionLengths,
+                             int[] nameSlotLengths, int[] descriptionSlotLengths) {
+        this.spellIndices = spellIndices;
+        this.languages = Collections.unmodifiableSet(languages);
+        this.nameLengths = nameLengths;
+        this.descriptionLengths = descriptionLengths;
+        this.nameSlotLengths = nameSlotLengths;
+        this.descriptionSlotLengths = descriptionSlotLengths;
+    }
+
+    /**
+     * Measure all translations, each in its own language's character table.
+     *
+     * @param spellTranslations Map of spell index to translations; null translations count as empty
+     * @return The measurements, with English always among the languages
+     */
+    public static TextMeasurements measure(Map<Integer, SpellTranslations> spellTranslations) {
+        int[] spellIndices = spellTranslations.keySet().stream().mapToInt(Integer::intValue).sorted().toArray();
+        int[] nameLengths = new int[spellIndices.length * LANGUAGE_COUNT];
+        int[] descriptionLengths = new int[spellIndices.length * LANGUAGE_COUNT];
+        int[] nameSlotLengths = new int[spellIndices.length];
+        int[] descriptionSlotLengths = new int[spellIndices.length];
+        Arrays.fill(nameLengths, MISSING);
+        Arrays.fill(descriptionLengths, MISSING);
+
+        Set<Language> languages = new LinkedHashSet<>();
+        languages.add(Language.ENGLISH);
+
+        FF8TextCodec codec = FF8TextCodec.getInstance();
+        for (int position = 0; position < spellIndices.length; position++) {
+            SpellTranslations translations = spellTranslations.get(spellIndices[position]);
+            int maxName = 0;
+            int maxDescription = 0;
+
+            if (translations != null) {
+                for (Map.Entry<String, SpellTranslations.Translation> entry : translations.getAllTranslations().entrySet()) {
+                    Language language = Language.fromDisplayName(entry.getKey());
+                    languages.add(language);
+
+                    int name = codec.encodedLength(entry.getValue().getName());
+                    int description = codec.encodedLength(entry.getValue().getDescription());
+
+                    // Unknown language names fall back to English; keep the longest text in that case
+                    int cell = position * LANGUAGE_COUNT + language.ordinal();
+                    nameLengths[cell] = Math.max(nameLengths[cell], name);
+                    descriptionLengths[cell] = Math.max(descriptionLengths[cell], description);
+                    maxName = Math.max(maxName, name);
+                    maxDescription = Math.max(maxDescription, description);
+                }
+            }
+
+            nameSlotLengths[position] = maxName + 1; // +1 for null terminator
+            descriptionSlotLengths[position] = maxDescription + 1;
+        }
+
+        return new TextMeasurements(spellIndices, languages, nameLengths, descriptionLengths,
+                                    nameSlotLengths, descriptionSlotLengths);
+    }
+
+    public int getSpellCount() {
+        return spellIndices.length;
+    }
+
+    /**
+     * Get the spell index at a position; positions are in ascending index order
+     */
+    public int getSpellIndex(int position) {
+        return spellIndices[position];
+    }
+
+    /**
+     * Get the languages that have at least one translation, English first
+     */
+    public Set<Language> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Check whether the spell has its own translation in the language
+     */
+    public boolean hasTranslation(int position, Language language) {
+        return nameLengths[position * LANGUAGE_COUNT + language.ordinal()] != MISSING;
+    }
+
+    /**
+     * Get the encoded name length in a language, without terminator, falling back to English
+     */
+    public int getEncodedNameLength(int position, Language language) {
+        return lengthOrEnglish(nameLengths, position, language);
+    }
+
+    /**
+     * Get the encoded description length in a language, without terminator, falling back to English
+     */
+    public int getEncodedDescriptionLength(int position, Language language) {
+        return lengthOrEnglish(descriptionLengths, position, language);
+    }
+
+    /**
+     * Get the bytes every language file needs for the spell's name, including the terminator
+     */
+    public int getNameSlotLength(int position) {
+        return nameSlotLengths[position];
+    }
+
+    /**
+     * Get the bytes every language file needs for the spell's description, including the terminator
+     */
+    public int getDescriptionSlotLength(int position) {
+        return descriptionSlotLengths[position];
+    }
+
+    /**
+     * Get the size of a language's texts stored back to back, each with its terminator
+     */
+    public long getUnpaddedTextSize(Language language) {
+        long size = 0;
+        for (int position = 0; position < spellIndices.length; position++) {
+            size += getEncodedNameLength(position, language) + 1;
+            size += getEncodedDescriptionLength(position, language) + 1;
+        }
+        return size;
+    }
+
+    private int lengthOrEnglish(int[] lengths, int position, Language language) {
+        int base = position * LANGUAGE_COUNT;
+        int length = lengths[base + language.ordinal()];
+        if (length == MISSING) {
+            length = lengths[base + Language.ENGLISH.ordinal()];
+        }
+        return Math.max(length, 0);
+    }
+}
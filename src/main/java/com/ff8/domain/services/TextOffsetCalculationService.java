@@ -3,18 +3,67 @@ package com.ff8.domain.services;
 import com.ff8.domain.entities.SpellTranslations;
 import com.ff8.domain.entities.enums.Language;
 
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
  * Service for calculating text offsets in contiguous layout for multi-language resource files.
  * Ensures consistent positioning across all language files as required by FF8 format.
+ * 
+ * <p>Two layout modes are available. {@link LayoutMode#FIXED_SLOTS} gives every spell its own
+ * name and description slot. {@link LayoutMode#SHARED_TEXT} stores identical texts once and
+ * places texts that are the tail of another text inside it, so several offsets point into
+ * one stored string. Because the binary holds a single offset per text for all languages,
+ * texts are only shared when the sharing works in every language file.</p>
  */
 public class TextOffsetCalculationService {
     
     private static final int BINARY_OFFSET_ADJUSTMENT = 511 + 1584; // 511 is the offset for the last spell description, 1584 is the offset for the last spell name (Official English Kernel)
     
     /**
-     * Represents the layout information for a single spell's text data
+     * How texts are placed in the resource files
+     */
+    public enum LayoutMode {
+        /** One name slot and one description slot per spell, in spell order */
+        FIXED_SLOTS,
+        /** Identical texts are stored once and tails are merged into longer texts */
+        SHARED_TEXT
+    }
+    
+    /**
+     * The text of a spell stored in a block
+     */
+    public enum TextField {
+        NAME,
+        DESCRIPTION
+    }
+    
+    /**
+     * A stored, null-padded text region of the resource files.
+     * Every language file holds the owning spell's text for that language at the same offset.
+     */
+    public static class TextBlock {
+        private final int offset;
+        private final int length;
+        private final int spellIndex;
+        private final TextField field;
+        
+        public TextBlock(int offset, int length, int spellIndex, TextField field) {
+            this.offset = offset;
+            this.length = length;
+            this.spellIndex = spellIndex;
+            this.field = field;
+        }
+        
+        public int getOffset() { return offset; }
+        public int getLength() { return length; }
+        public int getSpellIndex() { return spellIndex; }
+        public TextField getField() { return field; }
+    }
+    
+    /**
+     * Represents the layout information for a single spell's text data.
+     * The maximum lengths are the bytes available from each offset to the end of its block.
      */
     public static class SpellTextLayout {
         private final int nameOffset;
@@ -56,133 +105,252 @@ public class TextOffsetCalculationService {
         private final Map<Integer, SpellTextLayout> spellLayouts;
         private final Set<Language> requiredLanguages;
         private final int totalFileSize;
+        private final List<TextBlock> textBlocks;
         
+        /**
+         * Creates a fixed-slot layout; every name and description is its own block.
+         */
         public TextLayoutResult(Map<Integer, SpellTextLayout> spellLayouts, Set<Language> requiredLanguages, int totalFileSize) {
+            this(spellLayouts, requiredLanguages, totalFileSize, fixedSlotBlocks(spellLayouts));
+        }
+        
+        public TextLayoutResult(Map<Integer, SpellTextLayout> spellLayouts, Set<Language> requiredLanguages, 
+                                int totalFileSize, List<TextBlock> textBlocks) {
             this.spellLayouts = Collections.unmodifiableMap(spellLayouts);
             this.requiredLanguages = Collections.unmodifiableSet(requiredLanguages);
             this.totalFileSize = totalFileSize;
+            this.textBlocks = List.copyOf(textBlocks);
+        }
+        
+        private static List<TextBlock> fixedSlotBlocks(Map<Integer, SpellTextLayout> spellLayouts) {
+            List<TextBlock> blocks = new ArrayList<>(spellLayouts.size() * 2);
+            spellLayouts.forEach((spellIndex, layout) -> {
+                blocks.add(new TextBlock(layout.getNameOffset(), layout.getMaxNameLength(), spellIndex, TextField.NAME));
+                blocks.add(new TextBlock(layout.getDescriptionOffset(), layout.getMaxDescriptionLength(), 
+                                         spellIndex, TextField.DESCRIPTION));
+            });
+            blocks.sort(Comparator.comparingInt(TextBlock::getOffset));
+            return blocks;
         }
         
         public Map<Integer, SpellTextLayout> getSpellLayouts() { return spellLayouts; }
         public Set<Language> getRequiredLanguages() { return requiredLanguages; }
         public int getTotalFileSize() { return totalFileSize; }
         
+        /**
+         * Get the stored text regions in offset order; together they cover the whole file
+         */
+        public List<TextBlock> getTextBlocks() { return textBlocks; }
+        
         public SpellTextLayout getLayoutForSpell(int spellIndex) {
             return spellLayouts.get(spellIndex);
         }
     }
     
-    private final TextEncodingService textEncodingService;
+    /**
+     * Calculate the complete text layout for all spells and languages.
+     * The translations are measured once and the slots are placed from those measurements.
+     * 
+     * @param spellTranslations Map of spell index to translations
+     * @return Complete layout information for all spells and languages
+     */
+    public TextLayoutResult calculateTextLayout(Map<Integer, SpellTranslations> spellTranslations) {
+        return calculateTextLayout(spellTranslations, LayoutMode.FIXED_SLOTS);
+    }
     
-    public TextOffsetCalculationService(TextEncodingService textEncodingService) {
-        this.textEncodingService = textEncodingService;
+    /**
+     * Calculate the complete text layout in the given mode.
+     * 
+     * @param spellTranslations Map of spell index to translations
+     * @param mode Whether to give every text its own slot or to share identical texts and tails
+     * @return Complete layout information for all spells and languages
+     */
+    public TextLayoutResult calculateTextLayout(Map<Integer, SpellTranslations> spellTranslations, LayoutMode mode) {
+        return calculateTextLayout(spellTranslations, TextMeasurements.measure(spellTranslations), mode);
     }
     
     /**
-     * Calculate the complete text layout for all spells and languages.
-     * This implements the two-pass algorithm described in the implementation plan.
+     * Calculate the layout from measurements taken earlier, e.g. during export validation.
      * 
      * @param spellTranslations Map of spell index to translations
+     * @param measurements Encoded lengths of exactly these translations
+     * @param mode Whether to give every text its own slot or to share identical texts and tails
      * @return Complete layout information for all spells and languages
      */
-    public TextLayoutResult calculateTextLayout(Map<Integer, SpellTranslations> spellTranslations) {
+    public TextLayoutResult calculateTextLayout(Map<Integer, SpellTranslations> spellTranslations, 
+                                                TextMeasurements measurements, LayoutMode mode) {
         if (spellTranslations.isEmpty()) {
             return new TextLayoutResult(Collections.emptyMap(), Collections.emptySet(), 0);
         }
         
-        // Pass 1: Analysis - determine maximum lengths and required languages
-        AnalysisResult analysis = analyzeTranslations(spellTranslations);
-        
-        // Pass 2: Layout - calculate final positioning
-        return generateLayout(spellTranslations, analysis);
+        return mode == LayoutMode.SHARED_TEXT
+            ? generateSharedLayout(spellTranslations, measurements)
+            : generateLayout(measurements);
     }
     
     /**
-     * Analysis result from the first pass
+     * Place fixed slots back to back in spell order; offsets are prefix sums of the slot lengths
      */
-    private static class AnalysisResult {
-        final Set<Language> requiredLanguages;
-        final Map<Integer, Integer> maxNameLengths;
-        final Map<Integer, Integer> maxDescriptionLengths;
+    private TextLayoutResult generateLayout(TextMeasurements measurements) {
+        int spellCount = measurements.getSpellCount();
+        int[] nameOffsets = new int[spellCount];
+        int[] descriptionOffsets = new int[spellCount];
         
-        AnalysisResult(Set<Language> requiredLanguages, 
-                      Map<Integer, Integer> maxNameLengths, 
-                      Map<Integer, Integer> maxDescriptionLengths) {
-            this.requiredLanguages = requiredLanguages;
-            this.maxNameLengths = maxNameLengths;
-            this.maxDescriptionLengths = maxDescriptionLengths;
+        int currentOffset = 0;
+        for (int position = 0; position < spellCount; position++) {
+            nameOffsets[position] = currentOffset;
+            descriptionOffsets[position] = currentOffset + measurements.getNameSlotLength(position);
+            currentOffset = descriptionOffsets[position] + measurements.getDescriptionSlotLength(position);
         }
+        
+        Map<Integer, SpellTextLayout> spellLayouts = new LinkedHashMap<>();
+        for (int position = 0; position < spellCount; position++) {
+            spellLayouts.put(measurements.getSpellIndex(position), new SpellTextLayout(
+                nameOffsets[position], descriptionOffsets[position],
+                measurements.getNameSlotLength(position), measurements.getDescriptionSlotLength(position)));
+        }
+        
+        return new TextLayoutResult(spellLayouts, measurements.getLanguages(), currentOffset);
     }
     
     /**
-     * Pass 1: Analyze all translations to determine requirements
+     * Encoded text of one spell field in every required language
      */
-    private AnalysisResult analyzeTranslations(Map<Integer, SpellTranslations> spellTranslations) {
-        Set<Language> requiredLanguages = new LinkedHashSet<>();
-        Map<Integer, Integer> maxNameLengths = new HashMap<>();
-        Map<Integer, Integer> maxDescriptionLengths = new HashMap<>();
-        
-        // Always include English as primary language
-        requiredLanguages.add(Language.ENGLISH);
-        
-        for (Map.Entry<Integer, SpellTranslations> entry : spellTranslations.entrySet()) {
-            int spellIndex = entry.getKey();
-            SpellTranslations translations = entry.getValue();
-            
-            int maxNameLength = 0;
-            int maxDescLength = 0;
-            
-            // Analyze all translations for this spell
-            for (String languageName : translations.getAvailableLanguages()) {
-                Language language = Language.fromDisplayName(languageName);
-                requiredLanguages.add(language);
-                
-                SpellTranslations.Translation translation = translations.getTranslation(languageName).orElse(
-                    new SpellTranslations.Translation("", ""));
-                
-                // Calculate encoded lengths
-                String encodedName = textEncodingService.encipherCaesarCode(translation.getName());
-                String encodedDesc = textEncodingService.encipherCaesarCode(translation.getDescription());
-                
-                maxNameLength = Math.max(maxNameLength, encodedName.length() + 1); // +1 for null terminator
-                maxDescLength = Math.max(maxDescLength, encodedDesc.length() + 1); // +1 for null terminator
-            }
-            
-            maxNameLengths.put(spellIndex, maxNameLength);
-            maxDescriptionLengths.put(spellIndex, maxDescLength);
+    private static final class FieldText {
+        final int spellIndex;
+        final TextField field;
+        final List<ByteBuffer> encoded;
+        FieldText host;
+        int hostDelta;
+        
+        FieldText(int spellIndex, TextField field, List<ByteBuffer> encoded) {
+            this.spellIndex = spellIndex;
+            this.field = field;
+            this.encoded = encoded;
         }
         
-        return new AnalysisResult(requiredLanguages, maxNameLengths, maxDescriptionLengths);
+        /** Bytes needed to store the longest language version with its terminator */
+        int storedLength() {
+            int max = 0;
+            for (ByteBuffer text : encoded) {
+                max = Math.max(max, text.remaining());
+            }
+            return max + 1;
+        }
     }
     
     /**
-     * Pass 2: Generate the final layout with calculated offsets
+     * Pass 2 for {@link LayoutMode#SHARED_TEXT}: intern identical texts, merge tails, then place blocks.
+     * 
+     * <p>Tail merging sorts the distinct texts by their reversed primary-language bytes, which puts
+     * every text right before the texts it is a tail of, and tries each text against its successor.
+     * A text moves into its successor only if, in every language, it is a tail at the same
+     * distance from the start, so one offset is right for all language files.</p>
      */
-    private TextLayoutResult generateLayout(Map<Integer, SpellTranslations> spellTranslations, AnalysisResult analysis) {
-        Map<Integer, SpellTextLayout> spellLayouts = new LinkedHashMap<>();
+    private TextLayoutResult generateSharedLayout(Map<Integer, SpellTranslations> spellTranslations, 
+                                                  TextMeasurements measurements) {
+        List<Language> languages = new ArrayList<>(measurements.getLanguages());
+        int spellCount = measurements.getSpellCount();
+        
+        // Intern identical texts: the first field with a given text in all languages stores it
+        Map<List<ByteBuffer>, FieldText> distinct = new LinkedHashMap<>();
+        FieldText[][] fieldsBySpell = new FieldText[spellCount][];
+        for (int position = 0; position < spellCount; position++) {
+            int spellIndex = measurements.getSpellIndex(position);
+            FieldText[] fields = new FieldText[TextField.values().length];
+            for (TextField field : TextField.values()) {
+                FieldText text = encodeField(spellIndex, field, spellTranslations.get(spellIndex), languages);
+                fields[field.ordinal()] = distinct.computeIfAbsent(text.encoded, key -> text);
+            }
+            fieldsBySpell[position] = fields;
+        }
+        
+        // Merge tails, resolving chains from the longest texts backwards
+        List<FieldText> byReversedText = new ArrayList<>(distinct.values());
+        byReversedText.sort((a, b) -> compareReversed(a.encoded.get(0), b.encoded.get(0)));
+        for (int i = byReversedText.size() - 2; i >= 0; i--) {
+            FieldText tail = byReversedText.get(i);
+            FieldText next = byReversedText.get(i + 1);
+            int delta = commonTailDelta(tail, next);
+            if (delta >= 0) {
+                FieldText root = next.host != null ? next.host : next;
+                tail.host = root;
+                tail.hostDelta = delta + next.hostDelta;
+            }
+        }
         
+        // Place stored texts in spell order
+        Map<FieldText, Integer> offsets = new IdentityHashMap<>();
+        List<TextBlock> blocks = new ArrayList<>();
         int currentOffset = 0;
+        for (FieldText text : distinct.values()) {
+            if (text.host == null) {
+                int length = text.storedLength();
+                offsets.put(text, currentOffset);
+                blocks.add(new TextBlock(currentOffset, length, text.spellIndex, text.field));
+                currentOffset += length;
+            }
+        }
         
-        // Sort spell indices for consistent ordering
-        List<Integer> sortedSpellIndices = new ArrayList<>(spellTranslations.keySet());
-        Collections.sort(sortedSpellIndices);
-        
-        for (int spellIndex : sortedSpellIndices) {
-            int maxNameLength = analysis.maxNameLengths.get(spellIndex);
-            int maxDescLength = analysis.maxDescriptionLengths.get(spellIndex);
-            
-            // Calculate offsets for this spell
-            int nameOffset = currentOffset;
-            int descriptionOffset = currentOffset + maxNameLength;
-            
-            spellLayouts.put(spellIndex, new SpellTextLayout(
-                nameOffset, descriptionOffset, maxNameLength, maxDescLength));
-            
-            // Move to next spell position
-            currentOffset += maxNameLength + maxDescLength;
-        }
-        
-        return new TextLayoutResult(spellLayouts, analysis.requiredLanguages, currentOffset);
+        Map<Integer, SpellTextLayout> spellLayouts = new LinkedHashMap<>();
+        for (int position = 0; position < spellCount; position++) {
+            FieldText[] fields = fieldsBySpell[position];
+            FieldText name = fields[TextField.NAME.ordinal()];
+            FieldText description = fields[TextField.DESCRIPTION.ordinal()];
+            spellLayouts.put(measurements.getSpellIndex(position), new SpellTextLayout(
+                offsetOf(name, offsets), offsetOf(description, offsets), spanOf(name), spanOf(description)));
+        }
+        
+        return new TextLayoutResult(spellLayouts, measurements.getLanguages(), currentOffset, blocks);
+    }
+    
+    private FieldText encodeField(int spellIndex, TextField field, SpellTranslations translations, List<Language> languages) {
+        List<ByteBuffer> encoded = new ArrayList<>(languages.size());
+        for (Language language : languages) {
+            SpellTranslations.Translation translation = translations.getTranslationOrEnglish(language.getDisplayName());
+            String text = field == TextField.NAME ? translation.getName() : translation.getDescription();
+            encoded.add(ByteBuffer.wrap(FF8TextCodec.getInstance().encode(text == null ? "" : text)));
+        }
+        return new FieldText(spellIndex, field, List.copyOf(encoded));
+    }
+    
+    /**
+     * Distance from the start of the host to the tail if the tail is shared at the same distance
+     * in every language, or -1 if it cannot be shared
+     */
+    private static int commonTailDelta(FieldText tail, FieldText host) {
+        int delta = -1;
+        for (int i = 0; i < tail.encoded.size(); i++) {
+            ByteBuffer tailText = tail.encoded.get(i);
+            ByteBuffer hostText = host.encoded.get(i);
+            int languageDelta = hostText.remaining() - tailText.remaining();
+            if (languageDelta < 0 || (delta >= 0 && languageDelta != delta)
+                    || !hostText.slice(languageDelta, tailText.remaining()).equals(tailText)) {
+                return -1;
+            }
+            delta = languageDelta;
+        }
+        return delta;
+    }
+    
+    private static int compareReversed(ByteBuffer a, ByteBuffer b) {
+        int aLength = a.remaining();
+        int bLength = b.remaining();
+        for (int i = 1; i <= Math.min(aLength, bLength); i++) {
+            int cmp = Integer.compare(a.get(aLength - i) & 0xFF, b.get(bLength - i) & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(aLength, bLength);
+    }
+    
+    private static int offsetOf(FieldText text, Map<FieldText, Integer> offsets) {
+        return text.host == null ? offsets.get(text) : offsets.get(text.host) + text.hostDelta;
+    }
+    
+    private static int spanOf(FieldText text) {
+        return text.host == null ? text.storedLength() : text.host.storedLength() - text.hostDelta;
     }
     
     /**
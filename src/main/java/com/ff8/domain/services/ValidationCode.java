@@ -0,0 +1,90 @@
+package com.ff8.domain.services;
+
+/**
+ * Structured validation findings reported by the {@link ValidationRule}s.
+ *
+ * <p>Each code carries its severity, the rule that reports it and a message
+ * template. Findings store the code plus the offending value, so a catalog with
+ * thousands of findings holds no per-finding strings; messages are only formatted
+ * when displayed.</p>
+ */
+public enum ValidationCode {
+    // Field ranges
+    MAGIC_ID_OUT_OF_RANGE(Severity.ERROR, ValidationRule.FIELD_RANGES, "Magic ID must be 0-345"),
+    SPELL_POWER_OUT_OF_RANGE(Severity.ERROR, ValidationRule.FIELD_RANGES, "Spell power must be 0-255"),
+    HIT_COUNT_OUT_OF_RANGE(Severity.ERROR, ValidationRule.FIELD_RANGES, "Hit count must be 0-255"),
+    DRAW_RESIST_OUT_OF_RANGE(Severity.ERROR, ValidationRule.FIELD_RANGES, "Draw resist must be 0-255"),
+
+    // Business rules
+    CURATIVE_WITHOUT_POWER(Severity.ERROR, ValidationRule.BUSINESS_RULES, "Curative spells should have spell power > 0"),
+    MAGIC_ATTACK_WITHOUT_POWER(Severity.WARNING, ValidationRule.BUSINESS_RULES, "Magical spell with 0 power may not be effective"),
+    NO_EFFECTS(Severity.WARNING, ValidationRule.BUSINESS_RULES, "Spell has no effects, junction bonuses, or power"),
+    VERY_HIGH_HIT_COUNT(Severity.WARNING, ValidationRule.BUSINESS_RULES, "Very high hit count (%d) may cause performance issues"),
+
+    // Junction limits
+    EXCESSIVE_JUNCTION_BONUSES(Severity.ERROR, ValidationRule.JUNCTION_LIMITS, "Total junction stat bonuses seem excessive (>2000)"),
+
+    // Status effects
+    TOO_MANY_STATUS_EFFECTS(Severity.ERROR, ValidationRule.STATUS_EFFECTS, "Too many active status effects (%d > 10)"),
+    MUTUALLY_EXCLUSIVE_STATUS_EFFECTS(Severity.WARNING, ValidationRule.STATUS_EFFECTS, "Mutually exclusive status effects are active"),
+
+    // Export readiness of newly created spells
+    MISSING_TRANSLATIONS(Severity.ERROR, ValidationRule.EXPORT_READINESS, "No translations available"),
+    MISSING_ENGLISH_TRANSLATION(Severity.ERROR, ValidationRule.EXPORT_READINESS, "Missing English translation"),
+    EMPTY_ENGLISH_NAME(Severity.ERROR, ValidationRule.EXPORT_READINESS, "English spell name is empty"),
+    NAME_NOT_ENCODABLE(Severity.WARNING, ValidationRule.EXPORT_READINESS, "Name contains characters incompatible with FF8 text encoding"),
+    DESCRIPTION_NOT_ENCODABLE(Severity.WARNING, ValidationRule.EXPORT_READINESS, "Description contains characters incompatible with FF8 text encoding"),
+    UNSUPPORTED_MAGIC_ID(Severity.WARNING, ValidationRule.EXPORT_READINESS, "Magic ID %d is outside supported range (0-345)"),
+    UNUSUAL_SPELL_POWER(Severity.WARNING, ValidationRule.EXPORT_READINESS, "Spell power %d exceeds normal range (0-255)"),
+    UNUSUAL_HIT_COUNT(Severity.WARNING, ValidationRule.EXPORT_READINESS, "Hit count %d is unusually high"),
+    UNUSUAL_DRAW_RESIST(Severity.WARNING, ValidationRule.EXPORT_READINESS, "Draw resist %d exceeds normal range (0-255)"),
+
+    // Export texts across the newly created spells
+    MISSING_TRANSLATION(Severity.WARNING, ValidationRule.EXPORT_TEXTS, "Missing translation (English fallback will be used)"),
+    NAME_TOO_LONG(Severity.WARNING, ValidationRule.EXPORT_TEXTS, "Name is very long (%d characters)"),
+    DESCRIPTION_TOO_LONG(Severity.WARNING, ValidationRule.EXPORT_TEXTS, "Description is very long (%d characters)"),
+
+    // Catalog integrity
+    DUPLICATE_MAGIC_ID(Severity.ERROR, ValidationRule.CATALOG_INTEGRITY, "Magic ID %d is already used by an earlier entry");
+
+    /**
+     * How serious a finding is
+     */
+    public enum Severity {
+        /** The spell cannot be used or exported as is */
+        ERROR,
+        /** The spell works but is probably not what the author intended */
+        WARNING
+    }
+
+    private final Severity severity;
+    private final ValidationRule rule;
+    private final String messageTemplate;
+
+    ValidationCode(Severity severity, ValidationRule rule, String messageTemplate) {
+        this.severity = severity;
+        this.rule = rule;
+        this.messageTemplate = messageTemplate;
+    }
+
+    public Severity getSeverity() {
+        return severity;
+    }
+
+    public ValidationRule getRule() {
+        return rule;
+    }
+
+    public boolean isError() {
+        return severity == Severity.ERROR;
+    }
+
+    /**
+     * Format the message for a finding
+     *
+     * @param value The offending value; ignored by messages that do not show it
+     */
+    public String format(int value) {
+        return messageTemplate.indexOf('%') < 0 ? messageTemplate : String.format(messageTemplate, value);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.enums.Language;
+
+/**
+ * One finding of a validation run.
+ *
+ * @param spellIndex Kernel index of the spell concerned
+ * @param code What was found
+ * @param value The offending value, or 0 if the code does not show one
+ * @param language The translation concerned, or null if the finding is about the spell as a whole
+ */
+public record ValidationIssue(int spellIndex, ValidationCode code, int value, Language language) {
+
+    public ValidationIssue(int spellIndex, ValidationCode code, int value) {
+        this(spellIndex, code, value, null);
+    }
+
+    public boolean isError() {
+        return code.isError();
+    }
+
+    /**
+     * Format the message of the finding, without the spell or language
+     */
+    public String getMessage() {
+        return code.format(value);
+    }
+
+    @Override
+    public String toString() {
+        String subject = language == null ? "Spell " + spellIndex : "Spell " + spellIndex + " (" + language.getDisplayName() + ")";
+        return subject + ": " + getMessage() + " [" + code + "]";
+    }
+}
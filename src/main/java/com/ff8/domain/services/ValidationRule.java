@@ -0,0 +1,232 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Language;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The rule sets checked by {@link CatalogValidationEngine}, each reporting
+ * {@link ValidationCode}s.
+ *
+ * <p>Per-spell rules look at one spell at a time and report through an
+ * {@link IssueSink}; {@link MagicValidationService} runs the same checks for single
+ * spells. Catalog-wide rules compare spells with each other: the engine sweeps the
+ * magic IDs for {@link #CATALOG_INTEGRITY} itself, and hands {@link #EXPORT_TEXTS}
+ * the {@link TextMeasurements} of the newly created spells.</p>
+ *
+ * <p>{@link ExportValidationService} runs {@link #EXPORT_READINESS} and
+ * {@link #EXPORT_TEXTS} before every export.</p>
+ */
+public enum ValidationRule {
+
+    /** Value ranges of the record fields */
+    FIELD_RANGES {
+        @Override
+        public void check(MagicData magic, IssueSink sink) {
+            if (magic.getMagicID() < 0 || magic.getMagicID() > 345) {
+                sink.report(ValidationCode.MAGIC_ID_OUT_OF_RANGE, magic.getMagicID());
+            }
+            if (magic.getSpellPower() < 0 || magic.getSpellPower() > 255) {
+                sink.report(ValidationCode.SPELL_POWER_OUT_OF_RANGE, magic.getSpellPower());
+            }
+            if (magic.getHitCount() < 0 || magic.getHitCount() > 255) {
+                sink.report(ValidationCode.HIT_COUNT_OUT_OF_RANGE, magic.getHitCount());
+            }
+            if (magic.getDrawResist() < 0 || magic.getDrawResist() > 255) {
+                sink.report(ValidationCode.DRAW_RESIST_OUT_OF_RANGE, magic.getDrawResist());
+            }
+        }
+    },
+
+    /** Combinations of attack type, power and effects */
+    BUSINESS_RULES {
+        @Override
+        public void check(MagicData magic, IssueSink sink) {
+            AttackType attackType = magic.getAttackType();
+            if ((attackType == AttackType.CURATIVE_MAGIC || attackType == AttackType.CURATIVE_ITEM) && magic.getSpellPower() == 0) {
+                sink.report(ValidationCode.CURATIVE_WITHOUT_POWER, 0);
+            }
+            if (magic.getSpellPower() == 0 && (attackType == AttackType.MAGIC_ATTACK || attackType == AttackType.MAGIC_ATTACK_IGNORE_TARGET_SPR)) {
+                sink.report(ValidationCode.MAGIC_ATTACK_WITHOUT_POWER, 0);
+            }
+            if (!magic.hasStatusEffects() && !magic.hasJunctionBonuses() && magic.getSpellPower() == 0) {
+                sink.report(ValidationCode.NO_EFFECTS, 0);
+            }
+            if (magic.getHitCount() > 16) {
+                sink.report(ValidationCode.VERY_HIGH_HIT_COUNT, magic.getHitCount());
+            }
+        }
+    },
+
+    /** Reasonable junction stat bonuses */
+    JUNCTION_LIMITS {
+        @Override
+        public void check(MagicData magic, IssueSink sink) {
+            if (magic.getJunctionStats() != null && magic.getJunctionStats().getTotalBonuses() > 2000) {
+                sink.report(ValidationCode.EXCESSIVE_JUNCTION_BONUSES, magic.getJunctionStats().getTotalBonuses());
+            }
+        }
+    },
+
+    /** Number and combination of inflicted status effects */
+    STATUS_EFFECTS {
+        @Override
+        public void check(MagicData magic, IssueSink sink) {
+            if (!magic.hasStatusEffects()) {
+                return;
+            }
+            long statusBits = magic.getStatusEffects().getBits();
+            int activeCount = Long.bitCount(statusBits);
+            if (activeCount > 10) {
+                sink.report(ValidationCode.TOO_MANY_STATUS_EFFECTS, activeCount);
+            }
+            if (StatusEffectRules.SERVICE.hasExclusiveConflict(statusBits)) {
+                sink.report(ValidationCode.MUTUALLY_EXCLUSIVE_STATUS_EFFECTS, 0);
+            }
+        }
+    },
+
+    /** Texts and values of a newly created spell before export; kernel spells are skipped */
+    EXPORT_READINESS {
+        @Override
+        public void check(MagicData magic, IssueSink sink) {
+            if (!magic.isNewlyCreated()) {
+                return;
+            }
+            SpellTranslations translations = magic.getTranslations();
+            if (translations == null) {
+                sink.report(ValidationCode.MISSING_TRANSLATIONS, 0);
+                return;
+            }
+            if (!translations.hasLanguage("English")) {
+                sink.report(ValidationCode.MISSING_ENGLISH_TRANSLATION, 0);
+            } else {
+                SpellTranslations.Translation english = translations.getTranslation("English").orElse(null);
+                if (english == null || english.getName().trim().isEmpty()) {
+                    sink.report(ValidationCode.EMPTY_ENGLISH_NAME, 0);
+                }
+            }
+            FF8TextCodec codec = FF8TextCodec.getInstance();
+            for (Map.Entry<String, SpellTranslations.Translation> entry : translations.getAllTranslations().entrySet()) {
+                Language language = Language.fromDisplayName(entry.getKey());
+                if (!codec.canEncode(entry.getValue().getName())) {
+                    sink.report(ValidationCode.NAME_NOT_ENCODABLE, 0, language);
+                }
+                if (!codec.canEncode(entry.getValue().getDescription())) {
+                    sink.report(ValidationCode.DESCRIPTION_NOT_ENCODABLE, 0, language);
+                }
+            }
+
+            if (magic.getMagicID() < 0 || magic.getMagicID() > 345) {
+                sink.report(ValidationCode.UNSUPPORTED_MAGIC_ID, magic.getMagicID());
+            }
+            if (magic.getSpellPower() > 255) {
+                sink.report(ValidationCode.UNUSUAL_SPELL_POWER, magic.getSpellPower());
+            }
+            if (magic.getHitCount() > 16) {
+                sink.report(ValidationCode.UNUSUAL_HIT_COUNT, magic.getHitCount());
+            }
+            if (magic.getDrawResist() > 255) {
+                sink.report(ValidationCode.UNUSUAL_DRAW_RESIST, magic.getDrawResist());
+            }
+        }
+    },
+
+    /** Encoded text lengths and language coverage across the newly created spells */
+    EXPORT_TEXTS {
+        @Override
+        public boolean isCatalogWide() {
+            return true;
+        }
+
+        @Override
+        public void check(MagicData magic, IssueSink sink) {
+            // Evaluated on the measured texts, see checkTexts
+        }
+
+        @Override
+        public void checkTexts(TextMeasurements texts, Consumer<ValidationIssue> issues) {
+            for (int position = 0; position < texts.getSpellCount(); position++) {
+                int spellIndex = texts.getSpellIndex(position);
+                for (Language language : texts.getLanguages()) {
+                    if (!texts.hasTranslation(position, language)) {
+                        // A missing English text is an EXPORT_READINESS error already
+                        if (language != Language.ENGLISH) {
+                            issues.accept(new ValidationIssue(spellIndex, ValidationCode.MISSING_TRANSLATION, 0, language));
+                        }
+                        continue;
+                    }
+                    int nameLength = texts.getEncodedNameLength(position, language);
+                    if (nameLength > 100) {
+                        issues.accept(new ValidationIssue(spellIndex, ValidationCode.NAME_TOO_LONG, nameLength, language));
+                    }
+                    int descriptionLength = texts.getEncodedDescriptionLength(position, language);
+                    if (descriptionLength > 500) {
+                        issues.accept(new ValidationIssue(spellIndex, ValidationCode.DESCRIPTION_TOO_LONG, descriptionLength, language));
+                    }
+                }
+            }
+        }
+    },
+
+    /** Consistency between spells, such as unique magic IDs */
+    CATALOG_INTEGRITY {
+        @Override
+        public boolean isCatalogWide() {
+            return true;
+        }
+
+        @Override
+        public void check(MagicData magic, IssueSink sink) {
+            // Evaluated across the catalog by CatalogValidationEngine
+        }
+    };
+
+    /**
+     * Receives the findings of a rule for the spell being checked
+     */
+    @FunctionalInterface
+    public interface IssueSink {
+        /**
+         * @param code What was found
+         * @param value The offending value, or 0 if the code does not show one
+         * @param language The translation concerned, or null for the spell as a whole
+         */
+        void report(ValidationCode code, int value, Language language);
+
+        default void report(ValidationCode code, int value) {
+            report(code, value, null);
+        }
+    }
+
+    /**
+     * Check one spell, reporting every finding to the sink
+     */
+    public abstract void check(MagicData magic, IssueSink sink);
+
+    /**
+     * Check the measured texts of the newly created spells; only {@link #EXPORT_TEXTS} looks at them
+     *
+     * @param texts Encoded lengths of every translation, ordered by kernel index
+     * @param issues Receives the findings
+     */
+    public void checkTexts(TextMeasurements texts, Consumer<ValidationIssue> issues) {
+        // Per-spell rules have nothing to compare
+    }
+
+    /**
+     * Whether the rule compares spells with each other instead of checking them one by one
+     */
+    public boolean isCatalogWide() {
+        return false;
+    }
+
+    // Holder, so the enum constants can share one stateless service
+    private static final class StatusEffectRules {
+        static final StatusEffectService SERVICE = new StatusEffectService();
+    }
+}
@@ -5,26 +5,36 @@ import com.ff8.application.ports.secondary.BinaryParserPort;
 import com.ff8.domain.entities.MagicData;
 import com.ff8.domain.services.TextOffsetCalculationService;
 import com.ff8.domain.exceptions.BinaryParseException;
+import com.ff8.infrastructure.adapters.secondary.filesystem.ReplacementFiles;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
-import java.util.List;
 
 /**
  * Infrastructure adapter for generating binary files containing newly created magic data.
  * Uses the existing binary parser to serialize magic data with calculated text offsets.
+ * 
+ * <p>The whole file is assembled in one direct buffer sized by
+ * {@link #calculateBinaryFileSize(Collection)}. Text offsets are patched into each
+ * record in place, so no intermediate {@link MagicData} copies are built. The buffer
+ * is written to a sibling temp file that then replaces the output atomically, so a
+ * failed export never leaves a truncated file behind.</p>
  */
 public class BinaryExportAdapter implements BinaryExportPort {
     
     private static final Logger logger = LoggerFactory.getLogger(BinaryExportAdapter.class);
     private static final int MAGIC_STRUCT_SIZE = 60; // 60 bytes per magic structure
+    private static final int NAME_OFFSET_FIELD = 0x00;
+    private static final int DESCRIPTION_OFFSET_FIELD = 0x02;
     
     private final BinaryParserPort binaryParser;
     
@@ -49,35 +59,28 @@ public class BinaryExportAdapter implements BinaryExportPort {
                 logger.debug("Created parent directory: {}", parentDir);
             }
             
-            // Update magic data with calculated text offsets
-            List<MagicData> updatedMagicList = new ArrayList<>();
+            // Serialize every spell into one buffer, patching text offsets in place
+            ByteBuffer buffer = ByteBuffer.allocateDirect(Math.toIntExact(calculateBinaryFileSize(newlyCreatedMagic)))
+                .order(ByteOrder.LITTLE_ENDIAN);
             for (MagicData magic : newlyCreatedMagic) {
-                MagicData updatedMagic = updateMagicWithTextOffsets(magic, textLayout);
-                updatedMagicList.add(updatedMagic);
-            }
-            
-            // Generate binary content
-            long totalBytesWritten = 0;
-            try (FileOutputStream fos = new FileOutputStream(outputFile.toFile())) {
-                
-                for (MagicData magic : updatedMagicList) {
-                    byte[] magicBytes = binaryParser.serializeMagicData(magic);
-                    fos.write(magicBytes);
-                    totalBytesWritten += magicBytes.length;
-                    
-                    logger.debug("Serialized magic {} (index {}): {} bytes", 
-                        magic.getSpellName(), magic.getIndex(), magicBytes.length);
-                }
+                int recordOffset = buffer.position();
+                binaryParser.serializeMagicData(magic, buffer, recordOffset);
+                buffer.position(recordOffset + MAGIC_STRUCT_SIZE);
+                patchTextOffsets(buffer, recordOffset, magic, textLayout);
                 
-                fos.flush();
+                logger.debug("Serialized magic {} (index {}) at offset {}", 
+                    magic.getSpellName(), magic.getIndex(), recordOffset);
             }
+            buffer.flip();
+            
+            long totalBytesWritten = writeAtomically(buffer, outputFile);
             
             long duration = System.currentTimeMillis() - startTime;
             logger.info("Successfully generated binary file: {} bytes, {} spells in {} ms", 
-                totalBytesWritten, updatedMagicList.size(), duration);
+                totalBytesWritten, newlyCreatedMagic.size(), duration);
             
             return new BinaryGenerationResult(
-                true, outputFile, null, totalBytesWritten, updatedMagicList.size(), duration);
+                true, outputFile, null, totalBytesWritten, newlyCreatedMagic.size(), duration);
             
         } catch (BinaryParseException e) {
             String error = "Binary serialization error: " + e.getMessage();
@@ -99,6 +102,45 @@ public class BinaryExportAdapter implements BinaryExportPort {
         }
     }
     
+    /**
+     * Overwrite the text pointers of a serialized record with the offsets from the layout.
+     * Records without a layout keep the offsets they were serialized with.
+     */
+    private void patchTextOffsets(ByteBuffer buffer, int recordOffset, MagicData magic,
+                                  TextOffsetCalculationService.TextLayoutResult textLayout) {
+        TextOffsetCalculationService.SpellTextLayout spellLayout = textLayout.getLayoutForSpell(magic.getIndex());
+        if (spellLayout == null) {
+            logger.warn("No text layout found for spell index {}, using original offsets", magic.getIndex());
+            return;
+        }
+        buffer.putShort(recordOffset + NAME_OFFSET_FIELD, (short) spellLayout.getBinaryNameOffset());
+        buffer.putShort(recordOffset + DESCRIPTION_OFFSET_FIELD, (short) spellLayout.getBinaryDescriptionOffset());
+    }
+    
+    /**
+     * Write the buffer to a temp file next to the target, then move it over the target.
+     * The temp file carries the target's permissions, so replacing an export keeps them.
+     * 
+     * @return Number of bytes written
+     */
+    private long writeAtomically(ByteBuffer buffer, Path outputFile) throws IOException {
+        Path absoluteOutput = outputFile.toAbsolutePath();
+        Path tempFile = ReplacementFiles.createFor(absoluteOutput);
+        try {
+            long bytesWritten = 0;
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    bytesWritten += channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            ReplacementFiles.moveOver(tempFile, absoluteOutput);
+            return bytesWritten;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+    
     @Override
     public MagicData updateMagicWithTextOffsets(
             MagicData magicData,
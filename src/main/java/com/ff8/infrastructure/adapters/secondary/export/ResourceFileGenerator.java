@@ -3,21 +3,35 @@ package com.ff8.infrastructure.adapters.secondary.export;
 import com.ff8.application.ports.secondary.ResourceFileGeneratorPort;
 import com.ff8.domain.entities.SpellTranslations;
 import com.ff8.domain.entities.enums.Language;
+import com.ff8.domain.services.FF8TextCodec;
 import com.ff8.domain.services.TextEncodingService;
 import com.ff8.domain.services.TextOffsetCalculationService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Infrastructure adapter for generating resource files containing localized spell text.
- * Implements contiguous text layout with Caesar cipher encoding as required by FF8 format.
+ * Lays text out contiguously and encodes it with {@link FF8TextCodec}, the game's font table.
+ * 
+ * <p>Language files are independent of each other, so they are generated concurrently,
+ * one task per language. Each file is encoded into a single pre-sized buffer and
+ * written with one channel write.</p>
+ * 
+ * <p>Files are written block by block from {@link TextOffsetCalculationService.TextLayoutResult#getTextBlocks()},
+ * so layouts where several spells share one stored text are written the same way as
+ * fixed slots.</p>
  */
 public class ResourceFileGenerator implements ResourceFileGeneratorPort {
     
@@ -51,13 +65,23 @@ public class ResourceFileGenerator implements ResourceFileGeneratorPort {
                 logger.info("Created target directory: {}", targetDirectory);
             }
             
-            // Generate file for each required language
-            for (Language language : textLayout.getRequiredLanguages()) {
-                Path outputFile = getResourceFilePath(targetDirectory, baseFileName, language);
+            // Generate the files of all required languages concurrently
+            Set<Language> languages = textLayout.getRequiredLanguages();
+            Map<Language, Future<SingleFileResult>> pendingFiles = new LinkedHashMap<>();
+            int threads = Math.max(1, Math.min(languages.size(), Runtime.getRuntime().availableProcessors()));
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (Language language : languages) {
+                    Path outputFile = getResourceFilePath(targetDirectory, baseFileName, language);
+                    pendingFiles.put(language, executor.submit(() -> 
+                        generateSingleResourceFile(spellTranslations, language, textLayout, outputFile)));
+                }
+            }
+            
+            for (Map.Entry<Language, Future<SingleFileResult>> pendingFile : pendingFiles.entrySet()) {
+                Language language = pendingFile.getKey();
                 
                 try {
-                    SingleFileResult result = generateSingleResourceFile(
-                        spellTranslations, language, textLayout, outputFile);
+                    SingleFileResult result = pendingFile.getValue().get();
                     
                     if (result.success()) {
                         createdFiles.put(language, result.createdFile());
@@ -71,7 +95,8 @@ public class ResourceFileGenerator implements ResourceFileGeneratorPort {
                     }
                     
                 } catch (Exception e) {
-                    String error = "Unexpected error generating " + language.getDisplayName() + " file: " + e.getMessage();
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    String error = "Unexpected error generating " + language.getDisplayName() + " file: " + cause.getMessage();
                     errors.put(language, error);
                     logger.error(error, e);
                 }
@@ -105,38 +130,31 @@ public class ResourceFileGenerator implements ResourceFileGeneratorPort {
         
         logger.debug("Generating resource file for {}: {}", language.getDisplayName(), outputFile);
         
-        try (FileOutputStream fos = new FileOutputStream(outputFile.toFile())) {
-            
-            // Sort spell indices for consistent ordering
-            List<Integer> sortedSpellIndices = new ArrayList<>(spellTranslations.keySet());
-            Collections.sort(sortedSpellIndices);
+        try {
             
-            long totalBytesWritten = 0;
+            ByteBuffer buffer = ByteBuffer.allocate(textLayout.getTotalFileSize());
             
-            for (int spellIndex : sortedSpellIndices) {
-                SpellTranslations translations = spellTranslations.get(spellIndex);
-                TextOffsetCalculationService.SpellTextLayout spellLayout = 
-                    textLayout.getLayoutForSpell(spellIndex);
-                
-                if (spellLayout == null) {
-                    logger.warn("No layout found for spell index {}", spellIndex);
+            for (TextOffsetCalculationService.TextBlock block : textLayout.getTextBlocks()) {
+                SpellTranslations translations = spellTranslations.get(block.getSpellIndex());
+                if (translations == null) {
+                    logger.warn("No translations found for spell index {}", block.getSpellIndex());
                     continue;
                 }
                 
-                // Get translation for this language (with English fallback)
-                SpellTranslations.Translation translation = translations.getTranslation(language.getDisplayName())
-                    .orElse(translations.getTranslation("English")
-                        .orElse(new SpellTranslations.Translation("", "")));
+                SpellTranslations.Translation translation = translations.getTranslationOrEnglish(language.getDisplayName());
+                String text = block.getField() == TextOffsetCalculationService.TextField.NAME
+                    ? translation.getName() : translation.getDescription();
                 
-                // Encode the text using Caesar cipher
-                String encodedName = textEncodingService.encipherCaesarCode(translation.getName());
-                String encodedDescription = textEncodingService.encipherCaesarCode(translation.getDescription());
-                
-                // Write spell name with padding
-                totalBytesWritten += writeTextWithPadding(fos, encodedName, spellLayout.getMaxNameLength());
-                
-                // Write spell description with padding
-                totalBytesWritten += writeTextWithPadding(fos, encodedDescription, spellLayout.getMaxDescriptionLength());
+                putTextInBlock(buffer, text, language, block);
+            }
+            
+            buffer.rewind();
+            long totalBytesWritten = buffer.remaining();
+            try (FileChannel channel = FileChannel.open(outputFile, 
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
             }
             
             logger.debug("Wrote {} bytes to {}", totalBytesWritten, outputFile.getFileName());
@@ -202,30 +220,17 @@ public class ResourceFileGenerator implements ResourceFileGeneratorPort {
     }
     
     /**
-     * Write text with null termination and padding to reach target length
+     * Encode text at the start of its block; the buffer is zero-filled, so the terminator and padding are already there
      */
-    private long writeTextWithPadding(FileOutputStream fos, String text, int targetLength) throws IOException {
-        // Convert text to bytes
-        byte[] textBytes = text.getBytes("ISO-8859-1"); // Use ISO-8859-1 for compatibility
-        
-        // Write the text
-        fos.write(textBytes);
-        long bytesWritten = textBytes.length;
-        
-        // Write null terminator
-        fos.write(0);
-        bytesWritten++;
-        
-        // Write padding to reach target length
-        int paddingNeeded = targetLength - (int)bytesWritten;
-        if (paddingNeeded > 0) {
-            byte[] padding = new byte[paddingNeeded];
-            Arrays.fill(padding, (byte) 0);
-            fos.write(padding);
-            bytesWritten += paddingNeeded;
+    private void putTextInBlock(ByteBuffer buffer, String text, Language language, 
+                                TextOffsetCalculationService.TextBlock block) {
+        int encodedLength = textEncodingService.getEncodedLength(text);
+        if (encodedLength + 1 > block.getLength()) {
+            throw new IllegalStateException(String.format(
+                "%s text of spell %d needs %d bytes but its block at offset %d has %d", 
+                language.getDisplayName(), block.getSpellIndex(), encodedLength + 1, block.getOffset(), block.getLength()));
         }
-        
-        return bytesWritten;
+        textEncodingService.encodeText(text, buffer, block.getOffset());
     }
     
     /**
@@ -3,14 +3,19 @@ package com.ff8.infrastructure.adapters.secondary.filesystem;
 import com.ff8.application.ports.secondary.FileSystemPort;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.Map;
 import java.util.logging.Logger;
 
 /**
@@ -53,6 +58,7 @@ import java.util.logging.Logger;
  */
 public class LocalFileSystemAdapter implements FileSystemPort {
     private static final Logger logger = Logger.getLogger(LocalFileSystemAdapter.class.getName());
+    private static final int JOURNAL_ENTRY_HEADER = Long.BYTES + Integer.BYTES;
 
     /**
      * {@inheritDoc}
@@ -63,6 +69,8 @@ public class LocalFileSystemAdapter implements FileSystemPort {
      *   <li>Validates file existence and accessibility</li>
      *   <li>Checks that the path points to a regular file</li>
      *   <li>Verifies read permissions</li>
+     *   <li>Rolls back a patch of the file that was interrupted, see
+     *       {@link #writeBinaryRanges(String, Map)}</li>
      *   <li>Reads the entire file content into a byte array</li>
      *   <li>Logs the operation for debugging purposes</li>
      * </ul>
@@ -87,6 +95,10 @@ public class LocalFileSystemAdapter implements FileSystemPort {
             throw new IOException("File is not readable: " + filePath);
         }
         
+        if (Files.isWritable(path)) {
+            rollBackInterruptedWrite(path);
+        }
+        
         logger.info("Reading binary file: " + filePath);
         byte[] data = Files.readAllBytes(path);
         logger.fine("Read " + data.length + " bytes from " + filePath);
@@ -94,6 +106,77 @@ public class LocalFileSystemAdapter implements FileSystemPort {
         return data;
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Maps the file read-only through a {@link FileChannel} instead of copying
+     * it onto the heap. The channel is closed immediately; the mapping stays valid
+     * until the returned buffer is garbage collected. This keeps memory usage flat
+     * when many kernel files are open at once, since the pages are shared with the
+     * operating system's file cache.</p>
+     * 
+     * <p>Some platforms (notably Windows) refuse to replace a file while a mapping
+     * of it is still reachable, and there is no way to release one explicitly. Only
+     * map files that are read and never written back during the session.</p>
+     * 
+     * @param filePath The path to the binary file to map
+     * @return A read-only buffer spanning the whole file
+     * @throws IOException if the file doesn't exist, is not readable, or cannot be mapped
+     */
+    @Override
+    public ByteBuffer mapBinaryFile(String filePath) throws IOException {
+        Path path = Paths.get(filePath);
+        
+        if (!Files.exists(path)) {
+            throw new IOException("File does not exist: " + filePath);
+        }
+        
+        if (!Files.isRegularFile(path)) {
+            throw new IOException("Path is not a regular file: " + filePath);
+        }
+        
+        if (!Files.isReadable(path)) {
+            throw new IOException("File is not readable: " + filePath);
+        }
+        
+        logger.info("Mapping binary file: " + filePath);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            logger.fine("Mapped " + mapped.capacity() + " bytes from " + filePath);
+            return mapped;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Performs the same validation as {@link #readBinaryFile(String)} and returns
+     * a {@link FileChannel} positioned at the start of the file.</p>
+     * 
+     * @param filePath The path to the binary file to open
+     * @return An open channel over the file
+     * @throws IOException if the file doesn't exist, is not readable, or cannot be opened
+     */
+    @Override
+    public ReadableByteChannel openReadChannel(String filePath) throws IOException {
+        Path path = Paths.get(filePath);
+        
+        if (!Files.exists(path)) {
+            throw new IOException("File does not exist: " + filePath);
+        }
+        
+        if (!Files.isRegularFile(path)) {
+            throw new IOException("Path is not a regular file: " + filePath);
+        }
+        
+        if (!Files.isReadable(path)) {
+            throw new IOException("File is not readable: " + filePath);
+        }
+        
+        logger.info("Opening binary file for streaming: " + filePath);
+        return FileChannel.open(path, StandardOpenOption.READ);
+    }
+
     /**
      * {@inheritDoc}
      * 
@@ -137,10 +220,15 @@ public class LocalFileSystemAdapter implements FileSystemPort {
      *   <li>Validates the data parameter is not null</li>
      *   <li>Creates parent directories if they don't exist</li>
      *   <li>Creates a backup of the existing file if it exists</li>
-     *   <li>Writes the data to the specified file path</li>
+     *   <li>Writes the data to a temporary file next to the target, with the target's
+     *       permissions (see {@link ReplacementFiles})</li>
+     *   <li>Moves the temporary file over the target atomically where supported</li>
      *   <li>Logs the operation for debugging purposes</li>
      * </ul>
      * 
+     * <p>Readers never observe a half-written file: a crash leaves either the
+     * previous content or the new one.</p>
+     * 
      * @param filePath The path where the binary data should be written
      * @param data The binary data to write to the file
      * @throws IOException if the write operation fails or data validation fails
@@ -166,10 +254,188 @@ public class LocalFileSystemAdapter implements FileSystemPort {
         }
         
         logger.info("Writing binary file: " + filePath);
-        Files.write(path, data);
+        Path tempFile = ReplacementFiles.createFor(path);
+        try {
+            Files.write(tempFile, data);
+            ReplacementFiles.moveOver(tempFile, path);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        // A journal left by an interrupted patch belongs to the content just replaced
+        Files.deleteIfExists(journalPath(path));
         logger.fine("Wrote " + data.length + " bytes to " + filePath);
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Patches the file in place, so the I/O is proportional to the ranges, not to the file:</p>
+     * <ul>
+     *   <li>Checks every range against the file size before anything is written</li>
+     *   <li>Reads the bytes each range will overwrite and forces them to a journal
+     *       next to the file ({@code <file>.journal})</li>
+     *   <li>Writes each range with a positional {@link FileChannel#write(ByteBuffer, long)}
+     *       on the target and forces it to disk</li>
+     *   <li>Deletes the journal</li>
+     * </ul>
+     * 
+     * <p>If writing in place fails, the journaled bytes are put back and the ranges are
+     * written into a copy of the file instead, which is then moved over the target. A
+     * save interrupted by a crash leaves its journal behind; the next read or patch of
+     * the file rolls it back first, so the file never stays half patched.</p>
+     * 
+     * @param filePath The path to the existing file to patch
+     * @param ranges The bytes to write, keyed by their absolute file offset
+     * @throws IOException if the file doesn't exist, is not writable, a range lies
+     *         outside the file, or an I/O error occurs
+     */
+    @Override
+    public void writeBinaryRanges(String filePath, Map<Long, byte[]> ranges) throws IOException {
+        if (ranges == null) {
+            throw new IllegalArgumentException("Ranges cannot be null");
+        }
+        
+        Path path = Paths.get(filePath);
+        
+        if (!Files.isRegularFile(path)) {
+            throw new IOException("File does not exist or is not a regular file: " + filePath);
+        }
+        
+        if (!Files.isWritable(path)) {
+            throw new IOException("File is not writable: " + filePath);
+        }
+        
+        rollBackInterruptedWrite(path);
+        
+        long size = Files.size(path);
+        for (Map.Entry<Long, byte[]> range : ranges.entrySet()) {
+            long offset = range.getKey();
+            if (offset < 0 || offset + range.getValue().length > size) {
+                throw new IOException("Range at offset " + offset + " (" + range.getValue().length +
+                                      " bytes) is outside file of " + size + " bytes: " + filePath);
+            }
+        }
+        
+        logger.info("Writing " + ranges.size() + " ranges to binary file: " + filePath);
+        try {
+            writeRangesInPlace(path, ranges);
+        } catch (IOException e) {
+            logger.warning("In-place write failed, patching a copy instead: " + e.getMessage());
+            rollBackInterruptedWrite(path);
+            writeRangesToCopy(path, ranges);
+        }
+    }
+    
+    /**
+     * Journals the bytes the ranges overwrite, then writes the ranges into the file itself.
+     * 
+     * <p>Journal entries are the offset (8 bytes), the length (4 bytes) and the old bytes.</p>
+     */
+    private void writeRangesInPlace(Path path, Map<Long, byte[]> ranges) throws IOException {
+        Path journal = journalPath(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int journalSize = 0;
+            for (byte[] bytes : ranges.values()) {
+                journalSize += JOURNAL_ENTRY_HEADER + bytes.length;
+            }
+            ByteBuffer oldBytes = ByteBuffer.allocate(journalSize);
+            for (Map.Entry<Long, byte[]> range : ranges.entrySet()) {
+                int length = range.getValue().length;
+                oldBytes.putLong(range.getKey()).putInt(length);
+                ByteBuffer slot = oldBytes.slice(oldBytes.position(), length);
+                long position = range.getKey();
+                while (slot.hasRemaining()) {
+                    int read = channel.read(slot, position);
+                    if (read < 0) {
+                        throw new IOException("File shrank while it was being patched: " + path);
+                    }
+                    position += read;
+                }
+                oldBytes.position(oldBytes.position() + length);
+            }
+            oldBytes.flip();
+            try (FileChannel journalChannel = FileChannel.open(journal, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(journalChannel, oldBytes, 0);
+                journalChannel.force(true);
+            }
+            
+            for (Map.Entry<Long, byte[]> range : ranges.entrySet()) {
+                writeFully(channel, ByteBuffer.wrap(range.getValue()), range.getKey());
+            }
+            channel.force(false);
+        }
+        Files.delete(journal);
+    }
+    
+    /**
+     * Writes the ranges into a copy of the file and moves the copy over it.
+     */
+    private void writeRangesToCopy(Path path, Map<Long, byte[]> ranges) throws IOException {
+        Path tempFile = ReplacementFiles.createFor(path);
+        try {
+            try (FileChannel source = FileChannel.open(path, StandardOpenOption.READ);
+                 FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                long size = source.size();
+                long copied = 0;
+                while (copied < size) {
+                    copied += source.transferTo(copied, size - copied, channel);
+                }
+                for (Map.Entry<Long, byte[]> range : ranges.entrySet()) {
+                    writeFully(channel, ByteBuffer.wrap(range.getValue()), range.getKey());
+                }
+                channel.force(false);
+            }
+            ReplacementFiles.moveOver(tempFile, path);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+    
+    /**
+     * Puts back the bytes journaled by a patch that did not finish, then deletes the journal.
+     * Does nothing if the file has no journal.
+     * 
+     * <p>A journal cut short by a crash is applied up to its last complete entry; the
+     * file was not touched before the journal was complete.</p>
+     */
+    private void rollBackInterruptedWrite(Path path) throws IOException {
+        Path journal = journalPath(path);
+        if (!Files.exists(journal)) {
+            return;
+        }
+        
+        logger.warning("Rolling back an interrupted write to " + path);
+        ByteBuffer entries = ByteBuffer.wrap(Files.readAllBytes(journal));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            while (entries.remaining() >= JOURNAL_ENTRY_HEADER) {
+                long offset = entries.getLong();
+                int length = entries.getInt();
+                if (length < 0 || length > entries.remaining()) {
+                    break;
+                }
+                ByteBuffer oldBytes = entries.slice(entries.position(), length);
+                entries.position(entries.position() + length);
+                if (offset >= 0 && offset + length <= size) {
+                    writeFully(channel, oldBytes, offset);
+                }
+            }
+            channel.force(false);
+        }
+        Files.delete(journal);
+    }
+    
+    private static Path journalPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".journal");
+    }
+    
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
     /**
      * {@inheritDoc}
      * 
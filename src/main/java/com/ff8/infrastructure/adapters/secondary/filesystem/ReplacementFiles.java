@@ -0,0 +1,90 @@
+package com.ff8.infrastructure.adapters.secondary.filesystem;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.AclFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFileAttributes;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Temp files that are written in full and then moved over a target file.
+ *
+ * <p>{@link Files#createTempFile} creates owner-only files on POSIX systems, so moving
+ * one over a shared {@code kernel.bin} would silently take everyone else's access
+ * away. The temp files made here instead get the target's permissions and group, or
+ * on Windows its ACL. For a target that does not exist yet they get the process
+ * defaults (the umask), like any newly created file. The owner cannot be carried
+ * over: a replaced file belongs to the user who saved it.</p>
+ */
+public final class ReplacementFiles {
+
+    private ReplacementFiles() {
+    }
+
+    /**
+     * Create an empty temp file next to the target, with the target's access rights.
+     *
+     * @param target The file the temp file will replace; it does not need to exist
+     * @return The new temp file
+     * @throws IOException if the file cannot be created or its access rights cannot be set
+     */
+    public static Path createFor(Path target) throws IOException {
+        Path absolute = target.toAbsolutePath();
+        Path directory = absolute.getParent();
+        String prefix = absolute.getFileName() + ".";
+        while (true) {
+            Path tempFile = directory.resolve(prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36) + ".tmp");
+            try {
+                Files.createFile(tempFile);
+            } catch (FileAlreadyExistsException e) {
+                continue;
+            }
+            try {
+                if (Files.exists(absolute)) {
+                    copyAccess(absolute, tempFile);
+                }
+                return tempFile;
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tempFile);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Move a temp file over the target, atomically where the file system supports it.
+     */
+    public static void moveOver(Path tempFile, Path target) throws IOException {
+        try {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void copyAccess(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourcePosix = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourcePosix != null) {
+            PosixFileAttributes attributes = sourcePosix.readAttributes();
+            PosixFileAttributeView targetPosix = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+            try {
+                // Before the permissions, as changing the group can clear set-id bits
+                targetPosix.setGroup(attributes.group());
+            } catch (IOException e) {
+                // Only members of a group may hand a file to it; keep the default group then
+            }
+            targetPosix.setPermissions(attributes.permissions());
+            return;
+        }
+
+        AclFileAttributeView sourceAcl = Files.getFileAttributeView(source, AclFileAttributeView.class);
+        if (sourceAcl != null) {
+            Files.getFileAttributeView(target, AclFileAttributeView.class).setAcl(sourceAcl.getAcl());
+        }
+    }
+}
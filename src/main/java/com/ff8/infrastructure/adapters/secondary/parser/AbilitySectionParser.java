@@ -0,0 +1,53 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.entities.AbilityData;
+import com.ff8.domain.entities.enums.SectionType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Strategy for the 8-byte ability sections of kernel.bin.
+ * One instance handles one ability section; they all share the same record layout.
+ */
+public class AbilitySectionParser extends KernelRecordParser<AbilityData> {
+    
+    public AbilitySectionParser(SectionType section) {
+        super(requireAbilitySection(section));
+    }
+    
+    private static SectionType requireAbilitySection(SectionType section) {
+        if (!section.isAbilitySection()) {
+            throw new IllegalArgumentException(section.getDisplayName() + " is not an ability section");
+        }
+        return section;
+    }
+    
+    @Override
+    protected AbilityData readRecord(ByteBuffer data, int offset, int index, SectionText text) {
+        int offsetName = data.getShort(offset) & 0xFFFF;
+        int offsetDescription = data.getShort(offset + 0x02) & 0xFFFF;
+        return AbilityData.builder()
+                .section(getSectionType())
+                .index(index)
+                .offsetName(offsetName)
+                .offsetDescription(offsetDescription)
+                .apRequired(data.get(offset + 0x04) & 0xFF)
+                .data(get24(data, offset + 0x05))
+                .name(text.resolve(offsetName))
+                .description(text.resolve(offsetDescription))
+                .build();
+    }
+    
+    @Override
+    protected void writeRecord(AbilityData ability, ByteBuffer data, int offset) {
+        data.putShort(offset, (short) ability.getOffsetName());
+        data.putShort(offset + 0x02, (short) ability.getOffsetDescription());
+        data.put(offset + 0x04, (byte) ability.getApRequired());
+        put24(data, offset + 0x05, ability.getData());
+    }
+    
+    @Override
+    protected String nameOf(AbilityData ability) {
+        return ability.getName();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.entities.BattleItemData;
+import com.ff8.domain.entities.enums.SectionType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Strategy for the battle item section of kernel.bin: 24-byte records shaped like a small magic record.
+ */
+public class BattleItemSectionParser extends KernelRecordParser<BattleItemData> {
+    
+    public BattleItemSectionParser() {
+        super(SectionType.BATTLE_ITEMS);
+    }
+    
+    @Override
+    protected BattleItemData readRecord(ByteBuffer data, int offset, int index, SectionText text) {
+        int offsetName = data.getShort(offset) & 0xFFFF;
+        int offsetDescription = data.getShort(offset + 0x02) & 0xFFFF;
+        return BattleItemData.builder()
+                .index(index)
+                .offsetName(offsetName)
+                .offsetDescription(offsetDescription)
+                .magicID(data.getShort(offset + 0x04) & 0xFFFF)
+                .attackType(data.get(offset + 0x06) & 0xFF)
+                .attackPower(data.get(offset + 0x07) & 0xFF)
+                .unknown1(data.get(offset + 0x08) & 0xFF)
+                .targetInfo(data.get(offset + 0x09) & 0xFF)
+                .unknown2(data.get(offset + 0x0A) & 0xFF)
+                .attackFlags(data.get(offset + 0x0B) & 0xFF)
+                .unknown3(data.get(offset + 0x0C) & 0xFF)
+                .statusAttackEnabler(data.get(offset + 0x0D) & 0xFF)
+                .statusMask(get48(data, offset + 0x0E))
+                .attackParameter(data.get(offset + 0x14) & 0xFF)
+                .unknown4(data.get(offset + 0x15) & 0xFF)
+                .hitCount(data.get(offset + 0x16) & 0xFF)
+                .element(data.get(offset + 0x17) & 0xFF)
+                .name(text.resolve(offsetName))
+                .description(text.resolve(offsetDescription))
+                .build();
+    }
+    
+    @Override
+    protected void writeRecord(BattleItemData item, ByteBuffer data, int offset) {
+        data.putShort(offset, (short) item.getOffsetName());
+        data.putShort(offset + 0x02, (short) item.getOffsetDescription());
+        data.putShort(offset + 0x04, (short) item.getMagicID());
+        data.put(offset + 0x06, (byte) item.getAttackType());
+        data.put(offset + 0x07, (byte) item.getAttackPower());
+        data.put(offset + 0x08, (byte) item.getUnknown1());
+        data.put(offset + 0x09, (byte) item.getTargetInfo());
+        data.put(offset + 0x0A, (byte) item.getUnknown2());
+        data.put(offset + 0x0B, (byte) item.getAttackFlags());
+        data.put(offset + 0x0C, (byte) item.getUnknown3());
+        data.put(offset + 0x0D, (byte) item.getStatusAttackEnabler());
+        put48(data, offset + 0x0E, item.getStatusMask());
+        data.put(offset + 0x14, (byte) item.getAttackParameter());
+        data.put(offset + 0x15, (byte) item.getUnknown4());
+        data.put(offset + 0x16, (byte) item.getHitCount());
+        data.put(offset + 0x17, (byte) item.getElement());
+    }
+    
+    @Override
+    protected String nameOf(BattleItemData item) {
+        return item.getName();
+    }
+}
@@ -0,0 +1,141 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.application.ports.secondary.MagicRecordView;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.entities.enums.GF;
+import com.ff8.domain.exceptions.BinaryParseException;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * {@link MagicRecordView} reading the magic section of a kernel buffer in place.
+ *
+ * <p>Field offsets mirror {@link MagicSectionParser}; full records and spell texts are
+ * decoded by that parser, so a materialized record is identical to one from a regular
+ * load.</p>
+ */
+final class BufferMagicRecordView implements MagicRecordView {
+    private static final int JUNCTION_STAT_COUNT = 9;
+
+    private final MagicSectionParser parser;
+    private final ByteBuffer data;
+    private final int sectionOffset;
+    private final int structSize;
+    private final int recordCount;
+
+    private int index;
+    private int offset;
+
+    /**
+     * @param data A little-endian view of the complete kernel
+     */
+    BufferMagicRecordView(MagicSectionParser parser, ByteBuffer data, int sectionOffset, int structSize, int recordCount) {
+        this.parser = parser;
+        this.data = data;
+        this.sectionOffset = sectionOffset;
+        this.structSize = structSize;
+        this.recordCount = recordCount;
+        this.offset = sectionOffset;
+    }
+
+    @Override
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    @Override
+    public MagicRecordView moveTo(int index) {
+        this.index = Objects.checkIndex(index, recordCount);
+        this.offset = sectionOffset + index * structSize;
+        return this;
+    }
+
+    @Override
+    public int getIndex() {
+        return index;
+    }
+
+    @Override
+    public int getOffset() {
+        return offset;
+    }
+
+    @Override
+    public int getMagicID() {
+        return data.getShort(offset + 0x04) & 0xFFFF;
+    }
+
+    @Override
+    public int getAnimationTriggered() {
+        return data.get(offset + 0x06) & 0xFF;
+    }
+
+    @Override
+    public AttackType getAttackType() {
+        return AttackType.fromValue(data.get(offset + 0x07) & 0xFF);
+    }
+
+    @Override
+    public int getSpellPower() {
+        return data.get(offset + 0x08) & 0xFF;
+    }
+
+    @Override
+    public int getDrawResist() {
+        return data.get(offset + 0x0C) & 0xFF;
+    }
+
+    @Override
+    public int getHitCount() {
+        return data.get(offset + 0x0D) & 0xFF;
+    }
+
+    @Override
+    public Element getElement() {
+        return Element.fromValue(data.get(offset + 0x0E) & 0xFF);
+    }
+
+    @Override
+    public int getStatusAttackEnabler() {
+        return data.get(offset + 0x16) & 0xFF;
+    }
+
+    @Override
+    public long getStatusMask() {
+        return Integer.toUnsignedLong(data.getInt(offset + 0x10))
+                | (long) (data.getShort(offset + 0x14) & 0xFFFF) << 32;
+    }
+
+    @Override
+    public int getJunctionStat(int slot) {
+        return data.get(offset + 0x17 + Objects.checkIndex(slot, JUNCTION_STAT_COUNT)) & 0xFF;
+    }
+
+    @Override
+    public int getGFCompatibilityValue(GF gf) {
+        return data.get(offset + 0x2A + gf.ordinal()) & 0xFF;
+    }
+
+    @Override
+    public String getSpellName() {
+        return parser.decodeText(data, data.getShort(offset) & 0xFFFF);
+    }
+
+    @Override
+    public String getSpellDescription() {
+        return parser.decodeText(data, data.getShort(offset + 0x02) & 0xFFFF);
+    }
+
+    @Override
+    public MagicData toMagicData() throws BinaryParseException {
+        return parser.parseItem(data, offset, index);
+    }
+
+    @Override
+    public String toString() {
+        return "MagicRecordView[index=" + index + ", offset=0x" + Integer.toHexString(offset) + "]";
+    }
+}
@@ -0,0 +1,22 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.exceptions.BinaryParseException;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Section parser that can reuse a section index read earlier instead of reading the kernel header again.
+ */
+interface IndexedSectionParser<T> {
+
+    /**
+     * Parse all items of the section at the offsets given by the index
+     *
+     * @param kernelData The complete kernel data; the buffer's position is not changed
+     * @param index The section index of the same kernel data
+     * @return List of all parsed items from this section
+     * @throws BinaryParseException if parsing fails
+     */
+    List<T> parseAllItems(ByteBuffer kernelData, KernelSectionIndex index) throws BinaryParseException;
+}
@@ -0,0 +1,90 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.entities.JunctionableGFData;
+import com.ff8.domain.entities.enums.SectionType;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Strategy for the junctionable GF section of kernel.bin: 132-byte records holding
+ * the summon attack, 21 learnable ability slots and the GF compatibility table.
+ */
+public class JunctionableGFSectionParser extends KernelRecordParser<JunctionableGFData> {
+    private static final int ABILITY_SLOTS_OFFSET = 0x1C;
+    private static final int COMPATIBILITY_OFFSET = 0x70;
+    
+    public JunctionableGFSectionParser() {
+        super(SectionType.JUNCTIONABLE_GFS);
+    }
+    
+    @Override
+    protected JunctionableGFData readRecord(ByteBuffer data, int offset, int index, SectionText text) {
+        int offsetName = data.getShort(offset) & 0xFFFF;
+        int offsetDescription = data.getShort(offset + 0x02) & 0xFFFF;
+        
+        Integer[] abilitySlots = new Integer[JunctionableGFData.ABILITY_SLOTS];
+        for (int slot = 0; slot < abilitySlots.length; slot++) {
+            abilitySlots[slot] = data.getInt(offset + ABILITY_SLOTS_OFFSET + slot * 4);
+        }
+        Integer[] compatibility = new Integer[JunctionableGFData.COMPATIBILITY_ENTRIES];
+        for (int gf = 0; gf < compatibility.length; gf++) {
+            compatibility[gf] = data.get(offset + COMPATIBILITY_OFFSET + gf) & 0xFF;
+        }
+        
+        return JunctionableGFData.builder()
+                .index(index)
+                .offsetName(offsetName)
+                .offsetDescription(offsetDescription)
+                .magicID(data.getShort(offset + 0x04) & 0xFFFF)
+                .attackType(data.get(offset + 0x06) & 0xFF)
+                .power(data.get(offset + 0x07) & 0xFF)
+                .unknown1(data.getShort(offset + 0x08) & 0xFFFF)
+                .attackFlags(data.get(offset + 0x0A) & 0xFF)
+                .unknown2(data.getShort(offset + 0x0B) & 0xFFFF)
+                .element(data.get(offset + 0x0D) & 0xFF)
+                .statusMask(get48(data, offset + 0x0E))
+                .unknown3(data.getLong(offset + 0x14))
+                .abilitySlots(List.of(abilitySlots))
+                .compatibility(List.of(compatibility))
+                .unknown4(data.getShort(offset + 0x80) & 0xFFFF)
+                .powerModifier(data.get(offset + 0x82) & 0xFF)
+                .levelModifier(data.get(offset + 0x83) & 0xFF)
+                .name(text.resolve(offsetName))
+                .description(text.resolve(offsetDescription))
+                .build();
+    }
+    
+    @Override
+    protected void writeRecord(JunctionableGFData gf, ByteBuffer data, int offset) {
+        data.putShort(offset, (short) gf.getOffsetName());
+        data.putShort(offset + 0x02, (short) gf.getOffsetDescription());
+        data.putShort(offset + 0x04, (short) gf.getMagicID());
+        data.put(offset + 0x06, (byte) gf.getAttackType());
+        data.put(offset + 0x07, (byte) gf.getPower());
+        data.putShort(offset + 0x08, (short) gf.getUnknown1());
+        data.put(offset + 0x0A, (byte) gf.getAttackFlags());
+        data.putShort(offset + 0x0B, (short) gf.getUnknown2());
+        data.put(offset + 0x0D, (byte) gf.getElement());
+        put48(data, offset + 0x0E, gf.getStatusMask());
+        data.putLong(offset + 0x14, gf.getUnknown3());
+        
+        List<Integer> abilitySlots = gf.getAbilitySlots();
+        for (int slot = 0; slot < JunctionableGFData.ABILITY_SLOTS; slot++) {
+            data.putInt(offset + ABILITY_SLOTS_OFFSET + slot * 4, slot < abilitySlots.size() ? abilitySlots.get(slot) : 0);
+        }
+        List<Integer> compatibility = gf.getCompatibility();
+        for (int entry = 0; entry < JunctionableGFData.COMPATIBILITY_ENTRIES; entry++) {
+            data.put(offset + COMPATIBILITY_OFFSET + entry, (byte) (entry < compatibility.size() ? compatibility.get(entry) : 0));
+        }
+        
+        data.putShort(offset + 0x80, (short) gf.getUnknown4());
+        data.put(offset + 0x82, (byte) gf.getPowerModifier());
+        data.put(offset + 0x83, (byte) gf.getLevelModifier());
+    }
+    
+    @Override
+    protected String nameOf(JunctionableGFData gf) {
+        return gf.getName();
+    }
+}
@@ -1,12 +1,16 @@
 package com.ff8.infrastructure.adapters.secondary.parser;
 
 import com.ff8.application.ports.secondary.BinaryParserPort;
+import com.ff8.application.ports.secondary.MagicRecordView;
 import com.ff8.application.ports.secondary.SectionParserStrategy;
 import com.ff8.domain.entities.*;
 import com.ff8.domain.entities.enums.*;
 import com.ff8.domain.exceptions.BinaryParseException;
 
+import java.nio.ByteBuffer;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -29,9 +33,16 @@ import java.util.logging.Logger;
  * <p>The parser uses specialized strategy implementations for each section type:
  * <ul>
  *   <li>{@link MagicSectionParser} for magic/spell data</li>
- *   <li>Future weapon, item, and other section parsers</li>
+ *   <li>{@link JunctionableGFSectionParser}, {@link WeaponSectionParser} and
+ *       {@link BattleItemSectionParser} for GFs, weapons and battle items</li>
+ *   <li>{@link AbilitySectionParser} for each of the ability sections</li>
  * </ul>
  * 
+ * <p>Section offsets come from the kernel's own offset table, see {@link KernelSectionIndex}.
+ * {@link #openKernel(ByteBuffer)} gives access to every enabled section, each parsed
+ * lazily on first access; {@link #parseAll(ByteBuffer)} parses all of them up front,
+ * one fork/join task per section.</p>
+ * 
  * <p>Usage example:</p>
  * <pre>{@code
  * // Default magic-only parsing
@@ -44,6 +55,9 @@ import java.util.logging.Logger;
  * 
  * // Parse all magic data
  * List<MagicData> magicList = parser.parseAllMagicData(kernelBytes);
+ * 
+ * // Only decode the weapons
+ * List<WeaponData> weapons = parser.openKernel(kernelBuffer).getWeapons();
  * }</pre>
  * 
  * @author FF8 Magic Creator Team
@@ -65,10 +79,14 @@ public class KernelBinaryParser implements BinaryParserPort {
     public KernelBinaryParser() {
         // Register available strategies
         registerStrategy(new MagicSectionParser());
-        // Future strategies would be registered here:
-        // registerStrategy(new WeaponSectionParser());
-        // registerStrategy(new ItemSectionParser());
-        // etc.
+        registerStrategy(new JunctionableGFSectionParser());
+        registerStrategy(new WeaponSectionParser());
+        registerStrategy(new BattleItemSectionParser());
+        for (SectionType section : SectionType.values()) {
+            if (section.isAbilitySection()) {
+                registerStrategy(new AbilitySectionParser(section));
+            }
+        }
         
         // By default, enable only the magic section (for backward compatibility)
         activeSections.add(SectionType.MAGIC);
@@ -178,6 +196,72 @@ public class KernelBinaryParser implements BinaryParserPort {
         return new HashSet<>(activeSections);
     }
     
+    /**
+     * Open a kernel for lazy access to all enabled sections.
+     * 
+     * <p>Only the section offset table is read here; every section is decoded the
+     * first time it is requested from the returned object. The buffer must not be
+     * modified while the sections are in use.</p>
+     * 
+     * @param kernelData The complete kernel data, e.g. a read-only mapped view
+     * @return The opened kernel
+     */
+    public KernelSections openKernel(ByteBuffer kernelData) {
+        Map<SectionType, SectionParserStrategy<?>> enabled = new EnumMap<>(SectionType.class);
+        for (SectionType section : activeSections) {
+            enabled.put(section, strategies.get(section));
+        }
+        return new KernelSections(kernelData, enabled);
+    }
+    
+    /**
+     * Open a kernel held in an array for lazy access to all enabled sections
+     */
+    public KernelSections openKernel(byte[] kernelData) {
+        return openKernel(ByteBuffer.wrap(kernelData));
+    }
+    
+    /**
+     * Parse every enabled section in parallel on the common fork/join pool.
+     * 
+     * @param kernelData The complete kernel data, e.g. a read-only mapped view
+     * @return The kernel with all enabled sections parsed, read through its typed getters
+     * @throws BinaryParseException if any enabled section cannot be parsed
+     * @see #parseAll(ByteBuffer, ForkJoinPool)
+     */
+    public KernelSections parseAll(ByteBuffer kernelData) throws BinaryParseException {
+        return parseAll(kernelData, ForkJoinPool.commonPool());
+    }
+    
+    /**
+     * Parse every enabled section of a kernel held in an array in parallel
+     */
+    public KernelSections parseAll(byte[] kernelData) throws BinaryParseException {
+        return parseAll(ByteBuffer.wrap(kernelData));
+    }
+    
+    /**
+     * Parse every enabled section in parallel.
+     * 
+     * <p>Sections are disjoint ranges of the same buffer and every strategy parses its
+     * own section, so each enabled section becomes one task on the pool. With only the
+     * magic section enabled this is the same as a sequential parse.</p>
+     * 
+     * @param kernelData The complete kernel data; it must not be modified while parsing
+     * @param pool The pool running the section tasks
+     * @return The kernel with all enabled sections parsed
+     * @throws BinaryParseException if any enabled section cannot be parsed
+     */
+    public KernelSections parseAll(ByteBuffer kernelData, ForkJoinPool pool) throws BinaryParseException {
+        long startTime = System.nanoTime();
+        KernelSections sections = openKernel(kernelData).parseAll(pool);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Parsed " + sections.getAvailableSections().size() + " sections in "
+                    + (System.nanoTime() - startTime) / 1000 + " µs");
+        }
+        return sections;
+    }
+    
     /**
      * {@inheritDoc}
      * 
@@ -209,6 +293,48 @@ public class KernelBinaryParser implements BinaryParserPort {
         return magicStrategy.parseItem(binaryData, offset, kernelIndex);
     }
     
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Reads the record straight out of the buffer, so a memory-mapped kernel
+     * file never has to be copied onto the heap.</p>
+     */
+    @Override
+    public MagicData parseMagicData(ByteBuffer kernelData, int offset) throws BinaryParseException {
+        return parseMagicData(kernelData, offset, -1);
+    }
+    
+    /**
+     * Parse magic data from a buffer with kernel index specification.
+     * 
+     * @param kernelData The buffer holding the kernel data
+     * @param offset The absolute offset within the buffer
+     * @param kernelIndex The index position within the kernel file
+     * @return The parsed magic data
+     * @throws BinaryParseException if parsing fails or strategy is not available
+     */
+    public MagicData parseMagicData(ByteBuffer kernelData, int offset, int kernelIndex) throws BinaryParseException {
+        SectionParserStrategy<MagicData> magicStrategy = getStrategy(SectionType.MAGIC);
+        if (magicStrategy == null) {
+            throw new BinaryParseException("Magic section parser strategy not available");
+        }
+        return magicStrategy.parseItem(kernelData, offset, kernelIndex);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>The view comes from the registered {@link MagicSectionParser}, so records it
+     * materializes are decoded exactly like those from {@link #parseAllMagicData(ByteBuffer)}.</p>
+     */
+    @Override
+    public MagicRecordView openMagicView(ByteBuffer kernelData) throws BinaryParseException {
+        if (!(strategies.get(SectionType.MAGIC) instanceof MagicSectionParser magicParser)) {
+            throw new BinaryParseException("Magic section parser strategy not available");
+        }
+        return magicParser.openView(kernelData);
+    }
+    
     /**
      * {@inheritDoc}
      * 
@@ -224,6 +350,21 @@ public class KernelBinaryParser implements BinaryParserPort {
         return magicStrategy.serializeItem(magic);
     }
     
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Delegates to the magic section parser strategy, which encodes the record
+     * in place without an intermediate array.</p>
+     */
+    @Override
+    public void serializeMagicData(MagicData magic, ByteBuffer target, int offset) throws BinaryParseException {
+        SectionParserStrategy<MagicData> magicStrategy = getStrategy(SectionType.MAGIC);
+        if (magicStrategy == null) {
+            throw new BinaryParseException("Magic section parser strategy not available");
+        }
+        magicStrategy.serializeItem(magic, target, offset);
+    }
+    
     /**
      * {@inheritDoc}
      * 
@@ -239,6 +380,21 @@ public class KernelBinaryParser implements BinaryParserPort {
         return magicStrategy.parseAllItems(kernelData);
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Parses all magic data from a buffer, typically a read-only mapped view
+     * of the kernel file, using the magic section parser strategy.</p>
+     */
+    @Override
+    public List<MagicData> parseAllMagicData(ByteBuffer kernelData) throws BinaryParseException {
+        SectionParserStrategy<MagicData> magicStrategy = getStrategy(SectionType.MAGIC);
+        if (magicStrategy == null) {
+            throw new BinaryParseException("Magic section parser strategy not available");
+        }
+        return magicStrategy.parseAllItems(kernelData);
+    }
+
     /**
      * {@inheritDoc}
      * 
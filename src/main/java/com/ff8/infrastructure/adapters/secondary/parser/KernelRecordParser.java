@@ -0,0 +1,286 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.application.ports.secondary.BinaryParserPort.ValidationResult;
+import com.ff8.application.ports.secondary.SectionParserStrategy;
+import com.ff8.domain.entities.enums.SectionType;
+import com.ff8.domain.exceptions.BinaryParseException;
+import com.ff8.domain.services.FF8TextCodec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Base strategy for kernel sections made of fixed-size records with text pointers.
+ * 
+ * <p>Subclasses only map the fields of one record; locating the section, bounds
+ * checks, bulk parsing and serialization, checksums and name extraction are shared.
+ * Section and text offsets come from the kernel's {@link KernelSectionIndex}. Records
+ * are read and written with absolute little-endian accesses, so buffers, including
+ * read-only mapped views, are never moved or copied.</p>
+ * 
+ * @param <T> The record type of the section
+ */
+public abstract class KernelRecordParser<T> implements SectionParserStrategy<T>, IndexedSectionParser<T> {
+    private static final int MAX_STRING_LENGTH = 256; // Safety limit for null-terminated strings
+    
+    private final SectionType sectionType;
+    private final FF8TextCodec textCodec;
+    
+    protected KernelRecordParser(SectionType sectionType) {
+        this.sectionType = sectionType;
+        this.textCodec = FF8TextCodec.getInstance();
+    }
+    
+    /**
+     * Decode one record from a buffer ordered little-endian
+     * 
+     * @param data The kernel data
+     * @param offset Where the record starts
+     * @param index Position of the record in the section
+     * @param text The section's text, used to resolve text pointers
+     */
+    protected abstract T readRecord(ByteBuffer data, int offset, int index, SectionText text);
+    
+    /**
+     * Encode one record into a buffer ordered little-endian; every byte of the record is written
+     */
+    protected abstract void writeRecord(T item, ByteBuffer data, int offset);
+    
+    /**
+     * Get the display name of a parsed record
+     */
+    protected abstract String nameOf(T item);
+    
+    /**
+     * Text section of one kernel, resolving the 16-bit pointers stored in records
+     */
+    protected final class SectionText {
+        private final ByteBuffer data;
+        private final int start;
+        private final int end;
+        
+        private SectionText(ByteBuffer data, int start, int end) {
+            this.data = data;
+            this.start = start;
+            this.end = end;
+        }
+        
+        /**
+         * Decode the string a pointer refers to, or empty string if the text section is unknown
+         */
+        public String resolve(int pointer) {
+            if (start < 0 || start + pointer >= end) {
+                return "";
+            }
+            return textCodec.decode(data, start + pointer, Math.min(MAX_STRING_LENGTH, end - start - pointer));
+        }
+    }
+    
+    @Override
+    public SectionType getSectionType() {
+        return sectionType;
+    }
+    
+    @Override
+    public T parseItem(byte[] binaryData, int offset, int index) throws BinaryParseException {
+        if (binaryData == null) {
+            throw new BinaryParseException("Binary data cannot be null");
+        }
+        return parseItem(ByteBuffer.wrap(binaryData), offset, index);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Reads the kernel header to find the section's text; use
+     * {@link #parseAllItems(ByteBuffer, KernelSectionIndex)} for many records.</p>
+     */
+    @Override
+    public T parseItem(ByteBuffer kernelData, int offset, int index) throws BinaryParseException {
+        if (kernelData == null) {
+            throw new BinaryParseException("Binary data cannot be null");
+        }
+        ByteBuffer data = littleEndianView(kernelData);
+        return parseRecord(data, offset, index, textOf(data, KernelSectionIndex.parse(data)));
+    }
+    
+    @Override
+    public byte[] serializeItem(T item) throws BinaryParseException {
+        byte[] record = new byte[getItemStructSize()];
+        serializeItem(item, ByteBuffer.wrap(record), 0);
+        return record;
+    }
+    
+    @Override
+    public void serializeItem(T item, ByteBuffer target, int offset) throws BinaryParseException {
+        if (item == null) {
+            throw new BinaryParseException(sectionType.getDisplayName() + " record cannot be null");
+        }
+        if (target == null) {
+            throw new BinaryParseException("Target buffer cannot be null");
+        }
+        if (offset < 0 || offset + getItemStructSize() > target.limit()) {
+            throw new BinaryParseException("Invalid offset: " + offset + " for target buffer of length " + target.limit());
+        }
+        
+        try {
+            writeRecord(item, littleEndianView(target), offset);
+        } catch (Exception e) {
+            throw new BinaryParseException("Failed to serialize " + sectionType.getDisplayName() + " record: " + e.getMessage(), e);
+        }
+    }
+    
+    @Override
+    public List<T> parseAllItems(byte[] kernelData) throws BinaryParseException {
+        return parseAllItems(ByteBuffer.wrap(kernelData));
+    }
+    
+    @Override
+    public List<T> parseAllItems(ByteBuffer kernelData) throws BinaryParseException {
+        return parseAllItems(kernelData, KernelSectionIndex.parse(kernelData));
+    }
+    
+    @Override
+    public List<T> parseAllItems(ByteBuffer kernelData, KernelSectionIndex index) throws BinaryParseException {
+        ByteBuffer data = littleEndianView(kernelData);
+        int offset = index.getOffset(sectionType);
+        int count = index.getItemCount(sectionType);
+        int sectionEnd = offset + count * getItemStructSize();
+        if (sectionEnd > data.limit()) {
+            throw new BinaryParseException(sectionType.getDisplayName() + " section would extend beyond file: need " 
+                    + sectionEnd + " but file is only " + data.limit() + " bytes");
+        }
+        
+        SectionText text = textOf(data, index);
+        List<T> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(parseRecord(data, offset + i * getItemStructSize(), i, text));
+        }
+        return items;
+    }
+    
+    @Override
+    public byte[] serializeAllItems(List<T> items, byte[] originalKernelData) throws BinaryParseException {
+        byte[] result = originalKernelData.clone();
+        ByteBuffer target = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+        int offset = KernelSectionIndex.parse(target).getOffset(sectionType);
+        
+        for (int i = 0; i < items.size(); i++) {
+            serializeItem(items.get(i), target, offset + i * getItemStructSize());
+        }
+        return result;
+    }
+    
+    @Override
+    public int findSectionOffset(byte[] kernelData) throws BinaryParseException {
+        return KernelSectionIndex.parse(kernelData).getOffset(sectionType);
+    }
+    
+    @Override
+    public int getItemStructSize() {
+        return sectionType.getStructSize();
+    }
+    
+    @Override
+    public int getExpectedItemCount() {
+        return sectionType.getExpectedCount();
+    }
+    
+    @Override
+    public ValidationResult validateSectionStructure(byte[] kernelData) {
+        if (kernelData == null) {
+            return new ValidationResult(false, "Kernel data is null", List.of("Null data"), 0, 0);
+        }
+        
+        KernelSectionIndex index = KernelSectionIndex.parse(kernelData);
+        int offset = index.getOffset(sectionType);
+        int count = index.getItemCount(sectionType);
+        List<String> issues = new ArrayList<>();
+        if (offset + count * getItemStructSize() > kernelData.length) {
+            issues.add("File too small for expected " + sectionType.getDisplayName() + " section");
+        }
+        
+        boolean isValid = issues.isEmpty();
+        String message = isValid 
+                ? "Valid " + sectionType.getDisplayName() + " section structure" 
+                : "Invalid " + sectionType.getDisplayName() + " section structure";
+        return new ValidationResult(isValid, message, issues, offset, count);
+    }
+    
+    @Override
+    public String calculateSectionChecksum(byte[] kernelData) {
+        try {
+            KernelSectionIndex index = KernelSectionIndex.parse(kernelData);
+            int offset = index.getOffset(sectionType);
+            int sectionSize = index.getItemCount(sectionType) * getItemStructSize();
+            
+            long checksum = 0;
+            for (int i = 0; i < sectionSize; i++) {
+                checksum += Byte.toUnsignedInt(kernelData[offset + i]);
+            }
+            return String.format("%08X", checksum & 0xFFFFFFFFL);
+        } catch (Exception e) {
+            return "ERROR";
+        }
+    }
+    
+    @Override
+    public List<String> extractItemNames(byte[] kernelData) throws BinaryParseException {
+        return parseAllItems(kernelData).stream().map(this::nameOf).toList();
+    }
+    
+    private T parseRecord(ByteBuffer data, int offset, int index, SectionText text) {
+        if (offset < 0 || offset + getItemStructSize() > data.limit()) {
+            throw new BinaryParseException("Invalid offset: " + offset + " for binary data of length " + data.limit());
+        }
+        try {
+            return readRecord(data, offset, index, text);
+        } catch (Exception e) {
+            throw new BinaryParseException("Failed to parse " + sectionType.getDisplayName() 
+                    + " record at offset " + offset + ": " + e.getMessage(), e);
+        }
+    }
+    
+    private SectionText textOf(ByteBuffer data, KernelSectionIndex index) {
+        return new SectionText(data, index.getTextOffset(sectionType), index.getTextEnd(sectionType));
+    }
+    
+    /**
+     * Read a 48-bit little-endian value, as used for status masks
+     */
+    protected static long get48(ByteBuffer data, int offset) {
+        return (data.getInt(offset) & 0xFFFFFFFFL) | ((data.getShort(offset + 4) & 0xFFFFL) << 32);
+    }
+    
+    /**
+     * Write a 48-bit little-endian value, as used for status masks
+     */
+    protected static void put48(ByteBuffer data, int offset, long value) {
+        data.putInt(offset, (int) value);
+        data.putShort(offset + 4, (short) (value >>> 32));
+    }
+    
+    /**
+     * Read a 24-bit little-endian value
+     */
+    protected static int get24(ByteBuffer data, int offset) {
+        return (data.get(offset) & 0xFF) | ((data.get(offset + 1) & 0xFF) << 8) | ((data.get(offset + 2) & 0xFF) << 16);
+    }
+    
+    /**
+     * Write a 24-bit little-endian value
+     */
+    protected static void put24(ByteBuffer data, int offset, int value) {
+        data.put(offset, (byte) value);
+        data.put(offset + 1, (byte) (value >>> 8));
+        data.put(offset + 2, (byte) (value >>> 16));
+    }
+    
+    private static ByteBuffer littleEndianView(ByteBuffer kernelData) {
+        return kernelData.order() == ByteOrder.LITTLE_ENDIAN
+                ? kernelData
+                : kernelData.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
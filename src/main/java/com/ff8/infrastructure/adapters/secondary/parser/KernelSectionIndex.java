@@ -0,0 +1,149 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.entities.enums.SectionType;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Section offsets of one kernel.bin file, read from its header once.
+ *
+ * <p>The header is a little-endian 32-bit section count followed by one 32-bit offset
+ * per section. The table is only trusted when it is self-consistent: the first section
+ * starts right after the table, offsets never decrease and all lie inside the file.
+ * Otherwise, e.g. for stripped or synthetic kernels, every section falls back to its
+ * {@link SectionType#getStandardOffset() standard offset} and text sections are
+ * reported as unknown.</p>
+ *
+ * <p>Instances are immutable and safe to share between threads.</p>
+ */
+public final class KernelSectionIndex {
+    private static final Logger logger = Logger.getLogger(KernelSectionIndex.class.getName());
+
+    private static final int MAX_SECTION_COUNT = 256;
+
+    private final int[] offsets;
+    private final int fileSize;
+
+    private KernelSectionIndex(int[] offsets, int fileSize) {
+        this.offsets = offsets;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Read the section offset table of a kernel; the buffer's position is not changed.
+     *
+     * @param kernelData The complete kernel data
+     * @return The index, falling back to standard offsets when the table is unusable
+     */
+    public static KernelSectionIndex parse(ByteBuffer kernelData) {
+        ByteBuffer data = kernelData.order() == ByteOrder.LITTLE_ENDIAN
+                ? kernelData
+                : kernelData.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+        int fileSize = data.limit();
+
+        int[] offsets = readTable(data, fileSize);
+        if (offsets == null) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("No usable section table in " + fileSize + " bytes of kernel data, using standard offsets");
+            }
+            return new KernelSectionIndex(null, fileSize);
+        }
+        return new KernelSectionIndex(offsets, fileSize);
+    }
+
+    /**
+     * Read the section offset table of a kernel held in an array
+     */
+    public static KernelSectionIndex parse(byte[] kernelData) {
+        return parse(ByteBuffer.wrap(kernelData));
+    }
+
+    private static int[] readTable(ByteBuffer data, int fileSize) {
+        if (fileSize < 4) {
+            return null;
+        }
+        int count = data.getInt(0);
+        int tableEnd = 4 + count * 4;
+        if (count <= 0 || count > MAX_SECTION_COUNT || tableEnd > fileSize) {
+            return null;
+        }
+
+        int[] offsets = new int[count];
+        int previous = tableEnd;
+        for (int i = 0; i < count; i++) {
+            int offset = data.getInt(4 + i * 4);
+            if (offset < previous || offset > fileSize || (i == 0 && offset != tableEnd)) {
+                return null;
+            }
+            offsets[i] = offset;
+            previous = offset;
+        }
+        return offsets;
+    }
+
+    /**
+     * Check whether the offsets come from the file's own table
+     */
+    public boolean isFromHeader() {
+        return offsets != null;
+    }
+
+    /**
+     * Get the number of sections in the table, or 0 when standard offsets are used
+     */
+    public int getSectionCount() {
+        return offsets == null ? 0 : offsets.length;
+    }
+
+    /**
+     * Get where a section starts
+     */
+    public int getOffset(SectionType section) {
+        if (offsets != null && section.getHeaderIndex() < offsets.length) {
+            return offsets[section.getHeaderIndex()];
+        }
+        return section.getStandardOffset();
+    }
+
+    /**
+     * Get the number of records in a section; the table's section size decides when there is a table
+     */
+    public int getItemCount(SectionType section) {
+        if (offsets != null && section.getHeaderIndex() < offsets.length) {
+            return sectionLength(section.getHeaderIndex()) / section.getStructSize();
+        }
+        return section.getExpectedCount();
+    }
+
+    /**
+     * Get where a section's text starts, or -1 if the kernel has no table to tell
+     */
+    public int getTextOffset(SectionType section) {
+        int textIndex = section.getTextHeaderIndex();
+        return offsets != null && textIndex < offsets.length ? offsets[textIndex] : -1;
+    }
+
+    /**
+     * Get the end of a section's text, or -1 if unknown
+     */
+    public int getTextEnd(SectionType section) {
+        int textIndex = section.getTextHeaderIndex();
+        return offsets != null && textIndex < offsets.length ? offsets[textIndex] + sectionLength(textIndex) : -1;
+    }
+
+    private int sectionLength(int headerIndex) {
+        int end = headerIndex + 1 < offsets.length ? offsets[headerIndex + 1] : fileSize;
+        return end - offsets[headerIndex];
+    }
+
+    @Override
+    public String toString() {
+        return offsets == null
+                ? "KernelSectionIndex[standard offsets]"
+                : "KernelSectionIndex" + Arrays.toString(offsets);
+    }
+}
@@ -0,0 +1,156 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.application.ports.secondary.SectionParserStrategy;
+import com.ff8.domain.entities.*;
+import com.ff8.domain.entities.enums.SectionType;
+import com.ff8.domain.exceptions.BinaryParseException;
+
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An opened kernel whose sections are parsed on first access.
+ * 
+ * <p>Opening a kernel only reads its section offset table. Each section is decoded
+ * the first time it is requested and the parsed list is kept, so a user who only
+ * edits magic never pays for weapons, GFs or abilities. Sections are disjoint
+ * ranges of the same read-only buffer, so different sections can be requested
+ * from different threads; each section is still parsed at most once.</p>
+ * 
+ * <p>Instances are created by {@link KernelBinaryParser#openKernel(ByteBuffer)}, or
+ * fully parsed by {@link KernelBinaryParser#parseAll(ByteBuffer)}.</p>
+ */
+public final class KernelSections {
+    private static final Logger logger = Logger.getLogger(KernelSections.class.getName());
+    
+    private final ByteBuffer kernelData;
+    private final KernelSectionIndex index;
+    private final Map<SectionType, SectionParserStrategy<?>> strategies;
+    private final ConcurrentMap<SectionType, List<?>> parsedSections = new ConcurrentHashMap<>();
+    
+    KernelSections(ByteBuffer kernelData, Map<SectionType, SectionParserStrategy<?>> strategies) {
+        this.kernelData = kernelData.asReadOnlyBuffer();
+        this.index = KernelSectionIndex.parse(this.kernelData);
+        this.strategies = Map.copyOf(strategies);
+    }
+    
+    /**
+     * Get the section offsets read when the kernel was opened
+     */
+    public KernelSectionIndex getIndex() {
+        return index;
+    }
+    
+    /**
+     * Get the sections that can be requested
+     */
+    public Set<SectionType> getAvailableSections() {
+        EnumSet<SectionType> sections = EnumSet.noneOf(SectionType.class);
+        sections.addAll(strategies.keySet());
+        return sections;
+    }
+    
+    /**
+     * Check whether a section has been parsed already
+     */
+    public boolean isParsed(SectionType section) {
+        return parsedSections.containsKey(section);
+    }
+    
+    /**
+     * Get the records of a section, parsing it on first access.
+     * 
+     * @param <T> The record type of the section, e.g. {@link WeaponData} for {@link SectionType#WEAPONS}
+     * @param section The section to read
+     * @return Unmodifiable list of the section's records
+     * @throws BinaryParseException if the section is not available or cannot be parsed
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getSection(SectionType section) throws BinaryParseException {
+        return (List<T>) parsedSections.computeIfAbsent(section, this::parseSection);
+    }
+    
+    /**
+     * Parse every available section that is not parsed yet, one fork/join task per section.
+     * 
+     * <p>Strategies only read their own range of the shared read-only buffer, so the
+     * tasks need no coordination; results are published with {@code putIfAbsent}, which
+     * keeps a section parsed concurrently through {@link #getSection(SectionType)}
+     * consistent. A single pending section is parsed on the calling thread.</p>
+     * 
+     * @param pool The pool running the section tasks
+     * @return This kernel, with every available section parsed
+     * @throws BinaryParseException if any section cannot be parsed
+     */
+    public KernelSections parseAll(ForkJoinPool pool) throws BinaryParseException {
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(strategies.size());
+        for (SectionType section : strategies.keySet()) {
+            if (!parsedSections.containsKey(section)) {
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    parsedSections.putIfAbsent(section, parseSection(section));
+                }));
+            }
+        }
+        
+        if (tasks.size() == 1) {
+            tasks.get(0).invoke();
+        } else if (!tasks.isEmpty()) {
+            pool.invoke(ForkJoinTask.adapt(() -> {
+                ForkJoinTask.invokeAll(tasks);
+            }));
+        }
+        return this;
+    }
+    
+    public List<MagicData> getMagic() {
+        return getSection(SectionType.MAGIC);
+    }
+    
+    public List<JunctionableGFData> getJunctionableGFs() {
+        return getSection(SectionType.JUNCTIONABLE_GFS);
+    }
+    
+    public List<WeaponData> getWeapons() {
+        return getSection(SectionType.WEAPONS);
+    }
+    
+    public List<BattleItemData> getBattleItems() {
+        return getSection(SectionType.BATTLE_ITEMS);
+    }
+    
+    /**
+     * Get the records of one of the ability sections
+     * 
+     * @throws IllegalArgumentException if the section does not hold abilities
+     */
+    public List<AbilityData> getAbilities(SectionType abilitySection) {
+        if (!abilitySection.isAbilitySection()) {
+            throw new IllegalArgumentException(abilitySection.getDisplayName() + " is not an ability section");
+        }
+        return getSection(abilitySection);
+    }
+    
+    private List<?> parseSection(SectionType section) {
+        SectionParserStrategy<?> strategy = strategies.get(section);
+        if (strategy == null) {
+            throw new BinaryParseException("Section not enabled: " + section.getDisplayName());
+        }
+        
+        long startTime = System.nanoTime();
+        List<?> items = strategy instanceof IndexedSectionParser<?> indexed
+                ? indexed.parseAllItems(kernelData, index)
+                : strategy.parseAllItems(kernelData);
+        
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Parsed " + items.size() + " " + section.getDisplayName() + " records in "
+                    + (System.nanoTime() - startTime) / 1000 + " µs");
+        }
+        return List.copyOf(items);
+    }
+}
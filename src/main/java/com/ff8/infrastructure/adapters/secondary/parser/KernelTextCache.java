@@ -0,0 +1,89 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.services.FF8TextCodec;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used cache of decoded kernel strings keyed by offset.
+ *
+ * <p>Loading the same kernel again, or a patched copy of it, reads the same strings
+ * at the same offsets. Each entry keeps the encoded bytes it was decoded from; a hit
+ * is only served when the bytes at the offset still match, so a different kernel
+ * can never get stale text. Checking the bytes is a bulk comparison, much cheaper
+ * than walking the decoder and allocating a new string.</p>
+ *
+ * <p>All methods are thread-safe.</p>
+ */
+final class KernelTextCache {
+    private record Entry(ByteBuffer encoded, String text) {}
+
+    private final Map<Integer, Entry> entries;
+
+    KernelTextCache(int capacity) {
+        this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Decode the null-terminated string at the offset, reusing the cached text when the bytes are unchanged.
+     *
+     * @param codec The codec to decode with on a miss
+     * @param data The kernel data, read with absolute accesses
+     * @param offset Where the string starts
+     * @param maxLength Maximum number of bytes to read if no terminator is found
+     * @return The decoded text, or empty string if the offset is out of range
+     */
+    String decode(FF8TextCodec codec, ByteBuffer data, int offset, int maxLength) {
+        if (offset < 0 || offset >= data.limit()) {
+            return "";
+        }
+        int available = Math.min(maxLength, data.limit() - offset);
+
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(offset);
+        }
+        if (cached != null && matches(cached.encoded(), data, offset, available)) {
+            return cached.text();
+        }
+
+        byte[] raw = new byte[available];
+        data.get(offset, raw);
+        int length = 0;
+        while (length < available && raw[length] != 0) {
+            length++;
+        }
+        String text = codec.decodeRange(raw, 0, length);
+        synchronized (entries) {
+            entries.put(offset, new Entry(ByteBuffer.wrap(raw, 0, length).slice(), text));
+        }
+        return text;
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Same bytes, followed by the terminator or the end of the readable range
+     */
+    private static boolean matches(ByteBuffer encoded, ByteBuffer data, int offset, int available) {
+        int length = encoded.remaining();
+        if (length > available) {
+            return false;
+        }
+        if (length < available && data.get(offset + length) != 0) {
+            return false;
+        }
+        return data.slice(offset, length).equals(encoded);
+    }
+}
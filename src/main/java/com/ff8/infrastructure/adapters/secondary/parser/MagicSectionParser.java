@@ -1,15 +1,18 @@
 package com.ff8.infrastructure.adapters.secondary.parser;
 
 import com.ff8.application.ports.secondary.BinaryParserPort.ValidationResult;
+import com.ff8.application.ports.secondary.MagicRecordView;
 import com.ff8.application.ports.secondary.SectionParserStrategy;
 import com.ff8.domain.entities.*;
 import com.ff8.domain.entities.enums.*;
 import com.ff8.domain.exceptions.BinaryParseException;
+import com.ff8.domain.services.FF8TextCodec;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -51,21 +54,46 @@ import java.util.logging.Logger;
  * <p>Usage within the strategy pattern:</p>
  * <pre>{@code
  * MagicSectionParser parser = new MagicSectionParser();
- * MagicData magic = parser.parseItem(kernelBytes, offset, index);
- * byte[] serialized = parser.serializeItem(magic);
+ * MagicData magic = parser.parseItem(kernelBuffer, offset, index);
+ * parser.serializeItem(magic, kernelBuffer, offset);
  * }</pre>
  * 
  * @author FF8 Magic Creator Team
  * @version 1.0
  * @since 1.0
  */
-public class MagicSectionParser implements SectionParserStrategy<MagicData> {
+public class MagicSectionParser implements SectionParserStrategy<MagicData>, IndexedSectionParser<MagicData> {
     private static final Logger logger = Logger.getLogger(MagicSectionParser.class.getName());
     
     private static final int MAGIC_STRUCT_SIZE = 0x3C; // 60 bytes
-    private static final int MAGIC_SECTION_OFFSET = 0x021C; // Standard offset
     private static final int EXPECTED_MAGIC_COUNT = 56;
     private static final int STRING_SECTION_OFFSET = 0x5188; // Base offset for string data
+    private static final int MAX_STRING_LENGTH = 100; // Safety limit for null-terminated strings
+    private static final int TEXT_CACHE_CAPACITY = 1024; // Names and descriptions of several kernels
+    
+    // FF8 Junction Status Mapping (from junction bits to main status bits)
+    // Junction bits 0-6: death(32), poison(33), petrify(34), darkness(35), silence(36), berserk(37), zombie(38)
+    // Junction bits 7-12: sleep(0), slow(2), stop(3), curse(9), confusion(14), drain(15); bits 13-15 are unused
+    private static final int[] JUNCTION_TO_MAIN_STATUS = {32, 33, 34, 35, 36, 37, 38, 0, 2, 3, 9, 14, 15};
+    private static final int JUNCTION_STATUS_MASK = (1 << JUNCTION_TO_MAIN_STATUS.length) - 1;
+    
+    // Decoded junction defense element lists for every possible bitfield byte (immutable, shared)
+    private static final List<List<Element>> DEFENSE_ELEMENTS_BY_BYTE = buildDefenseElementTable();
+    
+    private final FF8TextCodec textCodec = FF8TextCodec.getInstance();
+    private final KernelTextCache textCache = new KernelTextCache(TEXT_CACHE_CAPACITY);
+    
+    private static List<List<Element>> buildDefenseElementTable() {
+        List<List<Element>> table = new ArrayList<>(256);
+        for (int value = 0; value < 256; value++) {
+            List<Element> elements = new ArrayList<>(8);
+            for (int bits = value; bits != 0; bits &= bits - 1) {
+                elements.add(Element.fromValue(Integer.lowestOneBit(bits)));
+            }
+            table.add(List.copyOf(elements));
+        }
+        return List.copyOf(table);
+    }
     
     /**
      * {@inheritDoc}
@@ -100,133 +128,91 @@ public class MagicSectionParser implements SectionParserStrategy<MagicData> {
         if (binaryData == null) {
             throw new BinaryParseException("Binary data cannot be null");
         }
-        
-        if (offset < 0 || offset + MAGIC_STRUCT_SIZE > binaryData.length) {
-            throw new BinaryParseException("Invalid offset: " + offset + " for binary data of length " + binaryData.length);
+        return parseItem(ByteBuffer.wrap(binaryData), offset, index);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>This is the allocation-light fast path: every field is read with an absolute
+     * little-endian access at its fixed struct offset, bit flags are expanded through
+     * precomputed decode tables and spell strings are decoded in a single pass straight
+     * out of the buffer. Mapped or direct buffers are parsed in place and the caller's
+     * buffer position is left untouched.</p>
+     * 
+     * <p>Per-field diagnostics are only produced when {@code FINEST} logging is enabled
+     * for this class, so parsing a full kernel costs no string formatting by default.</p>
+     * 
+     * @param kernelData The complete kernel data, e.g. a read-only mapped view
+     * @param offset The absolute offset within the buffer where magic structure begins
+     * @param index The kernel index (position) of this magic entry
+     * @return Fully parsed MagicData object with all properties populated
+     * @throws BinaryParseException if parsing fails due to invalid data or offset
+     */
+    @Override
+    public MagicData parseItem(ByteBuffer kernelData, int offset, int index) throws BinaryParseException {
+        if (kernelData == null) {
+            throw new BinaryParseException("Binary data cannot be null");
+        }
+        return parseRecord(littleEndianView(kernelData), offset, index);
+    }
+    
+    /**
+     * Decodes one magic record from a buffer already ordered little-endian.
+     * 
+     * <p>Shared by {@link #parseItem(ByteBuffer, int, int)} and
+     * {@link #parseAllItems(ByteBuffer)} so that a whole section is decoded
+     * through a single buffer view.</p>
+     */
+    private MagicData parseRecord(ByteBuffer data, int offset, int index) throws BinaryParseException {
+        if (offset < 0 || offset + MAGIC_STRUCT_SIZE > data.limit()) {
+            throw new BinaryParseException("Invalid offset: " + offset + " for binary data of length " + data.limit());
         }
         
         try {
-            logger.info("Parsing magic data at offset 0x" + Integer.toHexString(offset) + " (" + offset + ")");
-            
-            ByteBuffer buffer = ByteBuffer.wrap(binaryData, offset, MAGIC_STRUCT_SIZE);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
-            
-            // Log first 16 bytes for debugging
-            StringBuilder hexDump = new StringBuilder("First 16 bytes: ");
-            buffer.mark();
-            for (int i = 0; i < Math.min(16, MAGIC_STRUCT_SIZE); i++) {
-                hexDump.append(String.format("%02X ", buffer.get() & 0xFF));
+            if (logger.isLoggable(Level.FINEST)) {
+                logRecordDiagnostics(data, offset, index);
             }
-            logger.info(hexDump.toString());
-            buffer.reset();
             
             // 0x00-0x03: Text pointers (preserve for exact serialization)
-            int offsetSpellName = buffer.getShort() & 0xFFFF;
-            int offsetSpellDescription = buffer.getShort() & 0xFFFF;
-            logger.info("Raw text pointers from binary: spell=0x" + Integer.toHexString(offsetSpellName) + " (" + offsetSpellName + "), desc=0x" + Integer.toHexString(offsetSpellDescription) + " (" + offsetSpellDescription + ")");
-            
-            // Log the first few bytes for debugging
-            int currentPos = buffer.position();
-            buffer.position(0);
-            StringBuilder offsetHexDump = new StringBuilder("First 8 bytes of magic struct: ");
-            for (int i = 0; i < 8; i++) {
-                offsetHexDump.append(String.format("%02X ", buffer.get() & 0xFF));
-            }
-            logger.info(offsetHexDump.toString());
-            buffer.position(currentPos); // Restore position instead of using mark/reset
-            
-            // 0x04-0x05: Magic ID
-            int magicID = buffer.getShort() & 0xFFFF;
-            logger.info("Magic ID: " + magicID);
-            
-            // 0x06: Animation triggered
-            int animationTriggered = buffer.get() & 0xFF;
-            
-            // 0x07: Attack type
-            int attackTypeValue = buffer.get() & 0xFF;
-            logger.info("Attack type value: " + attackTypeValue);
-            AttackType attackType = AttackType.fromValue(attackTypeValue);
-            
-            // 0x08: Spell power
-            int spellPower = buffer.get() & 0xFF;
-            logger.info("Spell power: " + spellPower);
-            
-            // 0x09: Unknown1
-            int unknown1 = buffer.get() & 0xFF;
-            
-            // 0x0A: Default target (parse TargetFlags)
-            int targetByte = buffer.get() & 0xFF;
-            TargetFlags targetInfo = parseTargetFlags(targetByte);
-            
-            // 0x0B: Attack flags
-            int flagByte = buffer.get() & 0xFF;
-            AttackFlags attackFlags = parseAttackFlags(flagByte);
-            
-            // 0x0C: Draw resist
-            int drawResist = buffer.get() & 0xFF;
-            
-            // 0x0D: Hit count
-            int hitCount = buffer.get() & 0xFF;
-            logger.info("Hit count: " + hitCount);
-            
-            // 0x0E: Element
-            int elementValue = buffer.get() & 0xFF;
-            logger.info("Element value: " + elementValue + " (0x" + Integer.toHexString(elementValue) + ")");
-            Element element = Element.fromValue(elementValue);
-            
-            // 0x0F: Unknown2
-            int unknown2 = buffer.get() & 0xFF;
+            int offsetSpellName = data.getShort(offset) & 0xFFFF;
+            int offsetSpellDescription = data.getShort(offset + 0x02) & 0xFFFF;
+            
+            // 0x04-0x0F: Scalar attack properties
+            int magicID = data.getShort(offset + 0x04) & 0xFFFF;
+            int animationTriggered = data.get(offset + 0x06) & 0xFF;
+            AttackType attackType = AttackType.fromValue(data.get(offset + 0x07) & 0xFF);
+            int spellPower = data.get(offset + 0x08) & 0xFF;
+            int unknown1 = data.get(offset + 0x09) & 0xFF;
+            TargetFlags targetInfo = parseTargetFlags(data.get(offset + 0x0A) & 0xFF);
+            AttackFlags attackFlags = parseAttackFlags(data.get(offset + 0x0B) & 0xFF);
+            int drawResist = data.get(offset + 0x0C) & 0xFF;
+            int hitCount = data.get(offset + 0x0D) & 0xFF;
+            Element element = Element.fromValue(data.get(offset + 0x0E) & 0xFF);
+            int unknown2 = data.get(offset + 0x0F) & 0xFF;
             
             // 0x10-0x15: Status effects (6 bytes = 48 bits)
-            long statusDword = buffer.getInt() & 0xFFFFFFFFL; // 32 bits
-            int statusWord = buffer.getShort() & 0xFFFF;      // 16 bits
+            int statusDword = data.getInt(offset + 0x10);
+            int statusWord = data.getShort(offset + 0x14) & 0xFFFF;
             StatusEffectSet statusEffects = parseStatusEffects(statusDword, statusWord);
             
             // 0x16: Status attack enabler
-            int statusAttackEnabler = buffer.get() & 0xFF;
-            
-            // 0x17-0x1F: Junction stats (9 bytes)
-            JunctionStats junctionStats = parseJunctionStats(buffer);
-            
-            // 0x20-0x23: Junction elemental (4 bytes)
-            JunctionElemental junctionElemental = parseJunctionElemental(buffer);
+            int statusAttackEnabler = data.get(offset + 0x16) & 0xFF;
             
-            // 0x24-0x29: Junction status (6 bytes)
-            JunctionStatusEffects junctionStatus = parseJunctionStatus(buffer);
-            
-            // 0x2A-0x39: GF Compatibility (16 bytes)
-            GFCompatibilitySet gfCompatibility = parseGFCompatibility(buffer);
+            // 0x17-0x39: Junction data and GF compatibility
+            JunctionStats junctionStats = parseJunctionStats(data, offset + 0x17);
+            JunctionElemental junctionElemental = parseJunctionElemental(data, offset + 0x20);
+            JunctionStatusEffects junctionStatus = parseJunctionStatus(data, offset + 0x24);
+            GFCompatibilitySet gfCompatibility = parseGFCompatibility(data, offset + 0x2A);
             
             // 0x3A-0x3B: Unknown3
-            int unknown3 = buffer.getShort() & 0xFFFF;
+            int unknown3 = data.getShort(offset + 0x3A) & 0xFFFF;
 
-            // Extract strings using the offsets
-            String extractedName = "";
-            String extractedDescription = "";
-            
-            if (offsetSpellName >= 0) {
-                int nameOffset = STRING_SECTION_OFFSET + offsetSpellName;
-                logger.info("Calculating spell name offset: 0x" + Integer.toHexString(STRING_SECTION_OFFSET) + " + 0x" + Integer.toHexString(offsetSpellName) + " = 0x" + Integer.toHexString(nameOffset));
-                String rawName = extractNullTerminatedString(binaryData, nameOffset);
-                extractedName = decipherCaesarCode(rawName);
-                logger.info("=== Extracted spell name: '" + rawName + "' -> deciphered: '" + extractedName + "' ===");
-            } else {
-                logger.warning("Spell name offset is negative - no name to extract");
-            }
-            
-            if (offsetSpellDescription >= 0) {
-                int descOffset = STRING_SECTION_OFFSET + offsetSpellDescription;
-                logger.info("Calculating spell description offset: 0x" + Integer.toHexString(STRING_SECTION_OFFSET) + " + 0x" + Integer.toHexString(offsetSpellDescription) + " = 0x" + Integer.toHexString(descOffset));
-                String rawDescription = extractNullTerminatedString(binaryData, descOffset);
-                extractedDescription = decipherCaesarCode(rawDescription);
-                logger.info("=== Extracted spell description: '" + rawDescription + "' -> deciphered: '" + extractedDescription + "' ===");
-            } else {
-                logger.warning("Spell description offset is negative - no description to extract");
-            }
-            
+            // Decode strings straight from the string section
+            String extractedName = decodeSpellString(data, STRING_SECTION_OFFSET + offsetSpellName);
+            String extractedDescription = decodeSpellString(data, STRING_SECTION_OFFSET + offsetSpellDescription);
             
             // Use Lombok Builder pattern for immutable MagicData
-            logger.info("Building MagicData with kernelIndex=" + index + ", magicID=" + magicID + ", spellName='" + extractedName + "'");
             return MagicData.builder()
                     .index(index)
                     .offsetSpellName(offsetSpellName)
@@ -258,77 +244,85 @@ public class MagicSectionParser implements SectionParserStrategy<MagicData> {
         }
     }
     
+    /**
+     * Dumps the raw record and its key fields; only called when FINEST logging is on.
+     */
+    private void logRecordDiagnostics(ByteBuffer data, int offset, int index) {
+        StringBuilder hexDump = new StringBuilder();
+        for (int i = 0; i < MAGIC_STRUCT_SIZE; i++) {
+            hexDump.append(String.format("%02X ", data.get(offset + i) & 0xFF));
+        }
+        logger.finest("Magic entry " + index + " at offset 0x" + Integer.toHexString(offset) + ": " + hexDump);
+        logger.finest("  text pointers: spell=0x" + Integer.toHexString(data.getShort(offset) & 0xFFFF)
+                + ", desc=0x" + Integer.toHexString(data.getShort(offset + 0x02) & 0xFFFF)
+                + ", magicID=" + (data.getShort(offset + 0x04) & 0xFFFF)
+                + ", attackType=" + (data.get(offset + 0x07) & 0xFF)
+                + ", power=" + (data.get(offset + 0x08) & 0xFF)
+                + ", element=0x" + Integer.toHexString(data.get(offset + 0x0E) & 0xFF));
+    }
+    
     @Override
     public byte[] serializeItem(MagicData magic) throws BinaryParseException {
+        byte[] record = new byte[MAGIC_STRUCT_SIZE];
+        serializeItem(magic, ByteBuffer.wrap(record), 0);
+        return record;
+    }
+    
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Every field is stored with an absolute little-endian write at its fixed struct
+     * offset, mirroring {@link #parseItem(ByteBuffer, int, int)}. All 60 bytes of the
+     * slot are written, so the target does not need to be cleared first.</p>
+     */
+    @Override
+    public void serializeItem(MagicData magic, ByteBuffer target, int offset) throws BinaryParseException {
         if (magic == null) {
             throw new BinaryParseException("Magic data cannot be null");
         }
+        if (target == null) {
+            throw new BinaryParseException("Target buffer cannot be null");
+        }
+        if (offset < 0 || offset + MAGIC_STRUCT_SIZE > target.limit()) {
+            throw new BinaryParseException("Invalid offset: " + offset + " for target buffer of length " + target.limit());
+        }
         
         try {
-            ByteBuffer buffer = ByteBuffer.allocate(MAGIC_STRUCT_SIZE);
-            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            ByteBuffer data = littleEndianView(target);
             
             // 0x00-0x03: Text pointers
-            buffer.putShort((short) magic.getOffsetSpellName());
-            buffer.putShort((short) magic.getOffsetSpellDescription());
-            
-            // 0x04-0x05: Magic ID
-            buffer.putShort((short) magic.getMagicID());
-            
-            // 0x06: Animation triggered
-            buffer.put((byte) magic.getAnimationTriggered());
-            
-            // 0x07: Attack type
-            buffer.put((byte) magic.getAttackType().getValue());
-            
-            // 0x08: Spell power
-            buffer.put((byte) magic.getSpellPower());
-            
-            // 0x09: Unknown1
-            buffer.put((byte) magic.getUnknown1());
-            
-            // 0x0A: Default target
-            buffer.put((byte) serializeTargetFlags(magic.getTargetInfo()));
-            
-            // 0x0B: Attack flags
-            buffer.put((byte) serializeAttackFlags(magic.getAttackFlags()));
-            
-            // 0x0C: Draw resist
-            buffer.put((byte) magic.getDrawResist());
-            
-            // 0x0D: Hit count
-            buffer.put((byte) magic.getHitCount());
-            
-            // 0x0E: Element
-            buffer.put((byte) magic.getElement().getValue());
-            
-            // 0x0F: Unknown2
-            buffer.put((byte) magic.getUnknown2());
+            data.putShort(offset, (short) magic.getOffsetSpellName());
+            data.putShort(offset + 0x02, (short) magic.getOffsetSpellDescription());
+            
+            // 0x04-0x0F: Scalar attack properties
+            data.putShort(offset + 0x04, (short) magic.getMagicID());
+            data.put(offset + 0x06, (byte) magic.getAnimationTriggered());
+            data.put(offset + 0x07, (byte) magic.getAttackType().getValue());
+            data.put(offset + 0x08, (byte) magic.getSpellPower());
+            data.put(offset + 0x09, (byte) magic.getUnknown1());
+            data.put(offset + 0x0A, (byte) serializeTargetFlags(magic.getTargetInfo()));
+            data.put(offset + 0x0B, (byte) serializeAttackFlags(magic.getAttackFlags()));
+            data.put(offset + 0x0C, (byte) magic.getDrawResist());
+            data.put(offset + 0x0D, (byte) magic.getHitCount());
+            data.put(offset + 0x0E, (byte) magic.getElement().getValue());
+            data.put(offset + 0x0F, (byte) magic.getUnknown2());
             
             // 0x10-0x15: Status effects
             StatusData statusData = serializeStatusEffects(magic.getStatusEffects());
-            buffer.putInt((int) statusData.dword);
-            buffer.putShort((short) statusData.word);
+            data.putInt(offset + 0x10, (int) statusData.dword);
+            data.putShort(offset + 0x14, (short) statusData.word);
             
             // 0x16: Status attack enabler
-            buffer.put((byte) magic.getStatusAttackEnabler());
-            
-            // 0x17-0x1F: Junction stats
-            serializeJunctionStats(buffer, magic.getJunctionStats());
-            
-            // 0x20-0x23: Junction elemental
-            serializeJunctionElemental(buffer, magic.getJunctionElemental());
+            data.put(offset + 0x16, (byte) magic.getStatusAttackEnabler());
             
-            // 0x24-0x29: Junction status
-            serializeJunctionStatus(buffer, magic.getJunctionStatus());
-            
-            // 0x2A-0x39: GF Compatibility
-            serializeGFCompatibility(buffer, magic.getGfCompatibility());
+            // 0x17-0x39: Junction data and GF compatibility
+            serializeJunctionStats(data, offset + 0x17, magic.getJunctionStats());
+            serializeJunctionElemental(data, offset + 0x20, magic.getJunctionElemental());
+            serializeJunctionStatus(data, offset + 0x24, magic.getJunctionStatus());
+            serializeGFCompatibility(data, offset + 0x2A, magic.getGfCompatibility());
             
             // 0x3A-0x3B: Unknown3
-            buffer.putShort((short) magic.getUnknown3());
-            
-            return buffer.array();
+            data.putShort(offset + 0x3A, (short) magic.getUnknown3());
             
         } catch (Exception e) {
             throw new BinaryParseException("Failed to serialize magic data: " + e.getMessage(), e);
@@ -337,51 +331,86 @@ public class MagicSectionParser implements SectionParserStrategy<MagicData> {
     
     @Override
     public List<MagicData> parseAllItems(byte[] kernelData) throws BinaryParseException {
-        logger.info("Starting to parse all magic data from kernel.bin");
-        logger.info("Kernel data size: " + kernelData.length + " bytes (0x" + Integer.toHexString(kernelData.length) + ")");
-        
-        List<MagicData> magicList = new ArrayList<>();
-        int offset = findSectionOffset(kernelData);
-        
-        logger.info("Magic section offset: 0x" + Integer.toHexString(offset) + " (" + offset + ")");
-        logger.info("Magic struct size: " + MAGIC_STRUCT_SIZE + " bytes");
-        logger.info("Expected magic count: " + EXPECTED_MAGIC_COUNT);
-        logger.info("Total magic section size: " + (EXPECTED_MAGIC_COUNT * MAGIC_STRUCT_SIZE) + " bytes");
-        
+        return parseAllItems(ByteBuffer.wrap(kernelData));
+    }
+    
+    @Override
+    public List<MagicData> parseAllItems(ByteBuffer kernelData) throws BinaryParseException {
+        return parseAllItems(kernelData, KernelSectionIndex.parse(kernelData));
+    }
+    
+    @Override
+    public List<MagicData> parseAllItems(ByteBuffer kernelData, KernelSectionIndex index) throws BinaryParseException {
+        ByteBuffer data = littleEndianView(kernelData);
+        int kernelSize = data.limit();
+        int offset = index.getOffset(SectionType.MAGIC);
         int magicSectionEnd = offset + (EXPECTED_MAGIC_COUNT * MAGIC_STRUCT_SIZE);
-        logger.info("Magic section end: 0x" + Integer.toHexString(magicSectionEnd) + " (" + magicSectionEnd + ")");
         
-        if (magicSectionEnd > kernelData.length) {
-            throw new BinaryParseException("Magic section would extend beyond file: need " + magicSectionEnd + " but file is only " + kernelData.length + " bytes");
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Parsing " + EXPECTED_MAGIC_COUNT + " magic entries from 0x" + Integer.toHexString(offset)
+                    + " to 0x" + Integer.toHexString(magicSectionEnd) + " in " + kernelSize + " bytes of kernel data");
         }
         
+        if (magicSectionEnd > kernelSize) {
+            throw new BinaryParseException("Magic section would extend beyond file: need " + magicSectionEnd + " but file is only " + kernelSize + " bytes");
+        }
+        
+        List<MagicData> magicList = new ArrayList<>(EXPECTED_MAGIC_COUNT);
         for (int i = 0; i < EXPECTED_MAGIC_COUNT; i++) {
             int currentOffset = offset + (i * MAGIC_STRUCT_SIZE);
-            logger.info("Parsing magic entry " + i + " at offset 0x" + Integer.toHexString(currentOffset) + " (" + currentOffset + ")");
-            
             try {
-                MagicData magic = parseItem(kernelData, currentOffset, i);
-                magicList.add(magic);
-                logger.info("Successfully parsed magic entry " + i + " with index=" + magic.getIndex() + 
-                           ", magicID=" + magic.getMagicID() + ", name='" + magic.getExtractedSpellName() + "'");
-            } catch (Exception e) {
+                magicList.add(parseRecord(data, currentOffset, i));
+            } catch (BinaryParseException e) {
                 logger.severe("Failed to parse magic entry " + i + " at offset " + currentOffset + ": " + e.getMessage());
                 throw e;
             }
         }
         
-        logger.info("Successfully parsed all " + magicList.size() + " magic entries");
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("Successfully parsed all " + magicList.size() + " magic entries");
+        }
         return magicList;
     }
     
+    /**
+     * Opens a lazily decoding view over the magic section of a kernel.
+     *
+     * <p>Only the section offset is resolved here; each field is read from the buffer
+     * when the view is asked for it, and a full {@link MagicData} is built only through
+     * {@link MagicRecordView#toMagicData()}.</p>
+     *
+     * @param kernelData The complete kernel data, e.g. a read-only mapped view
+     * @return A view positioned on the first record
+     * @throws BinaryParseException if the section does not fit in the data
+     */
+    public MagicRecordView openView(ByteBuffer kernelData) throws BinaryParseException {
+        if (kernelData == null) {
+            throw new BinaryParseException("Binary data cannot be null");
+        }
+        ByteBuffer data = littleEndianView(kernelData);
+        int offset = findSectionOffset(data);
+        if (offset + (EXPECTED_MAGIC_COUNT * MAGIC_STRUCT_SIZE) > data.limit()) {
+            throw new BinaryParseException("Magic section would extend beyond file: need "
+                    + (offset + EXPECTED_MAGIC_COUNT * MAGIC_STRUCT_SIZE) + " but file is only " + data.limit() + " bytes");
+        }
+        return new BufferMagicRecordView(this, data, offset, MAGIC_STRUCT_SIZE, EXPECTED_MAGIC_COUNT);
+    }
+
+    /**
+     * Decodes a spell text from its pointer into the string section; used by record views.
+     */
+    String decodeText(ByteBuffer data, int pointer) {
+        return decodeSpellString(data, STRING_SECTION_OFFSET + pointer);
+    }
+
     @Override
     public byte[] serializeAllItems(List<MagicData> magicDataList, byte[] originalKernelData) throws BinaryParseException {
         byte[] result = originalKernelData.clone();
-        int offset = findSectionOffset(result);
+        ByteBuffer target = ByteBuffer.wrap(result).order(ByteOrder.LITTLE_ENDIAN);
+        int offset = findSectionOffset(target);
         
         for (int i = 0; i < magicDataList.size(); i++) {
-            byte[] magicBytes = serializeItem(magicDataList.get(i));
-            System.arraycopy(magicBytes, 0, result, offset + (i * MAGIC_STRUCT_SIZE), MAGIC_STRUCT_SIZE);
+            serializeItem(magicDataList.get(i), target, offset + (i * MAGIC_STRUCT_SIZE));
         }
         
         return result;
@@ -399,21 +428,34 @@ public class MagicSectionParser implements SectionParserStrategy<MagicData> {
     
     @Override
     public int findSectionOffset(byte[] kernelData) throws BinaryParseException {
-        // For now, return the standard offset. In a real implementation,
-        // this would scan the kernel.bin structure to find the actual offset
-        logger.info("Using standard magic section offset: 0x" + Integer.toHexString(MAGIC_SECTION_OFFSET) + " (" + MAGIC_SECTION_OFFSET + ")");
-        logger.info("Kernel data size: " + kernelData.length + " bytes");
-        
-        // Let's examine what's at the supposed magic section offset
-        if (kernelData.length > MAGIC_SECTION_OFFSET + 16) {
-            StringBuilder hexDump = new StringBuilder("Data at magic section offset 0x" + Integer.toHexString(MAGIC_SECTION_OFFSET) + ": ");
+        return findSectionOffset(ByteBuffer.wrap(kernelData));
+    }
+    
+    /**
+     * Reads the section from the kernel's offset table, falling back to the standard
+     * offset when the file has no usable table.
+     */
+    private int findSectionOffset(ByteBuffer kernelData) {
+        int offset = KernelSectionIndex.parse(kernelData).getOffset(SectionType.MAGIC);
+        if (logger.isLoggable(Level.FINEST) && kernelData.limit() > offset + 16) {
+            StringBuilder hexDump = new StringBuilder("Data at magic section offset 0x" + Integer.toHexString(offset) + ": ");
             for (int i = 0; i < 16; i++) {
-                hexDump.append(String.format("%02X ", kernelData[MAGIC_SECTION_OFFSET + i] & 0xFF));
+                hexDump.append(String.format("%02X ", kernelData.get(offset + i) & 0xFF));
             }
-            logger.info(hexDump.toString());
+            logger.finest(hexDump.toString());
         }
         
-        return MAGIC_SECTION_OFFSET;
+        return offset;
+    }
+    
+    /**
+     * Returns a little-endian view of the buffer, reusing it when already ordered that way.
+     * Only the view's byte order differs; content and indices are shared with the original.
+     */
+    private static ByteBuffer littleEndianView(ByteBuffer kernelData) {
+        return kernelData.order() == ByteOrder.LITTLE_ENDIAN
+                ? kernelData
+                : kernelData.duplicate().order(ByteOrder.LITTLE_ENDIAN);
     }
     
     @Override
@@ -424,14 +466,15 @@ public class MagicSectionParser implements SectionParserStrategy<MagicData> {
             return new ValidationResult(false, "Kernel data is null", List.of("Null data"), 0, 0);
         }
         
-        if (kernelData.length < MAGIC_SECTION_OFFSET + (EXPECTED_MAGIC_COUNT * MAGIC_STRUCT_SIZE)) {
+        int offset = findSectionOffset(ByteBuffer.wrap(kernelData));
+        if (kernelData.length < offset + (EXPECTED_MAGIC_COUNT * MAGIC_STRUCT_SIZE)) {
             issues.add("File too small for expected magic section");
         }
         
         boolean isValid = issues.isEmpty();
         String message = isValid ? "Valid magic section structure" : "Invalid magic section structure";
         
-        return new ValidationResult(isValid, message, issues, MAGIC_SECTION_OFFSET, EXPECTED_MAGIC_COUNT);
+        return new ValidationResult(isValid, message, issues, offset, EXPECTED_MAGIC_COUNT);
     }
     
     @Override
@@ -466,246 +509,116 @@ public class MagicSectionParser implements SectionParserStrategy<MagicData> {
     // Private helper methods (moved from the original KernelBinaryParser)
     
     private TargetFlags parseTargetFlags(int targetByte) {
-        TargetFlags flags = new TargetFlags();
-        for (int i = 0; i < 8; i++) {
-            flags.setBit(i, (targetByte & (1 << i)) != 0);
-        }
-        return flags;
+        return TargetFlags.of(targetByte);
     }
     
     private AttackFlags parseAttackFlags(int flagByte) {
-        AttackFlags flags = new AttackFlags();
-        for (int i = 0; i < 8; i++) {
-            flags.setBit(i, (flagByte & (1 << i)) != 0);
-        }
-        return flags;
+        return AttackFlags.of(flagByte);
     }
     
-    private StatusEffectSet parseStatusEffects(long statusDword, int statusWord) {
-        StatusEffectSet statusSet = new StatusEffectSet();
-        
-        // Handle 32-bit DWORD (bits 0-31)
-        for (int i = 0; i < 32; i++) {
-            if ((statusDword & (1L << i)) != 0) {
-                statusSet.setBit(i, true);
-            }
-        }
-        
-        // Handle 16-bit WORD (bits 32-47)
-        for (int i = 0; i < 16; i++) {
-            if ((statusWord & (1 << i)) != 0) {
-                statusSet.setBit(32 + i, true);
-            }
-        }
-        
-        return statusSet;
-    }
-    
-    private JunctionStats parseJunctionStats(ByteBuffer buffer) {
-        int hp = buffer.get() & 0xFF;
-        int str = buffer.get() & 0xFF;
-        int vit = buffer.get() & 0xFF;
-        int mag = buffer.get() & 0xFF;
-        int spr = buffer.get() & 0xFF;
-        int spd = buffer.get() & 0xFF;
-        int eva = buffer.get() & 0xFF;
-        int hit = buffer.get() & 0xFF;
-        int luck = buffer.get() & 0xFF;
-        return new JunctionStats(hp, str, vit, mag, spr, spd, eva, hit, luck);
-    }
-    
-    private JunctionElemental parseJunctionElemental(ByteBuffer buffer) {
-        int attackElement = buffer.get() & 0xFF;
-        int attackValue = buffer.get() & 0xFF;
-        int defenseElementByte = buffer.get() & 0xFF;
-        int defenseValue = buffer.get() & 0xFF;
-        
-        Element attack = Element.fromValue(attackElement);
-        List<Element> defenseElements = parseElementalDefense(defenseElementByte);
-        
-        return new JunctionElemental(attack, attackValue, defenseElements, defenseValue);
+    private StatusEffectSet parseStatusEffects(int statusDword, int statusWord) {
+        // Bits 0-31 come from the DWORD, bits 32-47 from the WORD
+        return StatusEffectSet.of((statusDword & 0xFFFFFFFFL) | ((long) statusWord << 32));
     }
     
-    private JunctionStatusEffects parseJunctionStatus(ByteBuffer buffer) {
-        int attackValue = buffer.get() & 0xFF;
-        int defenseValue = buffer.get() & 0xFF;
-        
-        int attackStatusWord = buffer.getShort() & 0xFFFF;
-        int defenseStatusWord = buffer.getShort() & 0xFFFF;
-        
-        StatusEffectSet attackStatuses = parseJunctionStatus(attackStatusWord);
-        StatusEffectSet defenseStatuses = parseJunctionStatus(defenseStatusWord);
+    private JunctionStats parseJunctionStats(ByteBuffer data, int offset) {
+        return JunctionStats.of(
+                data.get(offset) & 0xFF,
+                data.get(offset + 1) & 0xFF,
+                data.get(offset + 2) & 0xFF,
+                data.get(offset + 3) & 0xFF,
+                data.get(offset + 4) & 0xFF,
+                data.get(offset + 5) & 0xFF,
+                data.get(offset + 6) & 0xFF,
+                data.get(offset + 7) & 0xFF,
+                data.get(offset + 8) & 0xFF);
+    }
+    
+    private JunctionElemental parseJunctionElemental(ByteBuffer data, int offset) {
+        Element attack = Element.fromValue(data.get(offset) & 0xFF);
+        int attackValue = data.get(offset + 1) & 0xFF;
+        List<Element> defenseElements = DEFENSE_ELEMENTS_BY_BYTE.get(data.get(offset + 2) & 0xFF);
+        int defenseValue = data.get(offset + 3) & 0xFF;
         
-        return new JunctionStatusEffects(attackStatuses, attackValue, defenseStatuses, defenseValue);
+        return JunctionElemental.of(attack, attackValue, defenseElements, defenseValue);
     }
     
-    private GFCompatibilitySet parseGFCompatibility(ByteBuffer buffer) {
-        GFCompatibilitySet compatibility = new GFCompatibilitySet();
+    private JunctionStatusEffects parseJunctionStatus(ByteBuffer data, int offset) {
+        int attackValue = data.get(offset) & 0xFF;
+        int defenseValue = data.get(offset + 1) & 0xFF;
         
-        GF[] gfs = GF.values();
-        for (int i = 0; i < Math.min(16, gfs.length); i++) {
-            int value = buffer.get() & 0xFF;
-            compatibility.setCompatibility(gfs[i], value);
-        }
+        StatusEffectSet attackStatuses = parseJunctionStatus(data.getShort(offset + 2) & 0xFFFF);
+        StatusEffectSet defenseStatuses = parseJunctionStatus(data.getShort(offset + 4) & 0xFFFF);
         
-        return compatibility;
+        return JunctionStatusEffects.of(attackStatuses, attackValue, defenseStatuses, defenseValue);
+    }
+    
+    private GFCompatibilitySet parseGFCompatibility(ByteBuffer data, int offset) {
+        // 16 bytes, one per GF; read little-endian they are exactly the packed words
+        return GFCompatibilitySet.of(data.getLong(offset), data.getLong(offset + Long.BYTES));
     }
     
     // Serialization helper methods
     private int serializeTargetFlags(TargetFlags targetInfo) {
-        int result = 0;
-        for (int i = 0; i < 8; i++) {
-            if (targetInfo.getBit(i)) {
-                result |= (1 << i);
-            }
-        }
-        return result;
+        return targetInfo.toByte();
     }
     
     private int serializeAttackFlags(AttackFlags attackFlags) {
-        int result = 0;
-        for (int i = 0; i < 8; i++) {
-            if (attackFlags.getBit(i)) {
-                result |= (1 << i);
-            }
-        }
-        return result;
+        return attackFlags.toByte();
     }
     
     private StatusData serializeStatusEffects(StatusEffectSet statusEffects) {
         StatusData statusData = new StatusData();
-        statusData.dword = 0;
-        statusData.word = 0;
-        
-        // Serialize bits 0-31 to DWORD
-        for (int i = 0; i < 32; i++) {
-            if (statusEffects.getBit(i)) {
-                statusData.dword |= (1L << i);
-            }
-        }
-        
-        // Serialize bits 32-47 to WORD
-        for (int i = 0; i < 16; i++) {
-            if (statusEffects.getBit(32 + i)) {
-                statusData.word |= (1 << i);
-            }
-        }
-        
+        statusData.dword = statusEffects.toDword() & 0xFFFFFFFFL;
+        statusData.word = statusEffects.toWord();
         return statusData;
     }
     
-    private void serializeJunctionStats(ByteBuffer buffer, JunctionStats stats) {
-        buffer.put((byte) stats.getHp());
-        buffer.put((byte) stats.getStr());
-        buffer.put((byte) stats.getVit());
-        buffer.put((byte) stats.getMag());
-        buffer.put((byte) stats.getSpr());
-        buffer.put((byte) stats.getSpd());
-        buffer.put((byte) stats.getEva());
-        buffer.put((byte) stats.getHit());
-        buffer.put((byte) stats.getLuck());
+    private void serializeJunctionStats(ByteBuffer data, int offset, JunctionStats stats) {
+        data.put(offset, (byte) stats.getHp());
+        data.put(offset + 1, (byte) stats.getStr());
+        data.put(offset + 2, (byte) stats.getVit());
+        data.put(offset + 3, (byte) stats.getMag());
+        data.put(offset + 4, (byte) stats.getSpr());
+        data.put(offset + 5, (byte) stats.getSpd());
+        data.put(offset + 6, (byte) stats.getEva());
+        data.put(offset + 7, (byte) stats.getHit());
+        data.put(offset + 8, (byte) stats.getLuck());
     }
     
-    private void serializeJunctionElemental(ByteBuffer buffer, JunctionElemental elemental) {
-        buffer.put((byte) elemental.getAttackElement().getValue());
-        buffer.put((byte) elemental.getAttackValue());
-        buffer.put((byte) serializeElementalDefense(elemental.getDefenseElements()));
-        buffer.put((byte) elemental.getDefenseValue());
+    private void serializeJunctionElemental(ByteBuffer data, int offset, JunctionElemental elemental) {
+        data.put(offset, (byte) elemental.getAttackElement().getValue());
+        data.put(offset + 1, (byte) elemental.getAttackValue());
+        data.put(offset + 2, (byte) serializeElementalDefense(elemental.getDefenseElements()));
+        data.put(offset + 3, (byte) elemental.getDefenseValue());
     }
     
-    private void serializeJunctionStatus(ByteBuffer buffer, JunctionStatusEffects junctionStatus) {
-        buffer.put((byte) junctionStatus.getAttackValue());
-        buffer.put((byte) junctionStatus.getDefenseValue());
-        buffer.putShort((short) serializeJunctionStatus(junctionStatus.getAttackStatuses()));
-        buffer.putShort((short) serializeJunctionStatus(junctionStatus.getDefenseStatuses()));
+    private void serializeJunctionStatus(ByteBuffer data, int offset, JunctionStatusEffects junctionStatus) {
+        data.put(offset, (byte) junctionStatus.getAttackValue());
+        data.put(offset + 1, (byte) junctionStatus.getDefenseValue());
+        data.putShort(offset + 2, (short) serializeJunctionStatus(junctionStatus.getAttackStatuses()));
+        data.putShort(offset + 4, (short) serializeJunctionStatus(junctionStatus.getDefenseStatuses()));
     }
     
-    private void serializeGFCompatibility(ByteBuffer buffer, GFCompatibilitySet compatibility) {
-        GF[] gfs = GF.values();
-        for (int i = 0; i < 16; i++) {
-            if (i < gfs.length) {
-                buffer.put((byte) compatibility.getCompatibility(gfs[i]));
-            } else {
-                buffer.put((byte) 0);
-            }
-        }
+    private void serializeGFCompatibility(ByteBuffer data, int offset, GFCompatibilitySet compatibility) {
+        data.putLong(offset, compatibility.getPackedLow());
+        data.putLong(offset + Long.BYTES, compatibility.getPackedHigh());
     }
     
     // Helper methods for complex field parsing
-    private List<Element> parseElementalDefense(int defenseElementByte) {
-        List<Element> elements = new ArrayList<>();
-        int[] elementBitMap = {1, 2, 4, 8, 16, 32, 64, 128};
-        for (int i = 0; i < 8; i++) {
-            if ((defenseElementByte & elementBitMap[i]) != 0) {
-                try {
-                    elements.add(Element.fromValue(elementBitMap[i]));
-                } catch (IllegalArgumentException e) {
-                    // Skip unknown elements
-                }
-            }
-        }
-        return elements;
-    }
-
     private StatusEffectSet parseJunctionStatus(int statusWord) {
-        StatusEffectSet statusSet = new StatusEffectSet();
-        
-        // FF8 Junction Status Mapping (from junction bits to main status bits)
-        // Junction bits 0-6: death(32), poison(33), petrify(34), darkness(35), silence(36), berserk(37), zombie(38)
-        // Junction bits 7-12: sleep(0), slow(2), stop(3), curse(9), confusion(14), drain(15)
-        int[] junctionToMainStatusMap = {
-            32, // bit 0 -> death
-            33, // bit 1 -> poison  
-            34, // bit 2 -> petrify
-            35, // bit 3 -> darkness
-            36, // bit 4 -> silence
-            37, // bit 5 -> berserk
-            38, // bit 6 -> zombie
-            0,  // bit 7 -> sleep
-            2,  // bit 8 -> slow
-            3,  // bit 9 -> stop
-            9,  // bit 10 -> curse
-            14, // bit 11 -> confusion
-            15  // bit 12 -> drain
-            // bits 13-15 are unused
-        };
-        
-        for (int junctionBit = 0; junctionBit < junctionToMainStatusMap.length; junctionBit++) {
-            if ((statusWord & (1 << junctionBit)) != 0) {
-                int mainStatusBit = junctionToMainStatusMap[junctionBit];
-                statusSet.setBit(mainStatusBit, true);
-            }
+        long statusBits = 0;
+        for (int bits = statusWord & JUNCTION_STATUS_MASK; bits != 0; bits &= bits - 1) {
+            statusBits |= 1L << JUNCTION_TO_MAIN_STATUS[Integer.numberOfTrailingZeros(bits)];
         }
-        return statusSet;
+        return StatusEffectSet.of(statusBits);
     }
 
     private int serializeJunctionStatus(StatusEffectSet statusSet) {
         int result = 0;
-        
-        // Reverse mapping: main status bits to junction bits
-        int[] mainToJunctionStatusMap = new int[39]; // 0-38
-        for (int i = 0; i < mainToJunctionStatusMap.length; i++) {
-            mainToJunctionStatusMap[i] = -1; // default to unavailable
-        }
-        
-        // Set up the reverse mapping
-        mainToJunctionStatusMap[0] = 7;   // sleep -> junction bit 7
-        mainToJunctionStatusMap[2] = 8;   // slow -> junction bit 8
-        mainToJunctionStatusMap[3] = 9;   // stop -> junction bit 9
-        mainToJunctionStatusMap[9] = 10;  // curse -> junction bit 10
-        mainToJunctionStatusMap[14] = 11; // confusion -> junction bit 11
-        mainToJunctionStatusMap[15] = 12; // drain -> junction bit 12
-        mainToJunctionStatusMap[32] = 0;  // death -> junction bit 0
-        mainToJunctionStatusMap[33] = 1;  // poison -> junction bit 1
-        mainToJunctionStatusMap[34] = 2;  // petrify -> junction bit 2
-        mainToJunctionStatusMap[35] = 3;  // darkness -> junction bit 3
-        mainToJunctionStatusMap[36] = 4;  // silence -> junction bit 4
-        mainToJunctionStatusMap[37] = 5;  // berserk -> junction bit 5
-        mainToJunctionStatusMap[38] = 6;  // zombie -> junction bit 6
-        
-        for (int mainBit = 0; mainBit < mainToJunctionStatusMap.length; mainBit++) {
-            int junctionBit = mainToJunctionStatusMap[mainBit];
-            if (junctionBit >= 0 && statusSet.getBit(mainBit)) {
+        long statusBits = statusSet.getBits();
+        for (int junctionBit = 0; junctionBit < JUNCTION_TO_MAIN_STATUS.length; junctionBit++) {
+            if ((statusBits & (1L << JUNCTION_TO_MAIN_STATUS[junctionBit])) != 0) {
                 result |= (1 << junctionBit);
             }
         }
@@ -721,88 +634,23 @@ public class MagicSectionParser implements SectionParserStrategy<MagicData> {
     }
     
     /**
-     * Decipher FF8's Caesar cipher encoding
-     * Rules:
-     * - Uppercase letters: Subtract 4
-     * - Digits: Add 15  
-     * - Lowercase letters: Add 2
-     * @param encryptedText The encrypted text from the binary
-     * @return The deciphered text
-     */
-    private String decipherCaesarCode(String encryptedText) {
-        if (encryptedText == null || encryptedText.isEmpty()) {
-            return encryptedText;
-        }
-        
-        StringBuilder decrypted = new StringBuilder();
-        
-        for (char c : encryptedText.toCharArray()) {
-            char decryptedChar = c;
-            
-            if (c >= 'D' && c <= '^') {
-                // Uppercase: Subtract 4
-                decryptedChar = (char) (c - 4);
-            } else if (c >= '0' && c <= '9') {
-                // Digits: Add 15 (with wraparound)
-                decryptedChar = (char) (c + 15);
-            } else if (c >= '_' && c <= 'x') {
-                // Lowercase: Add 2
-                decryptedChar = (char) (c + 2);
-            }
-            // Other characters (spaces, punctuation) remain unchanged
-            
-            decrypted.append(decryptedChar);
-        }
-        
-        return decrypted.toString();
-    }
-
-    /**
-     * Extract a null-terminated string from binary data
-     * @param binaryData The complete binary data
+     * Extracts a null-terminated spell string and decodes it with the kernel's
+     * {@link FF8TextCodec}. Strings already decoded at the same offset are served
+     * from the text cache as long as their bytes are unchanged.
+     * 
+     * @param data The complete binary data, read with absolute accesses
      * @param offset The offset where the string starts
-     * @return The extracted string, or empty string if invalid offset
+     * @return The deciphered string, or empty string if the offset is out of range
      */
-    private String extractNullTerminatedString(byte[] binaryData, int offset) {
-        logger.info("Extracting string at offset 0x" + Integer.toHexString(offset) + " (" + offset + ")");
-        
-        if (binaryData == null) {
-            logger.warning("Binary data is null");
-            return "";
-        }
-        
-        if (offset < 0) {
-            logger.warning("Negative offset: " + offset);
-            return "";
-        }
-        
-        if (offset >= binaryData.length) {
-            logger.warning("Offset " + offset + " exceeds binary data length " + binaryData.length);
-            return "";
-        }
-        
-        StringBuilder sb = new StringBuilder();
-        int maxLength = Math.min(100, binaryData.length - offset); // Limit to 100 chars for safety
-        
-        for (int i = 0; i < maxLength; i++) {
-            byte b = binaryData[offset + i];
-            if (b == 0) { // Null terminator
-                logger.info("Found null terminator at position " + i + ", extracted string: '" + sb.toString() + "'");
-                break;
-            }
-            // Only add printable ASCII characters
-            if (b >= 32 && b <= 126) {
-                sb.append((char) (b & 0xFF));
-            } else {
-                logger.info("Non-printable byte at position " + i + ": 0x" + Integer.toHexString(b & 0xFF));
-                // For debugging, let's see what we get if we include non-printable chars
-                sb.append((char) (b & 0xFF));
+    private String decodeSpellString(ByteBuffer data, int offset) {
+        if (offset < 0 || offset >= data.limit()) {
+            if (logger.isLoggable(Level.FINE)) {
+                logger.fine("String offset " + offset + " outside binary data of length " + data.limit());
             }
+            return "";
         }
         
-        String result = sb.toString();
-        logger.info("Final extracted string: '" + result + "' (length: " + result.length() + ")");
-        return result;
+        return textCache.decode(textCodec, data, offset, MAX_STRING_LENGTH);
     }
 
     // Inner class for status data serialization
@@ -0,0 +1,56 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.entities.WeaponData;
+import com.ff8.domain.entities.enums.SectionType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Strategy for the weapon section of kernel.bin: 12-byte records with a name pointer.
+ */
+public class WeaponSectionParser extends KernelRecordParser<WeaponData> {
+    
+    public WeaponSectionParser() {
+        super(SectionType.WEAPONS);
+    }
+    
+    @Override
+    protected WeaponData readRecord(ByteBuffer data, int offset, int index, SectionText text) {
+        int offsetName = data.getShort(offset) & 0xFFFF;
+        return WeaponData.builder()
+                .index(index)
+                .offsetName(offsetName)
+                .renzokukenFinishers(data.get(offset + 0x02) & 0xFF)
+                .unknown(data.get(offset + 0x03) & 0xFF)
+                .characterId(data.get(offset + 0x04) & 0xFF)
+                .attackType(data.get(offset + 0x05) & 0xFF)
+                .attackPower(data.get(offset + 0x06) & 0xFF)
+                .attackParameter(data.get(offset + 0x07) & 0xFF)
+                .strengthBonus(data.get(offset + 0x08) & 0xFF)
+                .tier(data.get(offset + 0x09) & 0xFF)
+                .criticalBonus(data.get(offset + 0x0A) & 0xFF)
+                .meleeFlag(data.get(offset + 0x0B) & 0xFF)
+                .name(text.resolve(offsetName))
+                .build();
+    }
+    
+    @Override
+    protected void writeRecord(WeaponData weapon, ByteBuffer data, int offset) {
+        data.putShort(offset, (short) weapon.getOffsetName());
+        data.put(offset + 0x02, (byte) weapon.getRenzokukenFinishers());
+        data.put(offset + 0x03, (byte) weapon.getUnknown());
+        data.put(offset + 0x04, (byte) weapon.getCharacterId());
+        data.put(offset + 0x05, (byte) weapon.getAttackType());
+        data.put(offset + 0x06, (byte) weapon.getAttackPower());
+        data.put(offset + 0x07, (byte) weapon.getAttackParameter());
+        data.put(offset + 0x08, (byte) weapon.getStrengthBonus());
+        data.put(offset + 0x09, (byte) weapon.getTier());
+        data.put(offset + 0x0A, (byte) weapon.getCriticalBonus());
+        data.put(offset + 0x0B, (byte) weapon.getMeleeFlag());
+    }
+    
+    @Override
+    protected String nameOf(WeaponData weapon) {
+        return weapon.getName();
+    }
+}
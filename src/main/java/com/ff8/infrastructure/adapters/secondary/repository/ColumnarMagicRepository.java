@@ -0,0 +1,923 @@
+package com.ff8.infrastructure.adapters.secondary.repository;
+
+import com.ff8.application.ports.secondary.MagicRepository;
+import com.ff8.domain.entities.AttackFlags;
+import com.ff8.domain.entities.GFCompatibilitySet;
+import com.ff8.domain.entities.JunctionElemental;
+import com.ff8.domain.entities.JunctionStats;
+import com.ff8.domain.entities.JunctionStatusEffects;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.StatusEffectSet;
+import com.ff8.domain.entities.TargetFlags;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.infrastructure.adapters.secondary.repository.MagicQuery.IntColumn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Implementation of the MagicRepository interface that stores spells column by
+ * column, for analytics over large spell catalogs.
+ *
+ * <p>Every queryable field lives in its own primitive array indexed by kernel index:
+ * {@code short} magic IDs, one {@code byte} column per record byte such as spell
+ * power or a junction stat, enum ordinals for element and attack type, and the
+ * 48-bit status masks as {@code long}s. Occupancy and origin are bitmaps over the
+ * same indices. The fields without a column, the texts, the unknown bytes and the
+ * junction and compatibility values, are kept in one small side record per entry;
+ * the value objects in it are the shared instances their factories return. No
+ * {@link MagicData} is held: reads build one from the columns and the side record,
+ * equal in content to the one saved.</p>
+ *
+ * <p>{@link #query()} evaluates each condition as one branch-free loop over a
+ * single column that narrows a selection bitmap 64 entries at a time. The loops
+ * read consecutive primitives only, which the JIT can unroll and vectorize, and
+ * words without selected entries are skipped, so later conditions get cheaper as
+ * the selection shrinks. Only {@link MagicQuery#list()} and the finders build
+ * objects, one per entry returned.</p>
+ *
+ * <p>Because the columns are the storage, values must fit them: saving a spell
+ * whose magic ID is outside 0-65535, or whose other column values are outside
+ * 0-255, is rejected, as the kernel record could not hold it either.</p>
+ *
+ * <p>Change tracking has the same contract as {@link InMemoryMagicRepository}: an
+ * entry is dirty when its content, record fields and texts alike, differs from the
+ * last {@link #markAsClean()}, so saving an equal copy back is not a change. The
+ * state at that point is only kept for entries that have changed since, in a
+ * sparse map next to the dirty bitmap. All state is guarded by a read-write lock,
+ * so queries and reads run concurrently and always see a consistent set of
+ * columns.</p>
+ */
+public class ColumnarMagicRepository implements MagicRepository {
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarMagicRepository.class);
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int[] NO_INDICES = new int[0];
+    private static final Element[] ELEMENTS = Element.values();
+    private static final AttackType[] ATTACK_TYPES = AttackType.values();
+
+    /**
+     * The fields of an entry that have no column
+     */
+    private record SideFields(int offsetSpellName, int offsetSpellDescription,
+                              int unknown1, int unknown2, int unknown3,
+                              TargetFlags targetInfo, AttackFlags attackFlags,
+                              JunctionElemental junctionElemental, JunctionStatusEffects junctionStatus,
+                              GFCompatibilitySet gfCompatibility,
+                              String extractedSpellName, String extractedSpellDescription,
+                              SpellTranslations translations) {}
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns, all indexed by kernel index; capacity is always a multiple of 64
+    private int capacity;
+    private SideFields[] sideFields;
+    private long[] occupied;
+    private long[] newlyCreated;
+    private short[] magicIds;
+    private byte[] elements;
+    private byte[] attackTypes;
+    private long[] statusMasks;
+    private final byte[][] byteColumns = new byte[IntColumn.values().length][]; // every column but MAGIC_ID
+
+    private final BitSet dirtyIndices = new BitSet();
+    private final Map<Integer, MagicData> originals = new HashMap<>(); // for dirty indices; null if absent then
+    private final SpellNameIndex nameIndex = new SpellNameIndex();
+    private int size;
+    private int reservedEnd;
+
+    public ColumnarMagicRepository() {
+        allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Start a query over the stored magic data
+     */
+    public MagicQuery query() {
+        return new MagicQuery(this);
+    }
+
+    // === Queries ===
+
+    /**
+     * Narrows a selection bitmap, called with the read lock held
+     */
+    @FunctionalInterface
+    interface SelectionFilter {
+        void apply(long[] selection);
+    }
+
+    SelectionFilter rangeFilter(IntColumn column, int min, int max) {
+        if (column == IntColumn.MAGIC_ID) {
+            return selection -> keepInRange(magicIds, min, max, selection);
+        }
+        return selection -> keepInRange(byteColumns[column.ordinal()], min, max, selection);
+    }
+
+    SelectionFilter elementFilter(Element element) {
+        int ordinal = element.ordinal();
+        return selection -> keepInRange(elements, ordinal, ordinal, selection);
+    }
+
+    SelectionFilter attackTypeFilter(AttackType attackType) {
+        int ordinal = attackType.ordinal();
+        return selection -> keepInRange(attackTypes, ordinal, ordinal, selection);
+    }
+
+    SelectionFilter statusFilter(long mask, boolean requireAll) {
+        long required = requireAll ? mask : 0;
+        return selection -> {
+            for (int word = 0; word < selection.length; word++) {
+                long selected = selection[word];
+                if (selected == 0) {
+                    continue;
+                }
+                int base = word << 6;
+                long keep = 0;
+                for (int bit = 0; bit < Long.SIZE; bit++) {
+                    long matched = statusMasks[base + bit] & mask;
+                    keep |= (long) (requireAll ? (matched == required ? 1 : 0) : (matched != 0 ? 1 : 0)) << bit;
+                }
+                selection[word] = selected & keep;
+            }
+        };
+    }
+
+    SelectionFilter originFilter(boolean newlyCreatedOnly) {
+        return selection -> {
+            for (int word = 0; word < selection.length; word++) {
+                selection[word] &= newlyCreatedOnly ? newlyCreated[word] : ~newlyCreated[word];
+            }
+        };
+    }
+
+    int count(List<SelectionFilter> filters) {
+        lock.readLock().lock();
+        try {
+            int count = 0;
+            for (long word : select(filters)) {
+                count += Long.bitCount(word);
+            }
+            return count;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int[] indices(List<SelectionFilter> filters) {
+        lock.readLock().lock();
+        try {
+            return indicesOf(select(filters));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<MagicData> list(List<SelectionFilter> filters) {
+        lock.readLock().lock();
+        try {
+            return entriesAt(select(filters));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    IntSummaryStatistics summarize(List<SelectionFilter> filters, IntColumn column) {
+        lock.readLock().lock();
+        try {
+            long[] selection = select(filters);
+            IntSummaryStatistics statistics = new IntSummaryStatistics();
+            byte[] values = byteColumns[column.ordinal()];
+            for (int index : indicesOf(selection)) {
+                statistics.accept(values == null ? magicIds[index] & 0xFFFF : values[index] & 0xFF);
+            }
+            return statistics;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private long[] select(List<SelectionFilter> filters) {
+        long[] selection = occupied.clone();
+        for (SelectionFilter filter : filters) {
+            filter.apply(selection);
+        }
+        return selection;
+    }
+
+    private static void keepInRange(byte[] column, int min, int max, long[] selection) {
+        for (int word = 0; word < selection.length; word++) {
+            long selected = selection[word];
+            if (selected == 0) {
+                continue;
+            }
+            int base = word << 6;
+            long keep = 0;
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                int value = column[base + bit] & 0xFF;
+                keep |= (long) (value >= min && value <= max ? 1 : 0) << bit;
+            }
+            selection[word] = selected & keep;
+        }
+    }
+
+    private static void keepInRange(short[] column, int min, int max, long[] selection) {
+        for (int word = 0; word < selection.length; word++) {
+            long selected = selection[word];
+            if (selected == 0) {
+                continue;
+            }
+            int base = word << 6;
+            long keep = 0;
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                int value = column[base + bit] & 0xFFFF;
+                keep |= (long) (value >= min && value <= max ? 1 : 0) << bit;
+            }
+            selection[word] = selected & keep;
+        }
+    }
+
+    private static int[] indicesOf(long[] selection) {
+        int count = 0;
+        for (long word : selection) {
+            count += Long.bitCount(word);
+        }
+        if (count == 0) {
+            return NO_INDICES;
+        }
+        int[] indices = new int[count];
+        int next = 0;
+        for (int word = 0; word < selection.length; word++) {
+            for (long remaining = selection[word]; remaining != 0; remaining &= remaining - 1) {
+                indices[next++] = (word << 6) + Long.numberOfTrailingZeros(remaining);
+            }
+        }
+        return indices;
+    }
+
+    private List<MagicData> entriesAt(long[] selection) {
+        int[] indices = indicesOf(selection);
+        MagicData[] entries = new MagicData[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            entries[i] = entryAt(indices[i]);
+        }
+        return List.of(entries);
+    }
+
+    private boolean isOccupied(int index) {
+        return index >= 0 && index < capacity && (occupied[index >> 6] & (1L << index)) != 0;
+    }
+
+    /**
+     * Build the entry at an index from its columns and side fields
+     *
+     * @return The entry, or null if there is none
+     */
+    private MagicData entryAt(int index) {
+        if (!isOccupied(index)) {
+            return null;
+        }
+        SideFields side = sideFields[index];
+        return MagicData.builder()
+                .index(index)
+                .offsetSpellName(side.offsetSpellName())
+                .offsetSpellDescription(side.offsetSpellDescription())
+                .magicID(magicIds[index] & 0xFFFF)
+                .animationTriggered(byteAt(IntColumn.ANIMATION_TRIGGERED, index))
+                .attackType(ATTACK_TYPES[attackTypes[index]])
+                .spellPower(byteAt(IntColumn.SPELL_POWER, index))
+                .unknown1(side.unknown1())
+                .drawResist(byteAt(IntColumn.DRAW_RESIST, index))
+                .hitCount(byteAt(IntColumn.HIT_COUNT, index))
+                .element(ELEMENTS[elements[index]])
+                .unknown2(side.unknown2())
+                .statusAttackEnabler(byteAt(IntColumn.STATUS_ATTACK_ENABLER, index))
+                .unknown3(side.unknown3())
+                .targetInfo(side.targetInfo())
+                .attackFlags(side.attackFlags())
+                .statusEffects(StatusEffectSet.of(statusMasks[index]))
+                .junctionStats(JunctionStats.of(
+                        byteAt(IntColumn.JUNCTION_HP, index), byteAt(IntColumn.JUNCTION_STR, index),
+                        byteAt(IntColumn.JUNCTION_VIT, index), byteAt(IntColumn.JUNCTION_MAG, index),
+                        byteAt(IntColumn.JUNCTION_SPR, index), byteAt(IntColumn.JUNCTION_SPD, index),
+                        byteAt(IntColumn.JUNCTION_EVA, index), byteAt(IntColumn.JUNCTION_HIT, index),
+                        byteAt(IntColumn.JUNCTION_LUCK, index)))
+                .junctionElemental(side.junctionElemental())
+                .junctionStatus(side.junctionStatus())
+                .gfCompatibility(side.gfCompatibility())
+                .extractedSpellName(side.extractedSpellName())
+                .extractedSpellDescription(side.extractedSpellDescription())
+                .translations(side.translations())
+                .isNewlyCreated((newlyCreated[index >> 6] & (1L << index)) != 0)
+                .build();
+    }
+
+    private int byteAt(IntColumn column, int index) {
+        return byteColumns[column.ordinal()][index] & 0xFF;
+    }
+
+    // === Column maintenance, called with the write lock held ===
+
+    private void allocate(int newCapacity) {
+        capacity = newCapacity;
+        sideFields = sideFields == null ? new SideFields[newCapacity] : Arrays.copyOf(sideFields, newCapacity);
+        occupied = occupied == null ? new long[newCapacity >> 6] : Arrays.copyOf(occupied, newCapacity >> 6);
+        newlyCreated = newlyCreated == null ? new long[newCapacity >> 6] : Arrays.copyOf(newlyCreated, newCapacity >> 6);
+        magicIds = magicIds == null ? new short[newCapacity] : Arrays.copyOf(magicIds, newCapacity);
+        elements = elements == null ? new byte[newCapacity] : Arrays.copyOf(elements, newCapacity);
+        attackTypes = attackTypes == null ? new byte[newCapacity] : Arrays.copyOf(attackTypes, newCapacity);
+        statusMasks = statusMasks == null ? new long[newCapacity] : Arrays.copyOf(statusMasks, newCapacity);
+        for (IntColumn column : IntColumn.values()) {
+            if (column != IntColumn.MAGIC_ID) {
+                byte[] values = byteColumns[column.ordinal()];
+                byteColumns[column.ordinal()] = values == null ? new byte[newCapacity] : Arrays.copyOf(values, newCapacity);
+            }
+        }
+    }
+
+    private void ensureCapacity(int index) {
+        if (index < capacity) {
+            return;
+        }
+        int newCapacity = Math.max(capacity * 2, (index + Long.SIZE) & -Long.SIZE);
+        allocate(newCapacity);
+    }
+
+    private void putEntry(MagicData magic) {
+        int index = magic.getIndex();
+        ensureCapacity(index);
+        if (!isOccupied(index)) {
+            size++;
+        }
+
+        int word = index >> 6;
+        long bit = 1L << index;
+        occupied[word] |= bit;
+        newlyCreated[word] = magic.isNewlyCreated() ? newlyCreated[word] | bit : newlyCreated[word] & ~bit;
+
+        magicIds[index] = (short) magic.getMagicID();
+        elements[index] = (byte) magic.getElement().ordinal();
+        attackTypes[index] = (byte) magic.getAttackType().ordinal();
+        statusMasks[index] = magic.getStatusEffects().getBits();
+        for (IntColumn column : IntColumn.values()) {
+            if (column != IntColumn.MAGIC_ID) {
+                byteColumns[column.ordinal()][index] = (byte) columnValue(magic, column);
+            }
+        }
+        sideFields[index] = new SideFields(magic.getOffsetSpellName(), magic.getOffsetSpellDescription(),
+                magic.getUnknown1(), magic.getUnknown2(), magic.getUnknown3(),
+                magic.getTargetInfo(), magic.getAttackFlags(),
+                magic.getJunctionElemental(), magic.getJunctionStatus(), magic.getGfCompatibility(),
+                magic.getExtractedSpellName(), magic.getExtractedSpellDescription(), explicitTranslations(magic));
+
+        nameIndex.put(index, magic.getExtractedSpellName());
+    }
+
+    private static int columnValue(MagicData magic, IntColumn column) {
+        JunctionStats stats = magic.getJunctionStats();
+        return switch (column) {
+            case MAGIC_ID -> magic.getMagicID();
+            case ANIMATION_TRIGGERED -> magic.getAnimationTriggered();
+            case SPELL_POWER -> magic.getSpellPower();
+            case DRAW_RESIST -> magic.getDrawResist();
+            case HIT_COUNT -> magic.getHitCount();
+            case STATUS_ATTACK_ENABLER -> magic.getStatusAttackEnabler();
+            case JUNCTION_HP -> stats.getHp();
+            case JUNCTION_STR -> stats.getStr();
+            case JUNCTION_VIT -> stats.getVit();
+            case JUNCTION_MAG -> stats.getMag();
+            case JUNCTION_SPR -> stats.getSpr();
+            case JUNCTION_SPD -> stats.getSpd();
+            case JUNCTION_EVA -> stats.getEva();
+            case JUNCTION_HIT -> stats.getHit();
+            case JUNCTION_LUCK -> stats.getLuck();
+        };
+    }
+
+    /**
+     * The translations to keep, or null when they are the ones derived from the extracted texts
+     */
+    private static SpellTranslations explicitTranslations(MagicData magic) {
+        SpellTranslations translations = magic.getTranslations();
+        String name = magic.getExtractedSpellName();
+        String description = magic.getExtractedSpellDescription();
+        boolean derived = translations.hasOnlyEnglish()
+                && Objects.equals(translations.getEnglishName(), name != null ? name : "")
+                && Objects.equals(translations.getEnglishDescription(), description != null ? description : "");
+        return derived ? null : translations;
+    }
+
+    /**
+     * Remove an entry's columns
+     */
+    private void removeEntry(int index) {
+        if (!isOccupied(index)) {
+            return;
+        }
+        sideFields[index] = null;
+        occupied[index >> 6] &= ~(1L << index);
+        newlyCreated[index >> 6] &= ~(1L << index);
+        nameIndex.remove(index);
+        size--;
+    }
+
+    /**
+     * Store or remove an entry, keeping its state at the last {@link #markAsClean()} while
+     * it differs from that state
+     *
+     * @param index The kernel index
+     * @param updated The new entry, or null to remove it
+     */
+    private void changeEntry(int index, MagicData updated) {
+        boolean dirty = dirtyIndices.get(index);
+        MagicData before = dirty ? originals.get(index) : entryAt(index);
+        boolean unchanged = before == null ? updated == null : updated != null && sameContent(before, updated);
+        if (dirty && unchanged) {
+            originals.remove(index);
+            dirtyIndices.clear(index);
+        } else if (!dirty && !unchanged) {
+            originals.put(index, before);
+            dirtyIndices.set(index);
+        }
+        if (updated != null) {
+            putEntry(updated);
+        } else {
+            removeEntry(index);
+        }
+    }
+
+    /**
+     * Checks whether two entries are equal in their record fields and texts
+     */
+    private static boolean sameContent(MagicData a, MagicData b) {
+        return a.getOffsetSpellName() == b.getOffsetSpellName()
+                && a.getOffsetSpellDescription() == b.getOffsetSpellDescription()
+                && a.getMagicID() == b.getMagicID()
+                && a.getAnimationTriggered() == b.getAnimationTriggered()
+                && a.getAttackType() == b.getAttackType()
+                && a.getSpellPower() == b.getSpellPower()
+                && a.getUnknown1() == b.getUnknown1()
+                && a.getDrawResist() == b.getDrawResist()
+                && a.getHitCount() == b.getHitCount()
+                && a.getElement() == b.getElement()
+                && a.getUnknown2() == b.getUnknown2()
+                && a.getStatusAttackEnabler() == b.getStatusAttackEnabler()
+                && a.getUnknown3() == b.getUnknown3()
+                && a.isNewlyCreated() == b.isNewlyCreated()
+                && Objects.equals(a.getTargetInfo(), b.getTargetInfo())
+                && Objects.equals(a.getAttackFlags(), b.getAttackFlags())
+                && Objects.equals(a.getStatusEffects(), b.getStatusEffects())
+                && Objects.equals(a.getJunctionStats(), b.getJunctionStats())
+                && Objects.equals(a.getJunctionElemental(), b.getJunctionElemental())
+                && Objects.equals(a.getJunctionStatus(), b.getJunctionStatus())
+                && Objects.equals(a.getGfCompatibility(), b.getGfCompatibility())
+                && Objects.equals(a.getExtractedSpellName(), b.getExtractedSpellName())
+                && Objects.equals(a.getExtractedSpellDescription(), b.getExtractedSpellDescription())
+                && Objects.equals(a.getTranslations(), b.getTranslations());
+    }
+
+    private int firstIndexOf(int magicId) {
+        for (int word = 0; word < occupied.length; word++) {
+            for (long remaining = occupied[word]; remaining != 0; remaining &= remaining - 1) {
+                int index = (word << 6) + Long.numberOfTrailingZeros(remaining);
+                if ((magicIds[index] & 0xFFFF) == magicId) {
+                    return index;
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int highestIndex(long[] bitmap) {
+        for (int word = bitmap.length - 1; word >= 0; word--) {
+            if (bitmap[word] != 0) {
+                return (word << 6) + Long.SIZE - 1 - Long.numberOfLeadingZeros(bitmap[word]);
+            }
+        }
+        return -1;
+    }
+
+    private void validate(MagicData magic) {
+        if (magic == null) {
+            throw new IllegalArgumentException("Magic data cannot be null");
+        }
+        if (magic.getIndex() < 0) {
+            throw new IllegalArgumentException("Magic index cannot be negative: " + magic.getIndex());
+        }
+        for (IntColumn column : IntColumn.values()) {
+            int value = columnValue(magic, column);
+            int max = column == IntColumn.MAGIC_ID ? 0xFFFF : 0xFF;
+            if (value < 0 || value > max) {
+                throw new IllegalArgumentException(String.format(
+                        "%s of magic at index %d is outside 0-%d: %d", column, magic.getIndex(), max, value));
+            }
+        }
+    }
+
+    // === MagicRepository ===
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<MagicData> findByIndex(int index) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(entryAt(index));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void save(MagicData magic) {
+        validate(magic);
+        logger.debug("Saving magic to columnar repository: index={}, magicID={}", magic.getIndex(), magic.getMagicID());
+        lock.writeLock().lock();
+        try {
+            changeEntry(magic.getIndex(), magic);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void saveAll(List<MagicData> magicList) {
+        saveAllBulk(magicList);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Grows the columns once for the highest index in the list, then fills them
+     * under a single acquisition of the write lock.</p>
+     */
+    @Override
+    public void saveAllBulk(List<MagicData> magicList) {
+        if (magicList == null) {
+            throw new IllegalArgumentException("Magic list cannot be null");
+        }
+        int highest = -1;
+        for (MagicData magic : magicList) {
+            validate(magic);
+            highest = Math.max(highest, magic.getIndex());
+        }
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(highest);
+            for (MagicData magic : magicList) {
+                changeEntry(magic.getIndex(), magic);
+            }
+            logger.info("Bulk saved {} magic entries. Total in columnar repository: {}", magicList.size(), size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int reserveIndices(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        }
+        lock.writeLock().lock();
+        try {
+            int first = getNextAvailableIndex();
+            reservedEnd = first + count;
+            return first;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseReservation(int firstIndex, int count) {
+        lock.writeLock().lock();
+        try {
+            if (reservedEnd == firstIndex + count) {
+                reservedEnd = firstIndex;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Sorted by kernel index.</p>
+     */
+    @Override
+    public List<MagicData> findAll() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(entriesAt(occupied));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void deleteByIndex(int index) {
+        lock.writeLock().lock();
+        try {
+            if (isOccupied(index)) {
+                changeEntry(index, null);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated This method is deprecated as it uses magicID instead of the
+     *             unique kernel index. Use {@link #deleteByIndex(int)} instead.
+     */
+    @Override
+    @Deprecated
+    public void deleteById(int magicId) {
+        lock.writeLock().lock();
+        try {
+            int index = firstIndexOf(magicId);
+            if (index >= 0) {
+                deleteByIndex(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean existsByIndex(int index) {
+        return findByIndex(index).isPresent();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated This method is deprecated as it uses magicID instead of the
+     *             unique kernel index. Use {@link #existsByIndex(int)} instead.
+     */
+    @Override
+    @Deprecated
+    public boolean existsById(int magicId) {
+        lock.readLock().lock();
+        try {
+            return firstIndexOf(magicId) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Returns all magic data if the search fragment is null or empty.
+     * Results are sorted by kernel index.</p>
+     */
+    @Override
+    public List<MagicData> findBySpellNameContaining(String nameFragment) {
+        if (nameFragment == null || nameFragment.trim().isEmpty()) {
+            return findAll();
+        }
+        lock.readLock().lock();
+        try {
+            List<MagicData> matches = new ArrayList<>();
+            for (Integer index : nameIndex.search(nameFragment)) {
+                matches.add(entryAt(index));
+            }
+            return List.copyOf(matches);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(sideFields, null);
+            originals.clear();
+            Arrays.fill(occupied, 0L);
+            Arrays.fill(newlyCreated, 0L);
+            dirtyIndices.clear();
+            nameIndex.clear();
+            size = 0;
+            reservedEnd = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isModified() {
+        lock.readLock().lock();
+        try {
+            return !dirtyIndices.isEmpty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void markAsClean() {
+        lock.writeLock().lock();
+        try {
+            originals.clear();
+            dirtyIndices.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> getDirtyIndices() {
+        lock.readLock().lock();
+        try {
+            Set<Integer> indices = new TreeSet<>();
+            dirtyIndices.stream().forEach(indices::add);
+            return indices;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>For an entry unchanged since the last {@link #markAsClean()} that is the
+     * current entry.</p>
+     */
+    @Override
+    public Optional<MagicData> getOriginalByIndex(int index) {
+        lock.readLock().lock();
+        try {
+            if (index >= 0 && dirtyIndices.get(index)) {
+                return Optional.ofNullable(originals.get(index));
+            }
+            return Optional.ofNullable(entryAt(index));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Magic data added since the last {@link #markAsClean()} has no original
+     * and is removed instead.</p>
+     */
+    @Override
+    public void resetToOriginalByIndex(int index) {
+        lock.writeLock().lock();
+        try {
+            if (index >= 0 && dirtyIndices.get(index)) {
+                MagicData original = originals.remove(index);
+                if (original != null) {
+                    putEntry(original);
+                } else {
+                    removeEntry(index);
+                }
+                dirtyIndices.clear(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @deprecated This method is deprecated as it uses magicID instead of the
+     *             unique kernel index. Use {@link #resetToOriginalByIndex(int)} instead.
+     */
+    @Override
+    @Deprecated
+    public void resetToOriginal(int magicId) {
+        lock.writeLock().lock();
+        try {
+            int index = firstIndexOf(magicId);
+            if (index >= 0) {
+                resetToOriginalByIndex(index);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Scans the magic ID column; returns 0 if no magic data exists.</p>
+     */
+    @Override
+    public int getNextAvailableId() {
+        lock.readLock().lock();
+        try {
+            int highest = -1;
+            for (int index : indicesOf(occupied)) {
+                highest = Math.max(highest, magicIds[index] & 0xFFFF);
+            }
+            return highest + 1;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Skips past any reserved range.</p>
+     */
+    @Override
+    public int getNextAvailableIndex() {
+        lock.readLock().lock();
+        try {
+            return Math.max(highestIndex(occupied) + 1, reservedEnd);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeKernelData() {
+        lock.writeLock().lock();
+        try {
+            int originalSize = size;
+            for (int index : query().newlyCreated(false).indices()) {
+                deleteByIndex(index);
+            }
+            logger.info("Removed {} kernel data entries. Repository size: {} -> {}",
+                    originalSize - size, originalSize, size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MagicData> findNewlyCreated() {
+        return query().newlyCreated(true).list();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<MagicData> findKernelData() {
+        return query().newlyCreated(false).list();
+    }
+}
@@ -1,5 +1,6 @@
 package com.ff8.infrastructure.adapters.secondary.repository;
 
+import com.ff8.application.ports.secondary.BinaryParserPort;
 import com.ff8.application.ports.secondary.MagicRepository;
 import com.ff8.domain.entities.MagicData;
 import org.slf4j.Logger;
@@ -7,6 +8,8 @@ import org.slf4j.LoggerFactory;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 
 /**
  * In-memory implementation of the MagicRepository interface.
@@ -20,6 +23,7 @@ import java.util.concurrent.ConcurrentHashMap;
  * <ul>
  *   <li>Thread-safe concurrent access using ConcurrentHashMap</li>
  *   <li>Magic data indexed by kernel index for efficient retrieval</li>
+ *   <li>Secondary indexes by magic ID, creation origin and spell name</li>
  *   <li>Comprehensive logging for debugging and monitoring</li>
  *   <li>Support for both kernel data and newly created magic differentiation</li>
  *   <li>Search functionality by spell name with case-insensitive matching</li>
@@ -29,6 +33,18 @@ import java.util.concurrent.ConcurrentHashMap;
  * provides change tracking capabilities. All modifications are kept in memory
  * until explicitly saved to the kernel file.</p>
  * 
+ * <p>Change tracking keeps the state of the last {@link #markAsClean()} as a map of
+ * snapshots plus a dirty bitmap over kernel indices. A snapshot holds the original
+ * instance, used to restore it, and its serialized 60-byte record. An entry is dirty
+ * when its record bytes or its texts, which live outside the record, differ from the
+ * snapshot, so saving an equal copy back is not a change. {@link #isModified()} is a
+ * bitmap check, and resets and dirty queries cost O(changed entries).</p>
+ * 
+ * <p>The secondary indexes are maintained on every write, so ID lookups, the
+ * next free ID and index, and the newly created / kernel partitions never scan
+ * the store. Name search goes through a {@link SpellNameIndex}. Writes are
+ * serialized so the indexes stay consistent with the store; reads take no lock.</p>
+ * 
  * <p>Note: This implementation uses the kernel index as the primary key for
  * magic data, which ensures unique identification and proper ordering within
  * the FF8 kernel.bin file structure.</p>
@@ -39,8 +55,26 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class InMemoryMagicRepository implements MagicRepository {
     private final Map<Integer, MagicData> magicStore = new ConcurrentHashMap<>();
+    private final Map<Integer, Snapshot> originalStore = new ConcurrentHashMap<>();
+    private final BitSet dirtyIndices = new BitSet(); // guarded by itself
+    private final BinaryParserPort recordSerializer;
+    
+    // Secondary indexes, written only while holding writeLock; the two index sets partition the store's keys
+    private final Object writeLock = new Object();
+    private final ConcurrentSkipListMap<Integer, NavigableSet<Integer>> indicesByMagicId = new ConcurrentSkipListMap<>();
+    private final NavigableSet<Integer> newlyCreatedIndices = new ConcurrentSkipListSet<>();
+    private final NavigableSet<Integer> kernelIndices = new ConcurrentSkipListSet<>();
+    private final SpellNameIndex nameIndex = new SpellNameIndex();
+    private volatile int reservedEnd = 0; // exclusive end of the last index reservation
     private static final Logger logger = LoggerFactory.getLogger(InMemoryMagicRepository.class);
 
+    /**
+     * @param recordSerializer Serializes magic data into the 60-byte records compared by change tracking
+     */
+    public InMemoryMagicRepository(BinaryParserPort recordSerializer) {
+        this.recordSerializer = Objects.requireNonNull(recordSerializer, "recordSerializer");
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -66,13 +100,77 @@ public class InMemoryMagicRepository implements MagicRepository {
      */
     @Override
     public void save(MagicData magic) {
+        validate(magic);
+        logger.debug("Saving magic to repository: index={}, magicID={}, name='{}'",
+                    magic.getIndex(), magic.getMagicID(), magic.getExtractedSpellName());
+        putEntry(magic);  // Use index as key
+        markDirty(magic.getIndex(), differsFromOriginal(magic));
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>Validates every entry before storing any of them, then stores the whole
+     * list under a single acquisition of the write lock with one log line.</p>
+     */
+    @Override
+    public void saveAllBulk(List<MagicData> magicList) {
+        if (magicList == null) {
+            throw new IllegalArgumentException("Magic list cannot be null");
+        }
+        magicList.forEach(this::validate);
+        
+        synchronized (writeLock) {
+            for (MagicData magic : magicList) {
+                putEntry(magic);
+            }
+        }
+        boolean[] dirty = new boolean[magicList.size()];
+        for (int i = 0; i < dirty.length; i++) {
+            dirty[i] = differsFromOriginal(magicList.get(i));
+        }
+        synchronized (dirtyIndices) {
+            for (int i = 0; i < dirty.length; i++) {
+                dirtyIndices.set(magicList.get(i).getIndex(), dirty[i]);
+            }
+        }
+        logger.info("Bulk saved {} magic entries. Total in repository: {}", magicList.size(), magicStore.size());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int reserveIndices(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count cannot be negative: " + count);
+        }
+        synchronized (writeLock) {
+            int first = getNextAvailableIndex();
+            reservedEnd = first + count;
+            return first;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void releaseReservation(int firstIndex, int count) {
+        synchronized (writeLock) {
+            if (reservedEnd == firstIndex + count) {
+                reservedEnd = firstIndex;
+            }
+        }
+    }
+
+    private void validate(MagicData magic) {
         if (magic == null) {
             throw new IllegalArgumentException("Magic data cannot be null");
         }
-        logger.info("Saving magic to repository: index=" + magic.getIndex() + 
-                   ", magicID=" + magic.getMagicID() + ", name='" + magic.getExtractedSpellName() + "'");
-        magicStore.put(magic.getIndex(), magic);  // Use index as key
-        logger.info("Repository now contains " + magicStore.size() + " entries");
+        if (magic.getIndex() < 0) {
+            throw new IllegalArgumentException("Magic index cannot be negative: " + magic.getIndex());
+        }
     }
 
     /**
@@ -98,7 +196,69 @@ public class InMemoryMagicRepository implements MagicRepository {
      */
     @Override
     public void deleteByIndex(int index) {
-        magicStore.remove(index);
+        if (removeEntry(index) != null) {
+            markDirty(index, originalStore.containsKey(index));
+        }
+    }
+
+    /**
+     * Stores an entry and updates every secondary index.
+     */
+    private void putEntry(MagicData magic) {
+        synchronized (writeLock) {
+            MagicData previous = magicStore.put(magic.getIndex(), magic);
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(magic);
+        }
+    }
+
+    /**
+     * Removes an entry and its secondary index entries.
+     * 
+     * @return The removed entry, or null if there was none
+     */
+    private MagicData removeEntry(int index) {
+        synchronized (writeLock) {
+            MagicData previous = magicStore.remove(index);
+            if (previous != null) {
+                unindex(previous);
+            }
+            return previous;
+        }
+    }
+
+    private void index(MagicData magic) {
+        int index = magic.getIndex();
+        indicesByMagicId.computeIfAbsent(magic.getMagicID(), id -> new ConcurrentSkipListSet<>()).add(index);
+        (magic.isNewlyCreated() ? newlyCreatedIndices : kernelIndices).add(index);
+        nameIndex.put(index, magic.getExtractedSpellName());
+    }
+
+    private void unindex(MagicData magic) {
+        int index = magic.getIndex();
+        indicesByMagicId.computeIfPresent(magic.getMagicID(), (id, indices) -> {
+            indices.remove(index);
+            return indices.isEmpty() ? null : indices;
+        });
+        newlyCreatedIndices.remove(index);
+        kernelIndices.remove(index);
+        nameIndex.remove(index);
+    }
+
+    /**
+     * Resolves indices to their entries, skipping any removed concurrently.
+     */
+    private List<MagicData> entriesAt(Collection<Integer> indices) {
+        List<MagicData> entries = new ArrayList<>(indices.size());
+        for (Integer index : indices) {
+            MagicData magic = magicStore.get(index);
+            if (magic != null) {
+                entries.add(magic);
+            }
+        }
+        return entries;
     }
 
     /**
@@ -110,11 +270,8 @@ public class InMemoryMagicRepository implements MagicRepository {
     @Override
     @Deprecated
     public void deleteById(int magicId) {
-        // Find and delete first magic with matching ID
-        magicStore.values().stream()
-            .filter(magic -> magic.getMagicID() == magicId)
-            .findFirst()
-            .ifPresent(magic -> magicStore.remove(magic.getIndex()));
+        // Delete the magic with matching ID at the lowest kernel index
+        firstIndexOf(magicId).ifPresent(this::deleteByIndex);
     }
 
     /**
@@ -125,7 +282,18 @@ public class InMemoryMagicRepository implements MagicRepository {
      */
     @Override
     public void clear() {
-        magicStore.clear();
+        synchronized (writeLock) {
+            magicStore.clear();
+            indicesByMagicId.clear();
+            newlyCreatedIndices.clear();
+            kernelIndices.clear();
+            nameIndex.clear();
+            reservedEnd = 0;
+        }
+        originalStore.clear();
+        synchronized (dirtyIndices) {
+            dirtyIndices.clear();
+        }
     }
 
     /**
@@ -153,8 +321,22 @@ public class InMemoryMagicRepository implements MagicRepository {
     @Override
     @Deprecated
     public boolean existsById(int magicId) {
-        return magicStore.values().stream()
-            .anyMatch(magic -> magic.getMagicID() == magicId);
+        return indicesByMagicId.containsKey(magicId);
+    }
+
+    /**
+     * Lowest kernel index holding the given magic ID.
+     */
+    private Optional<Integer> firstIndexOf(int magicId) {
+        NavigableSet<Integer> indices = indicesByMagicId.get(magicId);
+        if (indices == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(indices.first());
+        } catch (NoSuchElementException e) {
+            return Optional.empty(); // emptied by a concurrent delete
+        }
     }
 
     /**
@@ -170,52 +352,57 @@ public class InMemoryMagicRepository implements MagicRepository {
             return findAll();
         }
         
-        String lowercaseFragment = nameFragment.toLowerCase();
-        return magicStore.values().stream()
-            .filter(magic -> magic.getExtractedSpellName().toLowerCase().contains(lowercaseFragment))
-            .sorted(Comparator.comparingInt(MagicData::getIndex))
-            .toList();
+        return List.copyOf(entriesAt(nameIndex.search(nameFragment)));
     }
 
     /**
      * {@inheritDoc}
      * 
-     * <p>Calculates the next available magic ID by finding the highest
-     * existing ID and incrementing it by 1. Returns 0 if no magic data exists.</p>
+     * <p>Calculates the next available magic ID from the highest indexed
+     * ID, incremented by 1. Returns 0 if no magic data exists.</p>
      */
     @Override
     public int getNextAvailableId() {
-        return magicStore.values().stream()
-            .mapToInt(MagicData::getMagicID)
-            .max()
-            .orElse(-1) + 1;
+        Map.Entry<Integer, NavigableSet<Integer>> highest = indicesByMagicId.lastEntry();
+        return highest == null ? 0 : highest.getKey() + 1;
     }
 
     /**
      * {@inheritDoc}
      * 
-     * <p>Calculates the next available kernel index by finding the highest
-     * existing index and incrementing it by 1. Returns 0 if no magic data exists.</p>
+     * <p>Calculates the next available kernel index from the highest stored
+     * index, incremented by 1, skipping past any reserved range. Returns 0 if
+     * no magic data exists.</p>
      */
     @Override
     public int getNextAvailableIndex() {
-        return magicStore.keySet().stream()
-            .mapToInt(Integer::intValue)
-            .max()
-            .orElse(-1) + 1;
+        int next = Math.max(highest(kernelIndices), highest(newlyCreatedIndices)) + 1;
+        return Math.max(next, reservedEnd);
+    }
+
+    private static int highest(NavigableSet<Integer> indices) {
+        try {
+            return indices.last();
+        } catch (NoSuchElementException e) {
+            return -1; // empty
+        }
     }
 
     /**
      * {@inheritDoc}
      * 
-     * <p>Simplified implementation that removes the magic data from the repository.
-     * In a full implementation, this would restore the original data from a backup.</p>
+     * <p>Restores the instance held at the last {@link #markAsClean()}. Magic data
+     * added since then has no original and is removed instead.</p>
      */
     @Override
     public void resetToOriginalByIndex(int index) {
-        // For simplified repository, just delete the magic
-        // In a real implementation, this would restore from backup
-        deleteByIndex(index);
+        Snapshot original = originalStore.get(index);
+        if (original != null) {
+            putEntry(original.magic());
+        } else {
+            removeEntry(index);
+        }
+        markDirty(index, false);
     }
 
     /**
@@ -227,46 +414,119 @@ public class InMemoryMagicRepository implements MagicRepository {
     @Override
     @Deprecated
     public void resetToOriginal(int magicId) {
-        // For simplified repository, just delete the magic
-        // In a real implementation, this would restore from backup
-        deleteById(magicId);
+        firstIndexOf(magicId).ifPresent(this::resetToOriginalByIndex);
     }
 
     /**
      * {@inheritDoc}
      * 
-     * <p>Simplified implementation that returns the current data. In a full
-     * implementation, this would return the original unmodified data from a backup.</p>
+     * <p>Returns the instance held at the last {@link #markAsClean()}, or empty if
+     * the entry did not exist then.</p>
      */
     @Override
     public Optional<MagicData> getOriginalByIndex(int index) {
-        // For simplified repository, return current data (no original backup stored)
-        return findByIndex(index);
+        return Optional.ofNullable(originalStore.get(index)).map(Snapshot::magic);
     }
 
     /**
      * {@inheritDoc}
      * 
-     * <p>Simplified implementation that performs no operation. In a full
-     * implementation, this would clear dirty flags and change tracking.</p>
+     * <p>Only the dirty entries are serialized into new snapshots; clean entries
+     * already match theirs.</p>
      */
     @Override
     public void markAsClean() {
-        // For simplified repository, this is a no-op
-        // In a real implementation, this would clear dirty flags
+        synchronized (dirtyIndices) {
+            for (int index = dirtyIndices.nextSetBit(0); index >= 0; index = dirtyIndices.nextSetBit(index + 1)) {
+                MagicData current = magicStore.get(index);
+                if (current != null) {
+                    originalStore.put(index, new Snapshot(current, serializeRecord(current)));
+                } else {
+                    originalStore.remove(index);
+                }
+            }
+            dirtyIndices.clear();
+        }
     }
 
     /**
      * {@inheritDoc}
      * 
-     * <p>Simplified implementation that always returns false. In a full
-     * implementation, this would check dirty flags and change tracking.</p>
+     * <p>Returns a sorted copy, so callers can write the changed records
+     * front to back without further ordering.</p>
+     */
+    @Override
+    public Set<Integer> getDirtyIndices() {
+        synchronized (dirtyIndices) {
+            Set<Integer> indices = new TreeSet<>();
+            dirtyIndices.stream().forEach(indices::add);
+            return indices;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * <p>True while any entry differs from the last {@link #markAsClean()}.</p>
      */
     @Override
     public boolean isModified() {
-        // For simplified repository, always return false
-        // In a real implementation, this would check dirty flags
-        return false;
+        synchronized (dirtyIndices) {
+            return !dirtyIndices.isEmpty();
+        }
+    }
+
+    /**
+     * Checks whether an entry differs from the snapshot of its index, byte for byte in
+     * its record and by value in its texts. Entries without a snapshot always differ.
+     */
+    private boolean differsFromOriginal(MagicData magic) {
+        Snapshot original = originalStore.get(magic.getIndex());
+        if (original == null) {
+            return true;
+        }
+        if (magic == original.magic()) {
+            return false;
+        }
+        MagicData before = original.magic();
+        boolean sameTexts = magic.isNewlyCreated() == before.isNewlyCreated()
+            && Objects.equals(magic.getExtractedSpellName(), before.getExtractedSpellName())
+            && Objects.equals(magic.getExtractedSpellDescription(), before.getExtractedSpellDescription())
+            && Objects.equals(magic.getTranslations(), before.getTranslations());
+        if (!sameTexts || original.record() == null) {
+            return true;
+        }
+        byte[] record = serializeRecord(magic);
+        return record == null || !Arrays.equals(record, original.record());
+    }
+
+    /**
+     * Serializes the 60-byte record of an entry.
+     * 
+     * @return The record, or null if the entry holds values the record cannot encode
+     */
+    private byte[] serializeRecord(MagicData magic) {
+        try {
+            return recordSerializer.serializeMagicData(magic);
+        } catch (RuntimeException e) {
+            logger.debug("Magic at index {} cannot be serialized for change tracking: {}", magic.getIndex(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * An entry as of the last {@link #markAsClean()}, with its serialized record
+     * (null if the entry could not be serialized).
+     */
+    private record Snapshot(MagicData magic, byte[] record) {}
+
+    /**
+     * Sets or clears the dirty bit of a kernel index.
+     */
+    private void markDirty(int index, boolean dirty) {
+        synchronized (dirtyIndices) {
+            dirtyIndices.set(index, dirty);
+        }
     }
 
     /**
@@ -282,7 +542,9 @@ public class InMemoryMagicRepository implements MagicRepository {
         int originalSize = magicStore.size();
         
         // Remove all entries where isNewlyCreated is false
-        magicStore.entrySet().removeIf(entry -> !entry.getValue().isNewlyCreated());
+        for (Integer index : List.copyOf(kernelIndices)) {
+            deleteByIndex(index);
+        }
         
         int newSize = magicStore.size();
         logger.info("Removed {} kernel data entries. Repository size: {} -> {}", 
@@ -297,10 +559,7 @@ public class InMemoryMagicRepository implements MagicRepository {
      */
     @Override
     public List<MagicData> findNewlyCreated() {
-        return magicStore.values().stream()
-            .filter(MagicData::isNewlyCreated)
-            .sorted(Comparator.comparingInt(MagicData::getIndex))
-            .toList();
+        return List.copyOf(entriesAt(newlyCreatedIndices));
     }
 
     /**
@@ -311,9 +570,6 @@ public class InMemoryMagicRepository implements MagicRepository {
      */
     @Override
     public List<MagicData> findKernelData() {
-        return magicStore.values().stream()
-            .filter(magic -> !magic.isNewlyCreated())
-            .sorted(Comparator.comparingInt(MagicData::getIndex))
-            .toList();
+        return List.copyOf(entriesAt(kernelIndices));
     }
 } 
\ No newline at end of file
@@ -0,0 +1,155 @@
+package com.ff8.infrastructure.adapters.secondary.repository;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.entities.enums.StatusEffect;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+
+/**
+ * Filter and aggregate query over a {@link ColumnarMagicRepository}.
+ *
+ * <p>Conditions are combined with AND and only evaluated by a terminal operation
+ * ({@link #count()}, {@link #indices()}, {@link #list()}, {@link #summarize(IntColumn)}),
+ * each of which sees one consistent state of the repository. Every condition is a
+ * single pass over one primitive column producing a selection bitmap, so a query
+ * never touches a {@link MagicData} instance unless {@link #list()} asks for them.</p>
+ *
+ * <pre>{@code
+ * int strongDrains = repository.query()
+ *         .where(IntColumn.SPELL_POWER, 81, 255)
+ *         .withAnyStatus(StatusEffect.DRAIN)
+ *         .count();
+ * }</pre>
+ *
+ * <p>A query may be run repeatedly; it is not thread-safe while conditions are added.</p>
+ */
+public final class MagicQuery {
+
+    /**
+     * Integer-valued columns that can be filtered and summarized
+     */
+    public enum IntColumn {
+        MAGIC_ID,
+        ANIMATION_TRIGGERED,
+        SPELL_POWER,
+        DRAW_RESIST,
+        HIT_COUNT,
+        STATUS_ATTACK_ENABLER,
+        JUNCTION_HP,
+        JUNCTION_STR,
+        JUNCTION_VIT,
+        JUNCTION_MAG,
+        JUNCTION_SPR,
+        JUNCTION_SPD,
+        JUNCTION_EVA,
+        JUNCTION_HIT,
+        JUNCTION_LUCK
+    }
+
+    private final ColumnarMagicRepository repository;
+    private final List<ColumnarMagicRepository.SelectionFilter> filters = new ArrayList<>();
+
+    MagicQuery(ColumnarMagicRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Keep entries whose column value lies in the inclusive range
+     */
+    public MagicQuery where(IntColumn column, int min, int max) {
+        if (column == null) {
+            throw new IllegalArgumentException("Column cannot be null");
+        }
+        filters.add(repository.rangeFilter(column, min, max));
+        return this;
+    }
+
+    /**
+     * Keep entries with the given element
+     */
+    public MagicQuery element(Element element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        filters.add(repository.elementFilter(element));
+        return this;
+    }
+
+    /**
+     * Keep entries with the given attack type
+     */
+    public MagicQuery attackType(AttackType attackType) {
+        if (attackType == null) {
+            throw new IllegalArgumentException("Attack type cannot be null");
+        }
+        filters.add(repository.attackTypeFilter(attackType));
+        return this;
+    }
+
+    /**
+     * Keep entries inflicting at least one of the status effects
+     */
+    public MagicQuery withAnyStatus(StatusEffect... effects) {
+        filters.add(repository.statusFilter(maskOf(effects), false));
+        return this;
+    }
+
+    /**
+     * Keep entries inflicting all of the status effects
+     */
+    public MagicQuery withAllStatuses(StatusEffect... effects) {
+        filters.add(repository.statusFilter(maskOf(effects), true));
+        return this;
+    }
+
+    /**
+     * Keep only newly created entries, or only kernel entries
+     */
+    public MagicQuery newlyCreated(boolean newlyCreated) {
+        filters.add(repository.originFilter(newlyCreated));
+        return this;
+    }
+
+    /**
+     * Count the matching entries
+     */
+    public int count() {
+        return repository.count(filters);
+    }
+
+    /**
+     * Get the kernel indices of the matching entries in ascending order
+     */
+    public int[] indices() {
+        return repository.indices(filters);
+    }
+
+    /**
+     * Materialize the matching entries, sorted by kernel index
+     */
+    public List<MagicData> list() {
+        return repository.list(filters);
+    }
+
+    /**
+     * Get count, sum, minimum, maximum and average of a column over the matching entries
+     */
+    public IntSummaryStatistics summarize(IntColumn column) {
+        if (column == null) {
+            throw new IllegalArgumentException("Column cannot be null");
+        }
+        return repository.summarize(filters, column);
+    }
+
+    private static long maskOf(StatusEffect... effects) {
+        long mask = 0;
+        for (StatusEffect effect : effects) {
+            mask |= 1L << effect.getBitIndex();
+        }
+        return mask;
+    }
+}
@@ -0,0 +1,120 @@
+package com.ff8.infrastructure.adapters.secondary.repository;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trigram index over spell names for case-insensitive substring search.
+ *
+ * <p>Every lower-cased name is split into its overlapping three-character grams,
+ * each mapping to the kernel indices whose name contains it. A query of three or
+ * more characters only inspects the candidates of its rarest gram and confirms
+ * them against the stored name, so search cost follows the number of plausible
+ * matches instead of the repository size. Names shorter than a gram are indexed
+ * whole; queries shorter than a gram fall back to scanning the stored names,
+ * which is still far cheaper than touching every magic entry.</p>
+ *
+ * <p>Updates are not atomic across grams. Callers serialize writes; concurrent
+ * readers may briefly miss an entry being renamed, never return a wrong one.</p>
+ */
+final class SpellNameIndex {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Integer, String> names = new ConcurrentHashMap<>();
+
+    /**
+     * Index the name of the entry at the given kernel index, replacing any previous name.
+     */
+    void put(int index, String name) {
+        String key = normalize(name);
+        String previous = names.put(index, key);
+        if (key.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            removePostings(index, previous);
+        }
+        for (String gram : grams(key)) {
+            postings.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(index);
+        }
+    }
+
+    /**
+     * Drop the entry at the given kernel index from the index.
+     */
+    void remove(int index) {
+        String previous = names.remove(index);
+        if (previous != null) {
+            removePostings(index, previous);
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        names.clear();
+    }
+
+    /**
+     * Find the kernel indices whose name contains the fragment, ignoring case.
+     *
+     * @param fragment Non-empty search fragment
+     * @return Matching kernel indices in ascending order
+     */
+    SortedSet<Integer> search(String fragment) {
+        String key = normalize(fragment);
+        SortedSet<Integer> matches = new TreeSet<>();
+
+        if (key.length() < GRAM_LENGTH) {
+            names.forEach((index, name) -> {
+                if (name.contains(key)) {
+                    matches.add(index);
+                }
+            });
+            return matches;
+        }
+
+        Set<Integer> candidates = null;
+        for (String gram : grams(key)) {
+            Set<Integer> posting = postings.get(gram);
+            if (posting == null) {
+                return matches;
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        for (Integer index : candidates) {
+            String name = names.get(index);
+            if (name != null && name.contains(key)) {
+                matches.add(index);
+            }
+        }
+        return matches;
+    }
+
+    private void removePostings(int index, String name) {
+        for (String gram : grams(name)) {
+            postings.computeIfPresent(gram, (g, indices) -> {
+                indices.remove(index);
+                return indices.isEmpty() ? null : indices;
+            });
+        }
+    }
+
+    private static Set<String> grams(String key) {
+        if (key.length() <= GRAM_LENGTH) {
+            return key.isEmpty() ? Set.of() : Set.of(key);
+        }
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            grams.add(key.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
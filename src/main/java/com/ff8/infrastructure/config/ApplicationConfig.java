@@ -1,5 +1,6 @@
 package com.ff8.infrastructure.config;
 
+import com.ff8.application.ports.primary.BatchKernelUseCase;
 import com.ff8.application.ports.primary.KernelFileUseCase;
 import com.ff8.application.ports.primary.LocalizedExportUseCase;
 import com.ff8.application.ports.primary.MagicEditorUseCase;
@@ -13,6 +14,7 @@ import com.ff8.application.ports.secondary.ResourceFileGeneratorPort;
 import com.ff8.application.ports.secondary.UserPreferencesPort;
 import com.ff8.application.mappers.DtoToMagicDataMapper;
 import com.ff8.application.mappers.MagicDataToDtoMapper;
+import com.ff8.application.services.BatchKernelService;
 import com.ff8.application.services.KernelFileService;
 import com.ff8.application.services.LocalizedExportService;
 import com.ff8.application.services.MagicEditorService;
@@ -135,14 +137,14 @@ public class ApplicationConfig {
         // Initialize infrastructure adapters (Secondary adapters)
         this.fileSystemAdapter = new LocalFileSystemAdapter();
         this.binaryParserAdapter = new KernelBinaryParser();
-        this.magicRepositoryAdapter = new InMemoryMagicRepository();
+        this.magicRepositoryAdapter = new InMemoryMagicRepository(binaryParserAdapter);
         this.userPreferencesAdapter = new PropertiesUserPreferencesAdapter();
         
         // Initialize domain services first (needed by infrastructure adapters)
         this.textEncodingService = new TextEncodingService();
-        this.textOffsetCalculationService = new TextOffsetCalculationService(textEncodingService);
+        this.textOffsetCalculationService = new TextOffsetCalculationService();
         this.languageValidationService = new LanguageValidationService(textEncodingService);
-        this.exportValidationService = new ExportValidationService(textEncodingService, languageValidationService);
+        this.exportValidationService = new ExportValidationService();
         
         // Initialize export adapters (depend on domain services)
         this.resourceFileGeneratorAdapter = new ResourceFileGenerator(textEncodingService);
@@ -290,6 +292,25 @@ public class ApplicationConfig {
         return localizedExportService;
     }
     
+    /**
+     * Create a batch kernel use case for headless processing.
+     * 
+     * <p>Unlike the other use cases this one is not a singleton: each call wires a
+     * new service with its own worker pool size, while the stateless adapters and
+     * domain services are shared.</p>
+     * 
+     * @param parallelism Maximum number of kernels processed at the same time
+     * @return A new BatchKernelUseCase implementation
+     */
+    public BatchKernelUseCase createBatchKernelUseCase(int parallelism) {
+        return new BatchKernelService(
+            binaryParserAdapter,
+            fileSystemAdapter,
+            magicValidationService,
+            parallelism
+        );
+    }
+    
     // Getters for secondary ports (for testing or direct access)
     
     /**
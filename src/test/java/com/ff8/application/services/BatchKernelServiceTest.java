@@ -0,0 +1,210 @@
+package com.ff8.application.services;
+
+import com.ff8.application.dto.BatchReportDTO;
+import com.ff8.application.dto.BatchReportDTO.FileResultDTO;
+import com.ff8.application.dto.KernelPatchSpec;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.services.MagicValidationService;
+import com.ff8.infrastructure.adapters.secondary.filesystem.LocalFileSystemAdapter;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelBinaryParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("BatchKernelService Tests")
+class BatchKernelServiceTest {
+
+    private static final int MAGIC_SECTION_OFFSET = 0x021C;
+    private static final int MAGIC_STRUCT_SIZE = 0x3C;
+    private static final int SPELL_POWER_OFFSET = 0x08;
+    private static final int KERNEL_SIZE = 0x5188 + 0x100;
+
+    @TempDir
+    Path tempDir;
+
+    private BatchKernelService batchService;
+    private Path outputDirectory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        batchService = new BatchKernelService(
+            new KernelBinaryParser(),
+            new LocalFileSystemAdapter(),
+            new MagicValidationService(),
+            4
+        );
+        outputDirectory = Files.createDirectories(tempDir.resolve("out"));
+    }
+
+    /**
+     * Builds a minimal kernel whose 56 records carry magic IDs equal to their index.
+     */
+    private static byte[] createKernelData(int basePower) {
+        byte[] data = new byte[KERNEL_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 56; i++) {
+            int offset = MAGIC_SECTION_OFFSET + i * MAGIC_STRUCT_SIZE;
+            buffer.putShort(offset + 0x04, (short) i);
+            buffer.put(offset + 0x07, (byte) AttackType.MAGIC_ATTACK.getValue());
+            buffer.put(offset + SPELL_POWER_OFFSET, (byte) (basePower + i));
+            buffer.put(offset + 0x0D, (byte) 1);
+            buffer.put(offset + 0x0E, (byte) Element.FIRE.getValue());
+        }
+        return data;
+    }
+
+    private List<Path> writeKernels(Path directory, int count) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> kernels = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Path kernel = directory.resolve("kernel" + i + ".bin");
+            Files.write(kernel, createKernelData(i));
+            kernels.add(kernel);
+        }
+        return kernels;
+    }
+
+    private static int spellPowerAt(Path kernel, int index) throws IOException {
+        byte[] data = Files.readAllBytes(kernel);
+        return data[MAGIC_SECTION_OFFSET + index * MAGIC_STRUCT_SIZE + SPELL_POWER_OFFSET] & 0xFF;
+    }
+
+    @Nested
+    @DisplayName("Batch Processing")
+    class BatchProcessingTests {
+
+        @Test
+        @DisplayName("Should patch every kernel into the output directory")
+        void shouldPatchEveryKernel() throws IOException {
+            // Given
+            List<Path> kernels = writeKernels(tempDir.resolve("in"), 6);
+            KernelPatchSpec patch = KernelPatchSpec.parse(List.of("# boost fire", "1.spellPower=99"));
+
+            // When
+            BatchReportDTO report = batchService.processKernels(kernels, outputDirectory, patch);
+
+            // Then
+            assertThat(report.allSucceeded()).isTrue();
+            assertThat(report.totalFiles()).isEqualTo(6);
+            assertThat(report.fileResults()).allSatisfy(result -> {
+                assertThat(result.patchedSpells()).isEqualTo(1);
+                assertThat(result.fileSize()).isEqualTo(KERNEL_SIZE);
+            });
+            for (int i = 0; i < kernels.size(); i++) {
+                Path output = outputDirectory.resolve("kernel" + i + ".bin");
+                assertThat(spellPowerAt(output, 1)).isEqualTo(99);
+                assertThat(spellPowerAt(output, 2)).isEqualTo(i + 2);
+            }
+            assertThat(spellPowerAt(kernels.get(0), 1)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should record failures without aborting the batch")
+        void shouldRecordFailuresWithoutAbortingBatch() throws IOException {
+            // Given
+            List<Path> kernels = new ArrayList<>(writeKernels(tempDir.resolve("in"), 2));
+            kernels.add(1, tempDir.resolve("missing.bin"));
+
+            // When
+            BatchReportDTO report = batchService.processKernels(kernels, outputDirectory, KernelPatchSpec.empty());
+
+            // Then
+            assertThat(report.successCount()).isEqualTo(2);
+            assertThat(report.failureCount()).isEqualTo(1);
+            FileResultDTO failed = report.fileResults().get(1);
+            assertThat(failed.success()).isFalse();
+            assertThat(failed.errors()).isNotEmpty();
+            assertThat(outputDirectory.resolve("missing.bin")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should keep kernels with the same file name apart")
+        void shouldKeepDuplicateFileNamesApart() throws IOException {
+            // Given
+            Path first = writeKernels(tempDir.resolve("a"), 1).get(0);
+            Path second = tempDir.resolve("b").resolve(first.getFileName());
+            Files.createDirectories(second.getParent());
+            Files.write(second, createKernelData(100));
+
+            // When
+            BatchReportDTO report = batchService.processKernels(List.of(first, second), outputDirectory, KernelPatchSpec.empty());
+
+            // Then
+            assertThat(report.allSucceeded()).isTrue();
+            assertThat(spellPowerAt(outputDirectory.resolve("kernel0.bin"), 0)).isEqualTo(0);
+            assertThat(spellPowerAt(outputDirectory.resolve("kernel0-1.bin"), 0)).isEqualTo(100);
+        }
+
+        @Test
+        @DisplayName("Should reject a kernel listed twice under different paths")
+        void shouldRejectKernelListedTwice() throws IOException {
+            // Given
+            Path kernel = writeKernels(tempDir.resolve("in"), 1).get(0);
+            Path sameKernel = tempDir.resolve("in").resolve("..").resolve("in").resolve(kernel.getFileName());
+
+            // When & Then
+            assertThatThrownBy(() -> batchService.processKernels(List.of(kernel, sameKernel), outputDirectory, KernelPatchSpec.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("more than once");
+            assertThat(outputDirectory.resolve("kernel0.bin")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should reject an output directory that would overwrite the inputs")
+        void shouldRejectOutputOverInput() throws IOException {
+            // Given
+            List<Path> kernels = writeKernels(tempDir.resolve("in"), 2);
+
+            // When & Then
+            assertThatThrownBy(() -> batchService.processKernels(kernels, tempDir.resolve("in"), KernelPatchSpec.empty()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("would overwrite");
+        }
+    }
+
+    @Nested
+    @DisplayName("Patch Spec")
+    class PatchSpecTests {
+
+        @Test
+        @DisplayName("Should reject malformed lines and unsupported fields")
+        void shouldRejectInvalidSpecs() {
+            assertThatThrownBy(() -> KernelPatchSpec.parse(List.of("spellPower 40")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Line 1");
+            assertThatThrownBy(() -> KernelPatchSpec.parse(List.of("*.magicID=3")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("unsupported field");
+            assertThatThrownBy(() -> KernelPatchSpec.parse(List.of("*.spellPower=300")))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Should fail the kernel when a patch breaks validation")
+        void shouldFailKernelWhenPatchIsInvalid() throws IOException {
+            // Given
+            List<Path> kernels = writeKernels(tempDir.resolve("in"), 1);
+            KernelPatchSpec patch = KernelPatchSpec.parse(List.of("0.attackType=CURATIVE_MAGIC", "0.spellPower=0"));
+
+            // When
+            BatchReportDTO report = batchService.processKernels(kernels, outputDirectory, patch);
+
+            // Then
+            assertThat(report.allSucceeded()).isFalse();
+            assertThat(outputDirectory.resolve("kernel0.bin")).doesNotExist();
+        }
+    }
+}
@@ -0,0 +1,408 @@
+package com.ff8.application.services;
+
+import com.ff8.application.mappers.MagicDataToDtoMapper;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.events.KernelReadEvent;
+import com.ff8.domain.exceptions.BinaryParseException;
+import com.ff8.domain.services.TextEncodingService;
+import com.ff8.infrastructure.adapters.secondary.filesystem.LocalFileSystemAdapter;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelBinaryParser;
+import com.ff8.infrastructure.adapters.secondary.repository.InMemoryMagicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("KernelFileService Tests")
+class KernelFileServiceTest {
+
+    private static final int MAGIC_SECTION_OFFSET = 0x021C;
+    private static final int MAGIC_STRUCT_SIZE = 0x3C;
+    private static final int SPELL_POWER_OFFSET = 0x08;
+    private static final int KERNEL_SIZE = 0x5188 + 0x100;
+
+    @TempDir
+    Path tempDir;
+
+    private static final int RESOURCE_NAME_LENGTH = 32;
+    private static final int RESOURCE_DESCRIPTION_LENGTH = 128;
+
+    private InMemoryMagicRepository repository;
+    private KernelFileService kernelFileService;
+    private Path kernelFile;
+    private byte[] originalData;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KernelBinaryParser binaryParser = new KernelBinaryParser();
+        repository = new InMemoryMagicRepository(binaryParser);
+        kernelFileService = new KernelFileService(
+            binaryParser,
+            new LocalFileSystemAdapter(),
+            repository,
+            new MagicDataToDtoMapper(),
+            new TextEncodingService()
+        );
+
+        originalData = createKernelData();
+        kernelFile = tempDir.resolve("kernel.bin");
+        Files.write(kernelFile, originalData);
+        kernelFileService.loadKernelFile(kernelFile.toString());
+    }
+
+    /**
+     * Builds a minimal kernel whose 56 records carry magic IDs equal to their index,
+     * with a recognizable pattern outside the magic section.
+     */
+    private static byte[] createKernelData() {
+        byte[] data = new byte[KERNEL_SIZE];
+        for (int i = 0; i < MAGIC_SECTION_OFFSET; i++) {
+            data[i] = (byte) i;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 56; i++) {
+            int offset = MAGIC_SECTION_OFFSET + i * MAGIC_STRUCT_SIZE;
+            buffer.putShort(offset + 0x04, (short) i);
+            buffer.put(offset + 0x07, (byte) AttackType.MAGIC_ATTACK.getValue());
+            buffer.put(offset + SPELL_POWER_OFFSET, (byte) (10 + i));
+            buffer.put(offset + 0x0D, (byte) 1);
+            buffer.put(offset + 0x0E, (byte) Element.FIRE.getValue());
+        }
+        return data;
+    }
+
+    /**
+     * Writes a standalone magic binary and its English resource file.
+     */
+    private static Path writeMagicBinary(Path directory, int spellCount) throws IOException {
+        TextEncodingService encoder = new TextEncodingService();
+        byte[] binary = new byte[spellCount * MAGIC_STRUCT_SIZE];
+        byte[] resources = new byte[spellCount * (RESOURCE_NAME_LENGTH + RESOURCE_DESCRIPTION_LENGTH)];
+        ByteBuffer buffer = ByteBuffer.wrap(binary).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < spellCount; i++) {
+            int offset = i * MAGIC_STRUCT_SIZE;
+            buffer.putShort(offset + 0x04, (short) (100 + i));
+            buffer.put(offset + 0x07, (byte) AttackType.MAGIC_ATTACK.getValue());
+            buffer.put(offset + SPELL_POWER_OFFSET, (byte) i);
+
+            int resourceOffset = i * (RESOURCE_NAME_LENGTH + RESOURCE_DESCRIPTION_LENGTH);
+            byte[] name = encoder.encipherCaesarCode(i % 2 == 0 ? "Custom Even" : "Custom Odd").getBytes(StandardCharsets.ISO_8859_1);
+            byte[] description = encoder.encipherCaesarCode("Imported spell").getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(name, 0, resources, resourceOffset, name.length);
+            System.arraycopy(description, 0, resources, resourceOffset + RESOURCE_NAME_LENGTH, description.length);
+        }
+        Path binaryFile = directory.resolve("custom.bin");
+        Files.write(binaryFile, binary);
+        Files.write(directory.resolve("custom_en.resources.bin"), resources);
+        return binaryFile;
+    }
+
+    private static int recordOffset(int index) {
+        return MAGIC_SECTION_OFFSET + index * MAGIC_STRUCT_SIZE;
+    }
+
+    private MagicData magicAt(int index) {
+        return repository.findByIndex(index).orElseThrow();
+    }
+
+    @Nested
+    @DisplayName("Save Operations")
+    class SaveOperationsTests {
+
+        @Test
+        @DisplayName("Should start clean after loading")
+        void shouldStartCleanAfterLoading() {
+            assertThat(repository.getDirtyIndices()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should write only changed records when saving in place")
+        void shouldWriteOnlyChangedRecordsInPlace() throws Exception {
+            // Given
+            repository.save(magicAt(3).withSpellPower(200));
+            repository.save(magicAt(40).withSpellPower(201));
+            Object fileKey = Files.readAttributes(kernelFile, BasicFileAttributes.class).fileKey();
+
+            // When
+            kernelFileService.saveKernelFile(kernelFile.toString());
+
+            // Then
+            byte[] saved = Files.readAllBytes(kernelFile);
+            assertThat(saved).hasSize(originalData.length);
+            assertThat(saved[recordOffset(3) + SPELL_POWER_OFFSET] & 0xFF).isEqualTo(200);
+            assertThat(saved[recordOffset(40) + SPELL_POWER_OFFSET] & 0xFF).isEqualTo(201);
+            assertThat(Arrays.copyOfRange(saved, 0, recordOffset(3)))
+                .isEqualTo(Arrays.copyOfRange(originalData, 0, recordOffset(3)));
+            assertThat(Arrays.copyOfRange(saved, recordOffset(41), saved.length))
+                .isEqualTo(Arrays.copyOfRange(originalData, recordOffset(41), originalData.length));
+            assertThat(repository.getDirtyIndices()).isEmpty();
+            // Written in place, not replaced by a copy, and nothing left beside it
+            assertThat(Files.readAttributes(kernelFile, BasicFileAttributes.class).fileKey()).isEqualTo(fileKey);
+            try (var files = Files.list(tempDir)) {
+                assertThat(files.map(path -> path.getFileName().toString())).containsExactly("kernel.bin");
+            }
+        }
+
+        @Test
+        @DisplayName("Should roll back a patch that was interrupted before it finished")
+        void shouldRollBackInterruptedPatch() throws Exception {
+            // Given - a patch of record 3 that journaled the old bytes, then crashed mid-write
+            LocalFileSystemAdapter fileSystem = new LocalFileSystemAdapter();
+            long offset = recordOffset(3);
+            byte[] oldBytes = Arrays.copyOfRange(originalData, recordOffset(3), recordOffset(4));
+            Files.write(tempDir.resolve("kernel.bin.journal"), ByteBuffer.allocate(12 + oldBytes.length)
+                .putLong(offset).putInt(oldBytes.length).put(oldBytes).array());
+            byte[] halfPatched = originalData.clone();
+            Arrays.fill(halfPatched, recordOffset(3), recordOffset(3) + 20, (byte) 0x7F);
+            Files.write(kernelFile, halfPatched);
+
+            // When
+            byte[] read = fileSystem.readBinaryFile(kernelFile.toString());
+
+            // Then
+            assertThat(read).isEqualTo(originalData);
+            assertThat(kernelFile).hasBinaryContent(originalData);
+            assertThat(tempDir.resolve("kernel.bin.journal")).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("Should leave the loaded file untouched when patching it fails")
+        void shouldLeaveFileUntouchedWhenPatchFails() throws Exception {
+            // Given - one valid range and one reaching past the end of the file
+            LocalFileSystemAdapter fileSystem = new LocalFileSystemAdapter();
+
+            // When & Then
+            assertThatThrownBy(() -> fileSystem.writeBinaryRanges(kernelFile.toString(),
+                    Map.of(0L, new byte[]{1, 2, 3}, (long) originalData.length - 1, new byte[]{4, 5})))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("outside file");
+            assertThat(kernelFile).hasBinaryContent(originalData);
+            try (var files = Files.list(tempDir)) {
+                assertThat(files.map(path -> path.getFileName().toString())).containsExactly("kernel.bin");
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the file's permissions when replacing it")
+        void shouldKeepPermissionsWhenReplacingFile() throws Exception {
+            // Given - a group-readable kernel, which a default temp file (0600) would lose
+            assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+            Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-r-----");
+            Files.setPosixFilePermissions(kernelFile, shared);
+            LocalFileSystemAdapter fileSystem = new LocalFileSystemAdapter();
+
+            // When - a whole-file save
+            fileSystem.writeBinaryFile(kernelFile.toString(), originalData);
+
+            // Then
+            assertThat(Files.getPosixFilePermissions(kernelFile)).isEqualTo(shared);
+        }
+
+        @Test
+        @DisplayName("Should keep the loaded view in sync across saves")
+        void shouldKeepViewInSyncAcrossSaves() throws Exception {
+            // Given - a full save to another file, then an in-place save there
+            Path copy = tempDir.resolve("copy.bin");
+            repository.save(magicAt(1).withSpellPower(111));
+            kernelFileService.saveKernelFile(copy.toString());
+            repository.save(magicAt(2).withSpellPower(122));
+            kernelFileService.saveKernelFile(copy.toString());
+
+            // When - a further full save reuses the view as template
+            Path third = tempDir.resolve("third.bin");
+            kernelFileService.saveKernelFile(third.toString());
+
+            // Then
+            byte[] saved = Files.readAllBytes(third);
+            assertThat(saved).isEqualTo(Files.readAllBytes(copy));
+            assertThat(saved[recordOffset(1) + SPELL_POWER_OFFSET] & 0xFF).isEqualTo(111);
+            assertThat(saved[recordOffset(2) + SPELL_POWER_OFFSET] & 0xFF).isEqualTo(122);
+            assertThat(Files.readAllBytes(kernelFile)).isEqualTo(originalData);
+        }
+
+        @Test
+        @DisplayName("Should rewrite the whole file when its size changed on disk")
+        void shouldRewriteWholeFileWhenSizeChanged() throws Exception {
+            // Given
+            repository.save(magicAt(5).withSpellPower(99));
+            Files.write(kernelFile, Arrays.copyOf(originalData, originalData.length + 16));
+
+            // When
+            kernelFileService.saveKernelFile(kernelFile.toString());
+
+            // Then
+            byte[] saved = Files.readAllBytes(kernelFile);
+            assertThat(saved).hasSize(originalData.length);
+            assertThat(saved[recordOffset(5) + SPELL_POWER_OFFSET] & 0xFF).isEqualTo(99);
+        }
+
+        @Test
+        @DisplayName("Should reject in-place save of a removed kernel record")
+        void shouldRejectSaveOfRemovedRecord() throws IOException {
+            // Given
+            repository.deleteByIndex(7);
+
+            // When & Then
+            assertThatThrownBy(() -> kernelFileService.saveKernelFile(kernelFile.toString()))
+                .hasMessageContaining("Invalid magic count");
+            assertThat(Files.readAllBytes(kernelFile)).isEqualTo(originalData);
+        }
+        @Test
+        @DisplayName("Should save over the loaded file without holding a mapping of it")
+        void shouldSaveOverLoadedFileWithoutMapping() throws Exception {
+            // Given - a file system that, like Windows, cannot replace a mapped file,
+            // and whose in-place writes fail so the whole file is rewritten
+            Set<String> mappedFiles = new HashSet<>();
+            LocalFileSystemAdapter windowsLikeFileSystem = new LocalFileSystemAdapter() {
+                @Override
+                public ByteBuffer mapBinaryFile(String filePath) throws IOException {
+                    mappedFiles.add(filePath);
+                    return super.mapBinaryFile(filePath);
+                }
+
+                @Override
+                public void writeBinaryFile(String filePath, byte[] data) throws IOException {
+                    if (mappedFiles.contains(filePath)) {
+                        throw new IOException("The requested operation cannot be performed on a file with a user-mapped section open");
+                    }
+                    super.writeBinaryFile(filePath, data);
+                }
+
+                @Override
+                public void writeBinaryRanges(String filePath, Map<Long, byte[]> ranges) throws IOException {
+                    throw new IOException("In-place write unavailable");
+                }
+            };
+            KernelFileService service = new KernelFileService(
+                new KernelBinaryParser(), windowsLikeFileSystem, repository,
+                new MagicDataToDtoMapper(), new TextEncodingService());
+            service.loadKernelFile(kernelFile.toString());
+            repository.save(magicAt(9).withSpellPower(190));
+
+            // When
+            service.saveKernelFile(kernelFile.toString());
+
+            // Then
+            byte[] saved = Files.readAllBytes(kernelFile);
+            assertThat(saved[recordOffset(9) + SPELL_POWER_OFFSET] & 0xFF).isEqualTo(190);
+            assertThat(Arrays.copyOfRange(saved, 0, MAGIC_SECTION_OFFSET))
+                .isEqualTo(Arrays.copyOfRange(originalData, 0, MAGIC_SECTION_OFFSET));
+            assertThat(mappedFiles).isEmpty();
+            assertThat(repository.getDirtyIndices()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Magic Binary Import")
+    class MagicBinaryImportTests {
+
+        @Test
+        @DisplayName("Should import into consecutive indices with a single event")
+        void shouldImportIntoConsecutiveIndicesWithSingleEvent() throws Exception {
+            // Given
+            Path binaryFile = writeMagicBinary(tempDir, 500);
+            List<KernelReadEvent> events = new ArrayList<>();
+            kernelFileService.registerObserver(events::add);
+
+            // When
+            kernelFileService.loadMagicBinary(binaryFile.toString());
+
+            // Then
+            assertThat(events).hasSize(1);
+            assertThat(repository.findNewlyCreated()).hasSize(500);
+            MagicData last = magicAt(56 + 499);
+            assertThat(last.isNewlyCreated()).isTrue();
+            assertThat(last.getMagicID()).isEqualTo(100 + 499);
+            assertThat(last.getExtractedSpellName()).isEqualTo("Custom Odd");
+            assertThat(repository.getNextAvailableIndex()).isEqualTo(56 + 500);
+        }
+
+        @Test
+        @DisplayName("Should remove stored records and release the reserved indices when a damaged binary fails mid-import")
+        void shouldReleaseReservationWhenImportFails() throws Exception {
+            // Given - the binary cannot be read past its first 1100 records
+            Path binaryFile = writeMagicBinary(tempDir, 1500);
+            KernelFileService service = new KernelFileService(
+                new KernelBinaryParser(),
+                new LocalFileSystemAdapter() {
+                    @Override
+                    public ReadableByteChannel openReadChannel(String filePath) throws IOException {
+                        ReadableByteChannel channel = super.openReadChannel(filePath);
+                        return filePath.equals(binaryFile.toString()) ? failingAfter(channel, 1100 * MAGIC_STRUCT_SIZE) : channel;
+                    }
+                },
+                repository,
+                new MagicDataToDtoMapper(),
+                new TextEncodingService()
+            );
+
+            // When & Then
+            assertThatThrownBy(() -> service.loadMagicBinary(binaryFile.toString()))
+                .isInstanceOf(BinaryParseException.class);
+            assertThat(repository.findNewlyCreated()).isEmpty();
+            assertThat(repository.getNextAvailableIndex()).isEqualTo(56);
+
+            // When - a later import gets the same indices
+            kernelFileService.loadMagicBinary(writeMagicBinary(Files.createDirectory(tempDir.resolve("next")), 10).toString());
+
+            // Then
+            assertThat(repository.findNewlyCreated()).extracting(MagicData::getIndex).startsWith(56).hasSize(10);
+        }
+
+        private static ReadableByteChannel failingAfter(ReadableByteChannel channel, int readableBytes) {
+            return new ReadableByteChannel() {
+                private int remaining = readableBytes;
+
+                @Override
+                public int read(ByteBuffer target) throws IOException {
+                    if (remaining == 0) {
+                        throw new IOException("Damaged sector");
+                    }
+                    int limit = target.limit();
+                    target.limit(Math.min(limit, target.position() + remaining));
+                    try {
+                        int read = channel.read(target);
+                        remaining -= Math.max(read, 0);
+                        return read;
+                    } finally {
+                        target.limit(limit);
+                    }
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return channel.isOpen();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    channel.close();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ff8.application.services;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.exceptions.BinaryParseException;
+import com.ff8.domain.services.TextEncodingService;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelBinaryParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static com.ff8.application.services.MagicBinaryStreamReader.*;
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MagicBinaryStreamReader Tests")
+class MagicBinaryStreamReaderTest {
+
+    private static final int RESOURCE_ENTRY_SIZE = RESOURCE_NAME_LENGTH + RESOURCE_DESCRIPTION_LENGTH;
+
+    private final TextEncodingService textEncodingService = new TextEncodingService();
+
+    private static byte[] magicBinary(int spellCount) {
+        byte[] binary = new byte[spellCount * MAGIC_STRUCT_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(binary).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < spellCount; i++) {
+            buffer.putShort(i * MAGIC_STRUCT_SIZE + 0x04, (short) i);
+            buffer.put(i * MAGIC_STRUCT_SIZE + 0x07, (byte) AttackType.MAGIC_ATTACK.getValue());
+        }
+        return binary;
+    }
+
+    private byte[] resources(List<String> names) {
+        byte[] data = new byte[names.size() * RESOURCE_ENTRY_SIZE];
+        for (int i = 0; i < names.size(); i++) {
+            byte[] name = textEncodingService.encipherCaesarCode(names.get(i)).getBytes(StandardCharsets.ISO_8859_1);
+            byte[] description = textEncodingService.encipherCaesarCode("About " + names.get(i)).getBytes(StandardCharsets.ISO_8859_1);
+            System.arraycopy(name, 0, data, i * RESOURCE_ENTRY_SIZE, name.length);
+            System.arraycopy(description, 0, data, i * RESOURCE_ENTRY_SIZE + RESOURCE_NAME_LENGTH, description.length);
+        }
+        return data;
+    }
+
+    private static ReadableByteChannel channel(byte[] data) {
+        return Channels.newChannel(new ByteArrayInputStream(data));
+    }
+
+    private static List<String> names(String prefix, int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            names.add(prefix + " " + (char) ('A' + i));
+        }
+        return names;
+    }
+
+    private MagicBinaryStreamReader reader(byte[] binary, Map<String, byte[]> languages) {
+        Map<String, ReadableByteChannel> channels = new LinkedHashMap<>();
+        languages.forEach((language, data) -> channels.put(language, channel(data)));
+        return new MagicBinaryStreamReader(channel(binary), channels, new KernelBinaryParser(), textEncodingService, 100, 7);
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("Should zip records with translations across chunk boundaries")
+        void shouldZipRecordsWithTranslationsAcrossChunks() throws Exception {
+            // Given - 20 records read 7 at a time, French file covering only 10
+            Map<String, byte[]> languages = new LinkedHashMap<>();
+            languages.put("English", resources(names("Spell", 20)));
+            languages.put("French", resources(names("Sort", 10)));
+
+            // When
+            List<MagicData> spells = new ArrayList<>();
+            try (MagicBinaryStreamReader reader = reader(magicBinary(20), languages)) {
+                reader.forEachRemaining(spells::add);
+                assertThat(reader.getRecordsRead()).isEqualTo(20);
+            }
+
+            // Then
+            assertThat(spells).extracting(MagicData::getIndex).containsExactlyElementsOf(
+                IntStream.range(100, 120).boxed().toList());
+            MagicData fifteenth = spells.get(15);
+            assertThat(fifteenth.getMagicID()).isEqualTo(15);
+            assertThat(fifteenth.isNewlyCreated()).isTrue();
+            assertThat(fifteenth.getExtractedSpellName()).isEqualTo("Spell P");
+            assertThat(fifteenth.getExtractedSpellDescription()).isEqualTo("About Spell P");
+            assertThat(spells.get(9).getTranslations().getTranslation("French").orElseThrow().getName()).isEqualTo("Sort J");
+            assertThat(fifteenth.getTranslations().getTranslation("French").orElseThrow().getName()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should reject a binary ending inside a record")
+        void shouldRejectTruncatedBinary() {
+            // Given
+            byte[] truncated = Arrays.copyOf(magicBinary(9), 9 * MAGIC_STRUCT_SIZE - 5);
+            MagicBinaryStreamReader reader = reader(truncated, Map.of("English", resources(names("Spell", 9))));
+
+            // When & Then - the first full chunk is still delivered
+            for (int i = 0; i < 7; i++) {
+                assertThat(reader.next().getMagicID()).isEqualTo(i);
+            }
+            assertThatThrownBy(reader::hasNext)
+                .isInstanceOf(BinaryParseException.class)
+                .hasMessageContaining("multiple of 60");
+        }
+
+        @Test
+        @DisplayName("Should require an English channel")
+        void shouldRequireEnglishChannel() {
+            assertThatThrownBy(() -> reader(magicBinary(1), Map.of("French", new byte[0])))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
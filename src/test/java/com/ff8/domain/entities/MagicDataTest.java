@@ -2,11 +2,14 @@ package com.ff8.domain.entities;
 
 import com.ff8.domain.entities.enums.AttackType;
 import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.entities.enums.GF;
 import com.ff8.domain.entities.enums.StatusEffect;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("MagicData Entity Tests")
@@ -142,9 +145,7 @@ class MagicDataTest {
         @DisplayName("Should handle status effects correctly")
         void shouldHandleStatusEffectsCorrectly() {
             // Given
-            StatusEffectSet statusEffects = new StatusEffectSet();
-            statusEffects.setStatus(StatusEffect.POISON, true);
-            statusEffects.setStatus(StatusEffect.SLEEP, true);
+            StatusEffectSet statusEffects = StatusEffectSet.of(List.of(StatusEffect.POISON, StatusEffect.SLEEP));
 
             MagicData magic = MagicData.builder()
                     .statusEffects(statusEffects)
@@ -269,4 +270,77 @@ class MagicDataTest {
             assertThat(edgeCaseMagic.getDrawResist()).isEqualTo(0);
         }
     }
-} 
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Shared Value Object Tests")
+    class SharedValueObjectTests {
+
+        @Test
+        @DisplayName("Should pack GF compatibility into two words in kernel byte order")
+        void shouldPackGFCompatibilityIntoTwoWords() {
+            // Given
+            byte[] bytes = new byte[16];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) (0x80 + i);
+            }
+
+            // When
+            GFCompatibilitySet compatibility = GFCompatibilitySet.fromBytes(bytes, 0);
+
+            // Then
+            assertThat(compatibility.getPackedLow()).isEqualTo(0x8786858483828180L);
+            assertThat(compatibility.getPackedHigh()).isEqualTo(0x8F8E8D8C8B8A8988L);
+            assertThat(compatibility.getCompatibility(GF.QUEZACOLT)).isEqualTo(0x80);
+            assertThat(compatibility.getCompatibility(GF.EDEN)).isEqualTo(0x8F);
+            assertThat(compatibility.toBytes()).isEqualTo(bytes);
+        }
+
+        @Test
+        @DisplayName("Should return canonical instances from copy-on-write edits")
+        void shouldReturnCanonicalInstancesFromEdits() {
+            // Given
+            GFCompatibilitySet defaults = GFCompatibilitySet.defaults();
+
+            // When
+            GFCompatibilitySet edited = defaults.withCompatibility(GF.SHIVA, 40);
+            GFCompatibilitySet reverted = edited.withCompatibility(GF.SHIVA, GFCompatibilitySet.DEFAULT_COMPATIBILITY);
+
+            // Then
+            assertThat(edited).isNotSameAs(defaults);
+            assertThat(edited.getCompatibility(GF.SHIVA)).isEqualTo(40);
+            assertThat(defaults.getCompatibility(GF.SHIVA)).isEqualTo(GFCompatibilitySet.DEFAULT_COMPATIBILITY);
+            assertThat(reverted).isSameAs(defaults);
+            assertThat(new GFCompatibilitySet()).isEqualTo(defaults);
+        }
+
+        @Test
+        @DisplayName("Should share equal junction values")
+        void shouldShareEqualJunctionValues() {
+            // When
+            JunctionStats stats = JunctionStats.of(10, 20, 0, 0, 0, 0, 0, 0, 5);
+            JunctionElemental elemental = JunctionElemental.of(Element.FIRE, 50, List.of(Element.ICE), 30);
+
+            // Then
+            assertThat(JunctionStats.fromBytes(stats.toBytes(), 0)).isSameAs(stats);
+            assertThat(stats.withHp(0).withStr(0).withLuck(0)).isSameAs(JunctionStats.empty());
+            assertThat(JunctionElemental.fromBytes(elemental.toBytes(), 0)).isSameAs(elemental);
+        }
+
+        @Test
+        @DisplayName("Should keep its status sets when new sets are derived from them")
+        void shouldKeepStatusSetsWhenDerivingNewOnes() {
+            // Given
+            StatusEffectSet attackStatuses = StatusEffectSet.of(0L).with(StatusEffect.POISON);
+
+            // When
+            JunctionStatusEffects junctionStatus = JunctionStatusEffects.of(attackStatuses, 40, StatusEffectSet.of(0L), 0);
+            StatusEffectSet derived = attackStatuses.with(StatusEffect.SLEEP);
+
+            // Then
+            assertThat(derived.hasStatus(StatusEffect.SLEEP)).isTrue();
+            assertThat(junctionStatus.getAttackStatuses().hasStatus(StatusEffect.SLEEP)).isFalse();
+            assertThat(junctionStatus.withAttackValue(0).withAttackStatuses(attackStatuses.without(StatusEffect.POISON)))
+                    .isSameAs(JunctionStatusEffects.empty());
+        }
+    }
+}
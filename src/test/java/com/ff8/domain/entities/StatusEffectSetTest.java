@@ -1,6 +1,8 @@
 package com.ff8.domain.entities;
 
+import com.ff8.domain.entities.enums.AttackFlag;
 import com.ff8.domain.entities.enums.StatusEffect;
+import com.ff8.domain.entities.enums.TargetFlag;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -9,6 +11,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 
@@ -21,7 +24,7 @@ class StatusEffectSetTest {
 
     @BeforeEach
     void setUp() {
-        statusEffectSet = new StatusEffectSet();
+        statusEffectSet = StatusEffectSet.of(0L);
     }
 
     @Nested
@@ -32,8 +35,8 @@ class StatusEffectSetTest {
         @DisplayName("Should add and check status effects")
         void shouldAddAndCheckStatusEffects() {
             // When
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
 
             // Then
             assertThat(statusEffectSet.hasStatus(StatusEffect.POISON)).isTrue();
@@ -45,11 +48,11 @@ class StatusEffectSetTest {
         @DisplayName("Should remove status effects")
         void shouldRemoveStatusEffects() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
 
             // When
-            statusEffectSet.setStatus(StatusEffect.POISON, false);
+            statusEffectSet = statusEffectSet.without(StatusEffect.POISON);
 
             // Then
             assertThat(statusEffectSet.hasStatus(StatusEffect.POISON)).isFalse();
@@ -60,24 +63,25 @@ class StatusEffectSetTest {
         @DisplayName("Should clear all status effects")
         void shouldClearAllStatusEffects() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
 
             // When
-            statusEffectSet.clear();
+            StatusEffectSet cleared = statusEffectSet.without(StatusEffect.POISON).without(StatusEffect.SLEEP);
 
             // Then
-            assertThat(statusEffectSet.hasStatus(StatusEffect.POISON)).isFalse();
-            assertThat(statusEffectSet.hasStatus(StatusEffect.SLEEP)).isFalse();
-            assertThat(statusEffectSet.hasAnyStatus()).isFalse();
+            assertThat(cleared.hasStatus(StatusEffect.POISON)).isFalse();
+            assertThat(cleared.hasStatus(StatusEffect.SLEEP)).isFalse();
+            assertThat(cleared.hasAnyStatus()).isFalse();
+            assertThat(cleared).isSameAs(StatusEffectSet.of(0L));
         }
 
         @Test
         @DisplayName("Should handle duplicate additions gracefully")
         void shouldHandleDuplicateAdditions() {
             // When
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.POISON, true); // Duplicate
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON); // Duplicate
 
             // Then
             var activeStatuses = statusEffectSet.getActiveStatuses();
@@ -89,7 +93,7 @@ class StatusEffectSetTest {
         @DisplayName("Should not throw when removing non-existent status")
         void shouldNotThrowWhenRemovingNonExistentStatus() {
             // Then
-            assertThatCode(() -> statusEffectSet.setStatus(StatusEffect.DEATH, false))
+            assertThatCode(() -> statusEffectSet.without(StatusEffect.DEATH))
                     .doesNotThrowAnyException();
         }
     }
@@ -102,14 +106,14 @@ class StatusEffectSetTest {
         @DisplayName("Should convert to and from binary correctly")
         void shouldConvertToAndFromBinaryCorrectly() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
 
             // When
             byte[] bytes = statusEffectSet.toBytes();
-            StatusEffectSet reconstructed = new StatusEffectSet();
-            reconstructed.setStatus(StatusEffect.POISON, true);
-            reconstructed.setStatus(StatusEffect.SLEEP, true);
+            StatusEffectSet reconstructed = StatusEffectSet.of(0L)
+                    .with(StatusEffect.POISON)
+                    .with(StatusEffect.SLEEP);
 
             // Then
             assertThat(reconstructed.hasStatus(StatusEffect.POISON)).isTrue();
@@ -123,15 +127,12 @@ class StatusEffectSetTest {
             // Given - Add several status effects
             StatusEffect[] effects = {StatusEffect.POISON, StatusEffect.SLEEP, StatusEffect.DEATH, StatusEffect.PETRIFY};
             for (StatusEffect effect : effects) {
-                statusEffectSet.setStatus(effect, true);
+                statusEffectSet = statusEffectSet.with(effect);
             }
 
             // When
             byte[] bytes = statusEffectSet.toBytes();
-            StatusEffectSet reconstructed = new StatusEffectSet();
-            for (StatusEffect effect : effects) {
-                reconstructed.setStatus(effect, true);
-            }
+            StatusEffectSet reconstructed = StatusEffectSet.of(Arrays.asList(effects));
 
             // Then
             for (StatusEffect effect : effects) {
@@ -144,7 +145,7 @@ class StatusEffectSetTest {
         void shouldHandleEmptyStatusSetInBinaryFormat() {
             // When
             byte[] bytes = statusEffectSet.toBytes();
-            StatusEffectSet reconstructed = new StatusEffectSet();
+            StatusEffectSet reconstructed = StatusEffectSet.of(0L);
 
             // Then
             assertThat(bytes).hasSize(6);
@@ -160,12 +161,12 @@ class StatusEffectSetTest {
         @DisplayName("Should be equal when same status effects")
         void shouldBeEqualWhenSameStatusEffects() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
 
-            StatusEffectSet other = new StatusEffectSet();
-            other.setStatus(StatusEffect.POISON, true);
-            other.setStatus(StatusEffect.SLEEP, true);
+            StatusEffectSet other = StatusEffectSet.of(0L)
+                    .with(StatusEffect.SLEEP)
+                    .with(StatusEffect.POISON);
 
             // Then
             assertThat(statusEffectSet).isEqualTo(other);
@@ -176,9 +177,8 @@ class StatusEffectSetTest {
         @DisplayName("Should not be equal when different status effects")
         void shouldNotBeEqualWhenDifferentStatusEffects() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            StatusEffectSet other = new StatusEffectSet();
-            other.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            StatusEffectSet other = StatusEffectSet.of(0L).with(StatusEffect.SLEEP);
 
             // Then
             assertThat(statusEffectSet).isNotEqualTo(other);
@@ -188,13 +188,68 @@ class StatusEffectSetTest {
         @DisplayName("Should handle null comparison gracefully")
         void shouldHandleNullComparisonGracefully() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
 
             // Then
             assertThat(statusEffectSet).isNotEqualTo(null);
         }
     }
 
+    @Nested
+    @DisplayName("Shared Immutable Sets")
+    class SharedImmutableSets {
+
+        @Test
+        @DisplayName("Should share instances for empty and single-status masks")
+        void shouldShareCommonInstances() {
+            // When
+            StatusEffectSet poison = StatusEffectSet.of(1L << StatusEffect.POISON.getBitIndex());
+
+            // Then
+            assertThat(StatusEffectSet.of(0L)).isSameAs(StatusEffectSet.of(0L));
+            assertThat(poison).isSameAs(StatusEffectSet.of(0L).withStatus(StatusEffect.POISON, true));
+            assertThat(TargetFlags.of(0xA5)).isSameAs(TargetFlags.of(0x1A5));
+            assertThat(AttackFlags.of(0x3C).toByte()).isEqualTo(0x3C);
+        }
+
+        @Test
+        @DisplayName("Should return new interned values instead of changing shared sets")
+        void shouldReturnNewValuesInsteadOfChangingSharedSets() {
+            // Given
+            StatusEffectSet shared = StatusEffectSet.of(0L);
+
+            // When
+            StatusEffectSet changed = shared.with(StatusEffect.SLEEP).with(StatusEffect.HASTE);
+
+            // Then
+            assertThat(shared.hasAnyStatus()).isFalse();
+            assertThat(changed).isSameAs(StatusEffectSet.of(List.of(StatusEffect.HASTE, StatusEffect.SLEEP)));
+            assertThat(TargetFlags.of(1).with(TargetFlag.ENEMY).without(TargetFlag.DEAD))
+                .isSameAs(TargetFlags.of(1 << TargetFlag.ENEMY.getBitIndex()));
+            assertThat(AttackFlags.of(0).with(AttackFlag.REVIVE).isRevive()).isTrue();
+            assertThat(AttackFlags.of(0).hasAnyFlags()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should equal sets built from the same bits and iterate them in order")
+        void shouldEqualSetsWithSameBits() {
+            // Given
+            statusEffectSet = statusEffectSet.with(StatusEffect.DEATH);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
+            long mask = statusEffectSet.getBits();
+            StringBuilder visited = new StringBuilder();
+
+            // When
+            StatusEffectSet shared = StatusEffectSet.of(mask);
+            shared.forEachActiveBit(bit -> visited.append(bit).append(' '));
+
+            // Then
+            assertThat(shared).isEqualTo(statusEffectSet).hasSameHashCodeAs(statusEffectSet);
+            assertThat(visited.toString().trim()).isEqualTo(StatusEffect.SLEEP.getBitIndex() + " " + StatusEffect.DEATH.getBitIndex());
+            assertThat(TargetFlags.of(5)).isNotEqualTo(AttackFlags.of(5));
+        }
+    }
+
     @Nested
     @DisplayName("ToString and Display")
     class ToStringAndDisplay {
@@ -203,8 +258,8 @@ class StatusEffectSetTest {
         @DisplayName("Should provide meaningful toString")
         void shouldProvideMeaningfulToString() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
 
             // When
             String result = statusEffectSet.toString();
@@ -227,12 +282,12 @@ class StatusEffectSetTest {
             assertThat(statusEffectSet.getActiveStatuses()).isEmpty();
 
             // When - Add status effects
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
             assertThat(statusEffectSet.getActiveStatuses()).hasSize(2);
 
             // When - Remove one
-            statusEffectSet.setStatus(StatusEffect.POISON, false);
+            statusEffectSet = statusEffectSet.without(StatusEffect.POISON);
             assertThat(statusEffectSet.getActiveStatuses()).hasSize(1);
         }
 
@@ -240,8 +295,8 @@ class StatusEffectSetTest {
         @DisplayName("Should check for specific status combinations")
         void shouldCheckForSpecificStatusCombinations() {
             // Given
-            statusEffectSet.setStatus(StatusEffect.POISON, true);
-            statusEffectSet.setStatus(StatusEffect.SLEEP, true);
+            statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+            statusEffectSet = statusEffectSet.with(StatusEffect.SLEEP);
 
             // Then
             assertThat(statusEffectSet.hasStatus(StatusEffect.POISON) && statusEffectSet.hasStatus(StatusEffect.SLEEP)).isTrue();
@@ -262,8 +317,8 @@ class StatusEffectSetTest {
             // When
             long startTime = System.nanoTime();
             for (int i = 0; i < iterations; i++) {
-                statusEffectSet.setStatus(StatusEffect.POISON, true);
-                statusEffectSet.setStatus(StatusEffect.POISON, false);
+                statusEffectSet = statusEffectSet.with(StatusEffect.POISON);
+                statusEffectSet = statusEffectSet.without(StatusEffect.POISON);
             }
             long endTime = System.nanoTime();
 
@@ -290,11 +345,11 @@ class StatusEffectSetTest {
             for (int i = 0; i < threadCount; i++) {
                 final int threadIndex = i;
                 futures[i] = CompletableFuture.runAsync(() -> {
-                    StatusEffectSet localSet = new StatusEffectSet();
+                    StatusEffectSet localSet = StatusEffectSet.of(0L);
                     for (int j = 0; j < operationsPerThread; j++) {
-                        localSet.setStatus(StatusEffect.POISON, true);
+                        localSet = localSet.with(StatusEffect.POISON);
                         localSet.hasStatus(StatusEffect.POISON);
-                        localSet.setStatus(StatusEffect.POISON, false);
+                        localSet = localSet.without(StatusEffect.POISON);
                     }
                 }, Executors.newCachedThreadPool());
             }
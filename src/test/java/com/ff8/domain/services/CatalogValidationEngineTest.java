@@ -0,0 +1,298 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.StatusEffectSet;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Language;
+import com.ff8.domain.entities.enums.StatusEffect;
+import com.ff8.domain.services.CatalogValidationEngine.ValidationReport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CatalogValidationEngine Tests")
+class CatalogValidationEngineTest {
+
+    private ForkJoinPool pool;
+    private CatalogValidationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        engine = new CatalogValidationEngine(pool);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    private static MagicData spell(int index, int magicId) {
+        return MagicData.builder()
+                .index(index)
+                .magicID(magicId)
+                .spellPower(20)
+                .build();
+    }
+
+    /**
+     * A catalog with a sprinkling of invalid values, duplicate IDs and status conflicts
+     */
+    private static List<MagicData> randomCatalog(long seed, int size) {
+        Random random = new Random(seed);
+        List<MagicData> catalog = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            long statusBits = random.nextInt(8) == 0
+                    ? (1L << StatusEffect.HASTE.getBitIndex()) | (1L << StatusEffect.SLOW.getBitIndex())
+                    : 0L;
+            catalog.add(MagicData.builder()
+                    .index(i)
+                    .magicID(random.nextInt(360))
+                    .spellPower(random.nextInt(270))
+                    .hitCount(random.nextInt(20))
+                    .attackType(random.nextBoolean() ? AttackType.MAGIC_ATTACK : AttackType.CURATIVE_MAGIC)
+                    .statusEffects(StatusEffectSet.of(statusBits))
+                    .build());
+        }
+        return catalog;
+    }
+
+    @Nested
+    @DisplayName("Rule Findings")
+    class RuleFindingTests {
+
+        @Test
+        @DisplayName("Should report structured codes with the offending value")
+        void shouldReportStructuredCodes() {
+            // Given
+            MagicData invalid = MagicData.builder()
+                    .index(3)
+                    .magicID(400)
+                    .spellPower(0)
+                    .hitCount(17)
+                    .attackType(AttackType.CURATIVE_MAGIC)
+                    .build();
+
+            // When
+            ValidationReport report = engine.validate(List.of(spell(1, 1), invalid));
+
+            // Then
+            assertThat(report.getIssuesFor(1)).isEmpty();
+            assertThat(report.getIssuesFor(3))
+                    .extracting(ValidationIssue::code)
+                    .containsExactly(
+                            ValidationCode.MAGIC_ID_OUT_OF_RANGE,
+                            ValidationCode.CURATIVE_WITHOUT_POWER,
+                            ValidationCode.NO_EFFECTS,
+                            ValidationCode.VERY_HIGH_HIT_COUNT);
+            assertThat(report.getIssuesFor(3).get(0).value()).isEqualTo(400);
+            assertThat(report.getErrorCount()).isEqualTo(2);
+            assertThat(report.getWarningCount()).isEqualTo(2);
+            assertThat(report.isValid()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should report every repeat of a magic ID after its first use")
+        void shouldReportDuplicateMagicIds() {
+            // Given
+            List<MagicData> catalog = List.of(spell(0, 5), spell(1, 6), spell(2, 5), spell(3, 5), spell(4, 70_000), spell(5, 70_000));
+
+            // When
+            ValidationReport report = engine.validate(catalog, EnumSet.of(ValidationRule.CATALOG_INTEGRITY));
+
+            // Then
+            assertThat(report.issues())
+                    .extracting(ValidationIssue::spellIndex)
+                    .containsExactly(2, 3, 5);
+            assertThat(report.countByCode()).containsEntry(ValidationCode.DUPLICATE_MAGIC_ID, 3);
+            assertThat(report.issues().get(0).getMessage()).isEqualTo("Magic ID 5 is already used by an earlier entry");
+        }
+
+        @Test
+        @DisplayName("Should format the same messages as MagicValidationService")
+        void shouldMatchMagicValidationServiceMessages() {
+            // Given
+            MagicValidationService validationService = new MagicValidationService();
+            List<MagicData> catalog = randomCatalog(7, 500);
+
+            // When
+            ValidationReport report = engine.validate(catalog, EnumSet.of(
+                    ValidationRule.FIELD_RANGES, ValidationRule.BUSINESS_RULES,
+                    ValidationRule.JUNCTION_LIMITS, ValidationRule.STATUS_EFFECTS));
+
+            // Then
+            for (MagicData magic : catalog) {
+                var summary = validationService.getValidationSummary(magic);
+                List<ValidationIssue> issues = report.getIssuesFor(magic.getIndex());
+                assertThat(issues.stream().filter(ValidationIssue::isError).map(ValidationIssue::getMessage))
+                        .containsExactlyInAnyOrderElementsOf(summary.errors());
+                assertThat(issues.stream().filter(issue -> !issue.isError()).map(ValidationIssue::getMessage))
+                        .containsExactlyInAnyOrderElementsOf(summary.warnings());
+            }
+        }
+
+        @Test
+        @DisplayName("Should only check export readiness of newly created spells")
+        void shouldCheckExportReadinessOfNewSpellsOnly() {
+            // Given
+            MagicData kernelSpell = spell(0, 1);
+            MagicData newSpell = spell(1, 2).toBuilder().isNewlyCreated(true).build();
+
+            // When
+            ValidationReport report = engine.validate(List.of(kernelSpell, newSpell), EnumSet.of(ValidationRule.EXPORT_READINESS));
+
+            // Then
+            assertThat(report.issues())
+                    .extracting(ValidationIssue::spellIndex, ValidationIssue::code)
+                    .containsExactly(tuple(1, ValidationCode.EMPTY_ENGLISH_NAME));
+        }
+    }
+
+    @Nested
+    @DisplayName("Export Texts")
+    class ExportTextTests {
+
+        private MagicData newSpell(int index, SpellTranslations translations) {
+            return spell(index, index).toBuilder()
+                    .isNewlyCreated(true)
+                    .translations(translations)
+                    .build();
+        }
+
+        @Test
+        @DisplayName("Should report long texts and missing languages per translation")
+        void shouldReportTextsPerLanguage() {
+            // Given
+            MagicData fire = newSpell(1, new SpellTranslations("Fire", "x".repeat(501))
+                    .withTranslation("French", "F".repeat(101), "Feu"));
+            MagicData ice = newSpell(2, new SpellTranslations("Blizzard", "Ice damage"));
+
+            // When
+            ValidationReport report = engine.validate(List.of(fire, ice), EnumSet.of(ValidationRule.EXPORT_TEXTS));
+
+            // Then
+            assertThat(report.issues())
+                    .extracting(ValidationIssue::spellIndex, ValidationIssue::code, ValidationIssue::value, ValidationIssue::language)
+                    .containsExactly(
+                            tuple(1, ValidationCode.NAME_TOO_LONG, 101, Language.FRENCH),
+                            tuple(1, ValidationCode.DESCRIPTION_TOO_LONG, 501, Language.ENGLISH),
+                            tuple(2, ValidationCode.MISSING_TRANSLATION, 0, Language.FRENCH));
+            assertThat(report.isValid()).isTrue();
+            assertThat(report.textMeasurements().getSpellCount()).isEqualTo(2);
+            assertThat(report.textMeasurements().getEncodedNameLength(0, Language.FRENCH)).isEqualTo(101);
+        }
+
+        @Test
+        @DisplayName("Should measure only newly created spells, and only when the text rule runs")
+        void shouldMeasureNewSpellsOnly() {
+            // Given
+            List<MagicData> catalog = List.of(spell(0, 1), newSpell(1, new SpellTranslations("Fire", "Fire damage")));
+
+            // When
+            ValidationReport withTexts = engine.validate(catalog, EnumSet.of(ValidationRule.EXPORT_TEXTS));
+            ValidationReport withoutTexts = engine.validate(catalog, EnumSet.of(ValidationRule.EXPORT_READINESS));
+
+            // Then
+            assertThat(withTexts.textMeasurements().getSpellCount()).isEqualTo(1);
+            assertThat(withTexts.textMeasurements().getSpellIndex(0)).isEqualTo(1);
+            assertThat(withoutTexts.textMeasurements()).isNull();
+        }
+
+        @Test
+        @DisplayName("Should warn about texts and values a new spell cannot export as is")
+        void shouldWarnAboutUnexportableTextsAndValues() {
+            // Given
+            MagicData magic = newSpell(4, new SpellTranslations("Fire", "Fire damage")
+                    .withTranslation("German", "Feuer", "Schaden 🔥"))
+                    .toBuilder()
+                    .magicID(350)
+                    .hitCount(20)
+                    .build();
+
+            // When
+            ValidationReport report = engine.validate(List.of(magic), EnumSet.of(ValidationRule.EXPORT_READINESS));
+
+            // Then
+            assertThat(report.issues())
+                    .extracting(ValidationIssue::code, ValidationIssue::value, ValidationIssue::language)
+                    .containsExactly(
+                            tuple(ValidationCode.DESCRIPTION_NOT_ENCODABLE, 0, Language.GERMAN),
+                            tuple(ValidationCode.UNSUPPORTED_MAGIC_ID, 350, null),
+                            tuple(ValidationCode.UNUSUAL_HIT_COUNT, 20, null));
+            assertThat(report.getWarningCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Parallel Execution and Timings")
+    class ParallelExecutionTests {
+
+        @Test
+        @DisplayName("Should produce the same report in parallel as chunk by chunk")
+        void shouldMatchSequentialResultsInParallel() {
+            // Given
+            List<MagicData> catalog = randomCatalog(11, CatalogValidationEngine.PARALLEL_THRESHOLD * 3);
+            List<ValidationIssue> expected = new ArrayList<>();
+            for (int from = 0; from < catalog.size(); from += 1000) {
+                expected.addAll(engine.validate(catalog.subList(from, Math.min(from + 1000, catalog.size())),
+                        EnumSet.complementOf(EnumSet.of(ValidationRule.CATALOG_INTEGRITY))).issues());
+            }
+
+            // When
+            ValidationReport report = engine.validate(catalog,
+                    EnumSet.complementOf(EnumSet.of(ValidationRule.CATALOG_INTEGRITY)));
+
+            // Then
+            assertThat(report.spellCount()).isEqualTo(catalog.size());
+            assertThat(report.issues()).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("Should find duplicates across chunks of a parallel run")
+        void shouldFindDuplicatesAcrossChunks() {
+            // Given
+            List<MagicData> catalog = new ArrayList<>();
+            for (int i = 0; i < CatalogValidationEngine.PARALLEL_THRESHOLD * 2; i++) {
+                catalog.add(spell(i, i % 300));
+            }
+
+            // When
+            ValidationReport report = engine.validate(catalog, EnumSet.of(ValidationRule.CATALOG_INTEGRITY));
+
+            // Then
+            assertThat(report.issues()).hasSize(catalog.size() - 300);
+            assertThat(report.issues().get(0).spellIndex()).isEqualTo(300);
+        }
+
+        @Test
+        @DisplayName("Should time the selected rules and accumulate them")
+        void shouldTimeSelectedRules() {
+            // Given
+            List<MagicData> catalog = randomCatalog(3, 1_000);
+            EnumSet<ValidationRule> rules = EnumSet.of(ValidationRule.FIELD_RANGES, ValidationRule.CATALOG_INTEGRITY);
+
+            // When
+            ValidationReport first = engine.validate(catalog, rules);
+            ValidationReport second = engine.validate(catalog, rules);
+
+            // Then
+            assertThat(first.ruleTimings()).containsOnlyKeys(rules);
+            assertThat(engine.getCumulativeRuleTimings().get(ValidationRule.FIELD_RANGES))
+                    .isEqualTo(first.ruleTimings().get(ValidationRule.FIELD_RANGES)
+                            .plus(second.ruleTimings().get(ValidationRule.FIELD_RANGES)));
+            assertThat(engine.getCumulativeRuleTimings().get(ValidationRule.STATUS_EFFECTS)).isEqualTo(Duration.ZERO);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.Language;
+import com.ff8.domain.services.ExportValidationService.ExportValidationResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExportValidationService Tests")
+class ExportValidationServiceTest {
+
+    private ExportValidationService validationService;
+
+    @BeforeEach
+    void setUp() {
+        validationService = new ExportValidationService();
+    }
+
+    private static MagicData newSpell(int index, SpellTranslations translations) {
+        return MagicData.builder()
+                .index(index)
+                .magicID(index)
+                .spellPower(20)
+                .isNewlyCreated(true)
+                .translations(translations)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should report each finding once, prefixed with the spell or language")
+    void shouldReportEachFindingOnce() {
+        // Given
+        MagicData fire = newSpell(1, new SpellTranslations("Fire", "Fire damage")
+                .withTranslation("French", "Feu", "Dégâts de feu"));
+        MagicData nameless = newSpell(2, new SpellTranslations(Map.of(
+                "French", new SpellTranslations.Translation("Glace", "Dégâts de glace"))));
+
+        // When
+        ExportValidationResult result = validationService.validateForExport(List.of(fire, nameless));
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getErrors()).containsExactly("Spell 2 (): English spell name is empty");
+        assertThat(result.getWarnings()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should warn about missing languages and hand on the text measurements")
+    void shouldWarnAboutMissingLanguages() {
+        // Given
+        MagicData fire = newSpell(1, new SpellTranslations("Fire", "Fire damage")
+                .withTranslation("German", "Feuer", "Feuerschaden"));
+        MagicData ice = newSpell(2, new SpellTranslations("Blizzard", "Ice damage"));
+
+        // When
+        ExportValidationResult result = validationService.validateForExport(List.of(ice, fire));
+
+        // Then
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getWarnings())
+                .containsExactly("Spell 2 (German): Missing translation (English fallback will be used)");
+        assertThat(result.getSummary().getLanguages()).containsExactly(Language.ENGLISH, Language.GERMAN);
+        assertThat(result.getSummary().getSpellsPerLanguage())
+                .containsEntry(Language.ENGLISH, 2)
+                .containsEntry(Language.GERMAN, 1);
+        assertThat(result.getTextMeasurements().getSpellCount()).isEqualTo(2);
+        assertThat(result.getTextMeasurements().getEncodedNameLength(1, Language.GERMAN)).isEqualTo("Blizzard".length());
+    }
+
+    @Test
+    @DisplayName("Should reject an export without newly created spells")
+    void shouldRejectKernelSpellsOnly() {
+        // Given
+        MagicData kernelSpell = MagicData.builder().index(0).magicID(1).build();
+
+        // When
+        ExportValidationResult result = validationService.validateForExport(List.of(kernelSpell));
+
+        // Then
+        assertThat(result.isValid()).isFalse();
+        assertThat(result.getTextMeasurements()).isNull();
+        assertThat(result.getErrors()).singleElement().asString().startsWith("No newly created magic spells found");
+    }
+}
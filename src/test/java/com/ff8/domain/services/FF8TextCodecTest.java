@@ -0,0 +1,306 @@
+package com.ff8.domain.services;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("FF8TextCodec Tests")
+class FF8TextCodecTest {
+
+    private final FF8TextCodec codec = FF8TextCodec.getInstance();
+
+    private String roundTrip(FF8TextCodec codec, String text) {
+        byte[] encoded = codec.encode(text);
+        return codec.decodeRange(encoded, 0, encoded.length);
+    }
+
+    @Nested
+    @DisplayName("Character Table")
+    class CharacterTableTests {
+
+        @Test
+        @DisplayName("Should encode letters, digits and punctuation at their font positions")
+        void shouldEncodeAsciiAtFontPositions() {
+            // When
+            byte[] encoded = codec.encode("Fire 1, Ace!");
+
+            // Then
+            assertThat(encoded).containsExactly(0x4A, 0x67, 0x70, 0x63, 0x20, 0x22, 0x3C, 0x20, 0x45, 0x61, 0x63, 0x2E);
+            assertThat(codec.decodeRange(encoded, 0, encoded.length)).isEqualTo("Fire 1, Ace!");
+        }
+
+        @Test
+        @DisplayName("Should place accented letters after the alphabet")
+        void shouldPlaceAccentedLettersAfterTheAlphabet() {
+            assertThat(codec.encode("Àé")).containsExactly(0x79, 0x97);
+            assertThat(codec.encode("Éß")).containsExactly(0x7F, 0x90);
+            assertThat(codec.encode("Œœ")).containsExactly(0x8F, 0xA7);
+            assertThat(codec.encode("¡ñ¿")).containsExactly(0xBD, 0x9E, 0xBE);
+        }
+
+        @Test
+        @DisplayName("Should round-trip accented letters of the European versions")
+        void shouldRoundTripAccentedText() {
+            assertThat(roundTrip(codec, "Méga Brasier à l'été")).isEqualTo("Méga Brasier à l'été");
+            assertThat(roundTrip(codec, "Größe Übel")).isEqualTo("Größe Übel");
+            assertThat(roundTrip(codec, "¡Piro Mayor!")).isEqualTo("¡Piro Mayor!");
+            assertThat(codec.canEncode("Café")).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should accept the font's symbols and reject characters outside the font")
+        void shouldCheckCharactersAgainstTheFont() {
+            assertThat(codec.canEncode("Cœur “Feu”…")).isTrue();
+            assertThat(codec.canEncode("„Feuer“")).isFalse();
+            assertThat(codec.canEncode("10 €")).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should decode two-letter glyphs and re-encode them as single letters")
+        void shouldDecodeTwoLetterGlyphs() {
+            // Given
+            byte[] raw = {(byte) 0xED, 0x20, (byte) 0xE8};
+
+            // When
+            String decoded = codec.decodeRange(raw, 0, raw.length);
+
+            // Then
+            assertThat(decoded).isEqualTo("HP in");
+            assertThat(codec.encode(decoded)).containsExactly(0x4C, 0x54, 0x20, 0x67, 0x6C);
+        }
+
+        @Test
+        @DisplayName("Should write unmappable characters as question marks")
+        void shouldWriteUnmappableCharacters() {
+            // When
+            byte[] encoded = codec.encode("A炎B");
+
+            // Then
+            assertThat(codec.canEncode("A炎B")).isFalse();
+            assertThat(codec.decodeRange(encoded, 0, encoded.length)).isEqualTo("A?B");
+        }
+    }
+
+    @Nested
+    @DisplayName("Special Sequences")
+    class SpecialSequenceTests {
+
+        @Test
+        @DisplayName("Should encode line breaks and character names as short sequences")
+        void shouldEncodeTokensAsSequences() {
+            // When
+            byte[] encoded = codec.encode("{Squall}\n{Rinoa}");
+
+            // Then
+            assertThat(encoded).containsExactly(0x03, 0x30, 0x02, 0x03, 0x34);
+            assertThat(codec.encodedLength("{Squall}\n{Rinoa}")).isEqualTo(5);
+            assertThat(codec.decodeRange(encoded, 0, encoded.length)).isEqualTo("{Squall}\n{Rinoa}");
+        }
+
+        @Test
+        @DisplayName("Should round-trip accents and character names together")
+        void shouldRoundTripAccentsAndNames() {
+            // Given
+            String text = "{Squall} réveille {Rinoa}…\nŒuvre de {Quistis}, ¿Qué?";
+
+            // When
+            byte[] encoded = codec.encode(text);
+
+            // Then
+            assertThat(encoded).startsWith(0x03, 0x30, 0x20);
+            assertThat(codec.encodedLength(text)).isEqualTo(encoded.length);
+            assertThat(codec.canEncode(text)).isTrue();
+            assertThat(codec.decodeRange(encoded, 0, encoded.length)).isEqualTo(text);
+        }
+
+        @Test
+        @DisplayName("Should keep unknown control bytes and glyphs through escapes")
+        void shouldEscapeUnknownControlBytes() {
+            // Given
+            byte[] raw = {0x0E, 0x03, (byte) 0xBA, 0x45, (byte) 0xD0};
+
+            // When
+            String decoded = codec.decodeRange(raw, 0, raw.length);
+
+            // Then
+            assertThat(decoded).isEqualTo("{x0E}{x03}{xBA}A{xD0}");
+            assertThat(codec.encode(decoded)).isEqualTo(raw);
+            assertThat(codec.canEncode(decoded)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Should treat braces that start no token as unmappable")
+        void shouldRejectPlainBraces() {
+            assertThat(roundTrip(codec, "{Squal} {xZZ}")).isEqualTo("?Squal? ?xZZ?");
+            assertThat(codec.canEncode("{Seifer")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Buffers")
+    class BufferTests {
+
+        @Test
+        @DisplayName("Should decode null-terminated text from direct buffers without moving them")
+        void shouldDecodeFromDirectBuffers() {
+            // Given
+            byte[] encoded = codec.encode("Brasier\nÉté");
+            ByteBuffer direct = ByteBuffer.allocateDirect(encoded.length + 4).position(2);
+            direct.put(1, encoded);
+
+            // When
+            String decoded = codec.decode(direct, 1, 100);
+
+            // Then
+            assertThat(decoded).isEqualTo("Brasier\nÉté");
+            assertThat(direct.position()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should reject encoding past the end of the target without writing")
+        void shouldRejectEncodingPastTheTarget() {
+            // Given
+            ByteBuffer target = ByteBuffer.allocate(8);
+
+            // When & Then
+            assertThatThrownBy(() -> codec.encode("{Squall} attacks", target, 0))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> codec.encode("Flare", target, 4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThatThrownBy(() -> codec.encode("Flare", ByteBuffer.allocateDirect(8), 4))
+                .isInstanceOf(IndexOutOfBoundsException.class);
+            assertThat(target.array()).containsOnly(0);
+        }
+
+        @Test
+        @DisplayName("Should encode into a direct buffer without moving it")
+        void shouldEncodeIntoDirectBuffer() {
+            // Given
+            ByteBuffer target = ByteBuffer.allocateDirect(16).position(5);
+
+            // When
+            int written = codec.encode("Holy", target, 2);
+
+            // Then
+            byte[] bytes = new byte[5];
+            target.get(2, bytes);
+            assertThat(written).isEqualTo(4);
+            assertThat(target.position()).isEqualTo(5);
+            assertThat(bytes).containsExactly(0x4C, 0x6D, 0x6A, 0x77, 0x00);
+        }
+
+        @Test
+        @DisplayName("Should fit text whose tokens make it shorter than its characters")
+        void shouldFitTokensTightly() {
+            // Given
+            ByteBuffer target = ByteBuffer.allocate(4);
+
+            // When
+            int written = codec.encode("{Squall}", target, 2);
+
+            // Then
+            assertThat(written).isEqualTo(2);
+            assertThat(target.array()).containsExactly(0x00, 0x00, 0x03, 0x30);
+        }
+
+        @Test
+        @DisplayName("Should decode up to the terminator from arrays and buffers alike")
+        void shouldDecodeUpToTheTerminator() {
+            // Given - the second string is long enough for the word-wise terminator scan
+            byte[] fire = codec.encode("Fire");
+            byte[] long_ = codec.encode("Thundaga and Blizzaga");
+            byte[] data = new byte[2 + fire.length + 1 + long_.length + 1];
+            System.arraycopy(fire, 0, data, 2, fire.length);
+            System.arraycopy(long_, 0, data, 3 + fire.length, long_.length);
+            ByteBuffer direct = ByteBuffer.allocateDirect(data.length).put(data).position(1);
+            ByteBuffer slice = ByteBuffer.wrap(data, 2, data.length - 2).slice();
+
+            // When & Then
+            assertThat(codec.decode(data, 2, 100)).isEqualTo("Fire");
+            assertThat(codec.decode(direct, 2, 100)).isEqualTo("Fire");
+            assertThat(codec.decode(slice, 0, 100)).isEqualTo("Fire");
+            assertThat(codec.decode(data, 7, 100)).isEqualTo("Thundaga and Blizzaga");
+            assertThat(codec.decode(direct, 7, 100)).isEqualTo("Thundaga and Blizzaga");
+            assertThat(direct.position()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should stop at the maximum length and ignore offsets out of range")
+        void shouldStopAtMaximumLength() {
+            // Given
+            byte[] data = codec.encode("Fire");
+
+            // When & Then
+            assertThat(codec.decode(data, 0, 2)).isEqualTo("Fi");
+            assertThat(codec.decode(ByteBuffer.wrap(data), 0, 2)).isEqualTo("Fi");
+            assertThat(codec.decode(data, 4, 10)).isEmpty();
+            assertThat(codec.decode(data, -1, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should find the first terminator at every position of a word")
+        void shouldFindTerminatorAtEveryPosition() {
+            for (int zero = 0; zero < 20; zero++) {
+                // Given - non-zero bytes, including 0x80 and 0x01 that trip naive word scans
+                byte[] data = new byte[20];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (byte) (i % 2 == 0 ? 0x80 : 0x01);
+                }
+                data[zero] = 0;
+                if (zero + 3 < data.length) {
+                    data[zero + 3] = 0;
+                }
+
+                // When & Then
+                assertThat(FF8TextCodec.indexOfTerminator(data, 0, data.length)).as("zero at %d", zero).isEqualTo(zero);
+                assertThat(FF8TextCodec.indexOfTerminator(data, 0, zero)).isEqualTo(zero);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup Tables")
+    class LookupTableTests {
+
+        @Test
+        @DisplayName("Should encode every Latin-1 character to one byte that decodes back, or to a question mark")
+        void shouldEncodeEveryLatin1Character() {
+            for (char c = 1; c < 256; c++) {
+                String text = String.valueOf(c);
+                byte[] encoded = codec.encode(text);
+
+                assertThat(encoded).as("encode %d", (int) c).hasSize(1);
+                if (codec.canEncode(text)) {
+                    assertThat(codec.decodeRange(encoded, 0, 1)).as("decode %d", (int) c).isEqualTo(text);
+                } else {
+                    assertThat(encoded[0]).as("unmappable %d", (int) c).isEqualTo((byte) 0x2F);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should decode every single byte to text that encodes back to it")
+        void shouldDecodeEverySingleByte() {
+            for (int b = 1; b < 0xE8; b++) { // from 0xE8 on, two-letter glyphs re-encode as two letters
+                byte[] raw = {(byte) b};
+                String decoded = codec.decodeRange(raw, 0, 1);
+
+                assertThat(codec.encode(decoded)).as("byte %02X", b).containsExactly(raw);
+            }
+        }
+
+        @Test
+        @DisplayName("Should switch to the trie after a Latin-1 prefix")
+        void shouldDecodeNonLatin1AfterLatin1Prefix() {
+            // Given
+            byte[] encoded = codec.encode("Fire… {Zell}「ok」");
+
+            // When & Then
+            assertThat(codec.decodeRange(encoded, 0, encoded.length)).isEqualTo("Fire… {Zell}「ok」");
+        }
+    }
+}
@@ -198,18 +198,18 @@ class MagicValidationServiceTest {
         @DisplayName("Should validate maximum status effects limit")
         void shouldValidateMaximumStatusEffectsLimit() {
             // Given - Magic with excessive status effects (11 > 10 limit)
-            StatusEffectSet statusSet = new StatusEffectSet();
-            statusSet.setStatus(StatusEffect.DEATH, true);
-            statusSet.setStatus(StatusEffect.POISON, true);
-            statusSet.setStatus(StatusEffect.PETRIFY, true);
-            statusSet.setStatus(StatusEffect.DARKNESS, true);
-            statusSet.setStatus(StatusEffect.SILENCE, true);
-            statusSet.setStatus(StatusEffect.BERSERK, true);
-            statusSet.setStatus(StatusEffect.ZOMBIE, true);
-            statusSet.setStatus(StatusEffect.SLEEP, true);
-            statusSet.setStatus(StatusEffect.SLOW, true);
-            statusSet.setStatus(StatusEffect.STOP, true);
-            statusSet.setStatus(StatusEffect.CONFUSION, true);
+            StatusEffectSet statusSet = StatusEffectSet.of(List.of(
+                    StatusEffect.DEATH,
+                    StatusEffect.POISON,
+                    StatusEffect.PETRIFY,
+                    StatusEffect.DARKNESS,
+                    StatusEffect.SILENCE,
+                    StatusEffect.BERSERK,
+                    StatusEffect.ZOMBIE,
+                    StatusEffect.SLEEP,
+                    StatusEffect.SLOW,
+                    StatusEffect.STOP,
+                    StatusEffect.CONFUSION));
 
             MagicData magic = MagicData.builder()
                     .extractedSpellName("Chaos")
@@ -221,6 +221,25 @@ class MagicValidationServiceTest {
                     .isInstanceOf(InvalidMagicDataException.class)
                     .hasMessageContaining("Too many active status effects");
         }
+
+        @Test
+        @DisplayName("Should warn about mutually exclusive status effects without failing validation")
+        void shouldWarnAboutMutuallyExclusiveStatusEffects() {
+            // Given - Haste and Slow cannot be active together
+            MagicData magic = MagicData.builder()
+                    .extractedSpellName("Tempo")
+                    .spellPower(10)
+                    .statusEffects(StatusEffectSet.of(List.of(StatusEffect.HASTE, StatusEffect.SLOW)))
+                    .build();
+
+            // When
+            var summary = validationService.getValidationSummary(magic);
+
+            // Then
+            assertThat(summary.isValid()).isTrue();
+            assertThat(summary.errors()).isEmpty();
+            assertThat(summary.warnings()).containsExactly("Mutually exclusive status effects are active");
+        }
     }
 
     @Nested
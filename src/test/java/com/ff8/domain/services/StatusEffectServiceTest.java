@@ -0,0 +1,209 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.StatusEffectSet;
+import com.ff8.domain.entities.enums.StatusEffect;
+import com.ff8.domain.services.StatusEffectService.StatusMaskAudit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("StatusEffectService Tests")
+class StatusEffectServiceTest {
+
+    private static final StatusEffect[] ALL_EFFECTS = StatusEffect.values();
+
+    private StatusEffectService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new StatusEffectService();
+    }
+
+    private static long maskOf(StatusEffect... effects) {
+        long mask = 0;
+        for (StatusEffect effect : effects) {
+            mask |= 1L << effect.getBitIndex();
+        }
+        return mask;
+    }
+
+    private static long maskOf(List<StatusEffect> effects) {
+        return maskOf(effects.toArray(StatusEffect[]::new));
+    }
+
+    /**
+     * Random masks over the defined status bits only
+     */
+    private static long[] randomMasks(long seed, int count) {
+        Random random = new Random(seed);
+        long[] masks = new long[count];
+        for (int i = 0; i < count; i++) {
+            for (StatusEffect effect : ALL_EFFECTS) {
+                if (random.nextInt(6) == 0) {
+                    masks[i] |= 1L << effect.getBitIndex();
+                }
+            }
+        }
+        return masks;
+    }
+
+    @Nested
+    @DisplayName("Bulk Status Mask Audit")
+    class BulkStatusMaskAuditTests {
+
+        @Test
+        @DisplayName("Should classify masks like the per-spell methods")
+        void shouldMatchPerSpellClassification() {
+            // Given
+            long[] masks = randomMasks(42, 2_000);
+
+            // When
+            StatusMaskAudit audit = service.auditStatusMasks(masks);
+
+            // Then
+            assertThat(audit.size()).isEqualTo(masks.length);
+            for (int i = 0; i < masks.length; i++) {
+                StatusEffectSet statusSet = StatusEffectSet.of(masks[i]);
+                assertThat(audit.beneficialMasks()[i]).isEqualTo(maskOf(service.getBeneficialEffects(statusSet)));
+                assertThat(audit.harmfulMasks()[i]).isEqualTo(maskOf(service.getHarmfulEffects(statusSet)));
+                assertThat(audit.getConflictingGroups(i))
+                        .hasSameSizeAs(service.validateStatusCombination(statusSet));
+            }
+        }
+
+        @Test
+        @DisplayName("Should report the conflicting groups of each spell")
+        void shouldReportConflictingGroups() {
+            // Given
+            long[] masks = {
+                    maskOf(StatusEffect.HASTE, StatusEffect.SLOW, StatusEffect.POISON),
+                    maskOf(StatusEffect.HASTE, StatusEffect.PROTECT),
+                    maskOf(StatusEffect.DEATH, StatusEffect.ZOMBIE, StatusEffect.DOUBLE, StatusEffect.TRIPLE),
+                    0L
+            };
+
+            // When
+            StatusMaskAudit audit = service.auditStatusMasks(masks);
+
+            // Then
+            assertThat(audit.getConflictingGroups(0))
+                    .containsExactly(Set.of(StatusEffect.HASTE, StatusEffect.SLOW, StatusEffect.STOP));
+            assertThat(audit.hasConflict(1)).isFalse();
+            assertThat(audit.getConflictingGroups(2)).containsExactly(
+                    Set.of(StatusEffect.DEATH, StatusEffect.ZOMBIE),
+                    Set.of(StatusEffect.DOUBLE, StatusEffect.TRIPLE));
+            assertThat(audit.hasConflict(3)).isFalse();
+            assertThat(audit.conflictCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should handle an empty catalog")
+        void shouldHandleEmptyCatalog() {
+            // When
+            StatusMaskAudit audit = service.auditStatusMasks(new long[0]);
+
+            // Then
+            assertThat(audit.size()).isZero();
+            assertThat(audit.conflictCount()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Mutual Exclusion Properties")
+    class MutualExclusionPropertyTests {
+
+        // Reference model: the group sets, checked the straightforward way
+        private static final List<Set<StatusEffect>> GROUPS = List.of(
+                Set.of(StatusEffect.HASTE, StatusEffect.SLOW, StatusEffect.STOP),
+                Set.of(StatusEffect.PROTECT, StatusEffect.SHELL),
+                Set.of(StatusEffect.DEATH, StatusEffect.ZOMBIE),
+                Set.of(StatusEffect.PETRIFY, StatusEffect.PETRIFYING),
+                Set.of(StatusEffect.DOUBLE, StatusEffect.TRIPLE)
+        );
+
+        private List<String> referenceValidate(StatusEffectSet statusSet) {
+            List<String> errors = new ArrayList<>();
+            for (Set<StatusEffect> group : GROUPS) {
+                List<StatusEffect> activeInGroup = statusSet.getActiveStatuses().stream()
+                        .filter(group::contains)
+                        .toList();
+                if (activeInGroup.size() > 1) {
+                    errors.add("Mutually exclusive status effects: "
+                            + activeInGroup.stream().map(StatusEffect::getDisplayName).toList());
+                }
+            }
+            return errors;
+        }
+
+        private long referenceClean(StatusEffectSet statusSet) {
+            long cleaned = 0;
+            Set<Set<StatusEffect>> processedGroups = new HashSet<>();
+            for (StatusEffect effect : statusSet.getActiveStatuses()) {
+                Set<StatusEffect> group = GROUPS.stream().filter(g -> g.contains(effect)).findFirst().orElse(null);
+                if (group == null || processedGroups.add(group)) {
+                    cleaned |= 1L << effect.getBitIndex();
+                }
+            }
+            return cleaned;
+        }
+
+        @Test
+        @DisplayName("Should validate random status sets like the set-based model")
+        void shouldValidateLikeReferenceModel() {
+            for (long seed = 0; seed < 5; seed++) {
+                for (long mask : randomMasks(seed, 2_000)) {
+                    StatusEffectSet statusSet = StatusEffectSet.of(mask);
+
+                    List<String> errors = service.validateStatusCombination(statusSet);
+
+                    assertThat(errors).as("mask %x", mask).isEqualTo(referenceValidate(statusSet));
+                    assertThat(service.hasExclusiveConflict(mask)).as("mask %x", mask).isEqualTo(!errors.isEmpty());
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should clean random status sets like the set-based model")
+        void shouldCleanLikeReferenceModel() {
+            for (long seed = 0; seed < 5; seed++) {
+                for (long mask : randomMasks(seed, 2_000)) {
+                    StatusEffectSet statusSet = StatusEffectSet.of(mask);
+
+                    long cleaned = service.cleanStatusSet(statusSet).getBits();
+
+                    assertThat(cleaned).as("mask %x", mask).isEqualTo(referenceClean(statusSet));
+                    assertThat(cleaned & ~mask).as("cleaning only removes effects").isZero();
+                    assertThat(service.hasExclusiveConflict(cleaned)).isFalse();
+                    assertThat(service.cleanStatusMask(cleaned)).as("cleaning is idempotent").isEqualTo(cleaned);
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("Should answer pairwise exclusion like the set-based model")
+        void shouldAnswerPairsLikeReferenceModel() {
+            for (StatusEffect effect : ALL_EFFECTS) {
+                Set<StatusEffect> expectedPartners = new HashSet<>();
+                for (StatusEffect other : ALL_EFFECTS) {
+                    boolean expected = GROUPS.stream().anyMatch(g -> g.contains(effect) && g.contains(other));
+                    assertThat(service.areMutuallyExclusive(effect, other))
+                            .as("%s / %s", effect, other)
+                            .isEqualTo(expected);
+                    if (expected && other != effect) {
+                        expectedPartners.add(other);
+                    }
+                }
+                assertThat(service.getMutuallyExclusiveEffects(effect)).isEqualTo(expectedPartners);
+            }
+        }
+    }
+}
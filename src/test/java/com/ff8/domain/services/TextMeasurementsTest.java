@@ -0,0 +1,61 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.Language;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextMeasurements Tests")
+class TextMeasurementsTest {
+
+    private Map<Integer, SpellTranslations> createTranslations() {
+        Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+        translations.put(7, new SpellTranslations("Thunder", "Lightning damage"));
+        translations.put(2, new SpellTranslations("Fire", "{Squall} burns")
+            .withTranslation("French", "Brasier", "Dommages de feu"));
+        return translations;
+    }
+
+    @Test
+    @DisplayName("Should order spells by index and collect languages with English first")
+    void shouldOrderSpellsAndLanguages() {
+        // When
+        TextMeasurements measurements = TextMeasurements.measure(createTranslations());
+
+        // Then
+        assertThat(measurements.getSpellCount()).isEqualTo(2);
+        assertThat(measurements.getSpellIndex(0)).isEqualTo(2);
+        assertThat(measurements.getSpellIndex(1)).isEqualTo(7);
+        assertThat(measurements.getLanguages()).containsExactly(Language.ENGLISH, Language.FRENCH);
+    }
+
+    @Test
+    @DisplayName("Should measure encoded lengths and size slots for the longest language")
+    void shouldMeasureEncodedLengths() {
+        // When
+        TextMeasurements measurements = TextMeasurements.measure(createTranslations());
+
+        // Then
+        assertThat(measurements.getEncodedDescriptionLength(0, Language.ENGLISH)).isEqualTo(8);
+        assertThat(measurements.getEncodedNameLength(0, Language.FRENCH)).isEqualTo(7);
+        assertThat(measurements.getNameSlotLength(0)).isEqualTo(8);
+        assertThat(measurements.getDescriptionSlotLength(0)).isEqualTo(16);
+    }
+
+    @Test
+    @DisplayName("Should read English lengths for languages a spell has no translation for")
+    void shouldFallBackToEnglish() {
+        // When
+        TextMeasurements measurements = TextMeasurements.measure(createTranslations());
+
+        // Then
+        assertThat(measurements.hasTranslation(1, Language.FRENCH)).isFalse();
+        assertThat(measurements.getEncodedNameLength(1, Language.FRENCH)).isEqualTo(7);
+        assertThat(measurements.getUnpaddedTextSize(Language.FRENCH)).isEqualTo((7 + 1 + 15 + 1) + (7 + 1 + 16 + 1));
+    }
+}
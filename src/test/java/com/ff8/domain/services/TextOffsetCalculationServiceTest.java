@@ -0,0 +1,112 @@
+package com.ff8.domain.services;
+
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.services.TextOffsetCalculationService.LayoutMode;
+import com.ff8.domain.services.TextOffsetCalculationService.SpellTextLayout;
+import com.ff8.domain.services.TextOffsetCalculationService.TextBlock;
+import com.ff8.domain.services.TextOffsetCalculationService.TextField;
+import com.ff8.domain.services.TextOffsetCalculationService.TextLayoutResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TextOffsetCalculationService Tests")
+class TextOffsetCalculationServiceTest {
+
+    private final TextOffsetCalculationService service = new TextOffsetCalculationService();
+
+    @Nested
+    @DisplayName("Fixed Slots")
+    class FixedSlotTests {
+
+        @Test
+        @DisplayName("Should give every text its own block in spell order")
+        void shouldGiveEveryTextItsOwnBlock() {
+            // Given
+            Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+            translations.put(0, new SpellTranslations("Cure", "Restores HP"));
+            translations.put(1, new SpellTranslations("Cure", "Restores HP"));
+
+            // When
+            TextLayoutResult layout = service.calculateTextLayout(translations);
+
+            // Then
+            assertThat(layout.getTextBlocks()).hasSize(4);
+            assertThat(layout.getTextBlocks()).extracting(TextBlock::getOffset).containsExactly(0, 5, 17, 22);
+            assertThat(layout.getTotalFileSize()).isEqualTo(34);
+        }
+    }
+
+    @Nested
+    @DisplayName("Shared Text")
+    class SharedTextTests {
+
+        @Test
+        @DisplayName("Should store identical texts once")
+        void shouldStoreIdenticalTextsOnce() {
+            // Given
+            Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+            translations.put(0, new SpellTranslations("Fire", "Fire damage"));
+            translations.put(1, new SpellTranslations("Fira", "Fire damage"));
+
+            // When
+            TextLayoutResult layout = service.calculateTextLayout(translations, LayoutMode.SHARED_TEXT);
+
+            // Then
+            assertThat(layout.getLayoutForSpell(1).getDescriptionOffset())
+                .isEqualTo(layout.getLayoutForSpell(0).getDescriptionOffset());
+            assertThat(layout.getTextBlocks()).hasSize(3);
+            assertThat(layout.getTotalFileSize()).isEqualTo(5 + 12 + 5);
+        }
+
+        @Test
+        @DisplayName("Should point a text into the longer text that ends with it")
+        void shouldMergeTails() {
+            // Given
+            Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+            translations.put(0, new SpellTranslations("Cure", "Heals"));
+            translations.put(1, new SpellTranslations("Full Cure", "Fully heals"));
+
+            // When
+            TextLayoutResult layout = service.calculateTextLayout(translations, LayoutMode.SHARED_TEXT);
+
+            // Then
+            SpellTextLayout cure = layout.getLayoutForSpell(0);
+            SpellTextLayout fullCure = layout.getLayoutForSpell(1);
+            assertThat(cure.getNameOffset()).isEqualTo(fullCure.getNameOffset() + 5);
+            assertThat(cure.getMaxNameLength()).isEqualTo(5);
+            assertThat(layout.getTextBlocks()).hasSize(3);
+            assertThat(layout.getTotalFileSize()).isEqualTo(10 + 6 + 12);
+        }
+
+        @Test
+        @DisplayName("Should only share tails that line up in every language")
+        void shouldOnlyShareTailsThatLineUpInEveryLanguage() {
+            // Given
+            Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+            translations.put(0, new SpellTranslations("Cure", "Heals")
+                .withTranslation("French", "Soin", "Soigne"));
+            translations.put(1, new SpellTranslations("Full Cure", "Fully heals")
+                .withTranslation("French", "Soin Total", "Soigne tout"));
+            translations.put(2, new SpellTranslations("Aura", "Limit break")
+                .withTranslation("French", "Aura", "Furie"));
+            translations.put(3, new SpellTranslations("Mega Aura", "Big limit break")
+                .withTranslation("French", "Giga Aura", "Grande furie"));
+
+            // When
+            TextLayoutResult layout = service.calculateTextLayout(translations, LayoutMode.SHARED_TEXT);
+
+            // Then
+            assertThat(layout.getTextBlocks())
+                .anyMatch(block -> block.getSpellIndex() == 0 && block.getField() == TextField.NAME)
+                .noneMatch(block -> block.getSpellIndex() == 2 && block.getField() == TextField.NAME);
+            assertThat(layout.getLayoutForSpell(2).getNameOffset())
+                .isEqualTo(layout.getLayoutForSpell(3).getNameOffset() + 5);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.ff8.infrastructure.adapters.secondary.export;
+
+import com.ff8.application.ports.secondary.BinaryExportPort.BinaryGenerationResult;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.services.TextOffsetCalculationService;
+import com.ff8.domain.services.TextOffsetCalculationService.TextLayoutResult;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelBinaryParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for BinaryExportAdapter.
+ * Round-trips generated binaries through the kernel parser.
+ */
+@DisplayName("BinaryExportAdapter Tests")
+class BinaryExportAdapterTest {
+
+    private static final int MAGIC_STRUCT_SIZE = 60;
+
+    private KernelBinaryParser binaryParser;
+    private BinaryExportAdapter adapter;
+    private TextOffsetCalculationService textOffsetCalculationService;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        binaryParser = new KernelBinaryParser();
+        adapter = new BinaryExportAdapter(binaryParser);
+        textOffsetCalculationService = new TextOffsetCalculationService();
+    }
+
+    private MagicData createMagic(int index, String name) {
+        return MagicData.builder()
+            .index(index)
+            .magicID(index)
+            .attackType(AttackType.MAGIC_ATTACK)
+            .spellPower(10 + index)
+            .extractedSpellName(name)
+            .isNewlyCreated(true)
+            .translations(new SpellTranslations(name, name + " description"))
+            .build();
+    }
+
+    private TextLayoutResult layoutFor(List<MagicData> magicList) {
+        Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+        magicList.forEach(magic -> translations.put(magic.getIndex(), magic.getTranslations()));
+        return textOffsetCalculationService.calculateTextLayout(translations);
+    }
+
+    @Nested
+    @DisplayName("Binary Generation")
+    class BinaryGenerationTests {
+
+        @Test
+        @DisplayName("Should write every spell with offsets from the text layout")
+        void shouldWriteSpellsWithPatchedOffsets() throws Exception {
+            // Given
+            List<MagicData> magicList = List.of(
+                createMagic(56, "Flare"), createMagic(57, "Holy"), createMagic(58, "Ultima"));
+            TextLayoutResult layout = layoutFor(magicList);
+            Path outputFile = tempDir.resolve("custom_magic.bin");
+
+            // When
+            BinaryGenerationResult result = adapter.generateBinaryFile(magicList, layout, outputFile);
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(result.bytesWritten()).isEqualTo(3L * MAGIC_STRUCT_SIZE);
+            byte[] written = Files.readAllBytes(outputFile);
+            assertThat(written).hasSize(3 * MAGIC_STRUCT_SIZE);
+
+            for (int i = 0; i < magicList.size(); i++) {
+                MagicData expected = adapter.updateMagicWithTextOffsets(magicList.get(i), layout);
+                byte[] record = new byte[MAGIC_STRUCT_SIZE];
+                System.arraycopy(written, i * MAGIC_STRUCT_SIZE, record, 0, MAGIC_STRUCT_SIZE);
+                assertThat(record).isEqualTo(binaryParser.serializeMagicData(expected));
+
+                MagicData parsed = binaryParser.parseMagicData(ByteBuffer.wrap(written), i * MAGIC_STRUCT_SIZE);
+                assertThat(parsed.getOffsetSpellName())
+                    .isEqualTo(layout.getLayoutForSpell(expected.getIndex()).getBinaryNameOffset());
+                assertThat(parsed.getSpellPower()).isEqualTo(expected.getSpellPower());
+            }
+        }
+
+        @Test
+        @DisplayName("Should replace an existing file and leave no temp files behind")
+        void shouldReplaceExistingFileWithoutLeftovers() throws Exception {
+            // Given
+            List<MagicData> magicList = List.of(createMagic(56, "Flare"));
+            Path outputFile = tempDir.resolve("custom_magic.bin");
+            Files.write(outputFile, new byte[1000]);
+
+            // When
+            BinaryGenerationResult result = adapter.generateBinaryFile(magicList, layoutFor(magicList), outputFile);
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(Files.size(outputFile)).isEqualTo(MAGIC_STRUCT_SIZE);
+            try (var files = Files.list(tempDir)) {
+                assertThat(files).containsExactly(outputFile);
+            }
+        }
+
+        @Test
+        @DisplayName("Should keep the permissions of the file it replaces")
+        void shouldKeepPermissionsOfReplacedFile() throws Exception {
+            // Given
+            assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+            List<MagicData> magicList = List.of(createMagic(56, "Flare"));
+            Path outputFile = tempDir.resolve("custom_magic.bin");
+            Files.write(outputFile, new byte[10]);
+            Set<PosixFilePermission> shared = PosixFilePermissions.fromString("rw-rw-r--");
+            Files.setPosixFilePermissions(outputFile, shared);
+
+            // When
+            adapter.generateBinaryFile(magicList, layoutFor(magicList), outputFile);
+
+            // Then
+            assertThat(Files.getPosixFilePermissions(outputFile)).isEqualTo(shared);
+        }
+    }
+}
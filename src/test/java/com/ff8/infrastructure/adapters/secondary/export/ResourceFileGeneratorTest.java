@@ -0,0 +1,198 @@
+package com.ff8.infrastructure.adapters.secondary.export;
+
+import com.ff8.application.ports.secondary.ResourceFileGeneratorPort.ResourceGenerationResult;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.enums.Language;
+import com.ff8.domain.services.TextEncodingService;
+import com.ff8.domain.services.TextOffsetCalculationService;
+import com.ff8.domain.services.TextOffsetCalculationService.SpellTextLayout;
+import com.ff8.domain.services.TextOffsetCalculationService.TextLayoutResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ResourceFileGenerator.
+ * Checks the per-language files written by concurrent generation.
+ */
+@DisplayName("ResourceFileGenerator Tests")
+class ResourceFileGeneratorTest {
+
+    private TextEncodingService textEncodingService;
+    private ResourceFileGenerator generator;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        textEncodingService = new TextEncodingService();
+        generator = new ResourceFileGenerator(textEncodingService);
+    }
+
+    private Map<Integer, SpellTranslations> createTranslations() {
+        Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+        translations.put(0, new SpellTranslations("Fire", "Fire damage")
+            .withTranslation("French", "Brasier", "Dommages de feu")
+            .withTranslation("German", "Feuer", "Feuerschaden"));
+        translations.put(1, new SpellTranslations("Blizzard", "Ice damage")
+            .withTranslation("French", "Glacier", "Dommages de glace"));
+        translations.put(2, new SpellTranslations("Thunder", "Lightning damage"));
+        return translations;
+    }
+
+    private String readSlot(byte[] file, int offset, int length) {
+        int end = offset;
+        while (end < offset + length && file[end] != 0) {
+            end++;
+        }
+        return textEncodingService.decipherCaesarCode(
+            new String(file, offset, end - offset, StandardCharsets.ISO_8859_1));
+    }
+
+    @Nested
+    @DisplayName("Multi-Language Generation")
+    class MultiLanguageGenerationTests {
+
+        @Test
+        @DisplayName("Should write one file per required language laid out by slot")
+        void shouldWriteOneFilePerRequiredLanguage() throws Exception {
+            // Given
+            Map<Integer, SpellTranslations> translations = createTranslations();
+            TextLayoutResult layout = new TextOffsetCalculationService()
+                .calculateTextLayout(translations);
+
+            // When
+            ResourceGenerationResult result = generator.generateResourceFiles(
+                translations, layout, tempDir, "custom_magic");
+
+            // Then
+            assertThat(result.success()).isTrue();
+            assertThat(result.createdFiles().keySet())
+                .containsExactly(layout.getRequiredLanguages().toArray(new Language[0]));
+
+            long expectedFileSize = layout.getSpellLayouts().values().stream()
+                .mapToLong(spell -> spell.getMaxNameLength() + spell.getMaxDescriptionLength())
+                .sum();
+            long totalBytes = 0;
+            for (Path file : result.createdFiles().values()) {
+                assertThat(Files.size(file)).isEqualTo(expectedFileSize);
+                totalBytes += Files.size(file);
+            }
+            assertThat(result.totalBytesWritten()).isEqualTo(totalBytes);
+        }
+
+        @Test
+        @DisplayName("Should fall back to English text for missing translations")
+        void shouldFallBackToEnglishForMissingTranslations() throws Exception {
+            // Given
+            Map<Integer, SpellTranslations> translations = createTranslations();
+            TextLayoutResult layout = new TextOffsetCalculationService()
+                .calculateTextLayout(translations);
+
+            // When
+            ResourceGenerationResult result = generator.generateResourceFiles(
+                translations, layout, tempDir, "custom_magic");
+
+            // Then
+            byte[] german = Files.readAllBytes(result.createdFiles().get(Language.GERMAN));
+            int offset = 0;
+            String[][] expected = {
+                {"Feuer", "Feuerschaden"},
+                {"Blizzard", "Ice damage"},
+                {"Thunder", "Lightning damage"}
+            };
+            for (int spell = 0; spell < expected.length; spell++) {
+                SpellTextLayout spellLayout = layout.getLayoutForSpell(spell);
+                assertThat(readSlot(german, offset, spellLayout.getMaxNameLength())).isEqualTo(expected[spell][0]);
+                offset += spellLayout.getMaxNameLength();
+                assertThat(readSlot(german, offset, spellLayout.getMaxDescriptionLength())).isEqualTo(expected[spell][1]);
+                offset += spellLayout.getMaxDescriptionLength();
+            }
+        }
+
+        @Test
+        @DisplayName("Should overwrite existing files with the regenerated content")
+        void shouldOverwriteExistingFiles() throws Exception {
+            // Given
+            Map<Integer, SpellTranslations> translations = createTranslations();
+            TextLayoutResult layout = new TextOffsetCalculationService()
+                .calculateTextLayout(translations);
+            Path englishFile = tempDir.resolve("custom_magic_english.resources.bin");
+            Files.write(englishFile, new byte[4096]);
+
+            // When
+            ResourceGenerationResult result = generator.generateResourceFiles(
+                translations, layout, tempDir, "custom_magic");
+
+            // Then
+            byte[] english = Files.readAllBytes(englishFile);
+            assertThat(result.createdFiles()).containsEntry(Language.ENGLISH, englishFile);
+            assertThat((long) english.length).isLessThan(4096);
+            assertThat(readSlot(english, 0, layout.getLayoutForSpell(0).getMaxNameLength())).isEqualTo("Fire");
+        }
+
+        @Test
+        @DisplayName("Should write shared texts once and decode every spell at its offset")
+        void shouldWriteSharedTextLayout() throws Exception {
+            // Given
+            Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+            translations.put(0, new SpellTranslations("Cure", "Restores HP")
+                .withTranslation("French", "Soin", "Rend des PV"));
+            translations.put(1, new SpellTranslations("Full Cure", "Restores HP")
+                .withTranslation("French", "Full Soin", "Rend des PV"));
+            TextLayoutResult layout = new TextOffsetCalculationService()
+                .calculateTextLayout(translations, TextOffsetCalculationService.LayoutMode.SHARED_TEXT);
+
+            // When
+            ResourceGenerationResult result = generator.generateResourceFiles(
+                translations, layout, tempDir, "custom_magic");
+
+            // Then
+            assertThat(result.success()).isTrue();
+            byte[] french = Files.readAllBytes(result.createdFiles().get(Language.FRENCH));
+            assertThat(french).hasSize(layout.getTotalFileSize());
+            String[][] expected = {{"Soin", "Rend des PV"}, {"Full Soin", "Rend des PV"}};
+            for (int spell = 0; spell < expected.length; spell++) {
+                SpellTextLayout spellLayout = layout.getLayoutForSpell(spell);
+                assertThat(readSlot(french, spellLayout.getNameOffset(), spellLayout.getMaxNameLength()))
+                    .isEqualTo(expected[spell][0]);
+                assertThat(readSlot(french, spellLayout.getDescriptionOffset(), spellLayout.getMaxDescriptionLength()))
+                    .isEqualTo(expected[spell][1]);
+            }
+        }
+
+        @Test
+        @DisplayName("Should read exported accents and character names back through the resource parser")
+        void shouldRoundTripAccentsAndNamesThroughResourceParser() throws Exception {
+            // Given
+            Map<Integer, SpellTranslations> translations = new LinkedHashMap<>();
+            translations.put(0, new SpellTranslations("Fire", "Fire damage")
+                .withTranslation("French", "Méga Brasier", "{Squall} réveille l'Œil\nde {Rinoa}…"));
+            TextLayoutResult layout = new TextOffsetCalculationService()
+                .calculateTextLayout(translations);
+
+            // When
+            ResourceGenerationResult result = generator.generateResourceFiles(
+                translations, layout, tempDir, "custom_magic");
+
+            // Then
+            SpellTextLayout spellLayout = layout.getLayoutForSpell(0);
+            byte[] french = Files.readAllBytes(result.createdFiles().get(Language.FRENCH));
+            SpellTranslations.Translation parsed = textEncodingService.parseLanguageResourceFile(
+                french, 1, spellLayout.getMaxNameLength(), spellLayout.getMaxDescriptionLength()).get(0);
+            assertThat(parsed.getName()).isEqualTo("Méga Brasier");
+            assertThat(parsed.getDescription()).isEqualTo("{Squall} réveille l'Œil\nde {Rinoa}…");
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.domain.entities.AbilityData;
+import com.ff8.domain.entities.BattleItemData;
+import com.ff8.domain.entities.JunctionableGFData;
+import com.ff8.domain.entities.WeaponData;
+import com.ff8.domain.entities.enums.SectionType;
+import com.ff8.domain.exceptions.BinaryParseException;
+import com.ff8.domain.services.FF8TextCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("Kernel Sections Tests")
+class KernelSectionsTest {
+
+    private static final int SECTION_COUNT = 56;
+    private static final int[] DATA_OFFSETS = {
+        0x00E4, 0x021C, 0x0F78, 0x17B8, 0x35B8, 0x3744, 0x37A4, 0x3930, 0x3C48, 0x3EE0,
+        0x4020, 0x4080, 0x4120, 0x41B8, 0x4250, 0x42F0, 0x4318, 0x4360
+    };
+    private static final int TEXT_BASE = 0x4800;
+    private static final int TEXT_SIZE = 0x40;
+
+    private byte[] kernelData;
+
+    @BeforeEach
+    void setUp() {
+        kernelData = createKernelData();
+    }
+
+    private static int sectionOffset(int headerIndex) {
+        if (headerIndex < DATA_OFFSETS.length) {
+            return DATA_OFFSETS[headerIndex];
+        }
+        if (headerIndex < SectionType.TEXT_SECTION_DISTANCE) {
+            return 0x4420 + (headerIndex - DATA_OFFSETS.length) * 0x20;
+        }
+        return TEXT_BASE + (headerIndex - SectionType.TEXT_SECTION_DISTANCE) * TEXT_SIZE;
+    }
+
+    /**
+     * Builds a kernel with a valid section table, one weapon, GF, battle item and
+     * junction ability with non-trivial values and names in their text sections.
+     */
+    private static byte[] createKernelData() {
+        byte[] data = new byte[TEXT_BASE + (SECTION_COUNT - SectionType.TEXT_SECTION_DISTANCE) * TEXT_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(0, SECTION_COUNT);
+        for (int i = 0; i < SECTION_COUNT; i++) {
+            buffer.putInt(4 + i * 4, sectionOffset(i));
+        }
+
+        int weapon = sectionOffset(SectionType.WEAPONS.getHeaderIndex()) + SectionType.WEAPONS.getStructSize();
+        buffer.putShort(weapon, (short) 0x06);
+        byte[] weaponValues = {0x0F, 0x01, 0x02, 0x03, 0x12, (byte) 0xFF, 0x05, 0x02, 0x14, 0x01};
+        buffer.put(weapon + 0x02, weaponValues);
+
+        int gf = sectionOffset(SectionType.JUNCTIONABLE_GFS.getHeaderIndex());
+        for (int i = 0; i < SectionType.JUNCTIONABLE_GFS.getStructSize(); i++) {
+            buffer.put(gf + i, (byte) (i * 7 + 3));
+        }
+        buffer.putShort(gf, (short) 0);
+        buffer.putShort(gf + 0x02, (short) 0x0A);
+
+        int item = sectionOffset(SectionType.BATTLE_ITEMS.getHeaderIndex());
+        for (int i = 4; i < SectionType.BATTLE_ITEMS.getStructSize(); i++) {
+            buffer.put(item + i, (byte) (0xF0 - i));
+        }
+
+        int ability = sectionOffset(SectionType.JUNCTION_ABILITIES.getHeaderIndex());
+        buffer.putShort(ability, (short) 0);
+        buffer.putShort(ability + 0x02, (short) 0x05);
+        buffer.put(ability + 0x04, (byte) 50);
+        buffer.put(ability + 0x05, new byte[] {0x01, 0x02, 0x03});
+
+        putText(data, SectionType.WEAPONS, 0x06, "Lion Heart");
+        putText(data, SectionType.JUNCTIONABLE_GFS, 0, "Quezacotl");
+        putText(data, SectionType.JUNCTIONABLE_GFS, 0x0A, "Thunder");
+        putText(data, SectionType.JUNCTION_ABILITIES, 0, "HP");
+        putText(data, SectionType.JUNCTION_ABILITIES, 0x05, "Junction HP");
+        return data;
+    }
+
+    private static void putText(byte[] data, SectionType section, int pointer, String text) {
+        FF8TextCodec.getInstance()
+            .encode(text, ByteBuffer.wrap(data), sectionOffset(section.getTextHeaderIndex()) + pointer);
+    }
+
+    private static byte[] recordAt(byte[] data, SectionType section, int index) {
+        int offset = sectionOffset(section.getHeaderIndex()) + index * section.getStructSize();
+        return Arrays.copyOfRange(data, offset, offset + section.getStructSize());
+    }
+
+    @Nested
+    @DisplayName("Section Index")
+    class SectionIndexTests {
+
+        @Test
+        @DisplayName("Should read section and text offsets from the kernel header")
+        void shouldReadOffsetsFromHeader() {
+            // When
+            KernelSectionIndex index = KernelSectionIndex.parse(kernelData);
+
+            // Then
+            assertThat(index.isFromHeader()).isTrue();
+            assertThat(index.getSectionCount()).isEqualTo(SECTION_COUNT);
+            assertThat(index.getOffset(SectionType.WEAPONS)).isEqualTo(0x35B8);
+            assertThat(index.getItemCount(SectionType.WEAPONS)).isEqualTo(33);
+            assertThat(index.getItemCount(SectionType.MENU_ABILITIES)).isEqualTo(24);
+            assertThat(index.getTextOffset(SectionType.WEAPONS)).isEqualTo(sectionOffset(35));
+            assertThat(index.getTextEnd(SectionType.WEAPONS)).isEqualTo(sectionOffset(36));
+        }
+
+        @Test
+        @DisplayName("Should fall back to standard offsets when the header is not a section table")
+        void shouldFallBackToStandardOffsets() {
+            // Given
+            ByteBuffer.wrap(kernelData).order(ByteOrder.LITTLE_ENDIAN).putInt(4 + 3 * 4, 0x10);
+
+            // When
+            KernelSectionIndex index = KernelSectionIndex.parse(kernelData);
+
+            // Then
+            assertThat(index.isFromHeader()).isFalse();
+            assertThat(index.getOffset(SectionType.MAGIC)).isEqualTo(0x021C);
+            assertThat(index.getItemCount(SectionType.MAGIC)).isEqualTo(56);
+            assertThat(index.getTextOffset(SectionType.WEAPONS)).isEqualTo(-1);
+            assertThat(KernelSectionIndex.parse(new byte[0x100]).isFromHeader()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lazy Parsing")
+    class LazyParsingTests {
+
+        @Test
+        @DisplayName("Should only parse a section when it is first requested")
+        void shouldParseSectionsOnFirstAccess() {
+            // Given
+            KernelBinaryParser parser = new KernelBinaryParser(List.of(SectionType.MAGIC, SectionType.WEAPONS));
+            KernelSections sections = parser.openKernel(kernelData);
+
+            // When
+            assertThat(sections.isParsed(SectionType.WEAPONS)).isFalse();
+            List<WeaponData> weapons = sections.getWeapons();
+
+            // Then
+            assertThat(sections.isParsed(SectionType.WEAPONS)).isTrue();
+            assertThat(sections.isParsed(SectionType.MAGIC)).isFalse();
+            assertThat(sections.getWeapons()).isSameAs(weapons);
+            assertThat(weapons).hasSize(33);
+            assertThat(sections.getAvailableSections()).containsExactly(SectionType.MAGIC, SectionType.WEAPONS);
+        }
+
+        @Test
+        @DisplayName("Should parse every enabled section in parallel")
+        void shouldParseAllSectionsInParallel() {
+            // Given
+            KernelBinaryParser parser = new KernelBinaryParser(List.of(SectionType.values()));
+            ForkJoinPool pool = new ForkJoinPool(4);
+
+            // When
+            KernelSections sections;
+            try {
+                sections = parser.parseAll(ByteBuffer.wrap(kernelData), pool);
+            } finally {
+                pool.shutdown();
+            }
+
+            // Then
+            assertThat(SectionType.values()).allSatisfy(section -> assertThat(sections.isParsed(section)).isTrue());
+            assertThat(sections.getWeapons()).isEqualTo(new WeaponSectionParser().parseAllItems(kernelData));
+            assertThat(sections.getJunctionableGFs().get(0).getName()).isEqualTo("Quezacotl");
+            assertThat(sections.getAbilities(SectionType.MENU_ABILITIES)).hasSize(24);
+        }
+
+        @Test
+        @DisplayName("Should reject sections that are not enabled")
+        void shouldRejectDisabledSections() {
+            // Given
+            KernelSections sections = new KernelBinaryParser().openKernel(kernelData);
+
+            // When & Then
+            assertThatThrownBy(sections::getWeapons)
+                .isInstanceOf(BinaryParseException.class)
+                .hasMessageContaining("Weapons");
+            assertThatThrownBy(() -> sections.getAbilities(SectionType.WEAPONS))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Section Strategies")
+    class SectionStrategyTests {
+
+        @Test
+        @DisplayName("Should decode weapon fields and names from the weapon text section")
+        void shouldDecodeWeapons() {
+            // When
+            WeaponData weapon = new WeaponSectionParser().parseAllItems(kernelData).get(1);
+
+            // Then
+            assertThat(weapon.getIndex()).isEqualTo(1);
+            assertThat(weapon.getName()).isEqualTo("Lion Heart");
+            assertThat(weapon.getRenzokukenFinishers()).isEqualTo(0x0F);
+            assertThat(weapon.getAttackPower()).isEqualTo(0x12);
+            assertThat(weapon.getAttackParameter()).isEqualTo(0xFF);
+            assertThat(weapon.getMeleeFlag()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should decode GF abilities, compatibility and texts")
+        void shouldDecodeJunctionableGFs() {
+            // When
+            JunctionableGFData gf = new JunctionableGFSectionParser().parseAllItems(kernelData).get(0);
+
+            // Then
+            assertThat(gf.getName()).isEqualTo("Quezacotl");
+            assertThat(gf.getDescription()).isEqualTo("Thunder");
+            assertThat(gf.getAbilitySlots()).hasSize(JunctionableGFData.ABILITY_SLOTS);
+            assertThat(gf.getAbilityUnlocker(0)).isEqualTo((0x1C * 7 + 3) & 0xFF);
+            assertThat(gf.getAbility(0)).isEqualTo((0x1E * 7 + 3) & 0xFF);
+            assertThat(gf.getCompatibility().get(0)).isEqualTo((0x70 * 7 + 3) & 0xFF);
+            assertThat(gf.getLevelModifier()).isEqualTo((0x83 * 7 + 3) & 0xFF);
+        }
+
+        @Test
+        @DisplayName("Should decode the section-specific bytes of abilities")
+        void shouldDecodeAbilities() {
+            // When
+            AbilityData ability = new AbilitySectionParser(SectionType.JUNCTION_ABILITIES).parseAllItems(kernelData).get(0);
+
+            // Then
+            assertThat(ability.getSection()).isEqualTo(SectionType.JUNCTION_ABILITIES);
+            assertThat(ability.getName()).isEqualTo("HP");
+            assertThat(ability.getDescription()).isEqualTo("Junction HP");
+            assertThat(ability.getApRequired()).isEqualTo(50);
+            assertThat(ability.getData()).isEqualTo(0x030201);
+            assertThat(ability.getDataByte(2)).isEqualTo(0x03);
+        }
+
+        @Test
+        @DisplayName("Should serialize every section back to its original bytes")
+        void shouldRoundTripRecords() {
+            // Given
+            KernelSections sections = new KernelBinaryParser(List.of(SectionType.values())).openKernel(kernelData);
+            JunctionableGFSectionParser gfParser = new JunctionableGFSectionParser();
+            WeaponSectionParser weaponParser = new WeaponSectionParser();
+            BattleItemSectionParser itemParser = new BattleItemSectionParser();
+            AbilitySectionParser abilityParser = new AbilitySectionParser(SectionType.JUNCTION_ABILITIES);
+
+            // When
+            BattleItemData item = sections.getBattleItems().get(0);
+
+            // Then
+            assertThat(gfParser.serializeItem(sections.getJunctionableGFs().get(0)))
+                .isEqualTo(recordAt(kernelData, SectionType.JUNCTIONABLE_GFS, 0));
+            assertThat(weaponParser.serializeItem(sections.getWeapons().get(1)))
+                .isEqualTo(recordAt(kernelData, SectionType.WEAPONS, 1));
+            assertThat(itemParser.serializeItem(item))
+                .isEqualTo(recordAt(kernelData, SectionType.BATTLE_ITEMS, 0));
+            assertThat(item.getStatusMask()).isEqualTo(0xDDDEDFE0E1E2L);
+            assertThat(abilityParser.serializeItem(sections.getAbilities(SectionType.JUNCTION_ABILITIES).get(0)))
+                .isEqualTo(recordAt(kernelData, SectionType.JUNCTION_ABILITIES, 0));
+        }
+    }
+}
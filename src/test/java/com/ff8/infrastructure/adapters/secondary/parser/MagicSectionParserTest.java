@@ -0,0 +1,293 @@
+package com.ff8.infrastructure.adapters.secondary.parser;
+
+import com.ff8.application.ports.secondary.MagicRecordView;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.entities.enums.GF;
+import com.ff8.domain.entities.enums.StatusEffect;
+import com.ff8.domain.exceptions.BinaryParseException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("MagicSectionParser Tests")
+class MagicSectionParserTest {
+
+    private static final int MAGIC_SECTION_OFFSET = 0x021C;
+    private static final int MAGIC_STRUCT_SIZE = 0x3C;
+    private static final int STRING_SECTION_OFFSET = 0x5188;
+    private static final int NAME_OFFSET = 0x10;
+
+    private MagicSectionParser parser;
+    private byte[] kernelData;
+
+    @BeforeEach
+    void setUp() {
+        parser = new MagicSectionParser();
+        kernelData = createKernelData();
+    }
+
+    /**
+     * Builds a synthetic kernel with every record filled with valid, non-trivial values
+     * and a Caesar-encoded "Fire" at the shared name offset.
+     */
+    private static byte[] createKernelData() {
+        byte[] data = new byte[STRING_SECTION_OFFSET + 0x100];
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < 56; i++) {
+            int offset = MAGIC_SECTION_OFFSET + i * MAGIC_STRUCT_SIZE;
+            buffer.putShort(offset, (short) NAME_OFFSET);
+            buffer.putShort(offset + 0x02, (short) NAME_OFFSET);
+            buffer.putShort(offset + 0x04, (short) i);
+            buffer.put(offset + 0x06, (byte) 0x11);
+            buffer.put(offset + 0x07, (byte) AttackType.MAGIC_ATTACK.getValue());
+            buffer.put(offset + 0x08, (byte) (20 + i));
+            buffer.put(offset + 0x0A, (byte) 0xA5);
+            buffer.put(offset + 0x0B, (byte) 0x3C);
+            buffer.put(offset + 0x0D, (byte) 1);
+            buffer.put(offset + 0x0E, (byte) Element.FIRE.getValue());
+            buffer.putInt(offset + 0x10, 0x80000101);
+            buffer.putShort(offset + 0x14, (short) 0x0005);
+            for (int stat = 0; stat < 9; stat++) {
+                buffer.put(offset + 0x17 + stat, (byte) (stat * 10));
+            }
+            buffer.put(offset + 0x20, (byte) Element.ICE.getValue());
+            buffer.put(offset + 0x21, (byte) 50);
+            buffer.put(offset + 0x22, (byte) 0x81); // fire + holy
+            buffer.put(offset + 0x23, (byte) 60);
+            buffer.put(offset + 0x24, (byte) 30);
+            buffer.put(offset + 0x25, (byte) 40);
+            buffer.putShort(offset + 0x26, (short) 0x0081); // death + sleep
+            buffer.putShort(offset + 0x28, (short) 0x1002); // poison + drain
+            for (int gf = 0; gf < 16; gf++) {
+                buffer.put(offset + 0x2A + gf, (byte) (gf * 15));
+            }
+            buffer.putShort(offset + 0x3A, (short) 0xBEEF);
+        }
+        byte[] encodedName = "Jgpc".getBytes(StandardCharsets.ISO_8859_1); // "Fire" after decoding
+        System.arraycopy(encodedName, 0, data, STRING_SECTION_OFFSET + NAME_OFFSET, encodedName.length);
+        return data;
+    }
+
+    private static byte[] recordAt(byte[] data, int index) {
+        byte[] record = new byte[MAGIC_STRUCT_SIZE];
+        System.arraycopy(data, MAGIC_SECTION_OFFSET + index * MAGIC_STRUCT_SIZE, record, 0, MAGIC_STRUCT_SIZE);
+        return record;
+    }
+
+    @Nested
+    @DisplayName("Field Decoding")
+    class FieldDecodingTests {
+
+        @Test
+        @DisplayName("Should decode scalar fields and spell name")
+        void shouldDecodeScalarFieldsAndSpellName() {
+            // When
+            MagicData magic = parser.parseItem(kernelData, MAGIC_SECTION_OFFSET + 3 * MAGIC_STRUCT_SIZE, 3);
+
+            // Then
+            assertThat(magic.getIndex()).isEqualTo(3);
+            assertThat(magic.getMagicID()).isEqualTo(3);
+            assertThat(magic.getSpellPower()).isEqualTo(23);
+            assertThat(magic.getAttackType()).isEqualTo(AttackType.MAGIC_ATTACK);
+            assertThat(magic.getElement()).isEqualTo(Element.FIRE);
+            assertThat(magic.getUnknown3()).isEqualTo(0xBEEF);
+            assertThat(magic.getExtractedSpellName()).isEqualTo("Fire");
+        }
+
+        @Test
+        @DisplayName("Should decode bit flags and junction data")
+        void shouldDecodeBitFlagsAndJunctionData() {
+            // When
+            MagicData magic = parser.parseItem(kernelData, MAGIC_SECTION_OFFSET, 0);
+
+            // Then
+            assertThat(magic.getTargetInfo().toByte()).isEqualTo(0xA5);
+            assertThat(magic.getAttackFlags().toByte()).isEqualTo(0x3C);
+            assertThat(magic.getStatusEffects().getActiveBits()).containsExactly(0, 8, 31, 32, 34);
+            assertThat(magic.getJunctionElemental().getDefenseElements()).containsExactly(Element.FIRE, Element.HOLY);
+            assertThat(magic.getJunctionStatus().getAttackStatuses().hasStatus(StatusEffect.SLEEP)).isTrue();
+            assertThat(magic.getJunctionStatus().getAttackStatuses().getActiveBits()).containsExactly(0, 32);
+            assertThat(magic.getJunctionStatus().getDefenseStatuses().getActiveBits()).containsExactly(15, 33);
+            assertThat(magic.getGfCompatibility().getCompatibility(GF.values()[4])).isEqualTo(60);
+        }
+
+        @Test
+        @DisplayName("Should reject records extending past the data")
+        void shouldRejectRecordsExtendingPastTheData() {
+            assertThatThrownBy(() -> parser.parseItem(kernelData, kernelData.length - 10, 0))
+                .isInstanceOf(BinaryParseException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Text Decoding")
+    class TextDecodingTests {
+
+        @Test
+        @DisplayName("Should not reuse cached text once the bytes at the offset change")
+        void shouldRefreshCachedTextWhenBytesChange() {
+            // Given
+            assertThat(parser.parseItem(kernelData, MAGIC_SECTION_OFFSET, 0).getExtractedSpellName()).isEqualTo("Fire");
+            byte[] otherKernel = kernelData.clone();
+            byte[] encodedName = "Lmjw".getBytes(StandardCharsets.ISO_8859_1); // "Holy" after decoding
+            System.arraycopy(encodedName, 0, otherKernel, STRING_SECTION_OFFSET + NAME_OFFSET, encodedName.length);
+
+            // When
+            MagicData fromOther = parser.parseItem(otherKernel, MAGIC_SECTION_OFFSET, 0);
+            MagicData fromOriginal = parser.parseItem(kernelData, MAGIC_SECTION_OFFSET, 0);
+
+            // Then
+            assertThat(fromOther.getExtractedSpellName()).isEqualTo("Holy");
+            assertThat(fromOriginal.getExtractedSpellName()).isEqualTo("Fire");
+        }
+
+        @Test
+        @DisplayName("Should decode line breaks and character names in spell text")
+        void shouldDecodeSpecialSequences() {
+            // Given
+            byte[] special = {0x03, 0x30, 0x02, 0x4A, 0x67, 0x70, 0x63, 0};
+            System.arraycopy(special, 0, kernelData, STRING_SECTION_OFFSET + NAME_OFFSET, special.length);
+
+            // When
+            MagicData magic = parser.parseItem(kernelData, MAGIC_SECTION_OFFSET, 0);
+
+            // Then
+            assertThat(magic.getExtractedSpellName()).isEqualTo("{Squall}\nFire");
+        }
+    }
+
+    @Nested
+    @DisplayName("Round Trip")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Should serialize every parsed record back to identical bytes")
+        void shouldSerializeParsedRecordsToIdenticalBytes() {
+            // When
+            List<MagicData> magicList = parser.parseAllItems(kernelData);
+
+            // Then
+            assertThat(magicList).hasSize(56);
+            for (int i = 0; i < magicList.size(); i++) {
+                assertThat(parser.serializeItem(magicList.get(i)))
+                    .as("record %d", i)
+                    .isEqualTo(recordAt(kernelData, i));
+            }
+        }
+
+        @Test
+        @DisplayName("Should parse direct big-endian buffers like heap arrays without moving them")
+        void shouldParseDirectBuffersLikeHeapArrays() {
+            // Given
+            ByteBuffer direct = ByteBuffer.allocateDirect(kernelData.length).put(kernelData).position(7);
+
+            // When
+            List<MagicData> fromBuffer = parser.parseAllItems(direct);
+            List<MagicData> fromArray = parser.parseAllItems(kernelData);
+
+            // Then
+            assertThat(direct.position()).isEqualTo(7);
+            assertThat(direct.order()).isEqualTo(ByteOrder.BIG_ENDIAN);
+            for (int i = 0; i < fromArray.size(); i++) {
+                assertThat(parser.serializeItem(fromBuffer.get(i))).isEqualTo(parser.serializeItem(fromArray.get(i)));
+                assertThat(fromBuffer.get(i).getExtractedSpellName()).isEqualTo("Fire");
+            }
+        }
+
+        @Test
+        @DisplayName("Should serialize records in place into a direct big-endian buffer")
+        void shouldSerializeInPlaceIntoBuffer() {
+            // Given
+            List<MagicData> magicList = parser.parseAllItems(kernelData);
+            ByteBuffer target = ByteBuffer.allocateDirect(kernelData.length).position(3);
+
+            // When
+            for (int i = 0; i < magicList.size(); i++) {
+                parser.serializeItem(magicList.get(i), target, MAGIC_SECTION_OFFSET + i * MAGIC_STRUCT_SIZE);
+            }
+
+            // Then
+            assertThat(target.position()).isEqualTo(3);
+            assertThat(target.order()).isEqualTo(ByteOrder.BIG_ENDIAN);
+            byte[] written = new byte[kernelData.length];
+            target.get(0, written);
+            for (int i = 0; i < magicList.size(); i++) {
+                assertThat(recordAt(written, i)).as("record %d", i).isEqualTo(recordAt(kernelData, i));
+            }
+            assertThat(written[MAGIC_SECTION_OFFSET - 1]).isZero();
+            assertThat(written[MAGIC_SECTION_OFFSET + 56 * MAGIC_STRUCT_SIZE]).isZero();
+        }
+
+        @Test
+        @DisplayName("Should reject serializing past the end of the target buffer")
+        void shouldRejectSerializingPastTheTarget() {
+            // Given
+            MagicData magic = parser.parseItem(kernelData, MAGIC_SECTION_OFFSET, 0);
+            ByteBuffer target = ByteBuffer.allocate(MAGIC_STRUCT_SIZE + 10);
+
+            // When & Then
+            assertThatThrownBy(() -> parser.serializeItem(magic, target, 11))
+                .isInstanceOf(BinaryParseException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Record View")
+    class RecordViewTests {
+
+        @Test
+        @DisplayName("Should decode fields on demand while moving over the section")
+        void shouldDecodeFieldsOnDemand() {
+            // Given
+            MagicRecordView view = parser.openView(ByteBuffer.wrap(kernelData));
+
+            // When
+            view.moveTo(5);
+
+            // Then
+            assertThat(view.getRecordCount()).isEqualTo(56);
+            assertThat(view.getIndex()).isEqualTo(5);
+            assertThat(view.getOffset()).isEqualTo(MAGIC_SECTION_OFFSET + 5 * MAGIC_STRUCT_SIZE);
+            assertThat(view.getMagicID()).isEqualTo(5);
+            assertThat(view.getSpellPower()).isEqualTo(25);
+            assertThat(view.getElement()).isEqualTo(Element.FIRE);
+            assertThat(view.getStatusMask()).isEqualTo(0x0005_8000_0101L);
+            assertThat(view.getJunctionStat(8)).isEqualTo(80);
+            assertThat(view.getGFCompatibilityValue(GF.values()[4])).isEqualTo(60);
+            assertThat(view.getSpellName()).isEqualTo("Fire");
+            assertThat(view.moveTo(6).getSpellPower()).isEqualTo(26);
+            assertThatThrownBy(() -> view.moveTo(56)).isInstanceOf(IndexOutOfBoundsException.class);
+        }
+
+        @Test
+        @DisplayName("Should materialize the same record as a regular parse")
+        void shouldMaterializeSameRecordAsParse() {
+            // Given
+            MagicRecordView view = parser.openView(ByteBuffer.wrap(kernelData));
+
+            // When
+            MagicData materialized = view.moveTo(7).toMagicData();
+
+            // Then
+            assertThat(materialized).isEqualTo(parser.parseAllItems(kernelData).get(7));
+            assertThat(parser.serializeItem(materialized)).isEqualTo(recordAt(kernelData, 7));
+        }
+
+        @Test
+        @DisplayName("Should reject kernels too small for the magic section")
+        void shouldRejectTruncatedKernels() {
+            assertThatThrownBy(() -> parser.openView(ByteBuffer.allocate(MAGIC_SECTION_OFFSET + 100)))
+                .isInstanceOf(BinaryParseException.class);
+        }
+    }
+}
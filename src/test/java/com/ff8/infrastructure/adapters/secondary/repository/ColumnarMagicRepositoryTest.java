@@ -0,0 +1,267 @@
+package com.ff8.infrastructure.adapters.secondary.repository;
+
+import com.ff8.domain.entities.AttackFlags;
+import com.ff8.domain.entities.GFCompatibilitySet;
+import com.ff8.domain.entities.JunctionElemental;
+import com.ff8.domain.entities.JunctionStats;
+import com.ff8.domain.entities.JunctionStatusEffects;
+import com.ff8.domain.entities.MagicData;
+import com.ff8.domain.entities.SpellTranslations;
+import com.ff8.domain.entities.StatusEffectSet;
+import com.ff8.domain.entities.TargetFlags;
+import com.ff8.domain.entities.enums.AttackType;
+import com.ff8.domain.entities.enums.Element;
+import com.ff8.domain.entities.enums.StatusEffect;
+import com.ff8.infrastructure.adapters.secondary.repository.MagicQuery.IntColumn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IntSummaryStatistics;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ColumnarMagicRepository Tests")
+class ColumnarMagicRepositoryTest {
+
+    private ColumnarMagicRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ColumnarMagicRepository();
+    }
+
+    private MagicData magic(int index, int spellPower, Element element, StatusEffect... statuses) {
+        long statusBits = 0;
+        for (StatusEffect status : statuses) {
+            statusBits |= 1L << status.getBitIndex();
+        }
+        return MagicData.builder()
+                .index(index)
+                .magicID(index + 1)
+                .extractedSpellName("Spell " + index)
+                .spellPower(spellPower)
+                .element(element)
+                .attackType(AttackType.MAGIC_ATTACK)
+                .statusEffects(StatusEffectSet.of(statusBits))
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Repository Operations")
+    class RepositoryOperationsTests {
+
+        @Test
+        @DisplayName("Should serve saved content and grow past the initial capacity")
+        void shouldServeSavedContentAcrossGrowth() {
+            // Given
+            MagicData first = magic(3, 40, Element.FIRE);
+            MagicData far = magic(1000, 90, Element.ICE);
+
+            // When
+            repository.save(first);
+            repository.save(far);
+
+            // Then
+            assertThat(repository.findByIndex(3)).get().usingRecursiveComparison().isEqualTo(first);
+            assertThat(repository.findByIndex(1000)).get().usingRecursiveComparison().isEqualTo(far);
+            assertThat(repository.findByIndex(5000)).isEmpty();
+            assertThat(repository.count()).isEqualTo(2);
+            assertThat(repository.findAll()).usingRecursiveFieldByFieldElementComparator().containsExactly(first, far);
+            assertThat(repository.getNextAvailableIndex()).isEqualTo(1001);
+            assertThat(repository.getNextAvailableId()).isEqualTo(1002);
+        }
+
+        @Test
+        @DisplayName("Should track, reset and clean modifications like the map-based repository")
+        void shouldTrackModifications() {
+            // Given
+            MagicData original = magic(1, 40, Element.FIRE);
+            repository.save(original);
+            repository.markAsClean();
+
+            // When
+            repository.save(original.withSpellPower(60));
+            repository.save(magic(2, 10, Element.NONE));
+
+            // Then
+            assertThat(repository.getDirtyIndices()).containsExactly(1, 2);
+            repository.resetToOriginalByIndex(1);
+            repository.resetToOriginalByIndex(2);
+            assertThat(repository.findByIndex(1)).get().usingRecursiveComparison().isEqualTo(original);
+            assertThat(repository.existsByIndex(2)).isFalse();
+            assertThat(repository.isModified()).isFalse();
+            assertThat(repository.query().where(IntColumn.SPELL_POWER, 60, 60).count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should rebuild every field of a saved spell from its columns and side fields")
+        void shouldRebuildEveryField() {
+            // Given
+            MagicData spell = MagicData.builder()
+                    .index(7)
+                    .offsetSpellName(0x120)
+                    .offsetSpellDescription(0x128)
+                    .magicID(33)
+                    .animationTriggered(12)
+                    .attackType(AttackType.CURATIVE_MAGIC)
+                    .spellPower(255)
+                    .unknown1(1)
+                    .drawResist(20)
+                    .hitCount(3)
+                    .element(Element.HOLY)
+                    .unknown2(2)
+                    .statusAttackEnabler(100)
+                    .unknown3(3)
+                    .targetInfo(TargetFlags.of(0x0C))
+                    .attackFlags(AttackFlags.of(0x05))
+                    .statusEffects(StatusEffectSet.of(1L << 40 | 1))
+                    .junctionStats(JunctionStats.of(1, 2, 3, 4, 5, 6, 7, 8, 9))
+                    .junctionElemental(JunctionElemental.of(Element.FIRE, 50, List.of(Element.ICE), 30))
+                    .junctionStatus(JunctionStatusEffects.of(StatusEffectSet.of(4), 10, StatusEffectSet.of(8), 20))
+                    .gfCompatibility(GFCompatibilitySet.of(0x1234L, 0x5678L))
+                    .extractedSpellName("Curaga")
+                    .extractedSpellDescription("Restores HP")
+                    .translations(new SpellTranslations("Curaga", "Restores HP").withTranslation("French", "Soin+++", "PV"))
+                    .isNewlyCreated(true)
+                    .build();
+
+            // When
+            repository.save(spell);
+
+            // Then
+            assertThat(repository.findByIndex(7)).get().usingRecursiveComparison().isEqualTo(spell);
+        }
+
+        @Test
+        @DisplayName("Should reject values that do not fit their column")
+        void shouldRejectValuesOutsideTheirColumn() {
+            assertThatThrownBy(() -> repository.save(magic(1, 256, Element.NONE)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("SPELL_POWER");
+            assertThatThrownBy(() -> repository.save(magic(1, 10, Element.NONE).withMagicID(0x10000)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(repository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Should compare content, not instances, when tracking modifications")
+        void shouldTrackContentChanges() {
+            // Given
+            MagicData original = magic(1, 40, Element.FIRE);
+            repository.save(original);
+            repository.markAsClean();
+
+            // When
+            repository.save(original.toBuilder().build());
+
+            // Then
+            assertThat(repository.isModified()).isFalse();
+
+            // When - changed, then changed back
+            repository.save(original.withSpellPower(60));
+            repository.save(original.withSpellPower(40));
+
+            // Then
+            assertThat(repository.getDirtyIndices()).isEmpty();
+
+            // When - deleted, then saved again
+            repository.deleteByIndex(1);
+            assertThat(repository.getDirtyIndices()).containsExactly(1);
+            assertThat(repository.getOriginalByIndex(1)).get().usingRecursiveComparison().isEqualTo(original);
+            repository.save(magic(1, 40, Element.FIRE));
+
+            // Then
+            assertThat(repository.isModified()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should keep columns in sync on delete and name search")
+        void shouldKeepColumnsInSyncOnDelete() {
+            // Given
+            repository.saveAllBulk(List.of(magic(0, 50, Element.FIRE), magic(1, 50, Element.FIRE)));
+
+            // When
+            repository.deleteByIndex(0);
+
+            // Then
+            assertThat(repository.query().element(Element.FIRE).indices()).containsExactly(1);
+            assertThat(repository.findBySpellNameContaining("spell 1")).extracting(MagicData::getIndex).containsExactly(1);
+            assertThat(repository.findBySpellNameContaining("spell 0")).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Queries")
+    class QueryTests {
+
+        @Test
+        @DisplayName("Should combine column conditions with AND")
+        void shouldCombineConditions() {
+            // Given
+            repository.saveAllBulk(List.of(
+                    magic(0, 100, Element.NONE, StatusEffect.DRAIN),
+                    magic(1, 60, Element.NONE, StatusEffect.DRAIN),
+                    magic(2, 120, Element.FIRE),
+                    magic(3, 81, Element.NONE, StatusEffect.DRAIN, StatusEffect.POISON)));
+
+            // When
+            MagicQuery strongDrains = repository.query()
+                    .where(IntColumn.SPELL_POWER, 81, 255)
+                    .withAnyStatus(StatusEffect.DRAIN);
+
+            // Then
+            assertThat(strongDrains.indices()).containsExactly(0, 3);
+            assertThat(strongDrains.list()).extracting(MagicData::getSpellPower).containsExactly(100, 81);
+            assertThat(repository.query().withAllStatuses(StatusEffect.DRAIN, StatusEffect.POISON).indices())
+                    .containsExactly(3);
+            assertThat(repository.query().element(Element.FIRE).attackType(AttackType.MAGIC_ATTACK).count())
+                    .isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should aggregate columns over the selection")
+        void shouldAggregateOverSelection() {
+            // Given
+            List<MagicData> catalog = new ArrayList<>();
+            for (int index = 0; index < 500; index++) {
+                catalog.add(magic(index, index % 200, Element.NONE)
+                        .withJunctionStats(JunctionStats.of(index % 7, 0, 0, 0, 0, 0, 0, 0, 0)));
+            }
+            repository.saveAllBulk(catalog);
+
+            // When
+            IntSummaryStatistics spellPower = repository.query()
+                    .where(IntColumn.JUNCTION_HP, 6, 6)
+                    .summarize(IntColumn.SPELL_POWER);
+
+            // Then
+            IntSummaryStatistics expected = catalog.stream()
+                    .filter(magic -> magic.getJunctionStats().getHp() == 6)
+                    .mapToInt(MagicData::getSpellPower)
+                    .summaryStatistics();
+            assertThat(spellPower.getCount()).isEqualTo(expected.getCount());
+            assertThat(spellPower.getSum()).isEqualTo(expected.getSum());
+            assertThat(spellPower.getMax()).isEqualTo(expected.getMax());
+            assertThat(repository.query().summarize(IntColumn.MAGIC_ID).getMax()).isEqualTo(500);
+        }
+
+        @Test
+        @DisplayName("Should split newly created and kernel entries")
+        void shouldSplitByOrigin() {
+            // Given
+            repository.save(magic(0, 10, Element.NONE));
+            repository.save(magic(1, 10, Element.NONE).withNewlyCreated(true));
+
+            // When
+            repository.removeKernelData();
+
+            // Then
+            assertThat(repository.findKernelData()).isEmpty();
+            assertThat(repository.findNewlyCreated()).extracting(MagicData::getIndex).containsExactly(1);
+        }
+    }
+}
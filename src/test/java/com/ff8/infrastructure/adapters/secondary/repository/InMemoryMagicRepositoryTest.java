@@ -3,6 +3,7 @@ package com.ff8.infrastructure.adapters.secondary.repository;
 import com.ff8.domain.entities.MagicData;
 import com.ff8.domain.entities.enums.AttackType;
 import com.ff8.domain.entities.enums.Element;
+import com.ff8.infrastructure.adapters.secondary.parser.KernelBinaryParser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -22,7 +23,7 @@ class InMemoryMagicRepositoryTest {
 
     @BeforeEach
     void setUp() {
-        repository = new InMemoryMagicRepository();
+        repository = new InMemoryMagicRepository(new KernelBinaryParser());
         
         testMagic1 = MagicData.builder()
             .index(1)
@@ -307,19 +308,89 @@ class InMemoryMagicRepositoryTest {
             MagicData magic = createTestMagicData(1);
             repository.save(magic);
 
-            // When & Then - Simplified repository always returns false for isModified
-            assertThat(repository.isModified()).isFalse(); // Always false in simplified implementation
+            // When & Then - New entries count as modifications until marked clean
+            assertThat(repository.isModified()).isTrue();
+            repository.markAsClean();
+            assertThat(repository.isModified()).isFalse();
 
             // Modify and save
             MagicData modified = magic.withSpellPower(200);
             repository.save(modified);
 
-            // Then - Still false in simplified implementation
-            assertThat(repository.isModified()).isFalse(); // No modification tracking in simplified implementation
+            // Then
+            assertThat(repository.isModified()).isTrue();
 
             // Mark as clean
             repository.markAsClean();
-            assertThat(repository.isModified()).isFalse(); // Still false
+            assertThat(repository.isModified()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should not be modified after saving the original back")
+        void shouldNotBeModifiedAfterSavingOriginalBack() {
+            // Given
+            MagicData magic = createTestMagicData(1);
+            repository.save(magic);
+            repository.markAsClean();
+
+            // When
+            repository.save(magic.withSpellPower(200));
+            repository.save(magic);
+
+            // Then
+            assertThat(repository.isModified()).isFalse();
+            assertThat(repository.getDirtyIndices()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should not mark an equal copy as modified")
+        void shouldNotMarkEqualCopyAsModified() {
+            // Given
+            MagicData magic = createTestMagicData(1);
+            repository.save(magic);
+            repository.markAsClean();
+
+            // When - a distinct instance with the same content, as the UI saves it
+            repository.save(magic.toBuilder().build());
+            repository.save(magic.withSpellPower(200).withSpellPower(100));
+
+            // Then
+            assertThat(repository.isModified()).isFalse();
+            assertThat(repository.getDirtyIndices()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Should mark changes outside the binary record as modified")
+        void shouldMarkTextChangesAsModified() {
+            // Given
+            MagicData magic = createTestMagicData(1);
+            repository.save(magic);
+            repository.markAsClean();
+
+            // When
+            repository.save(magic.withExtractedSpellName("Renamed"));
+
+            // Then
+            assertThat(repository.getDirtyIndices()).containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("Should track dirty indices until marked clean")
+        void shouldTrackDirtyIndices() {
+            // Given
+            repository.saveAll(List.of(createTestMagicData(5), createTestMagicData(1), createTestMagicData(3)));
+            repository.markAsClean();
+
+            // When
+            repository.save(createTestMagicData(3).withSpellPower(200));
+            repository.deleteByIndex(1);
+            repository.deleteByIndex(99);
+
+            // Then
+            assertThat(repository.getDirtyIndices()).containsExactly(1, 3);
+
+            repository.markAsClean();
+            assertThat(repository.getDirtyIndices()).isEmpty();
         }
     }
 
@@ -333,15 +404,17 @@ class InMemoryMagicRepositoryTest {
             // Given
             MagicData magic = createTestMagicData(1);
             repository.save(magic);
+            repository.markAsClean();
 
             // When - Modify the magic
             MagicData modified = magic.withSpellPower(200);
             repository.save(modified);
 
-            // Then - In simplified repository, getOriginalByIndex returns current data (not original)
+            // Then
             Optional<MagicData> original = repository.getOriginalByIndex(1);
             assertThat(original).isPresent();
-            assertThat(original.get().getSpellPower()).isEqualTo(200); // Current data, not original
+            assertThat(original.get().getSpellPower()).isEqualTo(100);
+            assertThat(repository.findByIndex(1).get().getSpellPower()).isEqualTo(200);
         }
 
         @Test
@@ -350,13 +423,37 @@ class InMemoryMagicRepositoryTest {
             // Given
             MagicData magic = createTestMagicData(1);
             repository.save(magic);
+            repository.markAsClean();
+            repository.save(magic.withSpellPower(200));
 
-            // When - Reset (which just deletes in simplified implementation)
+            // When
             repository.resetToOriginalByIndex(1);
 
-            // Then - Magic should be deleted
+            // Then
             Optional<MagicData> result = repository.findByIndex(1);
-            assertThat(result).isEmpty(); // Deleted, not reset to original
+            assertThat(result).isPresent();
+            assertThat(result.get().getSpellPower()).isEqualTo(100);
+            assertThat(repository.isModified()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Should restore deleted data and drop data added since clean")
+        void shouldRestoreDeletedAndDropAddedData() {
+            // Given
+            repository.save(createTestMagicData(1));
+            repository.markAsClean();
+            repository.deleteByIndex(1);
+            repository.save(createTestMagicData(2));
+
+            // When
+            repository.resetToOriginalByIndex(1);
+            repository.resetToOriginalByIndex(2);
+
+            // Then
+            assertThat(repository.findByIndex(1)).isPresent();
+            assertThat(repository.findByIndex(2)).isEmpty();
+            assertThat(repository.getOriginalByIndex(2)).isEmpty();
+            assertThat(repository.isModified()).isFalse();
         }
 
         @Test
@@ -408,6 +505,64 @@ class InMemoryMagicRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Secondary Indexes")
+    class SecondaryIndexTests {
+
+        @Test
+        @DisplayName("Should follow renames in name search")
+        void shouldFollowRenamesInNameSearch() {
+            // Given
+            repository.save(testMagic1);
+            repository.save(testMagic2);
+            repository.save(testMagic1.withExtractedSpellName("Firaga"));
+
+            // When & Then
+            assertThat(repository.findBySpellNameContaining("fira")).extracting(MagicData::getIndex).containsExactly(1);
+            assertThat(repository.findBySpellNameContaining("Fire")).isEmpty();
+            assertThat(repository.findBySpellNameContaining("ag")).extracting(MagicData::getIndex).containsExactly(1);
+            assertThat(repository.findBySpellNameContaining("ice")).extracting(MagicData::getIndex).containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("Should keep ID lookups and counters in sync with deletes")
+        void shouldKeepIdLookupsInSyncWithDeletes() {
+            // Given
+            repository.save(testMagic1);
+            repository.save(testMagic2);
+            repository.save(testMagic2.toBuilder().index(7).build()); // same magic ID at a higher index
+
+            // When
+            repository.deleteByIndex(2);
+
+            // Then - the ID stays in use while another index still holds it
+            assertThat(repository.existsByIndex(2)).isFalse();
+            assertThat(repository.getNextAvailableId()).isEqualTo(12);
+            assertThat(repository.getNextAvailableIndex()).isEqualTo(8);
+
+            repository.deleteByIndex(7);
+            assertThat(repository.getNextAvailableId()).isEqualTo(11);
+            assertThat(repository.getNextAvailableIndex()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Should partition newly created and kernel data by index")
+        void shouldPartitionNewlyCreatedAndKernelData() {
+            // Given
+            repository.save(createTestMagicData(5).withNewlyCreated(true));
+            repository.save(createTestMagicData(3));
+            repository.save(createTestMagicData(4).withNewlyCreated(true));
+            repository.save(createTestMagicData(3).withNewlyCreated(true)); // kernel entry replaced by a new one
+
+            // When & Then
+            assertThat(repository.findNewlyCreated()).extracting(MagicData::getIndex).containsExactly(3, 4, 5);
+            assertThat(repository.findKernelData()).isEmpty();
+
+            repository.removeKernelData();
+            assertThat(repository.count()).isEqualTo(3);
+        }
+    }
+
     @Nested
     @DisplayName("Thread Safety Tests")
     class ThreadSafetyTests {